@@ -20,6 +20,17 @@ import dji.sdk.keyvalue.value.media.FileExifInfo;
 import dji.v5.manager.datacenter.media.MediaFile;
 
 public class AnzuCameraFile implements CameraFile {
+    //a value derived from mediaFile, remade if mediaFile is replaced
+    private static final class Memo<T> {
+        final MediaFile source;
+        final T value;
+
+        Memo(final MediaFile source, final T value) {
+            this.source = source;
+            this.value = value;
+        }
+    }
+
     private final int channel;
     private final Date created;
     private final Location coordinate;
@@ -27,6 +38,9 @@ public class AnzuCameraFile implements CameraFile {
     private final Orientation3 orientation;
     public final GeneratedMediaFileInfo generatedMediaFileInfo;
     public MediaFile mediaFile;
+    private volatile Memo<String> name;
+    private volatile Memo<FileExifInfo> exifInfo;
+    private volatile Memo<String> metadata;
 
     public AnzuCameraFile(final int channel, final GeneratedMediaFileInfo generatedMediaFileInfo, final Location coordinate, final Double altitude, final Orientation3 orientation) {
         this.channel = channel;
@@ -47,9 +61,19 @@ public class AnzuCameraFile implements CameraFile {
         return DronelinkAnzu.getCameraLensType(generatedMediaFileInfo.getDcf_type());
     }
 
-    @SuppressLint("DefaultLocale")
     @Override
     public String getName() {
+        final MediaFile mediaFile = this.mediaFile;
+        Memo<String> name = this.name;
+        if (name == null || name.source != mediaFile) {
+            name = new Memo<>(mediaFile, createName(mediaFile));
+            this.name = name;
+        }
+        return name.value;
+    }
+
+    @SuppressLint("DefaultLocale")
+    private String createName(final MediaFile mediaFile) {
         //can't use MediaDataCenter.getInstance().getMediaManager() (per DJI's instructions)
         //because it causes the camera to error when the number of files is too great
         if (mediaFile != null) {
@@ -138,12 +162,43 @@ public class AnzuCameraFile implements CameraFile {
 
     @Override
     public String getMetadata() {
+        final MediaFile mediaFile = this.mediaFile;
+        final Memo<String> metadata = this.metadata;
+        if (metadata != null && metadata.source == mediaFile) {
+            return metadata.value;
+        }
+
+        final FileExifInfo exifInfo = getEXIFInfo(mediaFile);
+        if (exifInfo == null) {
+            return null;
+        }
+
+        final String value = exifInfo.toString();
+        this.metadata = new Memo<>(mediaFile, value);
+        return value;
+    }
+
+    //null until mediaFile is set and its exif info is available
+    public FileExifInfo getEXIFInfo() {
+        return getEXIFInfo(mediaFile);
+    }
+
+    //only available exif info is memoized, it may still be loading
+    private FileExifInfo getEXIFInfo(final MediaFile mediaFile) {
         if (mediaFile == null) {
             return null;
         }
 
-        final FileExifInfo exifInfo = mediaFile.getEXIFInfo();
-        return exifInfo == null ? null : exifInfo.toString();
+        final Memo<FileExifInfo> exifInfo = this.exifInfo;
+        if (exifInfo != null && exifInfo.source == mediaFile) {
+            return exifInfo.value;
+        }
+
+        final FileExifInfo value = mediaFile.getEXIFInfo();
+        if (value != null) {
+            this.exifInfo = new Memo<>(mediaFile, value);
+        }
+        return value;
     }
 
     @Override
@@ -0,0 +1,103 @@
+//  AnzuCapturePipeline.java
+//  DronelinkAnzu
+//
+//  Created by agent on 10/18/26.
+//  Copyright © 2026 Dronelink. All rights reserved.
+//
+package com.dronelink.anzu;
+
+import android.util.Log;
+
+import androidx.annotation.Nullable;
+
+import com.dronelink.anzu.adapters.AnzuGimbalAdapter;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import dji.sdk.keyvalue.value.product.ProductType;
+
+//overlaps gimbal settling with the camera trigger:
+//orientation commands finish as soon as convergence is predicted within the shutter lead, so the next capture is issued early,
+//and a capture on the same channel holds the shutter until the gimbal has settled (or is predicted to within the lead)
+//predictions fall back on settle times measured per product when the gimbal isn't moving yet
+class AnzuCapturePipeline implements AnzuGimbalAdapter.OrientationSettledCallback {
+    private static final String TAG = AnzuCapturePipeline.class.getCanonicalName();
+    //covers the time from requesting the shot to the sensor exposing
+    static final long DEFAULT_SHUTTER_LEAD_MILLIS = 150;
+    private static final double SETTLE_SMOOTHING = 0.2;
+
+    //shared across sessions so reconnecting to the same product keeps its measurements
+    private static final Map<ProductType, Double> settleMillis = new EnumMap<>(ProductType.class);
+
+    private volatile boolean enabled = false;
+    private volatile long shutterLeadMillis = DEFAULT_SHUTTER_LEAD_MILLIS;
+    private volatile ProductType productType;
+
+    void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+        Log.i(TAG, "Pipelined capture " + (enabled ? "enabled" : "disabled"));
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    void setShutterLeadMillis(final long shutterLeadMillis) {
+        this.shutterLeadMillis = Math.max(0, shutterLeadMillis);
+    }
+
+    long getShutterLeadMillis() {
+        return shutterLeadMillis;
+    }
+
+    //0 until a settle has been measured for the product
+    long getSettleMillis(final @Nullable ProductType productType) {
+        if (productType == null) {
+            return 0;
+        }
+
+        synchronized (settleMillis) {
+            final Double value = settleMillis.get(productType);
+            return value == null ? 0 : Math.round(value);
+        }
+    }
+
+    //applied before each gimbal command, the gimbal may have been reconnected or the mode toggled since the last one
+    void configure(final AnzuGimbalAdapter gimbal, final @Nullable ProductType productType) {
+        this.productType = productType;
+        if (enabled) {
+            gimbal.setOrientationFinishLeadMillis(shutterLeadMillis);
+            gimbal.setExpectedSettleMillis(getSettleMillis(productType));
+            gimbal.setOrientationSettledCallback(this);
+        }
+        else {
+            gimbal.setOrientationFinishLeadMillis(0);
+            gimbal.setExpectedSettleMillis(0);
+            gimbal.setOrientationSettledCallback(null);
+        }
+    }
+
+    //runs capture right away unless a pipelined orientation on the same channel is still settling
+    void awaitGimbal(final @Nullable AnzuGimbalAdapter gimbal, final Runnable capture) {
+        if (!enabled || gimbal == null || !gimbal.isOrientationSettling()) {
+            capture.run();
+            return;
+        }
+
+        gimbal.awaitOrientationSettled(shutterLeadMillis, capture);
+    }
+
+    @Override
+    public void onOrientationSettled(final AnzuGimbalAdapter gimbal, final long settleMillis) {
+        final ProductType productType = this.productType;
+        if (productType == null) {
+            return;
+        }
+
+        synchronized (AnzuCapturePipeline.settleMillis) {
+            final Double previous = AnzuCapturePipeline.settleMillis.get(productType);
+            AnzuCapturePipeline.settleMillis.put(productType, previous == null ? settleMillis : previous + (settleMillis - previous) * SETTLE_SMOOTHING);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+//  AnzuCommandScheduler.java
+//  DronelinkAnzu
+//
+//  Created by agent on 10/18/26.
+//  Copyright © 2026 Dronelink. All rights reserved.
+//
+package com.dronelink.anzu;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class AnzuCommandScheduler {
+    public interface Processor {
+        //returns the maximum number of milliseconds to wait before the next pass, or IDLE to park until signaled
+        long process();
+    }
+
+    public static final long IDLE = -1;
+
+    private static class DelayedTask {
+        final long dueMillis;
+        final Runnable task;
+
+        DelayedTask(final long dueMillis, final Runnable task) {
+            this.dueMillis = dueMillis;
+            this.task = task;
+        }
+    }
+
+    private final Object monitor = new Object();
+    private final String name;
+    private final Processor processor;
+    private boolean signaled = false;
+    private volatile boolean stopped = false;
+    //guarded by monitor
+    private final List<DelayedTask> delayedTasks = new ArrayList<>();
+    //only touched by the scheduler thread
+    private final List<Runnable> dueTasks = new ArrayList<>();
+
+    public AnzuCommandScheduler(final String name, final Processor processor) {
+        this.name = name;
+        this.processor = processor;
+    }
+
+    public void start() {
+        new Thread(name) {
+            @Override
+            public void run() {
+                try {
+                    while (!stopped) {
+                        synchronized (monitor) {
+                            //cleared before processing so that a signal raised mid-pass forces another pass
+                            signaled = false;
+                            takeDueTasks();
+                        }
+
+                        for (int i = 0; i < dueTasks.size(); i++) {
+                            dueTasks.get(i).run();
+                        }
+                        dueTasks.clear();
+
+                        long wait = processor.process();
+
+                        synchronized (monitor) {
+                            final long delayedWait = getDelayedTaskWait();
+                            if (delayedWait != IDLE && (wait == IDLE || delayedWait < wait)) {
+                                wait = delayedWait;
+                            }
+
+                            if (!signaled && !stopped) {
+                                if (wait == IDLE) {
+                                    monitor.wait();
+                                }
+                                else if (wait > 0) {
+                                    monitor.wait(wait);
+                                }
+                            }
+                        }
+                    }
+                }
+                catch (final InterruptedException ignored) {}
+            }
+        }.start();
+    }
+
+    //runs task on the scheduler thread, before the first pass at least delayMillis from now
+    public void postDelayed(final Runnable task, final long delayMillis) {
+        synchronized (monitor) {
+            delayedTasks.add(new DelayedTask(now() + delayMillis, task));
+            signaled = true;
+            monitor.notifyAll();
+        }
+    }
+
+    public void removeDelayed() {
+        synchronized (monitor) {
+            delayedTasks.clear();
+        }
+    }
+
+    private void takeDueTasks() {
+        final long now = now();
+        for (int i = delayedTasks.size() - 1; i >= 0; i--) {
+            if (delayedTasks.get(i).dueMillis <= now) {
+                dueTasks.add(0, delayedTasks.remove(i).task);
+            }
+        }
+    }
+
+    private long getDelayedTaskWait() {
+        long wait = IDLE;
+        final long now = now();
+        for (int i = 0; i < delayedTasks.size(); i++) {
+            //at least 1 so a task that just became due doesn't turn into an unbounded wait
+            final long remaining = Math.max(1, delayedTasks.get(i).dueMillis - now);
+            if (wait == IDLE || remaining < wait) {
+                wait = remaining;
+            }
+        }
+        return wait;
+    }
+
+    private static long now() {
+        return System.nanoTime() / 1000000;
+    }
+
+    public void signal() {
+        synchronized (monitor) {
+            signaled = true;
+            monitor.notifyAll();
+        }
+    }
+
+    public void stop() {
+        stopped = true;
+        signal();
+    }
+}
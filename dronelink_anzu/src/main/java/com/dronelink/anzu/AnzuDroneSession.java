@@ -38,6 +38,7 @@ import com.dronelink.core.command.CommandQueue;
 import com.dronelink.core.command.MultiChannelCommandQueue;
 import com.dronelink.core.kernel.command.camera.CameraCommand;
 import com.dronelink.core.kernel.command.camera.ModeCameraCommand;
+import com.dronelink.core.kernel.command.camera.StartCaptureCameraCommand;
 import com.dronelink.core.kernel.command.drone.DroneCommand;
 import com.dronelink.core.kernel.command.gimbal.GimbalCommand;
 import com.dronelink.core.kernel.command.gimbal.ModeGimbalCommand;
@@ -46,7 +47,9 @@ import com.dronelink.core.kernel.command.livestreaming.LiveStreamingCommand;
 import com.dronelink.core.kernel.command.remotecontroller.RemoteControllerCommand;
 import com.dronelink.core.kernel.command.rtk.RTKCommand;
 import com.dronelink.core.kernel.core.Message;
+import com.dronelink.core.kernel.core.enums.CameraMode;
 import com.dronelink.core.kernel.core.enums.ExecutionEngine;
+import com.dronelink.core.kernel.core.enums.GimbalMode;
 import com.dronelink.anzu.adapters.AnzuCameraAdapter;
 import com.dronelink.anzu.adapters.AnzuDroneAdapter;
 import com.dronelink.anzu.adapters.AnzuGimbalAdapter;
@@ -55,25 +58,23 @@ import com.dronelink.anzu.adapters.AnzuRTKAdapter;
 import com.dronelink.anzu.adapters.AnzuRemoteControllerAdapter;
 
 import java.util.Date;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
-import dji.sdk.errorcode.DJIErrorCode;
 import dji.sdk.keyvalue.key.FlightControllerKey;
-import dji.sdk.keyvalue.key.GimbalKey;
 import dji.sdk.keyvalue.key.KeyTools;
 import dji.sdk.keyvalue.value.flightcontroller.FlightMode;
 import dji.sdk.keyvalue.value.gimbal.GimbalSpeedRotation;
+import dji.sdk.keyvalue.value.product.ProductType;
 import dji.v5.common.callback.CommonCallbacks;
 import dji.v5.common.error.IDJIError;
-import dji.v5.manager.KeyManager;
 
 //TODO onVideoFeedSourceUpdated
 public class AnzuDroneSession implements DroneSession, AnzuDroneAdapter.CameraFileGeneratedCallback {
     private static final String TAG = AnzuDroneSession.class.getCanonicalName();
+    private static final long COMMAND_PROCESS_INTERVAL_MILLIS = 100;
+    private static final double GIMBAL_CONTROL_STREAM_MIN_FREQUENCY = 5.0;
+    private static final double GIMBAL_CONTROL_STREAM_MAX_FREQUENCY = 25.0;
 
     private String id = UUID.randomUUID().toString();
     private final Context context;
@@ -90,19 +91,43 @@ public class AnzuDroneSession implements DroneSession, AnzuDroneAdapter.CameraFi
         return closed;
     }
 
-    private final List<Listener> listeners = new LinkedList<>();
-    private final ExecutorService listenerExecutor = Executors.newSingleThreadExecutor();
+    private final AnzuSessionListenerDispatcher listenerDispatcher = new AnzuSessionListenerDispatcher(this);
 
     private final CommandQueue droneCommands = new CommandQueue();
     private final MultiChannelCommandQueue remoteControllerCommands = new MultiChannelCommandQueue();
     private final MultiChannelCommandQueue cameraCommands = new MultiChannelCommandQueue();
     private final MultiChannelCommandQueue gimbalCommands = new MultiChannelCommandQueue();
+    private final AnzuCommandScheduler commandScheduler = new AnzuCommandScheduler("AnzuDroneSession commands", this::processCommands);
+    //guarded by commandScheduler
+    private int pendingCommands = 0;
+    //incremented by removeCommands, completions of commands added in an earlier generation aren't counted
+    private int commandGeneration = 0;
+
+    //the generation a command was counted in, set when it is added
+    private static class PendingCommand {
+        int generation;
+    }
+
+    private volatile AnzuVirtualStickSession controlSession;
+    //bit per gimbal channel, set while that channel's current command is an OrientationGimbalCommand
+    //written by the command scheduler after each pass so the control streams don't touch the queues from their own thread
+    private volatile long gimbalOrientationCommandChannels = 0;
+    private volatile double gimbalControlStreamFrequency = DronelinkAnzu.GimbalControlStreamFrequency;
+    private final AnzuGimbalAdapter.SpeedRotationProvider gimbalSpeedRotationProvider = this::getGimbalSpeedRotation;
+    private final AnzuCapturePipeline capturePipeline = new AnzuCapturePipeline();
+    private final AnzuFinishDelays finishDelays;
+    private final AnzuRetryPolicy retryPolicy = new AnzuRetryPolicy();
+    //the key writer is shared across sessions, so its counts are snapshot at open and logged as differences at close
+    private final long keyWriteCountAtOpen = AnzuKeyWriter.getInstance().getWriteCount();
+    private final long suppressedKeyWriteCountAtOpen = AnzuKeyWriter.getInstance().getSuppressedWriteCount();
+    private final long mergedKeyWriteCountAtOpen = AnzuKeyWriter.getInstance().getMergedWriteCount();
 
     public AnzuDroneSession(final Context context, final DroneSessionManager manager) {
         Log.i(TAG, "Drone session opened (" + id + ")");
 
         this.context = context;
         this.manager = manager;
+        this.finishDelays = new AnzuFinishDelays(context);
         this.droneAdapter = new AnzuDroneAdapter(context, new CommonCallbacks.CompletionCallbackWithParam<String>() {
             @Override
             public void onSuccess(final String s) {
@@ -125,73 +150,152 @@ public class AnzuDroneSession implements DroneSession, AnzuDroneAdapter.CameraFi
         });
         djiListeners.init(KeyTools.createKey(FlightControllerKey.KeyAreMotorsOn), (oldValue, newValue) -> onMotorsChanged(newValue != null && newValue));
 
-        runCommandThread();
+        commandScheduler.start();
+    }
+
+    private long processCommands() {
+        droneCommands.process();
+        remoteControllerCommands.process();
+        cameraCommands.process();
+        gimbalCommands.process();
+
+        final MissionExecutor missionExecutor = Dronelink.getInstance().getMissionExecutor();
+        final ModeExecutor modeExecutor = Dronelink.getInstance().getModeExecutor();
+        final boolean engaged = (missionExecutor != null && missionExecutor.isEngaged()) || (modeExecutor != null && modeExecutor.isEngaged());
+        //indexed loop over the snapshot so the per-tick pass doesn't allocate an iterator
+        final List<GimbalAdapter> gimbalAdapters = droneAdapter.getGimbalList();
+        long gimbalOrientationCommandChannels = 0;
+        for (int i = 0; i < gimbalAdapters.size(); i++) {
+            final GimbalAdapter gimbalAdapter = gimbalAdapters.get(i);
+            final CommandQueue queue = gimbalCommands.get(gimbalAdapter.getIndex());
+            if (queue != null && gimbalAdapter.getIndex() < Long.SIZE) {
+                final Command currentCommand = queue.getCurrentCommand();
+                if (currentCommand != null && currentCommand.kernelCommand instanceof OrientationGimbalCommand) {
+                    gimbalOrientationCommandChannels |= 1L << gimbalAdapter.getIndex();
+                }
+            }
+
+            if (gimbalAdapter instanceof AnzuGimbalAdapter) {
+                if (engaged) {
+                    ((AnzuGimbalAdapter) gimbalAdapter).startControlStream(gimbalControlStreamFrequency, gimbalSpeedRotationProvider);
+                }
+                else {
+                    ((AnzuGimbalAdapter) gimbalAdapter).stopControlStream();
+                }
+            }
+        }
+
+        this.gimbalOrientationCommandChannels = gimbalOrientationCommandChannels;
+
+        //the queues still need periodic passes to apply finish delays, timeouts and retries while work is outstanding,
+        //and the gimbal control streams need to be started / stopped as engagement changes
+        //executors don't signal when they engage or disengage, so keep polling while one exists
+        final AnzuVirtualStickSession controlSession = this.controlSession;
+        if (missionExecutor != null || modeExecutor != null || (controlSession != null && !controlSession.isDeactivated()) || getPendingCommands() > 0) {
+            return COMMAND_PROCESS_INTERVAL_MILLIS;
+        }
+
+        return AnzuCommandScheduler.IDLE;
     }
 
-    private void runCommandThread() {
-        new Thread() {
-            @Override
-            public void run() {
-                try {
-                    while (!closed) {
-                        droneCommands.process();
-                        remoteControllerCommands.process();
-                        cameraCommands.process();
-                        gimbalCommands.process();
-
-                        final MissionExecutor missionExecutor = Dronelink.getInstance().getMissionExecutor();
-                        final ModeExecutor modeExecutor = Dronelink.getInstance().getModeExecutor();
-                        final boolean missionExecutorEngaged = (missionExecutor != null && missionExecutor.isEngaged());
-                        if (missionExecutorEngaged || (modeExecutor != null && modeExecutor.isEngaged())) {
-                            for (final GimbalAdapter gimbalAdapter : droneAdapter.getGimbals()) {
-                                //don't issue competing speed rotations, OrientationGimbalCommand always takes precedent
-                                boolean activeOrientationCommand = false;
-                                final CommandQueue queue = gimbalCommands.get(gimbalAdapter.getIndex());
-                                if (queue != null) {
-                                    final Command currentCommand = queue.getCurrentCommand();
-                                    activeOrientationCommand = currentCommand != null && currentCommand.kernelCommand instanceof OrientationGimbalCommand;
-                                }
-
-                                if (!activeOrientationCommand) {
-                                    if (gimbalAdapter instanceof AnzuGimbalAdapter) {
-                                        final AnzuGimbalAdapter djiGimbalAdapter = (AnzuGimbalAdapter) gimbalAdapter;
-                                        GimbalSpeedRotation speedRotation = djiGimbalAdapter.getPendingSpeedRotation();
-                                        djiGimbalAdapter.setPendingSpeedRotation(null);
-
-                                        //work-around for this issue: https://support.dronelink.com/hc/en-us/community/posts/360034749773-Seeming-to-have-a-Heading-error-
-                                        if (speedRotation == null) {
-                                            speedRotation = new GimbalSpeedRotation();
-                                        }
-
-                                        //this doesn't work because droneAdapter.getState().value.getOrientation().getYaw() is wrong!
-//                                        double yawRelativeToAircraftHeading = Convert.RadiansToDegrees(Convert.AngleDifferenceSigned(
-//                                                djiGimbalAdapter.getState().value.getOrientation().getYaw(),
-//                                                droneAdapter.getState().value.getOrientation().getYaw()));
-//                                        speedRotation.setYaw(Math.min(Math.max(-yawRelativeToAircraftHeading * 1.5, -25.0), 25.0));
-
-                                        if (missionExecutorEngaged) {
-                                            //TODO final DatedValue<Integer> remoteControllerGimbalChannel = state.remoteControllerGimbalChannel;
-                                            final int channel = 0; //TODO remoteControllerGimbalChannel == null || remoteControllerGimbalChannel.value == null ? 0 : remoteControllerGimbalChannel.value;
-                                            if (channel == gimbalAdapter.getIndex()) {
-                                                final DatedValue<RemoteControllerStateAdapter> remoteControllerState = getRemoteControllerState(channel);
-                                                if (remoteControllerState != null && remoteControllerState.value != null && remoteControllerState.value.getLeftWheel().value != 0) {
-                                                    speedRotation.setPitch(remoteControllerState.value.getLeftWheel().value * 10);
-                                                }
-                                            }
-                                        }
-
-                                        KeyManager.getInstance().performAction(djiGimbalAdapter.createKey(GimbalKey.KeyRotateBySpeed), speedRotation, null);
-                                    }
-                                }
-                            }
-                        }
+    private GimbalSpeedRotation getGimbalSpeedRotation(final AnzuGimbalAdapter gimbalAdapter) {
+        //don't issue competing speed rotations, OrientationGimbalCommand always takes precedent
+        final int gimbalChannel = gimbalAdapter.getIndex();
+        if (gimbalChannel < Long.SIZE && (gimbalOrientationCommandChannels & (1L << gimbalChannel)) != 0) {
+            return null;
+        }
 
-                        sleep(100);
-                    }
+        GimbalSpeedRotation speedRotation = gimbalAdapter.takePendingSpeedRotation();
+
+        //work-around for this issue: https://support.dronelink.com/hc/en-us/community/posts/360034749773-Seeming-to-have-a-Heading-error-
+        if (speedRotation == null) {
+            speedRotation = new GimbalSpeedRotation();
+        }
+
+        //this doesn't work because droneAdapter.getState().value.getOrientation().getYaw() is wrong!
+//        double yawRelativeToAircraftHeading = Convert.RadiansToDegrees(Convert.AngleDifferenceSigned(
+//                gimbalAdapter.getState().value.getOrientation().getYaw(),
+//                droneAdapter.getState().value.getOrientation().getYaw()));
+//        speedRotation.setYaw(Math.min(Math.max(-yawRelativeToAircraftHeading * 1.5, -25.0), 25.0));
+
+        final MissionExecutor missionExecutor = Dronelink.getInstance().getMissionExecutor();
+        if (missionExecutor != null && missionExecutor.isEngaged()) {
+            //TODO final DatedValue<Integer> remoteControllerGimbalChannel = state.remoteControllerGimbalChannel;
+            final int channel = 0; //TODO remoteControllerGimbalChannel == null || remoteControllerGimbalChannel.value == null ? 0 : remoteControllerGimbalChannel.value;
+            if (channel == gimbalAdapter.getIndex()) {
+                final DatedValue<RemoteControllerStateAdapter> remoteControllerState = getRemoteControllerState(channel);
+                if (remoteControllerState != null && remoteControllerState.value != null && remoteControllerState.value.getLeftWheel().value != 0) {
+                    speedRotation.setPitch(remoteControllerState.value.getLeftWheel().value * 10);
                 }
-                catch (final InterruptedException ignored) {}
             }
-        }.start();
+        }
+
+        return speedRotation;
+    }
+
+    public double getGimbalControlStreamFrequency() {
+        return gimbalControlStreamFrequency;
+    }
+
+    //clamped to 5 - 25 Hz, NaN restores the default
+    public void setGimbalControlStreamFrequency(final double frequency) {
+        gimbalControlStreamFrequency = Double.isNaN(frequency) ? DronelinkAnzu.GimbalControlStreamFrequency : Math.max(GIMBAL_CONTROL_STREAM_MIN_FREQUENCY, Math.min(GIMBAL_CONTROL_STREAM_MAX_FREQUENCY, frequency));
+        //running streams pick up the new rate on the next pass
+        commandScheduler.signal();
+    }
+
+    //orientation commands finish on predicted convergence and captures on the same channel wait for the gimbal to settle
+    public void setPipelinedCaptureEnabled(final boolean enabled) {
+        capturePipeline.setEnabled(enabled);
+    }
+
+    public boolean isPipelinedCaptureEnabled() {
+        return capturePipeline.isEnabled();
+    }
+
+    public void setPipelinedCaptureShutterLeadMillis(final long shutterLeadMillis) {
+        capturePipeline.setShutterLeadMillis(shutterLeadMillis);
+    }
+
+    public long getPipelinedCaptureShutterLeadMillis() {
+        return capturePipeline.getShutterLeadMillis();
+    }
+
+    //measured while pipelined capture is enabled, 0 until the first orientation settles
+    public long getGimbalSettleMillis() {
+        return capturePipeline.getSettleMillis(droneAdapter.productType);
+    }
+
+    private int getPendingCommands() {
+        synchronized (commandScheduler) {
+            return pendingCommands;
+        }
+    }
+
+    private int getCommandGeneration() {
+        synchronized (commandScheduler) {
+            return commandGeneration;
+        }
+    }
+
+    //adds the command to its queue and counts it in the current generation
+    private void onCommandAdded(final Runnable add, final PendingCommand pending) {
+        synchronized (commandScheduler) {
+            add.run();
+            pending.generation = commandGeneration;
+            pendingCommands++;
+        }
+        commandScheduler.signal();
+    }
+
+    private void onCommandCompleted(final PendingCommand pending) {
+        synchronized (commandScheduler) {
+            //removeCommands already discounted the commands that were removed while in flight
+            if (pending.generation == commandGeneration && pendingCommands > 0) {
+                pendingCommands--;
+            }
+        }
+        commandScheduler.signal();
     }
 
     @Override
@@ -261,7 +365,7 @@ public class AnzuDroneSession implements DroneSession, AnzuDroneAdapter.CameraFi
 
     @Override
     public boolean isTelemetryDelayed() {
-        return System.currentTimeMillis() - getState().date.getTime() > 2000;
+        return droneAdapter.state.getTelemetryAgeMillis() > 2000;
     }
 
     @Override
@@ -307,80 +411,62 @@ public class AnzuDroneSession implements DroneSession, AnzuDroneAdapter.CameraFi
 
     @Override
     public void addListener(final Listener listener) {
-        final DroneSession self = this;
-        listenerExecutor.execute(() -> {
-            listeners.add(listener);
+        listenerDispatcher.addListener(listener);
 
-            if (isInitialized()) {
-                listener.onInitialized(self);
-            }
+        if (isInitialized()) {
+            listenerDispatcher.onInitialized(listener);
+        }
 
-            if (isLocated()) {
-                listener.onLocated(self);
-            }
-        });
+        if (isLocated()) {
+            listenerDispatcher.onLocated(listener);
+        }
     }
 
     @Override
     public void removeListener(final Listener listener) {
-        listenerExecutor.execute(() -> listeners.remove(listener));
+        listenerDispatcher.removeListener(listener);
+    }
+
+    public int getListenerDispatchQueueDepth() {
+        return listenerDispatcher.getQueueDepth();
+    }
+
+    public int getListenerDispatchMaxQueueDepth() {
+        return listenerDispatcher.getMaxQueueDepth();
+    }
+
+    public double getListenerDispatchLagMillis() {
+        return listenerDispatcher.getDispatchLagMillis();
+    }
+
+    public double getListenerDispatchMaxLagMillis() {
+        return listenerDispatcher.getMaxDispatchLagMillis();
     }
 
     private void onInitialized() {
         Log.i(TAG, "Drone session initialized: " + getSerialNumber());
-        final AnzuDroneSession self = this;
-        listenerExecutor.execute(() -> {
-            for (final Listener listener : listeners) {
-                listener.onInitialized(self);
-            }
-        });
+        listenerDispatcher.onInitialized(null);
     }
 
     private void onLocated() {
         Log.i(TAG, "Drone session located");
-
-        final AnzuDroneSession self = this;
-        listenerExecutor.execute(() -> {
-            for (final Listener listener : listeners) {
-                listener.onLocated(self);
-            }
-        });
+        listenerDispatcher.onLocated(null);
     }
 
     private void onMotorsChanged(final boolean value) {
-        final AnzuDroneSession self = this;
-        listenerExecutor.execute(() -> {
-            for (final Listener listener : listeners) {
-                listener.onMotorsChanged(self, value);
-            }
-        });
+        listenerDispatcher.onMotorsChanged(value);
     }
 
     private void onCommandExecuted(final com.dronelink.core.kernel.command.Command command) {
-        final AnzuDroneSession self = this;
-        listenerExecutor.execute(() -> {
-            for (final Listener listener : listeners) {
-                listener.onCommandExecuted(self, command);
-            }
-        });
+        listenerDispatcher.onCommandExecuted(command);
     }
 
     private void onCommandFinished(final com.dronelink.core.kernel.command.Command command, final CommandError error) {
-        final AnzuDroneSession self = this;
-        listenerExecutor.execute(() -> {
-            for (final Listener listener : listeners) {
-                listener.onCommandFinished(self, command, error);
-            }
-        });
+        listenerDispatcher.onCommandFinished(command, error);
     }
 
     public void onCameraFileGenerated(final AnzuCameraFile file) {
-        final AnzuDroneSession self = this;
-        listenerExecutor.execute(() -> {
-            for (final Listener listener : listeners) {
-                listener.onCameraFileGenerated(self, file);
-            }
-        });
+        listenerDispatcher.onCameraFileGenerated(file);
     }
 
     @Override
@@ -434,6 +520,37 @@ public class AnzuDroneSession implements DroneSession, AnzuDroneAdapter.CameraFi
                 if (camera == null) {
                     return new CommandError(context.getString(R.string.MissionDisengageReason_drone_camera_unavailable_title));
                 }
+
+                if (command instanceof ModeCameraCommand) {
+                    final CameraMode target = ((ModeCameraCommand) command).mode;
+                    if (camera.getState().value.getMode() != target) {
+                        final String key = getFinishDelayKey(((CameraCommand) command).channel, command);
+                        return ((AnzuCameraAdapter)camera).executeCommand(context, (CameraCommand)command, error -> {
+                            if (error == null) {
+                                ((AnzuCameraAdapter)camera).observeModeTransition(target, AnzuFinishDelays.MAX_DELAY_MILLIS, (elapsedMillis, timedOut) -> finishDelays.record(key, elapsedMillis, timedOut));
+                            }
+                            finished.execute(error);
+                        });
+                    }
+                }
+
+                if (command instanceof StartCaptureCameraCommand && capturePipeline.isEnabled()) {
+                    final GimbalAdapter gimbal = droneAdapter.getGimbal(((CameraCommand) command).channel);
+                    final int generation = getCommandGeneration();
+                    capturePipeline.awaitGimbal(gimbal instanceof AnzuGimbalAdapter ? (AnzuGimbalAdapter) gimbal : null, () -> {
+                        //don't release the shutter if the commands were removed (disengaged) while waiting on the gimbal
+                        if (generation != getCommandGeneration()) {
+                            Log.d(TAG, "Pipelined capture dropped, commands removed (" + command.id + ")");
+                            return;
+                        }
+
+                        final CommandError error = ((AnzuCameraAdapter)camera).executeCommand(context, (CameraCommand)command, finished);
+                        if (error != null) {
+                            finished.execute(error);
+                        }
+                    });
+                    return null;
+                }
                 return ((AnzuCameraAdapter)camera).executeCommand(context, (CameraCommand)command, finished);
             };
         }
@@ -444,67 +561,146 @@ public class AnzuDroneSession implements DroneSession, AnzuDroneAdapter.CameraFi
                 if (gimbal == null) {
                     return new CommandError(context.getString(R.string.MissionDisengageReason_drone_gimbal_unavailable_title));
                 }
+                capturePipeline.configure((AnzuGimbalAdapter)gimbal, droneAdapter.productType);
+
+                if (command instanceof ModeGimbalCommand) {
+                    final GimbalMode target = ((ModeGimbalCommand) command).mode;
+                    if (gimbal.getState().value.getMode() != target) {
+                        final String key = getFinishDelayKey(((GimbalCommand) command).channel, command);
+                        return ((AnzuGimbalAdapter)gimbal).executeCommand(context, (GimbalCommand)command, error -> {
+                            if (error == null) {
+                                ((AnzuGimbalAdapter)gimbal).observeModeTransition(target, AnzuFinishDelays.MAX_DELAY_MILLIS, (elapsedMillis, timedOut) -> finishDelays.record(key, elapsedMillis, timedOut));
+                            }
+                            finished.execute(error);
+                        });
+                    }
+                }
                 return ((AnzuGimbalAdapter)gimbal).executeCommand(context, (GimbalCommand)command, finished);
             };
         }
 
         if (executor != null) {
+            final Command.Executor commandExecutor = executor;
+            final AnzuRetryPolicy.Tracker retries = retryPolicy.track(command.getClass().getSimpleName());
+            final PendingCommand pending = new PendingCommand();
             final Command c = new Command(
                     command,
-                    executor,
-                    error -> onCommandFinished(command, error),
+                    finished -> {
+                        //wake the command scheduler as soon as the SDK reports completion instead of waiting for the next pass
+                        final Command.Finisher signalled = error -> {
+                            finished.execute(error);
+                            commandScheduler.signal();
+                        };
+
+                        final long backoffMillis = retries.onExecute();
+                        if (backoffMillis <= 0) {
+                            return commandExecutor.execute(signalled);
+                        }
+
+                        Log.d(TAG, "Retrying command after " + backoffMillis + "ms (" + command.id + ")");
+                        final int retryGeneration = getCommandGeneration();
+                        //on the command thread like the first attempt
+                        commandScheduler.postDelayed(() -> {
+                            //removeCommands cancels pending retries, this covers one that was already taken
+                            if (closed || retryGeneration != getCommandGeneration()) {
+                                return;
+                            }
+
+                            final CommandError error = commandExecutor.execute(signalled);
+                            if (error != null) {
+                                signalled.execute(error);
+                            }
+                        }, backoffMillis);
+                        return null;
+                    },
+                    error -> {
+                        onCommandCompleted(pending);
+                        onCommandFinished(command, error);
+                    },
                     command.getConfig());
 
             if (c.config.retriesEnabled == null) {
-                //disable retries when the DJI SDK reports that the product does not support the feature
-                c.config.retriesEnabled = error -> error == null || error.code != DJIErrorCode.UNSUPPORTED_COMMAND.value();
+                //no retries when the DJI SDK reports that the product does not support the feature, otherwise back off based on the kind of failure
+                c.config.retriesEnabled = retries::shouldRetry;
 
                 if (c.config.finishDelayMillis == null) {
-                    //adding a 1.5 second delay after camera and gimbal mode commands
-                    if (command instanceof ModeCameraCommand || command instanceof ModeGimbalCommand) {
-                        c.config.finishDelayMillis = 1500.0;
+                    //adding a delay after camera and gimbal mode commands, learned per product and payload (1.5 seconds until there are enough samples)
+                    if (command instanceof ModeCameraCommand) {
+                        c.config.finishDelayMillis = (double) finishDelays.getDelayMillis(getFinishDelayKey(((CameraCommand) command).channel, command));
+                    }
+                    else if (command instanceof ModeGimbalCommand) {
+                        c.config.finishDelayMillis = (double) finishDelays.getDelayMillis(getFinishDelayKey(((GimbalCommand) command).channel, command));
                     }
                 }
             }
 
-            if (command instanceof DroneCommand) {
-                droneCommands.addCommand(c);
-            }
-            else if (command instanceof RTKCommand) {
-                droneCommands.addCommand(c);
-            }
-            else if (command instanceof LiveStreamingCommand) {
-                droneCommands.addCommand(c);
-            }
-            else if (command instanceof RemoteControllerCommand) {
-                remoteControllerCommands.addCommand(((RemoteControllerCommand)command).channel, c);
-            }
-            else if (command instanceof CameraCommand) {
-                cameraCommands.addCommand(((CameraCommand)command).channel, c);
-            }
-            //GimbalCommand
-            else {
-                gimbalCommands.addCommand(((GimbalCommand)command).channel, c);
-            }
+            onCommandAdded(() -> {
+                if (command instanceof DroneCommand) {
+                    droneCommands.addCommand(c);
+                }
+                else if (command instanceof RTKCommand) {
+                    droneCommands.addCommand(c);
+                }
+                else if (command instanceof LiveStreamingCommand) {
+                    droneCommands.addCommand(c);
+                }
+                else if (command instanceof RemoteControllerCommand) {
+                    remoteControllerCommands.addCommand(((RemoteControllerCommand)command).channel, c);
+                }
+                else if (command instanceof CameraCommand) {
+                    cameraCommands.addCommand(((CameraCommand)command).channel, c);
+                }
+                //GimbalCommand
+                else {
+                    gimbalCommands.addCommand(((GimbalCommand)command).channel, c);
+                }
+            }, pending);
             return;
         }
 
         throw new CommandTypeUnhandledException();
     }
 
+    private String getFinishDelayKey(final int channel, final com.dronelink.core.kernel.command.Command command) {
+        final ProductType productType = droneAdapter.productType;
+        final CameraAdapter camera = droneAdapter.getCamera(channel);
+        return AnzuFinishDelays.key(
+                productType == null ? "Unknown" : productType.name(),
+                camera == null ? "Unknown" : camera.getModel(),
+                command.getClass().getSimpleName());
+    }
+
+    public AnzuFinishDelays getFinishDelays() {
+        return finishDelays;
+    }
+
+    public AnzuRetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
     @Override
     public void removeCommands() {
-        droneCommands.removeAll();
-        remoteControllerCommands.removeAll();
-        cameraCommands.removeAll();
-        gimbalCommands.removeAll();
+        //under the same lock as onCommandAdded so a command added concurrently is either removed or counted
+        synchronized (commandScheduler) {
+            droneCommands.removeAll();
+            remoteControllerCommands.removeAll();
+            cameraCommands.removeAll();
+            gimbalCommands.removeAll();
+            pendingCommands = 0;
+            commandGeneration++;
+        }
+        commandScheduler.removeDelayed();
+        commandScheduler.signal();
     }
 
     @Override
     public DroneControlSession createControlSession(final Context context, final ExecutionEngine executionEngine, final Executor executor) throws UnsupportedExecutionEngineException, UnsupportedDroneDJIExecutionEngineException {
         switch (executionEngine) {
             case DRONELINK_KERNEL:
-                return new AnzuVirtualStickSession(context, droneAdapter);
+                final AnzuVirtualStickSession controlSession = new AnzuVirtualStickSession(context, droneAdapter);
+                this.controlSession = controlSession;
+                commandScheduler.signal();
+                return controlSession;
 
             case DJI:
                 break;
@@ -571,6 +767,13 @@ public class AnzuDroneSession implements DroneSession, AnzuDroneAdapter.CameraFi
         djiListeners.cancelAll();
         droneAdapter.close();
         closed = true;
+        commandScheduler.removeDelayed();
+        commandScheduler.stop();
         Log.i(TAG, "Drone session closed: " + getModel());
+        final AnzuKeyWriter keyWriter = AnzuKeyWriter.getInstance();
+        Log.i(TAG, String.format("Key writes: %d sent, %d suppressed, %d merged",
+                keyWriter.getWriteCount() - keyWriteCountAtOpen,
+                keyWriter.getSuppressedWriteCount() - suppressedKeyWriteCountAtOpen,
+                keyWriter.getMergedWriteCount() - mergedKeyWriteCountAtOpen));
     }
 }
\ No newline at end of file
@@ -142,6 +142,9 @@ public class AnzuDroneSessionManager implements DroneSessionManager {
                 public void onRegisterSuccess() {
                     registered = true;
                     Log.i(TAG, "DJI SDK registered successfully");
+                    for (final String problem : DronelinkAnzu.verifyEnumMappings()) {
+                        Log.d(TAG, "Enum mapping: " + problem);
+                    }
 
                     KeyManager.getInstance().listen(KeyTools.createKey(ProductKey.KeyProductType), this, new CommonCallbacks.KeyListener<ProductType>() {
                         @Override
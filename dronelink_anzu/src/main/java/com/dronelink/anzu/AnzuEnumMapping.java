@@ -0,0 +1,130 @@
+//  AnzuEnumMapping.java
+//  DronelinkAnzu
+//
+//  Created by agent on 10/18/26.
+//  Copyright © 2026 Dronelink. All rights reserved.
+//
+package com.dronelink.anzu;
+
+import androidx.annotation.Nullable;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+
+//ordinal-indexed lookup tables between two enums, built once from declared pairs
+//the tables are sized from the runtime enum constants, so constants added by a newer sdk fall back to the default
+public class AnzuEnumMapping<S extends Enum<S>, T extends Enum<T>> {
+    private final Class<S> sourceType;
+    private final Class<T> targetType;
+    private final T[] forward;
+    private final S[] reverse;
+    private final boolean[] forwardDeclared;
+    private final boolean[] reverseDeclared;
+    private final T defaultValue;
+    private final S reverseDefaultValue;
+    //pairs declared with map() that are expected to survive a round trip
+    private final List<S> roundTrips = new ArrayList<>();
+    private final List<String> conflicts = new ArrayList<>();
+    //set once a pair is declared in only one direction, after which partial coverage is intentional
+    private boolean oneWay = false;
+
+    @SuppressWarnings("unchecked")
+    public AnzuEnumMapping(final Class<S> sourceType, final Class<T> targetType, final T defaultValue, final @Nullable S reverseDefaultValue) {
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+        this.defaultValue = defaultValue;
+        this.reverseDefaultValue = reverseDefaultValue;
+
+        final int sourceCount = sourceType.getEnumConstants().length;
+        final int targetCount = targetType.getEnumConstants().length;
+        forward = (T[]) Array.newInstance(targetType, sourceCount);
+        reverse = (S[]) Array.newInstance(sourceType, targetCount);
+        forwardDeclared = new boolean[sourceCount];
+        reverseDeclared = new boolean[targetCount];
+        for (int i = 0; i < sourceCount; i++) {
+            forward[i] = defaultValue;
+        }
+        for (int i = 0; i < targetCount; i++) {
+            reverse[i] = reverseDefaultValue;
+        }
+    }
+
+    public AnzuEnumMapping<S, T> map(final S source, final T target) {
+        putForward(source, target);
+        putReverse(target, source);
+        roundTrips.add(source);
+        return this;
+    }
+
+    public AnzuEnumMapping<S, T> mapForward(final S source, final T target) {
+        putForward(source, target);
+        oneWay = true;
+        return this;
+    }
+
+    public AnzuEnumMapping<S, T> mapReverse(final T target, final S source) {
+        putReverse(target, source);
+        oneWay = true;
+        return this;
+    }
+
+    public boolean isBidirectional() {
+        return !oneWay && reverseDefaultValue != null;
+    }
+
+    private void putForward(final S source, final T target) {
+        final int ordinal = source.ordinal();
+        if (forwardDeclared[ordinal] && forward[ordinal] != target) {
+            conflicts.add(source + " -> " + forward[ordinal] + ", " + target);
+        }
+        forward[ordinal] = target;
+        forwardDeclared[ordinal] = true;
+    }
+
+    private void putReverse(final T target, final S source) {
+        final int ordinal = target.ordinal();
+        if (reverseDeclared[ordinal] && reverse[ordinal] != source) {
+            conflicts.add(target + " -> " + reverse[ordinal] + ", " + source);
+        }
+        reverse[ordinal] = source;
+        reverseDeclared[ordinal] = true;
+    }
+
+    public T get(final @Nullable S value) {
+        return value == null ? defaultValue : forward[value.ordinal()];
+    }
+
+    public S getReverse(final @Nullable T value) {
+        return value == null ? reverseDefaultValue : reverse[value.ordinal()];
+    }
+
+    //returns a description of every problem with the declared pairs: duplicate declarations, pairs that don't round trip,
+    //and, for bidirectional mappings only, source constants that silently fall back to the default (usually constants added by a newer sdk)
+    public List<String> verify() {
+        final List<String> problems = new ArrayList<>();
+        final String name = sourceType.getName() + " <-> " + targetType.getName();
+        for (final String conflict : conflicts) {
+            problems.add(name + ": conflicting declarations " + conflict);
+        }
+
+        for (final S source : roundTrips) {
+            final S roundTrip = getReverse(get(source));
+            if (roundTrip != source) {
+                problems.add(name + ": " + source + " -> " + get(source) + " -> " + roundTrip);
+            }
+        }
+
+        if (!isBidirectional()) {
+            return problems;
+        }
+
+        for (final S source : sourceType.getEnumConstants()) {
+            if (!forwardDeclared[source.ordinal()]) {
+                problems.add(name + ": " + source + " is unmapped");
+            }
+        }
+
+        return problems;
+    }
+}
@@ -0,0 +1,166 @@
+//  AnzuFinishDelays.java
+//  DronelinkAnzu
+//
+//  Created by agent on 10/18/26.
+//  Copyright © 2026 Dronelink. All rights reserved.
+//
+package com.dronelink.anzu;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.util.Log;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+//finish delays learned from how long the product takes to report a mode change (keyed by product type / camera type / command type)
+//the delay applied is the p95 of the recent transitions plus a margin, the fixed default is used until there are enough samples
+//the learned delay never drops below a per command type minimum: the product can still reject commands for a while after reporting the mode
+//samples are persisted so the delays survive app restarts
+public class AnzuFinishDelays {
+    public static class Entry {
+        public final String key;
+        public final int samples;
+        public final long p95Millis;
+        public final long delayMillis;
+
+        Entry(final String key, final int samples, final long p95Millis, final long delayMillis) {
+            this.key = key;
+            this.samples = samples;
+            this.p95Millis = p95Millis;
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public String toString() {
+            return key + ": " + delayMillis + "ms (p95 " + p95Millis + "ms, " + samples + " samples)";
+        }
+    }
+
+    private static final String TAG = AnzuFinishDelays.class.getCanonicalName();
+    private static final String PREFERENCES_NAME = "com.dronelink.anzu.finish_delays";
+    public static final long DEFAULT_DELAY_MILLIS = 1500;
+    public static final long MARGIN_MILLIS = 250;
+    public static final long MAX_DELAY_MILLIS = 3000;
+    //for command types without their own minimum
+    public static final long MIN_DELAY_MILLIS = DEFAULT_DELAY_MILLIS / 2;
+    private static final int MIN_SAMPLES = 5;
+    private static final int MAX_SAMPLES = 50;
+
+    private static final Map<String, Long> minDelays = new HashMap<>();
+    static {
+        minDelays.put("ModeCameraCommand", 1000L);
+        minDelays.put("ModeGimbalCommand", MIN_DELAY_MILLIS);
+    }
+
+    private final SharedPreferences preferences;
+    //guarded by samples
+    private final Map<String, Deque<Long>> samples = new TreeMap<>();
+
+    public AnzuFinishDelays(final Context context) {
+        preferences = context.getSharedPreferences(PREFERENCES_NAME, Context.MODE_PRIVATE);
+        for (final Map.Entry<String, ?> entry : preferences.getAll().entrySet()) {
+            if (!(entry.getValue() instanceof String)) {
+                continue;
+            }
+
+            final Deque<Long> values = new ArrayDeque<>();
+            for (final String value : ((String) entry.getValue()).split(",")) {
+                try {
+                    values.add(Long.parseLong(value));
+                }
+                catch (final NumberFormatException ignored) {}
+            }
+            samples.put(entry.getKey(), values);
+        }
+    }
+
+    public static String key(final String productType, final String cameraType, final String commandType) {
+        return productType + "/" + cameraType + "/" + commandType;
+    }
+
+    public long getDelayMillis(final String key) {
+        synchronized (samples) {
+            return getEntry(key, samples.get(key)).delayMillis;
+        }
+    }
+
+    //timed out transitions aren't samples of how long the transition takes, so they are only logged
+    public void record(final String key, final long elapsedMillis, final boolean timedOut) {
+        if (timedOut) {
+            Log.d(TAG, "Finish delay sample skipped, transition timed out (" + key + "): " + elapsedMillis + "ms");
+            return;
+        }
+
+        final String serialized;
+        synchronized (samples) {
+            Deque<Long> values = samples.get(key);
+            if (values == null) {
+                values = new ArrayDeque<>();
+                samples.put(key, values);
+            }
+            values.addLast(Math.max(0, elapsedMillis));
+            while (values.size() > MAX_SAMPLES) {
+                values.removeFirst();
+            }
+
+            final StringBuilder builder = new StringBuilder();
+            for (final Long value : values) {
+                if (builder.length() > 0) {
+                    builder.append(',');
+                }
+                builder.append(value);
+            }
+            serialized = builder.toString();
+        }
+
+        preferences.edit().putString(key, serialized).apply();
+        Log.d(TAG, "Finish delay sample (" + key + "): " + elapsedMillis + "ms");
+    }
+
+    public List<Entry> getTable() {
+        final List<Entry> table = new ArrayList<>();
+        synchronized (samples) {
+            for (final Map.Entry<String, Deque<Long>> entry : samples.entrySet()) {
+                table.add(getEntry(entry.getKey(), entry.getValue()));
+            }
+        }
+        return table;
+    }
+
+    public void clear() {
+        synchronized (samples) {
+            samples.clear();
+        }
+        preferences.edit().clear().apply();
+    }
+
+    public static long getMinDelayMillis(final String key) {
+        final Long minDelay = minDelays.get(key.substring(key.lastIndexOf('/') + 1));
+        return minDelay == null ? MIN_DELAY_MILLIS : minDelay;
+    }
+
+    private static Entry getEntry(final String key, final Deque<Long> values) {
+        if (values == null || values.isEmpty()) {
+            return new Entry(key, 0, 0, DEFAULT_DELAY_MILLIS);
+        }
+
+        final long[] sorted = new long[values.size()];
+        int i = 0;
+        for (final Long value : values) {
+            sorted[i++] = value;
+        }
+        Arrays.sort(sorted);
+
+        //nearest rank
+        final long p95 = sorted[Math.max(0, (int)Math.ceil(sorted.length * 0.95) - 1)];
+        final long delay = sorted.length < MIN_SAMPLES ? DEFAULT_DELAY_MILLIS : Math.min(MAX_DELAY_MILLIS, Math.max(getMinDelayMillis(key), p95 + MARGIN_MILLIS));
+        return new Entry(key, sorted.length, p95, delay);
+    }
+}
@@ -0,0 +1,173 @@
+//  AnzuKeyWriter.java
+//  DronelinkAnzu
+//
+//  Created by agent on 10/18/26.
+//  Copyright © 2026 Dronelink. All rights reserved.
+//
+package com.dronelink.anzu;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import dji.sdk.keyvalue.key.DJIKey;
+import dji.v5.common.callback.CommonCallbacks;
+import dji.v5.common.error.IDJIError;
+import dji.v5.manager.KeyManager;
+
+//sits in front of KeyManager.setValue and keeps at most one write per key in flight:
+//a write of the value that is already in flight is suppressed and shares its result,
+//and writes issued while one is in flight collapse into a single pending write of the latest value
+//only immutable values are compared, a settings object may have been changed in place since it was sent
+public class AnzuKeyWriter {
+    private static final class Write {
+        final Object value;
+        final List<CommonCallbacks.CompletionCallback> callbacks = new ArrayList<>(1);
+
+        Write(final Object value, final @Nullable CommonCallbacks.CompletionCallback callback) {
+            this.value = value;
+            add(callback);
+        }
+
+        void add(final @Nullable CommonCallbacks.CompletionCallback callback) {
+            if (callback != null) {
+                callbacks.add(callback);
+            }
+        }
+    }
+
+    private static final class KeyState {
+        Write inFlight;
+        Write pending;
+    }
+
+    private static final AnzuKeyWriter instance = new AnzuKeyWriter();
+
+    public static AnzuKeyWriter getInstance() {
+        return instance;
+    }
+
+    //guarded by keys
+    private final Map<DJIKey<?>, KeyState> keys = new HashMap<>();
+    private long writes = 0;
+    private long suppressedWrites = 0;
+    private long mergedWrites = 0;
+
+    public <T> void setValue(final DJIKey<T> key, final T value, final @Nullable CommonCallbacks.CompletionCallback callback) {
+        final Write write;
+        synchronized (keys) {
+            KeyState state = keys.get(key);
+            if (state == null) {
+                state = new KeyState();
+                keys.put(key, state);
+            }
+
+            if (state.inFlight == null) {
+                state.inFlight = new Write(value, callback);
+                write = state.inFlight;
+                writes++;
+            }
+            else if (state.pending == null && equal(state.inFlight.value, value)) {
+                state.inFlight.add(callback);
+                suppressedWrites++;
+                return;
+            }
+            else if (state.pending != null && equal(state.pending.value, value)) {
+                state.pending.add(callback);
+                suppressedWrites++;
+                return;
+            }
+            else {
+                final Write pending = new Write(value, callback);
+                if (state.pending != null) {
+                    //the superseded value is never written, its callers get the result of the latest one
+                    pending.callbacks.addAll(0, state.pending.callbacks);
+                    mergedWrites++;
+                }
+                state.pending = pending;
+                return;
+            }
+        }
+
+        send(key, write);
+    }
+
+    //writes that were not sent because the same value was already in flight or pending
+    public long getSuppressedWriteCount() {
+        synchronized (keys) {
+            return suppressedWrites;
+        }
+    }
+
+    //pending writes that were replaced by a newer value before they were sent
+    public long getMergedWriteCount() {
+        synchronized (keys) {
+            return mergedWrites;
+        }
+    }
+
+    public long getWriteCount() {
+        synchronized (keys) {
+            return writes;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void send(final DJIKey<T> key, final Write write) {
+        KeyManager.getInstance().setValue(key, (T) write.value, new CommonCallbacks.CompletionCallback() {
+            @Override
+            public void onSuccess() {
+                for (final CommonCallbacks.CompletionCallback callback : complete(key, write)) {
+                    callback.onSuccess();
+                }
+            }
+
+            @Override
+            public void onFailure(final @NonNull IDJIError error) {
+                for (final CommonCallbacks.CompletionCallback callback : complete(key, write)) {
+                    callback.onFailure(error);
+                }
+            }
+        });
+    }
+
+    private <T> List<CommonCallbacks.CompletionCallback> complete(final DJIKey<T> key, final Write write) {
+        final Write next;
+        synchronized (keys) {
+            final KeyState state = keys.get(key);
+            if (state == null || state.inFlight != write) {
+                return write.callbacks;
+            }
+
+            next = state.pending;
+            state.inFlight = next;
+            state.pending = null;
+            if (next == null) {
+                keys.remove(key);
+            }
+            else {
+                writes++;
+            }
+        }
+
+        if (next != null) {
+            send(key, next);
+        }
+        return write.callbacks;
+    }
+
+    private static boolean equal(final Object a, final Object b) {
+        if (!isImmutable(a) || !isImmutable(b)) {
+            return false;
+        }
+        return a == b || (a != null && a.equals(b));
+    }
+
+    private static boolean isImmutable(final Object value) {
+        return value == null || value instanceof Enum || value instanceof String || value instanceof Number || value instanceof Boolean;
+    }
+}
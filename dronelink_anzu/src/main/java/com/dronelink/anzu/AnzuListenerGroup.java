@@ -6,15 +6,103 @@
 //
 package com.dronelink.anzu;
 
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+
 import java.util.ArrayList;
 import java.util.List;
 
 import dji.sdk.keyvalue.key.DJIKey;
 import dji.v5.common.callback.CommonCallbacks;
+import dji.v5.common.error.IDJIError;
 import dji.v5.manager.KeyManager;
 
+//hot keys (init) are listened to for the life of the group
+//warm keys (initWarm) are only listened to while at least one consumer has acquired the group
+//cold keys (initCold) are never listened to, they are fetched with getValue when requested and the result is reused until it expires
 public class AnzuListenerGroup {
+    private static class WarmListener<Result> {
+        final DJIKey<Result> key;
+        final CommonCallbacks.KeyListener<Result> callback;
+
+        WarmListener(final DJIKey<Result> key, final CommonCallbacks.KeyListener<Result> callback) {
+            this.key = key;
+            this.callback = callback;
+        }
+
+        void listen(final Object holder) {
+            KeyManager.getInstance().listen(key, holder, callback);
+            //the value may have changed while nobody was listening
+            KeyManager.getInstance().getValue(key, new CommonCallbacks.CompletionCallbackWithParam<Result>() {
+                @Override
+                public void onSuccess(final Result result) {
+                    callback.onValueChange(null, result);
+                }
+
+                @Override
+                public void onFailure(final @NonNull IDJIError error) {}
+            });
+        }
+    }
+
+    public class ColdKey<Result> {
+        private final DJIKey<Result> key;
+        private final long ttlMillis;
+        private final CommonCallbacks.KeyListener<Result> callback;
+        private Result value;
+        private long fetched = 0;
+        private boolean fetching = false;
+
+        private ColdKey(final DJIKey<Result> key, final long ttlMillis, final CommonCallbacks.KeyListener<Result> callback) {
+            this.key = key;
+            this.ttlMillis = ttlMillis;
+            this.callback = callback;
+        }
+
+        //fetches the value if it has never been fetched or has expired, the callback receives the result
+        public void request() {
+            synchronized (this) {
+                if (cancelled || fetching || (fetched > 0 && SystemClock.elapsedRealtime() - fetched < ttlMillis)) {
+                    return;
+                }
+                fetching = true;
+            }
+
+            KeyManager.getInstance().getValue(key, new CommonCallbacks.CompletionCallbackWithParam<Result>() {
+                @Override
+                public void onSuccess(final Result result) {
+                    final Result previous;
+                    synchronized (ColdKey.this) {
+                        fetching = false;
+                        if (cancelled) {
+                            return;
+                        }
+                        previous = value;
+                        value = result;
+                        fetched = SystemClock.elapsedRealtime();
+                    }
+                    callback.onValueChange(previous, result);
+                }
+
+                @Override
+                public void onFailure(final @NonNull IDJIError error) {
+                    synchronized (ColdKey.this) {
+                        fetching = false;
+                    }
+                }
+            });
+        }
+
+        public synchronized void invalidate() {
+            fetched = 0;
+        }
+    }
+
     private final List<DJIKey<?>> keyListeners = new ArrayList<>();
+    private final List<WarmListener<?>> warmListeners = new ArrayList<>();
+    private int warmConsumers = 0;
+    private volatile boolean cancelled = false;
 
     public <Result> void init(final DJIKey<Result> key, final CommonCallbacks.KeyListener<Result> callback) {
         synchronized (keyListeners) {
@@ -23,12 +111,66 @@ public class AnzuListenerGroup {
         }
     }
 
+    public <Result> void initWarm(final DJIKey<Result> key, final CommonCallbacks.KeyListener<Result> callback) {
+        synchronized (keyListeners) {
+            final WarmListener<Result> listener = new WarmListener<>(key, callback);
+            warmListeners.add(listener);
+            if (warmConsumers > 0 && !cancelled) {
+                listener.listen(this);
+            }
+        }
+    }
+
+    public <Result> ColdKey<Result> initCold(final DJIKey<Result> key, final long ttlMillis, final CommonCallbacks.KeyListener<Result> callback) {
+        return new ColdKey<>(key, ttlMillis, callback);
+    }
+
+    public void acquireWarm() {
+        synchronized (keyListeners) {
+            warmConsumers++;
+            if (warmConsumers == 1 && !cancelled) {
+                for (final WarmListener<?> listener : warmListeners) {
+                    listener.listen(this);
+                }
+            }
+        }
+    }
+
+    public void releaseWarm() {
+        synchronized (keyListeners) {
+            if (warmConsumers == 0) {
+                return;
+            }
+
+            warmConsumers--;
+            if (warmConsumers == 0 && !cancelled) {
+                for (final WarmListener<?> listener : warmListeners) {
+                    KeyManager.getInstance().cancelListen(listener.key, this);
+                }
+            }
+        }
+    }
+
+    public int getSubscriptionCount() {
+        synchronized (keyListeners) {
+            return keyListeners.size() + (warmConsumers > 0 ? warmListeners.size() : 0);
+        }
+    }
+
     public void cancelAll() {
         synchronized (keyListeners) {
+            cancelled = true;
             for (final DJIKey<?> key : keyListeners) {
                 KeyManager.getInstance().cancelListen(key, this);
             }
             keyListeners.clear();
+
+            if (warmConsumers > 0) {
+                for (final WarmListener<?> listener : warmListeners) {
+                    KeyManager.getInstance().cancelListen(listener.key, this);
+                }
+            }
+            warmListeners.clear();
         }
     }
 }
@@ -0,0 +1,278 @@
+//  AnzuMediaIndex.java
+//  DronelinkAnzu
+//
+//  Created by agent on 10/18/26.
+//  Copyright © 2026 Dronelink. All rights reserved.
+//
+package com.dronelink.anzu;
+
+import android.location.Location;
+import android.util.Log;
+
+import androidx.annotation.Nullable;
+
+import com.dronelink.core.kernel.core.Orientation3;
+import com.dronelink.core.kernel.core.enums.CameraLensType;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import dji.sdk.keyvalue.value.camera.DCFCameraType;
+import dji.sdk.keyvalue.value.camera.GeneratedMediaFileInfo;
+import dji.sdk.keyvalue.value.camera.MediaFileType;
+
+//append-only index of the media files generated during a session, so they can be matched after the flight without downloading the media list
+//entries are packed into fixed size records in chunks of CHUNK_ENTRIES, which live on the heap until spillTo is called,
+//after which every chunk is memory-mapped from the spill file
+public class AnzuMediaIndex {
+    //reusable view of one entry, filled by get
+    public static class Entry {
+        public int index;
+        public int channel;
+        public int dirNo;
+        public int fileNo;
+        public MediaFileType type;
+        public DCFCameraType dcfType;
+        public long size;
+        //System.currentTimeMillis when the file was reported
+        public long timestamp;
+        //NaN when there was no location
+        public double latitude;
+        public double longitude;
+        public double altitude;
+        //radians
+        public double pitch;
+        public double roll;
+        public double yaw;
+
+        public CameraLensType getLensType() {
+            return DronelinkAnzu.getCameraLensType(dcfType);
+        }
+
+        public Location createLocation() {
+            if (Double.isNaN(latitude) || Double.isNaN(longitude)) {
+                return null;
+            }
+
+            final Location location = new Location("");
+            location.setLatitude(latitude);
+            location.setLongitude(longitude);
+            return location;
+        }
+    }
+
+    private static final String TAG = AnzuMediaIndex.class.getCanonicalName();
+
+    private static final int CHUNK_ENTRIES = 1024;
+    //timestamp, size, latitude, longitude, altitude, pitch, roll, yaw, dir no, file no, channel, type, dcf type, (padding)
+    private static final int ENTRY_BYTES = 80;
+    private static final int CHUNK_BYTES = CHUNK_ENTRIES * ENTRY_BYTES;
+    private static final int TIMESTAMP = 0;
+    private static final int SIZE = 8;
+    private static final int LATITUDE = 16;
+    private static final int LONGITUDE = 24;
+    private static final int ALTITUDE = 32;
+    private static final int PITCH = 40;
+    private static final int ROLL = 48;
+    private static final int YAW = 56;
+    private static final int DIR_NO = 64;
+    private static final int FILE_NO = 68;
+    private static final int CHANNEL = 72;
+    private static final int TYPE = 73;
+    private static final int DCF_TYPE = 74;
+
+    private static final MediaFileType[] TYPES = MediaFileType.values();
+    private static final DCFCameraType[] DCF_TYPES = DCFCameraType.values();
+
+    //guarded by this
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private int count = 0;
+    private RandomAccessFile spillFile;
+    private FileChannel spillChannel;
+
+    public synchronized int append(final int channel, final GeneratedMediaFileInfo info, final @Nullable Location location, final @Nullable Double altitude, final Orientation3 orientation) {
+        final int index = count;
+        final int chunk = index / CHUNK_ENTRIES;
+        if (chunk == chunks.size()) {
+            chunks.add(createChunk(chunk));
+        }
+
+        final ByteBuffer buffer = chunks.get(chunk);
+        final int offset = (index % CHUNK_ENTRIES) * ENTRY_BYTES;
+        buffer.putLong(offset + TIMESTAMP, System.currentTimeMillis());
+        buffer.putLong(offset + SIZE, info.getFileSize() == null ? 0 : info.getFileSize());
+        buffer.putDouble(offset + LATITUDE, location == null ? Double.NaN : location.getLatitude());
+        buffer.putDouble(offset + LONGITUDE, location == null ? Double.NaN : location.getLongitude());
+        buffer.putDouble(offset + ALTITUDE, altitude == null ? Double.NaN : altitude);
+        buffer.putDouble(offset + PITCH, orientation.x);
+        buffer.putDouble(offset + ROLL, orientation.y);
+        buffer.putDouble(offset + YAW, orientation.z);
+        buffer.putInt(offset + DIR_NO, info.getDir_no() == null ? -1 : info.getDir_no());
+        buffer.putInt(offset + FILE_NO, info.getFile_no() == null ? -1 : info.getFile_no());
+        buffer.put(offset + CHANNEL, (byte) channel);
+        buffer.put(offset + TYPE, (byte) (info.getType() == null ? -1 : info.getType().ordinal()));
+        buffer.put(offset + DCF_TYPE, (byte) (info.getDcf_type() == null ? -1 : info.getDcf_type().ordinal()));
+        count++;
+        return index;
+    }
+
+    public synchronized int size() {
+        return count;
+    }
+
+    //fills entry and returns it, null if index is out of range
+    public synchronized Entry get(final int index, final Entry entry) {
+        if (index < 0 || index >= count) {
+            return null;
+        }
+
+        final ByteBuffer buffer = chunks.get(index / CHUNK_ENTRIES);
+        final int offset = (index % CHUNK_ENTRIES) * ENTRY_BYTES;
+        entry.index = index;
+        entry.timestamp = buffer.getLong(offset + TIMESTAMP);
+        entry.size = buffer.getLong(offset + SIZE);
+        entry.latitude = buffer.getDouble(offset + LATITUDE);
+        entry.longitude = buffer.getDouble(offset + LONGITUDE);
+        entry.altitude = buffer.getDouble(offset + ALTITUDE);
+        entry.pitch = buffer.getDouble(offset + PITCH);
+        entry.roll = buffer.getDouble(offset + ROLL);
+        entry.yaw = buffer.getDouble(offset + YAW);
+        entry.dirNo = buffer.getInt(offset + DIR_NO);
+        entry.fileNo = buffer.getInt(offset + FILE_NO);
+        entry.channel = buffer.get(offset + CHANNEL);
+        final int type = buffer.get(offset + TYPE);
+        entry.type = type >= 0 && type < TYPES.length ? TYPES[type] : null;
+        final int dcfType = buffer.get(offset + DCF_TYPE);
+        entry.dcfType = dcfType >= 0 && dcfType < DCF_TYPES.length ? DCF_TYPES[dcfType] : null;
+        return entry;
+    }
+
+    //indexes of the entries with fromMillis <= timestamp < toMillis
+    public synchronized int[] findByTime(final long fromMillis, final long toMillis) {
+        //entries are appended in time order, unless the clock was changed, so start from the first entry at or after fromMillis
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (getTimestamp(middle) < fromMillis) {
+                low = middle + 1;
+            }
+            else {
+                high = middle;
+            }
+        }
+
+        int[] indexes = new int[16];
+        int found = 0;
+        for (int i = low; i < count; i++) {
+            final long timestamp = getTimestamp(i);
+            if (timestamp >= toMillis) {
+                break;
+            }
+
+            if (timestamp >= fromMillis) {
+                if (found == indexes.length) {
+                    indexes = Arrays.copyOf(indexes, found * 2);
+                }
+                indexes[found++] = i;
+            }
+        }
+        return Arrays.copyOf(indexes, found);
+    }
+
+    public synchronized int[] findByLens(final CameraLensType lensType) {
+        int[] indexes = new int[16];
+        int found = 0;
+        for (int i = 0; i < count; i++) {
+            final int dcfType = chunks.get(i / CHUNK_ENTRIES).get((i % CHUNK_ENTRIES) * ENTRY_BYTES + DCF_TYPE);
+            if (dcfType >= 0 && dcfType < DCF_TYPES.length && DronelinkAnzu.getCameraLensType(DCF_TYPES[dcfType]) == lensType) {
+                if (found == indexes.length) {
+                    indexes = Arrays.copyOf(indexes, found * 2);
+                }
+                indexes[found++] = i;
+            }
+        }
+        return Arrays.copyOf(indexes, found);
+    }
+
+    //index of the most recent entry for the file, -1 if there isn't one
+    public synchronized int find(final int channel, final int dirNo, final int fileNo) {
+        for (int i = count - 1; i >= 0; i--) {
+            final ByteBuffer buffer = chunks.get(i / CHUNK_ENTRIES);
+            final int offset = (i % CHUNK_ENTRIES) * ENTRY_BYTES;
+            if (buffer.getInt(offset + FILE_NO) == fileNo && buffer.getInt(offset + DIR_NO) == dirNo && buffer.get(offset + CHANNEL) == channel) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    //moves the existing entries into file and maps every later chunk from it, so the index no longer grows the heap
+    public synchronized boolean spillTo(final File file) {
+        if (spillChannel != null) {
+            return true;
+        }
+
+        try {
+            spillFile = new RandomAccessFile(file, "rw");
+            spillChannel = spillFile.getChannel();
+            for (int i = 0; i < chunks.size(); i++) {
+                final ByteBuffer mapped = spillChannel.map(FileChannel.MapMode.READ_WRITE, (long) i * CHUNK_BYTES, CHUNK_BYTES);
+                final ByteBuffer heap = chunks.get(i).duplicate();
+                heap.clear();
+                mapped.put(heap);
+                chunks.set(i, mapped);
+            }
+            Log.i(TAG, "Media index spilled to " + file.getAbsolutePath() + " (" + count + " entries)");
+            return true;
+        }
+        catch (final IOException e) {
+            Log.e(TAG, "Unable to spill media index: " + e.getMessage());
+            closeSpill();
+            return false;
+        }
+    }
+
+    public synchronized void close() {
+        closeSpill();
+    }
+
+    private long getTimestamp(final int index) {
+        return chunks.get(index / CHUNK_ENTRIES).getLong((index % CHUNK_ENTRIES) * ENTRY_BYTES + TIMESTAMP);
+    }
+
+    private ByteBuffer createChunk(final int chunk) {
+        if (spillChannel == null) {
+            return ByteBuffer.allocate(CHUNK_BYTES);
+        }
+
+        try {
+            return spillChannel.map(FileChannel.MapMode.READ_WRITE, (long) chunk * CHUNK_BYTES, CHUNK_BYTES);
+        }
+        catch (final IOException e) {
+            Log.e(TAG, "Unable to map media index chunk, using the heap: " + e.getMessage());
+            return ByteBuffer.allocate(CHUNK_BYTES);
+        }
+    }
+
+    private void closeSpill() {
+        //mapped chunks stay readable after the channel is closed
+        try {
+            if (spillChannel != null) {
+                spillChannel.close();
+            }
+            if (spillFile != null) {
+                spillFile.close();
+            }
+        }
+        catch (final IOException ignored) {}
+        spillChannel = null;
+        spillFile = null;
+    }
+}
@@ -0,0 +1,241 @@
+//  AnzuRetryPolicy.java
+//  DronelinkAnzu
+//
+//  Created by agent on 10/18/26.
+//  Copyright © 2026 Dronelink. All rights reserved.
+//
+package com.dronelink.anzu;
+
+import android.util.Log;
+
+import androidx.annotation.Nullable;
+
+import com.dronelink.core.Dronelink;
+import com.dronelink.core.MissionExecutor;
+import com.dronelink.core.command.CommandError;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.WeakHashMap;
+
+import dji.sdk.errorcode.DJIErrorCode;
+import dji.v5.common.error.IDJIError;
+
+//decides whether a failed command is retried and how long to back off first, based on what kind of failure the sdk reported
+//retries back off exponentially with jitter so a degraded link isn't flooded, and each mission has a retry budget
+public class AnzuRetryPolicy {
+    public enum ErrorClass {
+        //timeouts and disconnects, the link will likely recover
+        TRANSIENT_LINK,
+        //the component is doing something else right now
+        BUSY,
+        //not allowed in the current state, a short wait may help if our view of the state was stale
+        INVALID_STATE,
+        //the request itself was rejected, sending it again won't help
+        INVALID_PARAMETER,
+        //the product can't do it at all
+        UNSUPPORTED,
+        UNKNOWN
+    }
+
+    private static final class Backoff {
+        final int maxRetries;
+        final long baseMillis;
+        final long maxMillis;
+
+        Backoff(final int maxRetries, final long baseMillis, final long maxMillis) {
+            this.maxRetries = maxRetries;
+            this.baseMillis = baseMillis;
+            this.maxMillis = maxMillis;
+        }
+    }
+
+    public static class Counts {
+        public final long retries;
+        public final long giveUps;
+
+        Counts(final long retries, final long giveUps) {
+            this.retries = retries;
+            this.giveUps = giveUps;
+        }
+    }
+
+    //per command, tracks the attempts and the last failure so the next attempt can back off
+    public class Tracker {
+        private final String commandType;
+        private int retries = 0;
+        private ErrorClass lastErrorClass;
+
+        private Tracker(final String commandType) {
+            this.commandType = commandType;
+        }
+
+        //the retriesEnabled predicate
+        public synchronized boolean shouldRetry(final @Nullable CommandError error) {
+            if (error == null) {
+                return true;
+            }
+
+            final ErrorClass errorClass = classify(error);
+            final Backoff backoff = getBackoff(errorClass);
+            if (retries >= backoff.maxRetries || !consumeBudget()) {
+                count(commandType, false);
+                Log.d(TAG, "Retry given up (" + commandType + ", " + errorClass + ", " + retries + " retries)");
+                lastErrorClass = null;
+                return false;
+            }
+
+            retries++;
+            lastErrorClass = errorClass;
+            count(commandType, true);
+            return true;
+        }
+
+        //called before each execution, returns how long to wait before executing (0 for the first attempt)
+        public synchronized long onExecute() {
+            final ErrorClass errorClass = lastErrorClass;
+            lastErrorClass = null;
+            if (errorClass == null || retries == 0) {
+                return 0;
+            }
+
+            final Backoff backoff = getBackoff(errorClass);
+            final long ceiling = Math.min(backoff.maxMillis, backoff.baseMillis << Math.min(retries - 1, 16));
+            synchronized (random) {
+                return ceiling / 2 + (long)(random.nextDouble() * (ceiling - ceiling / 2));
+            }
+        }
+    }
+
+    private static final String TAG = AnzuRetryPolicy.class.getCanonicalName();
+    public static final int DEFAULT_MISSION_RETRY_BUDGET = 50;
+
+    private static final Map<ErrorClass, Backoff> backoffs = new EnumMap<>(ErrorClass.class);
+    static {
+        backoffs.put(ErrorClass.TRANSIENT_LINK, new Backoff(5, 250, 4000));
+        backoffs.put(ErrorClass.BUSY, new Backoff(4, 300, 2000));
+        backoffs.put(ErrorClass.INVALID_STATE, new Backoff(1, 500, 500));
+        backoffs.put(ErrorClass.INVALID_PARAMETER, new Backoff(0, 0, 0));
+        backoffs.put(ErrorClass.UNSUPPORTED, new Backoff(0, 0, 0));
+        backoffs.put(ErrorClass.UNKNOWN, new Backoff(3, 250, 2000));
+    }
+
+    //exact error codes reported by the sdk, anything else is UNKNOWN
+    private static final Map<String, ErrorClass> errorCodes = new HashMap<>();
+    static {
+        errorCodes.put("TIMEOUT", ErrorClass.TRANSIENT_LINK);
+        errorCodes.put("REQUEST_TIMEOUT", ErrorClass.TRANSIENT_LINK);
+        errorCodes.put("DISCONNECTED", ErrorClass.TRANSIENT_LINK);
+        errorCodes.put("NOT_CONNECTED", ErrorClass.TRANSIENT_LINK);
+        errorCodes.put("PRODUCT_DISCONNECTED", ErrorClass.TRANSIENT_LINK);
+        errorCodes.put("SEND_PACK_FAILURE", ErrorClass.TRANSIENT_LINK);
+        errorCodes.put("BUSY", ErrorClass.BUSY);
+        errorCodes.put("SYSTEM_BUSY", ErrorClass.BUSY);
+        errorCodes.put("COMMAND_IN_PROGRESS", ErrorClass.BUSY);
+        errorCodes.put("EXECUTING", ErrorClass.BUSY);
+        errorCodes.put("INVALID_STATE", ErrorClass.INVALID_STATE);
+        errorCodes.put("NOT_ALLOWED", ErrorClass.INVALID_STATE);
+        errorCodes.put("CANNOT_START", ErrorClass.INVALID_STATE);
+        errorCodes.put("INVALID_PARAM", ErrorClass.INVALID_PARAMETER);
+        errorCodes.put("INVALID_PARAMETER", ErrorClass.INVALID_PARAMETER);
+        errorCodes.put("PARAM_ILLEGAL", ErrorClass.INVALID_PARAMETER);
+        errorCodes.put("VALUE_OUT_OF_RANGE", ErrorClass.INVALID_PARAMETER);
+        errorCodes.put(DJIErrorCode.UNSUPPORTED_COMMAND.name(), ErrorClass.UNSUPPORTED);
+        errorCodes.put("NOT_SUPPORT", ErrorClass.UNSUPPORTED);
+        errorCodes.put("NOT_SUPPORTED", ErrorClass.UNSUPPORTED);
+    }
+
+    //the class of each CommandError built from an IDJIError (see createCommandError), weak so errors aren't retained
+    private static final Map<CommandError, ErrorClass> commandErrorClasses = new WeakHashMap<>();
+
+    private final Random random = new Random();
+    //guarded by this
+    private final Map<String, long[]> counts = new HashMap<>();
+    private int missionRetryBudget = DEFAULT_MISSION_RETRY_BUDGET;
+    private int missionRetries = 0;
+    private MissionExecutor mission;
+
+    public Tracker track(final String commandType) {
+        return new Tracker(commandType);
+    }
+
+    //builds the CommandError reported for an sdk failure and remembers its class for the retry decision
+    public static CommandError createCommandError(final IDJIError error) {
+        final CommandError commandError = new CommandError(error.errorCode());
+        final ErrorClass errorClass = classify(error);
+        synchronized (commandErrorClasses) {
+            commandErrorClasses.put(commandError, errorClass);
+        }
+        return commandError;
+    }
+
+    public static ErrorClass classify(final IDJIError error) {
+        final ErrorClass errorClass = error.errorCode() == null ? null : errorCodes.get(error.errorCode());
+        if (errorClass == null) {
+            Log.d(TAG, "Unclassified error: " + error.errorType() + " " + error.errorCode());
+            return ErrorClass.UNKNOWN;
+        }
+        return errorClass;
+    }
+
+    //errors that weren't built by createCommandError (adapter validation failures) are UNKNOWN
+    public static ErrorClass classify(final CommandError error) {
+        if (error.code == DJIErrorCode.UNSUPPORTED_COMMAND.value()) {
+            return ErrorClass.UNSUPPORTED;
+        }
+
+        final ErrorClass errorClass;
+        synchronized (commandErrorClasses) {
+            errorClass = commandErrorClasses.get(error);
+        }
+        return errorClass == null ? ErrorClass.UNKNOWN : errorClass;
+    }
+
+    public synchronized void setMissionRetryBudget(final int missionRetryBudget) {
+        this.missionRetryBudget = missionRetryBudget;
+    }
+
+    public synchronized int getMissionRetriesRemaining() {
+        return Math.max(0, missionRetryBudget - missionRetries);
+    }
+
+    //by command type
+    public synchronized Map<String, Counts> getCounts() {
+        final Map<String, Counts> counts = new HashMap<>();
+        for (final Map.Entry<String, long[]> entry : this.counts.entrySet()) {
+            counts.put(entry.getKey(), new Counts(entry.getValue()[0], entry.getValue()[1]));
+        }
+        return counts;
+    }
+
+    private static Backoff getBackoff(final ErrorClass errorClass) {
+        return backoffs.get(errorClass);
+    }
+
+    private synchronized boolean consumeBudget() {
+        //the budget starts over with each mission
+        final MissionExecutor mission = Dronelink.getInstance().getMissionExecutor();
+        if (mission != this.mission) {
+            this.mission = mission;
+            missionRetries = 0;
+        }
+
+        if (missionRetries >= missionRetryBudget) {
+            return false;
+        }
+
+        missionRetries++;
+        return true;
+    }
+
+    private synchronized void count(final String commandType, final boolean retried) {
+        long[] value = counts.get(commandType);
+        if (value == null) {
+            value = new long[2];
+            counts.put(commandType, value);
+        }
+        value[retried ? 0 : 1]++;
+    }
+}
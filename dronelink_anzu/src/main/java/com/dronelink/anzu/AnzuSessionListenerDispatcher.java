@@ -0,0 +1,269 @@
+//  AnzuSessionListenerDispatcher.java
+//  DronelinkAnzu
+//
+//  Created by agent on 10/18/26.
+//  Copyright © 2026 Dronelink. All rights reserved.
+//
+package com.dronelink.anzu;
+
+import android.util.Log;
+
+import com.dronelink.core.CameraFile;
+import com.dronelink.core.DroneSession;
+import com.dronelink.core.command.CommandError;
+import com.dronelink.core.kernel.command.Command;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+class AnzuSessionListenerDispatcher {
+    private static final String TAG = AnzuSessionListenerDispatcher.class.getCanonicalName();
+    private static final double LAG_SMOOTHING = 0.1;
+
+    private enum EventType {
+        INITIALIZED,
+        LOCATED,
+        MOTORS_CHANGED,
+        COMMAND_EXECUTED,
+        COMMAND_FINISHED,
+        CAMERA_FILE_GENERATED
+    }
+
+    //ring slots are reused, so events don't allocate once the ring has grown to the burst size
+    private static class Event {
+        EventType type;
+        DroneSession.Listener target;
+        //the listeners registered when the event was raised, so a listener added later doesn't see it
+        DroneSession.Listener[] listeners;
+        boolean value;
+        Command command;
+        CommandError error;
+        CameraFile file;
+        long enqueued;
+
+        void set(final Event event) {
+            type = event.type;
+            target = event.target;
+            listeners = event.listeners;
+            value = event.value;
+            command = event.command;
+            error = event.error;
+            file = event.file;
+            enqueued = event.enqueued;
+        }
+
+        void clear() {
+            target = null;
+            listeners = null;
+            command = null;
+            error = null;
+            file = null;
+        }
+    }
+
+    private final DroneSession session;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final Runnable drain = this::drain;
+
+    private final Object listenersLock = new Object();
+    private volatile DroneSession.Listener[] listeners = new DroneSession.Listener[0];
+
+    private final Object ringLock = new Object();
+    private Event[] ring = createRing(16);
+    private int head = 0;
+    private int size = 0;
+    private boolean drainScheduled = false;
+    //only touched by the executor thread
+    private final Event current = new Event();
+
+    private volatile int maxQueueDepth = 0;
+    private volatile double dispatchLagNanos = 0;
+    private volatile long maxDispatchLagNanos = 0;
+
+    AnzuSessionListenerDispatcher(final DroneSession session) {
+        this.session = session;
+    }
+
+    private static Event[] createRing(final int capacity) {
+        final Event[] ring = new Event[capacity];
+        for (int i = 0; i < capacity; i++) {
+            ring[i] = new Event();
+        }
+        return ring;
+    }
+
+    void addListener(final DroneSession.Listener listener) {
+        synchronized (listenersLock) {
+            final DroneSession.Listener[] previous = listeners;
+            final DroneSession.Listener[] next = new DroneSession.Listener[previous.length + 1];
+            System.arraycopy(previous, 0, next, 0, previous.length);
+            next[previous.length] = listener;
+            listeners = next;
+        }
+    }
+
+    void removeListener(final DroneSession.Listener listener) {
+        synchronized (listenersLock) {
+            final DroneSession.Listener[] previous = listeners;
+            for (int i = 0; i < previous.length; i++) {
+                if (previous[i] == listener) {
+                    final DroneSession.Listener[] next = new DroneSession.Listener[previous.length - 1];
+                    System.arraycopy(previous, 0, next, 0, i);
+                    System.arraycopy(previous, i + 1, next, i, previous.length - i - 1);
+                    listeners = next;
+                    return;
+                }
+            }
+        }
+    }
+
+    void onInitialized(final DroneSession.Listener target) {
+        enqueue(EventType.INITIALIZED, target, false, null, null, null);
+    }
+
+    void onLocated(final DroneSession.Listener target) {
+        enqueue(EventType.LOCATED, target, false, null, null, null);
+    }
+
+    void onMotorsChanged(final boolean value) {
+        enqueue(EventType.MOTORS_CHANGED, null, value, null, null, null);
+    }
+
+    void onCommandExecuted(final Command command) {
+        enqueue(EventType.COMMAND_EXECUTED, null, false, command, null, null);
+    }
+
+    void onCommandFinished(final Command command, final CommandError error) {
+        enqueue(EventType.COMMAND_FINISHED, null, false, command, error, null);
+    }
+
+    void onCameraFileGenerated(final CameraFile file) {
+        enqueue(EventType.CAMERA_FILE_GENERATED, null, false, null, null, file);
+    }
+
+    int getQueueDepth() {
+        synchronized (ringLock) {
+            return size;
+        }
+    }
+
+    int getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    //smoothed time between an event being raised and its delivery to listeners
+    double getDispatchLagMillis() {
+        return dispatchLagNanos / 1_000_000.0;
+    }
+
+    double getMaxDispatchLagMillis() {
+        return maxDispatchLagNanos / 1_000_000.0;
+    }
+
+    private void enqueue(final EventType type, final DroneSession.Listener target, final boolean value, final Command command, final CommandError error, final CameraFile file) {
+        boolean schedule = false;
+        synchronized (ringLock) {
+            if (size == ring.length) {
+                final Event[] grown = createRing(ring.length * 2);
+                for (int i = 0; i < size; i++) {
+                    grown[i].set(ring[(head + i) & (ring.length - 1)]);
+                }
+                ring = grown;
+                head = 0;
+            }
+
+            final Event event = ring[(head + size) & (ring.length - 1)];
+            event.type = type;
+            event.target = target;
+            //copy-on-write, so the current array can be kept without copying
+            event.listeners = target == null ? listeners : null;
+            event.value = value;
+            event.command = command;
+            event.error = error;
+            event.file = file;
+            event.enqueued = System.nanoTime();
+            size++;
+
+            if (size > maxQueueDepth) {
+                maxQueueDepth = size;
+            }
+
+            //a burst of events shares a single executor hop
+            if (!drainScheduled) {
+                drainScheduled = true;
+                schedule = true;
+            }
+        }
+
+        if (schedule) {
+            executor.execute(drain);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            synchronized (ringLock) {
+                if (size == 0) {
+                    drainScheduled = false;
+                    return;
+                }
+
+                final Event event = ring[head];
+                current.set(event);
+                event.clear();
+                head = (head + 1) & (ring.length - 1);
+                size--;
+            }
+
+            final long lag = System.nanoTime() - current.enqueued;
+            dispatchLagNanos = dispatchLagNanos == 0 ? lag : dispatchLagNanos + (lag - dispatchLagNanos) * LAG_SMOOTHING;
+            if (lag > maxDispatchLagNanos) {
+                maxDispatchLagNanos = lag;
+            }
+
+            if (current.target != null) {
+                dispatch(current, current.target);
+            }
+            else {
+                for (final DroneSession.Listener listener : current.listeners) {
+                    dispatch(current, listener);
+                }
+            }
+            current.clear();
+        }
+    }
+
+    private void dispatch(final Event event, final DroneSession.Listener listener) {
+        try {
+            switch (event.type) {
+                case INITIALIZED:
+                    listener.onInitialized(session);
+                    break;
+
+                case LOCATED:
+                    listener.onLocated(session);
+                    break;
+
+                case MOTORS_CHANGED:
+                    listener.onMotorsChanged(session, event.value);
+                    break;
+
+                case COMMAND_EXECUTED:
+                    listener.onCommandExecuted(session, event.command);
+                    break;
+
+                case COMMAND_FINISHED:
+                    listener.onCommandFinished(session, event.command, event.error);
+                    break;
+
+                case CAMERA_FILE_GENERATED:
+                    listener.onCameraFileGenerated(session, event.file);
+                    break;
+            }
+        }
+        catch (final RuntimeException e) {
+            //a misbehaving listener must not stall delivery to the others
+            Log.e(TAG, "Listener dispatch failed: " + event.type, e);
+        }
+    }
+}
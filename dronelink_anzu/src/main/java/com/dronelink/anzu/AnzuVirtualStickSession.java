@@ -48,7 +48,7 @@ public class AnzuVirtualStickSession implements DroneControlSession, VirtualStic
     private final Context context;
     private final AnzuDroneAdapter droneAdapter;
 
-    private State state = State.TAKEOFF_START;
+    private volatile State state = State.TAKEOFF_START;
     private int virtualStickAttempts = 0;
     private Date virtualStickAttemptPrevious = null;
     private Date flightModeJoystickAttemptingStarted = null;
@@ -94,6 +94,10 @@ public class AnzuVirtualStickSession implements DroneControlSession, VirtualStic
         return null;
     }
 
+    public boolean isDeactivated() {
+        return state == State.DEACTIVATED;
+    }
+
     @Override
     public boolean isReengaging() {
         return false;
@@ -221,6 +225,7 @@ public class AnzuVirtualStickSession implements DroneControlSession, VirtualStic
     public void deactivate() {
         VirtualStickManager.getInstance().removeVirtualStickStateListener(this);
         droneAdapter.sendResetVelocityCommand();
+        droneAdapter.stopVirtualStickOutput();
         VirtualStickManager.getInstance().disableVirtualStick(new CommonCallbacks.CompletionCallback() {
             @Override
             public void onSuccess() {
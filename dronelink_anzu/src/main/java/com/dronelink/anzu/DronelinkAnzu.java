@@ -108,6 +108,8 @@ import dji.v5.manager.diagnostic.DJIDeviceStatus;
 
 public class DronelinkAnzu {
     public static final double GimbalRotationMinTime = 0.1;
+    public static final double GimbalControlStreamFrequency = 25.0;
+    public static final double VirtualStickOutputFrequency = 25.0;
 
     public static CommonCallbacks.CompletionCallback createCompletionCallback(final @Nullable Command.Finisher finisher) {
         return new CommonCallbacks.CompletionCallback() {
@@ -126,7 +128,7 @@ public class DronelinkAnzu {
                     return;
                 }
 
-                finisher.execute(new CommandError(error.errorCode()));
+                finisher.execute(AnzuRetryPolicy.createCommandError(error));
             }
         };
     }
@@ -148,7 +150,7 @@ public class DronelinkAnzu {
                     return;
                 }
 
-                finisher.execute(new CommandError(error.errorCode()));
+                finisher.execute(AnzuRetryPolicy.createCommandError(error));
             }
         };
     }
@@ -870,1505 +872,579 @@ public class DronelinkAnzu {
         return 0;
     }
 
+    private static final AnzuEnumMapping<DroneOcuSyncChannelSelectionMode, ChannelSelectionMode> OCU_SYNC_CHANNEL_SELECTION_MODE = new AnzuEnumMapping<>(DroneOcuSyncChannelSelectionMode.class, ChannelSelectionMode.class, ChannelSelectionMode.UNKNOWN, null)
+            .mapForward(DroneOcuSyncChannelSelectionMode.AUTO, ChannelSelectionMode.AUTO)
+            .mapForward(DroneOcuSyncChannelSelectionMode.MANUAL, ChannelSelectionMode.MANUAL)
+            .mapForward(DroneOcuSyncChannelSelectionMode.UNKNOWN, ChannelSelectionMode.UNKNOWN);
+
     public static ChannelSelectionMode getOcuSyncChannelSelectionMode(final DroneOcuSyncChannelSelectionMode value) {
-        switch (value) {
-            case AUTO:
-                return ChannelSelectionMode.AUTO;
-            case MANUAL:
-                return ChannelSelectionMode.MANUAL;
-            case UNKNOWN:
-                return ChannelSelectionMode.UNKNOWN;
-        }
-        return ChannelSelectionMode.UNKNOWN;
+        return OCU_SYNC_CHANNEL_SELECTION_MODE.get(value);
     }
 
+    private static final AnzuEnumMapping<FrequencyBand, DroneOcuSyncFrequencyBand> OCU_SYNC_FREQUENCY_BAND = new AnzuEnumMapping<>(FrequencyBand.class, DroneOcuSyncFrequencyBand.class, DroneOcuSyncFrequencyBand.UNKNOWN, FrequencyBand.UNKNOWN)
+            .map(FrequencyBand.BAND_1_DOT_4G, DroneOcuSyncFrequencyBand._1_DOT_4_GHZ)
+            .map(FrequencyBand.BAND_2_DOT_4G, DroneOcuSyncFrequencyBand._2_DOT_4_GHZ)
+            .map(FrequencyBand.BAND_5_DOT_2G, DroneOcuSyncFrequencyBand._5_DOT_2_GHZ)
+            .map(FrequencyBand.BAND_5_DOT_7G, DroneOcuSyncFrequencyBand._5_DOT_7_GHZ)
+            .map(FrequencyBand.BAND_5_DOT_8G, DroneOcuSyncFrequencyBand._5_DOT_8_GHZ)
+            .map(FrequencyBand.BAND_DUAL, DroneOcuSyncFrequencyBand.DUAL)
+            .map(FrequencyBand.UNKNOWN, DroneOcuSyncFrequencyBand.UNKNOWN);
+
     public static DroneOcuSyncFrequencyBand getOcuSyncFrequencyBand(final @Nullable FrequencyBand value) {
-        if (value != null) {
-            switch (value) {
-                case BAND_1_DOT_4G:
-                    return DroneOcuSyncFrequencyBand._1_DOT_4_GHZ;
-                case BAND_2_DOT_4G:
-                    return DroneOcuSyncFrequencyBand._2_DOT_4_GHZ;
-                case BAND_5_DOT_2G:
-                    return DroneOcuSyncFrequencyBand._5_DOT_2_GHZ;
-                case BAND_5_DOT_7G:
-                    return DroneOcuSyncFrequencyBand._5_DOT_7_GHZ;
-                case BAND_5_DOT_8G:
-                    return DroneOcuSyncFrequencyBand._5_DOT_8_GHZ;
-                case BAND_DUAL:
-                    return DroneOcuSyncFrequencyBand.DUAL;
-                case UNKNOWN:
-                    return DroneOcuSyncFrequencyBand.UNKNOWN;
-            }
-        }
-        return DroneOcuSyncFrequencyBand.UNKNOWN;
+        return OCU_SYNC_FREQUENCY_BAND.get(value);
     }
 
     public static FrequencyBand getOcuSyncFrequencyBand(final DroneOcuSyncFrequencyBand value) {
-        switch (value) {
-            case _1_DOT_4_GHZ:
-                return FrequencyBand.BAND_1_DOT_4G;
-            case _2_DOT_4_GHZ:
-                return FrequencyBand.BAND_2_DOT_4G;
-            case _5_DOT_2_GHZ:
-                return FrequencyBand.BAND_5_DOT_2G;
-            case _5_DOT_7_GHZ:
-                return FrequencyBand.BAND_5_DOT_7G;
-            case _5_DOT_8_GHZ:
-                return FrequencyBand.BAND_5_DOT_8G;
-            case DUAL:
-                return FrequencyBand.BAND_DUAL;
-            case UNKNOWN:
-                return FrequencyBand.UNKNOWN;
-        }
-        return FrequencyBand.UNKNOWN;
+        return OCU_SYNC_FREQUENCY_BAND.getReverse(value);
     }
 
+    private static final AnzuEnumMapping<dji.sdk.keyvalue.value.camera.CameraMode, CameraMode> CAMERA_MODE = new AnzuEnumMapping<>(dji.sdk.keyvalue.value.camera.CameraMode.class, CameraMode.class, CameraMode.UNKNOWN, dji.sdk.keyvalue.value.camera.CameraMode.UNKNOWN)
+            .map(dji.sdk.keyvalue.value.camera.CameraMode.PHOTO_NORMAL, CameraMode.PHOTO)
+            .map(dji.sdk.keyvalue.value.camera.CameraMode.VIDEO_NORMAL, CameraMode.VIDEO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraMode.PHOTO_AEB, CameraMode.UNKNOWN)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraMode.PHOTO_BURST, CameraMode.UNKNOWN)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraMode.PHOTO_INTERVAL, CameraMode.UNKNOWN)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraMode.PHOTO_HYPER_LIGHT, CameraMode.UNKNOWN)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraMode.PHOTO_PANORAMA, CameraMode.UNKNOWN)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraMode.PHOTO_HIGH_RESOLUTION, CameraMode.UNKNOWN)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraMode.PHOTO_SUPER_RESOLUTION, CameraMode.UNKNOWN)
+            .map(dji.sdk.keyvalue.value.camera.CameraMode.UNKNOWN, CameraMode.UNKNOWN);
+
     public static CameraMode getCameraMode(final @Nullable dji.sdk.keyvalue.value.camera.CameraMode value) {
-        if (value != null) {
-            switch (value) {
-                case PHOTO_NORMAL:
-                    return CameraMode.PHOTO;
-                case VIDEO_NORMAL:
-                    return CameraMode.VIDEO;
-                case PHOTO_AEB:
-                case PHOTO_BURST:
-                case PHOTO_INTERVAL:
-                case PHOTO_HYPER_LIGHT:
-                case PHOTO_PANORAMA:
-                case PHOTO_HIGH_RESOLUTION:
-                case PHOTO_SUPER_RESOLUTION:
-                case UNKNOWN:
-                    break;
-            }
-        }
-        return CameraMode.UNKNOWN;
-    }
+        return CAMERA_MODE.get(value);
+    }
+
+    private static final AnzuEnumMapping<dji.sdk.keyvalue.value.camera.CameraFlatMode, CameraMode> CAMERA_MODE_FROM_CAMERA_FLAT_MODE = new AnzuEnumMapping<>(dji.sdk.keyvalue.value.camera.CameraFlatMode.class, CameraMode.class, CameraMode.UNKNOWN, null)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.VIDEO_SLOW_MOTION, CameraMode.VIDEO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.VIDEO_NORMAL, CameraMode.VIDEO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.VIDEO_TIMELAPSE, CameraMode.VIDEO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.VIDEO_HDR, CameraMode.VIDEO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.VIDEO_HYPERLAPSE, CameraMode.VIDEO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.VIDEO_ASTEROID, CameraMode.VIDEO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.VIDEO_ROCKET, CameraMode.VIDEO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.VIDEO_OBLIQUE, CameraMode.VIDEO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.VIDEO_SURROUND, CameraMode.VIDEO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.VIDEO_SCREW, CameraMode.VIDEO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.VIDEO_COMET, CameraMode.VIDEO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.VIDEO_DOLLYZOOM, CameraMode.VIDEO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.VIDEO_MOTIONSLAPSE, CameraMode.VIDEO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.VIDEO_LOOP_RECORD, CameraMode.VIDEO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.VIDEO_VR, CameraMode.VIDEO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.VIDEO_MASTER_SHOT_NORMAL, CameraMode.VIDEO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.VIDEO_MASTER_SHOT_BIG_OBJECT, CameraMode.VIDEO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.VIDEO_MASTER_SHOT_PANO, CameraMode.VIDEO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.VIDEO_MASTER_SHOT_PERSON, CameraMode.VIDEO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.VIDEO_SHORT, CameraMode.VIDEO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.UVC_LIVE_STREAMING, CameraMode.VIDEO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.EXPLORE_VIDEO_NORMAL, CameraMode.VIDEO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.PHOTO_AEB, CameraMode.PHOTO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.PHOTO_NORMAL, CameraMode.PHOTO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.PHOTO_BURST, CameraMode.PHOTO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.PHOTO_HDR, CameraMode.PHOTO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.PHOTO_INTERVAL, CameraMode.PHOTO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.PHOTO_COUNTDOWN, CameraMode.PHOTO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.PHOTO_HYPERLIGHT, CameraMode.PHOTO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.PHOTO_PANO, CameraMode.PHOTO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.PHOTO_EHDR, CameraMode.PHOTO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.PHOTO_HIGH_RESOLUTION, CameraMode.PHOTO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.PHOTO_REGIONAL_SR, CameraMode.PHOTO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.PHOTO_SMART, CameraMode.PHOTO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.INTERNAL_AI_SPOT_CHECKING, CameraMode.PHOTO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.PHOTO_VR, CameraMode.PHOTO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.EXPLORE_PHOTO_NORMAL, CameraMode.PHOTO)
+            .mapForward(dji.sdk.keyvalue.value.camera.CameraFlatMode.UNKNOWN, CameraMode.UNKNOWN);
 
     public static CameraMode getCameraMode(final @Nullable dji.sdk.keyvalue.value.camera.CameraFlatMode value) {
-        if (value != null) {
-            switch (value) {
-                case VIDEO_SLOW_MOTION:
-                case VIDEO_NORMAL:
-                case VIDEO_TIMELAPSE:
-                case VIDEO_HDR:
-                case VIDEO_HYPERLAPSE:
-                case VIDEO_ASTEROID:
-                case VIDEO_ROCKET:
-                case VIDEO_OBLIQUE:
-                case VIDEO_SURROUND:
-                case VIDEO_SCREW:
-                case VIDEO_COMET:
-                case VIDEO_DOLLYZOOM:
-                case VIDEO_MOTIONSLAPSE:
-                case VIDEO_LOOP_RECORD:
-                case VIDEO_VR:
-                case VIDEO_MASTER_SHOT_NORMAL:
-                case VIDEO_MASTER_SHOT_BIG_OBJECT:
-                case VIDEO_MASTER_SHOT_PANO:
-                case VIDEO_MASTER_SHOT_PERSON:
-                case VIDEO_SHORT:
-                case UVC_LIVE_STREAMING:
-                case EXPLORE_VIDEO_NORMAL:
-                    return CameraMode.VIDEO;
-                case PHOTO_AEB:
-                case PHOTO_NORMAL:
-                case PHOTO_BURST:
-                case PHOTO_HDR:
-                case PHOTO_INTERVAL:
-                case PHOTO_COUNTDOWN:
-                case PHOTO_HYPERLIGHT:
-                case PHOTO_PANO:
-                case PHOTO_EHDR:
-                case PHOTO_HIGH_RESOLUTION:
-                case PHOTO_REGIONAL_SR:
-                case PHOTO_SMART:
-                case INTERNAL_AI_SPOT_CHECKING:
-                case PHOTO_VR:
-                case EXPLORE_PHOTO_NORMAL:
-                    return CameraMode.PHOTO;
-                case UNKNOWN:
-                    return CameraMode.UNKNOWN;
-            }
-        }
-        return CameraMode.UNKNOWN;
+        return CAMERA_MODE_FROM_CAMERA_FLAT_MODE.get(value);
     }
 
     public static dji.sdk.keyvalue.value.camera.CameraMode getCameraMode(final @Nullable CameraMode value) {
-        if (value != null) {
-            switch (value) {
-                case PHOTO:
-                    return dji.sdk.keyvalue.value.camera.CameraMode.PHOTO_NORMAL;
-                case VIDEO:
-                    return dji.sdk.keyvalue.value.camera.CameraMode.VIDEO_NORMAL;
-                case UNKNOWN:
-                    return dji.sdk.keyvalue.value.camera.CameraMode.UNKNOWN;
-            }
-        }
-        return dji.sdk.keyvalue.value.camera.CameraMode.UNKNOWN;
-    }
+        return CAMERA_MODE.getReverse(value);
+    }
+
+    private static final AnzuEnumMapping<dji.sdk.keyvalue.value.camera.CameraAperture, CameraAperture> CAMERA_APERTURE = new AnzuEnumMapping<>(dji.sdk.keyvalue.value.camera.CameraAperture.class, CameraAperture.class, CameraAperture.UNKNOWN, dji.sdk.keyvalue.value.camera.CameraAperture.UNKNOWN)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F_AUTO, CameraAperture.AUTO)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F0_95, CameraAperture.F_0_DOT_95)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F1_0, CameraAperture.F_1_DOT_0)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F1_2, CameraAperture.F_1_DOT_2)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F1_4, CameraAperture.F_1_DOT_4)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F1_6, CameraAperture.F_1_DOT_6)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F1_7, CameraAperture.F_1_DOT_7)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F1_8, CameraAperture.F_1_DOT_8)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F2, CameraAperture.F_2)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F2_2, CameraAperture.F_2_DOT_2)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F2_4, CameraAperture.F_2_DOT_4)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F2_5, CameraAperture.F_2_DOT_5)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F2_8, CameraAperture.F_2_DOT_8)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F3_2, CameraAperture.F_3_DOT_2)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F3_4, CameraAperture.F_3_DOT_4)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F3_5, CameraAperture.F_3_DOT_5)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F4, CameraAperture.F_4)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F4_4, CameraAperture.F_4_DOT_4)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F4_5, CameraAperture.F_4_DOT_5)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F4_8, CameraAperture.F_4_DOT_8)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F5, CameraAperture.F_5)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F5_6, CameraAperture.F_5_DOT_6)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F6_3, CameraAperture.F_6_DOT_3)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F6_8, CameraAperture.F_6_DOT_8)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F7_1, CameraAperture.F_7_DOT_1)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F8, CameraAperture.F_8)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F9, CameraAperture.F_9)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F9_5, CameraAperture.F_9_DOT_5)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F9_6, CameraAperture.F_9_DOT_6)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F10, CameraAperture.F_10)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F11, CameraAperture.F_11)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F13, CameraAperture.F_13)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F14, CameraAperture.F_14)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F16, CameraAperture.F_16)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F18, CameraAperture.F_18)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F19, CameraAperture.F_19)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F20, CameraAperture.F_20)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F22, CameraAperture.F_22)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F27, CameraAperture.F_27)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.F32, CameraAperture.F_32)
+            .map(dji.sdk.keyvalue.value.camera.CameraAperture.UNKNOWN, CameraAperture.UNKNOWN);
 
     public static CameraAperture getCameraAperture(final @Nullable dji.sdk.keyvalue.value.camera.CameraAperture value) {
-        if (value != null) {
-            switch (value) {
-                case F_AUTO:
-                    return CameraAperture.AUTO;
-                case F0_95:
-                    return CameraAperture.F_0_DOT_95;
-                case F1_0:
-                    return CameraAperture.F_1_DOT_0;
-                case F1_2:
-                    return CameraAperture.F_1_DOT_2;
-                case F1_4:
-                    return CameraAperture.F_1_DOT_4;
-                case F1_6:
-                    return CameraAperture.F_1_DOT_6;
-                case F1_7:
-                    return CameraAperture.F_1_DOT_7;
-                case F1_8:
-                    return CameraAperture.F_1_DOT_8;
-                case F2:
-                    return CameraAperture.F_2;
-                case F2_2:
-                    return CameraAperture.F_2_DOT_2;
-                case F2_4:
-                    return CameraAperture.F_2_DOT_4;
-                case F2_5:
-                    return CameraAperture.F_2_DOT_5;
-                case F2_8:
-                    return CameraAperture.F_2_DOT_8;
-                case F3_2:
-                    return CameraAperture.F_3_DOT_2;
-                case F3_4:
-                    return CameraAperture.F_3_DOT_4;
-                case F3_5:
-                    return CameraAperture.F_3_DOT_5;
-                case F4:
-                    return CameraAperture.F_4;
-                case F4_4:
-                    return CameraAperture.F_4_DOT_4;
-                case F4_5:
-                    return CameraAperture.F_4_DOT_5;
-                case F4_8:
-                    return CameraAperture.F_4_DOT_8;
-                case F5:
-                    return CameraAperture.F_5;
-                case F5_6:
-                    return CameraAperture.F_5_DOT_6;
-                case F6_3:
-                    return CameraAperture.F_6_DOT_3;
-                case F6_8:
-                    return CameraAperture.F_6_DOT_8;
-                case F7_1:
-                    return CameraAperture.F_7_DOT_1;
-                case F8:
-                    return CameraAperture.F_8;
-                case F9:
-                    return CameraAperture.F_9;
-                case F9_5:
-                    return CameraAperture.F_9_DOT_5;
-                case F9_6:
-                    return CameraAperture.F_9_DOT_6;
-                case F10:
-                    return CameraAperture.F_10;
-                case F11:
-                    return CameraAperture.F_11;
-                case F13:
-                    return CameraAperture.F_13;
-                case F14:
-                    return CameraAperture.F_14;
-                case F16:
-                    return CameraAperture.F_16;
-                case F18:
-                    return CameraAperture.F_18;
-                case F19:
-                    return CameraAperture.F_19;
-                case F20:
-                    return CameraAperture.F_20;
-                case F22:
-                    return CameraAperture.F_22;
-                case F27:
-                    return CameraAperture.F_27;
-                case F32:
-                    return CameraAperture.F_32;
-                case UNKNOWN:
-                    return CameraAperture.UNKNOWN;
-            }
-        }
-        return CameraAperture.UNKNOWN;
+        return CAMERA_APERTURE.get(value);
     }
 
     public static dji.sdk.keyvalue.value.camera.CameraAperture getCameraAperture(final @Nullable CameraAperture value) {
-        if (value != null) {
-            switch (value) {
-                case AUTO:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F_AUTO;
-                case F_0_DOT_95:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F0_95;
-                case F_1_DOT_0:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F1_0;
-                case F_1_DOT_2:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F1_2;
-                case F_1_DOT_4:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F1_4;
-                case F_1_DOT_6:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F1_6;
-                case F_1_DOT_7:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F1_7;
-                case F_1_DOT_8:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F1_8;
-                case F_2:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F2;
-                case F_2_DOT_2:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F2_2;
-                case F_2_DOT_4:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F2_4;
-                case F_2_DOT_5:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F2_5;
-                case F_2_DOT_8:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F2_8;
-                case F_3_DOT_2:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F3_2;
-                case F_3_DOT_4:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F3_4;
-                case F_3_DOT_5:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F3_5;
-                case F_4:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F4;
-                case F_4_DOT_4:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F4_4;
-                case F_4_DOT_5:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F4_5;
-                case F_4_DOT_8:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F4_8;
-                case F_5:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F5;
-                case F_5_DOT_6:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F5_6;
-                case F_6_DOT_3:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F6_3;
-                case F_6_DOT_8:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F6_8;
-                case F_7_DOT_1:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F7_1;
-                case F_8:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F8;
-                case F_9:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F9;
-                case F_9_DOT_5:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F9_5;
-                case F_9_DOT_6:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F9_6;
-                case F_10:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F10;
-                case F_11:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F11;
-                case F_13:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F13;
-                case F_14:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F14;
-                case F_16:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F16;
-                case F_18:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F18;
-                case F_19:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F19;
-                case F_20:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F20;
-                case F_22:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F22;
-                case F_27:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F27;
-                case F_32:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.F32;
-                case UNKNOWN:
-                    return dji.sdk.keyvalue.value.camera.CameraAperture.UNKNOWN;
-            }
-        }
-        return dji.sdk.keyvalue.value.camera.CameraAperture.UNKNOWN;
-    }
+        return CAMERA_APERTURE.getReverse(value);
+    }
+
+    private static final AnzuEnumMapping<CameraColor, dji.sdk.keyvalue.value.camera.CameraColor> CAMERA_COLOR = new AnzuEnumMapping<>(CameraColor.class, dji.sdk.keyvalue.value.camera.CameraColor.class, dji.sdk.keyvalue.value.camera.CameraColor.UNKNOWN, CameraColor.UNKNOWN)
+            .map(CameraColor.NONE, dji.sdk.keyvalue.value.camera.CameraColor.NONE)
+            .map(CameraColor.ART, dji.sdk.keyvalue.value.camera.CameraColor.ART)
+            .map(CameraColor.REMINISCENCE, dji.sdk.keyvalue.value.camera.CameraColor.REMINISCENCE)
+            .map(CameraColor.D_CINELIKE, dji.sdk.keyvalue.value.camera.CameraColor.D_CINE_LIKE)
+            .map(CameraColor.BLACK_AND_WHITE, dji.sdk.keyvalue.value.camera.CameraColor.BLACK_WHITE)
+            .map(CameraColor.D_LOG, dji.sdk.keyvalue.value.camera.CameraColor.D_LOG)
+            .mapForward(CameraColor.FILM, dji.sdk.keyvalue.value.camera.CameraColor.FILM)
+            .map(CameraColor.FILM_B, dji.sdk.keyvalue.value.camera.CameraColor.FILM_B)
+            .map(CameraColor.FILM_C, dji.sdk.keyvalue.value.camera.CameraColor.FILM_C)
+            .map(CameraColor.FILM_D, dji.sdk.keyvalue.value.camera.CameraColor.FILM_D)
+            .map(CameraColor.FILM_E, dji.sdk.keyvalue.value.camera.CameraColor.FILM_E)
+            .map(CameraColor.FILM_F, dji.sdk.keyvalue.value.camera.CameraColor.FILM_F)
+            .map(CameraColor.FILM_G, dji.sdk.keyvalue.value.camera.CameraColor.FILM_G)
+            .map(CameraColor.FILM_H, dji.sdk.keyvalue.value.camera.CameraColor.FILM_H)
+            .map(CameraColor.FILM_I, dji.sdk.keyvalue.value.camera.CameraColor.FILM_I)
+            .map(CameraColor.REC709, dji.sdk.keyvalue.value.camera.CameraColor.REC709)
+            .map(CameraColor.TRUE_COLOR, dji.sdk.keyvalue.value.camera.CameraColor.TRUE_COLOR)
+            .map(CameraColor.CINELIKE, dji.sdk.keyvalue.value.camera.CameraColor.CINE_LIKE)
+            .map(CameraColor.HLG, dji.sdk.keyvalue.value.camera.CameraColor.HLG)
+            .map(CameraColor.UNKNOWN, dji.sdk.keyvalue.value.camera.CameraColor.UNKNOWN)
+            .mapReverse(dji.sdk.keyvalue.value.camera.CameraColor.FILM, CameraColor.FILM_A);
 
     public static dji.sdk.keyvalue.value.camera.CameraColor getCameraColor(final @Nullable CameraColor value) {
-        if (value != null) {
-            switch (value) {
-                case NONE:
-                    return dji.sdk.keyvalue.value.camera.CameraColor.NONE;
-                case ART:
-                    return dji.sdk.keyvalue.value.camera.CameraColor.ART;
-                case REMINISCENCE:
-                    return dji.sdk.keyvalue.value.camera.CameraColor.REMINISCENCE;
-                case D_CINELIKE:
-                    return dji.sdk.keyvalue.value.camera.CameraColor.D_CINE_LIKE;
-                case BLACK_AND_WHITE:
-                    return dji.sdk.keyvalue.value.camera.CameraColor.BLACK_WHITE;
-                case D_LOG:
-                    return dji.sdk.keyvalue.value.camera.CameraColor.D_LOG;
-                case FILM:
-                    return dji.sdk.keyvalue.value.camera.CameraColor.FILM;
-                case FILM_B:
-                    return dji.sdk.keyvalue.value.camera.CameraColor.FILM_B;
-                case FILM_C:
-                    return dji.sdk.keyvalue.value.camera.CameraColor.FILM_C;
-                case FILM_D:
-                    return dji.sdk.keyvalue.value.camera.CameraColor.FILM_D;
-                case FILM_E:
-                    return dji.sdk.keyvalue.value.camera.CameraColor.FILM_E;
-                case FILM_F:
-                    return dji.sdk.keyvalue.value.camera.CameraColor.FILM_F;
-                case FILM_G:
-                    return dji.sdk.keyvalue.value.camera.CameraColor.FILM_G;
-                case FILM_H:
-                    return dji.sdk.keyvalue.value.camera.CameraColor.FILM_H;
-                case FILM_I:
-                    return dji.sdk.keyvalue.value.camera.CameraColor.FILM_I;
-                case REC709:
-                    return dji.sdk.keyvalue.value.camera.CameraColor.REC709;
-                case TRUE_COLOR:
-                    return dji.sdk.keyvalue.value.camera.CameraColor.TRUE_COLOR;
-                case CINELIKE:
-                    return dji.sdk.keyvalue.value.camera.CameraColor.CINE_LIKE;
-                case HLG:
-                    return dji.sdk.keyvalue.value.camera.CameraColor.HLG;
-                case UNKNOWN:
-                    return dji.sdk.keyvalue.value.camera.CameraColor.UNKNOWN;
-            }
-        }
-        return dji.sdk.keyvalue.value.camera.CameraColor.UNKNOWN;
+        return CAMERA_COLOR.get(value);
     }
 
     public static CameraColor getCameraColor(final @Nullable dji.sdk.keyvalue.value.camera.CameraColor value) {
-        if (value != null) {
-            switch (value) {
-                case NONE:
-                    return CameraColor.NONE;
-                case ART:
-                    return CameraColor.ART;
-                case REMINISCENCE:
-                    return CameraColor.REMINISCENCE;
-                case D_CINE_LIKE:
-                    return CameraColor.D_CINELIKE;
-                case BLACK_WHITE:
-                    return CameraColor.BLACK_AND_WHITE;
-                case D_LOG:
-                    return CameraColor.D_LOG;
-                case FILM:
-                    return CameraColor.FILM_A;
-                case FILM_B:
-                    return CameraColor.FILM_B;
-                case FILM_C:
-                    return CameraColor.FILM_C;
-                case FILM_D:
-                    return CameraColor.FILM_D;
-                case FILM_E:
-                    return CameraColor.FILM_E;
-                case FILM_F:
-                    return CameraColor.FILM_F;
-                case FILM_G:
-                    return CameraColor.FILM_G;
-                case FILM_H:
-                    return CameraColor.FILM_H;
-                case FILM_I:
-                    return CameraColor.FILM_I;
-                case REC709:
-                    return CameraColor.REC709;
-                case TRUE_COLOR:
-                    return CameraColor.TRUE_COLOR;
-                case CINE_LIKE:
-                    return CameraColor.CINELIKE;
-                case HLG:
-                    return CameraColor.HLG;
-                case UNKNOWN:
-                    return CameraColor.UNKNOWN;
-            }
-        }
-        return CameraColor.UNKNOWN;
+        return CAMERA_COLOR.getReverse(value);
     }
 
+    private static final AnzuEnumMapping<ThermalDisplayMode, CameraDisplayMode> CAMERA_DISPLAY_MODE = new AnzuEnumMapping<>(ThermalDisplayMode.class, CameraDisplayMode.class, CameraDisplayMode.UNKNOWN, ThermalDisplayMode.UNKNOWN)
+            .map(ThermalDisplayMode.VISUAL_ONLY, CameraDisplayMode.VISUAL)
+            .map(ThermalDisplayMode.THERMAL_ONLY, CameraDisplayMode.THERMAL)
+            .map(ThermalDisplayMode.PIP, CameraDisplayMode.PIP)
+            .map(ThermalDisplayMode.MSX, CameraDisplayMode.MSX)
+            .map(ThermalDisplayMode.UNKNOWN, CameraDisplayMode.UNKNOWN);
+
     public static CameraDisplayMode getCameraDisplayMode(final @Nullable ThermalDisplayMode value) {
-        if (value != null) {
-            switch (value) {
-                case VISUAL_ONLY:
-                    return CameraDisplayMode.VISUAL;
-                case THERMAL_ONLY:
-                    return CameraDisplayMode.THERMAL;
-                case PIP:
-                    return CameraDisplayMode.PIP;
-                case MSX:
-                    return CameraDisplayMode.MSX;
-                case UNKNOWN:
-                    return CameraDisplayMode.UNKNOWN;
-            }
-        }
-        return CameraDisplayMode.UNKNOWN;
+        return CAMERA_DISPLAY_MODE.get(value);
     }
 
     public static ThermalDisplayMode getCameraDisplayMode(final @Nullable CameraDisplayMode value) {
-        if (value != null) {
-            switch (value) {
-                case VISUAL:
-                    return ThermalDisplayMode.VISUAL_ONLY;
-                case THERMAL:
-                    return ThermalDisplayMode.THERMAL_ONLY;
-                case PIP:
-                    return ThermalDisplayMode.PIP;
-                case MSX:
-                    return ThermalDisplayMode.MSX;
-                case UNKNOWN:
-                    return ThermalDisplayMode.UNKNOWN;
-            }
-        }
-        return ThermalDisplayMode.UNKNOWN;
-    }
+        return CAMERA_DISPLAY_MODE.getReverse(value);
+    }
+
+    private static final AnzuEnumMapping<dji.sdk.keyvalue.value.camera.CameraExposureCompensation, CameraExposureCompensation> CAMERA_EXPOSURE_COMPENSATION = new AnzuEnumMapping<>(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.class, CameraExposureCompensation.class, CameraExposureCompensation.UNKNOWN, dji.sdk.keyvalue.value.camera.CameraExposureCompensation.UNKNOWN)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_5P0EV, CameraExposureCompensation.N_5_0)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_4P7EV, CameraExposureCompensation.N_4_7)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_4P3EV, CameraExposureCompensation.N_4_3)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_4P0EV, CameraExposureCompensation.N_4_0)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_3P7EV, CameraExposureCompensation.N_3_7)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_3P3EV, CameraExposureCompensation.N_3_3)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_3P0EV, CameraExposureCompensation.N_3_0)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_2P7EV, CameraExposureCompensation.N_2_7)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_2P3EV, CameraExposureCompensation.N_2_3)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_2P0EV, CameraExposureCompensation.N_2_0)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_1P7EV, CameraExposureCompensation.N_1_7)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_1P3EV, CameraExposureCompensation.N_1_3)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_1P0EV, CameraExposureCompensation.N_1_0)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_0P7EV, CameraExposureCompensation.N_0_7)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_0P3EV, CameraExposureCompensation.N_0_3)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_0EV, CameraExposureCompensation.N_0_0)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.POS_0P3EV, CameraExposureCompensation.P_0_3)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.POS_0P7EV, CameraExposureCompensation.P_0_7)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.POS_1P0EV, CameraExposureCompensation.P_1_0)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.POS_1P3EV, CameraExposureCompensation.P_1_3)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.POS_1P7EV, CameraExposureCompensation.P_1_7)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.POS_2P0EV, CameraExposureCompensation.P_2_0)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.POS_2P3EV, CameraExposureCompensation.P_2_3)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.POS_2P7EV, CameraExposureCompensation.P_2_7)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.POS_3P0EV, CameraExposureCompensation.P_3_0)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.POS_3P3EV, CameraExposureCompensation.P_3_3)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.POS_3P7EV, CameraExposureCompensation.P_3_7)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.POS_4P0EV, CameraExposureCompensation.P_4_0)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.POS_4P3EV, CameraExposureCompensation.P_4_3)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.POS_4P7EV, CameraExposureCompensation.P_4_7)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.POS_5P0EV, CameraExposureCompensation.P_5_0)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.FIXED, CameraExposureCompensation.FIXED)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureCompensation.UNKNOWN, CameraExposureCompensation.UNKNOWN);
 
     public static CameraExposureCompensation getCameraExposureCompensation(final @Nullable dji.sdk.keyvalue.value.camera.CameraExposureCompensation value) {
-        if (value != null) {
-            switch (value) {
-                case NEG_5P0EV:
-                    return CameraExposureCompensation.N_5_0;
-                case NEG_4P7EV:
-                    return CameraExposureCompensation.N_4_7;
-                case NEG_4P3EV:
-                    return CameraExposureCompensation.N_4_3;
-                case NEG_4P0EV:
-                    return CameraExposureCompensation.N_4_0;
-                case NEG_3P7EV:
-                    return CameraExposureCompensation.N_3_7;
-                case NEG_3P3EV:
-                    return CameraExposureCompensation.N_3_3;
-                case NEG_3P0EV:
-                    return CameraExposureCompensation.N_3_0;
-                case NEG_2P7EV:
-                    return CameraExposureCompensation.N_2_7;
-                case NEG_2P3EV:
-                    return CameraExposureCompensation.N_2_3;
-                case NEG_2P0EV:
-                    return CameraExposureCompensation.N_2_0;
-                case NEG_1P7EV:
-                    return CameraExposureCompensation.N_1_7;
-                case NEG_1P3EV:
-                    return CameraExposureCompensation.N_1_3;
-                case NEG_1P0EV:
-                    return CameraExposureCompensation.N_1_0;
-                case NEG_0P7EV:
-                    return CameraExposureCompensation.N_0_7;
-                case NEG_0P3EV:
-                    return CameraExposureCompensation.N_0_3;
-                case NEG_0EV:
-                    return CameraExposureCompensation.N_0_0;
-                case POS_0P3EV:
-                    return CameraExposureCompensation.P_0_3;
-                case POS_0P7EV:
-                    return CameraExposureCompensation.P_0_7;
-                case POS_1P0EV:
-                    return CameraExposureCompensation.P_1_0;
-                case POS_1P3EV:
-                    return CameraExposureCompensation.P_1_3;
-                case POS_1P7EV:
-                    return CameraExposureCompensation.P_1_7;
-                case POS_2P0EV:
-                    return CameraExposureCompensation.P_2_0;
-                case POS_2P3EV:
-                    return CameraExposureCompensation.P_2_3;
-                case POS_2P7EV:
-                    return CameraExposureCompensation.P_2_7;
-                case POS_3P0EV:
-                    return CameraExposureCompensation.P_3_0;
-                case POS_3P3EV:
-                    return CameraExposureCompensation.P_3_3;
-                case POS_3P7EV:
-                    return CameraExposureCompensation.P_3_7;
-                case POS_4P0EV:
-                    return CameraExposureCompensation.P_4_0;
-                case POS_4P3EV:
-                    return CameraExposureCompensation.P_4_3;
-                case POS_4P7EV:
-                    return CameraExposureCompensation.P_4_7;
-                case POS_5P0EV:
-                    return CameraExposureCompensation.P_5_0;
-                case FIXED:
-                    return CameraExposureCompensation.FIXED;
-                case UNKNOWN:
-                    return CameraExposureCompensation.UNKNOWN;
-            }
-        }
-        return CameraExposureCompensation.UNKNOWN;
+        return CAMERA_EXPOSURE_COMPENSATION.get(value);
     }
 
     public static dji.sdk.keyvalue.value.camera.CameraExposureCompensation getCameraExposureCompensation(final @Nullable CameraExposureCompensation value) {
-        if (value != null) {
-            switch (value) {
-                case N_5_0:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_5P0EV;
-                case N_4_7:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_4P7EV;
-                case N_4_3:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_4P3EV;
-                case N_4_0:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_4P0EV;
-                case N_3_7:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_3P7EV;
-                case N_3_3:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_3P3EV;
-                case N_3_0:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_3P0EV;
-                case N_2_7:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_2P7EV;
-                case N_2_3:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_2P3EV;
-                case N_2_0:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_2P0EV;
-                case N_1_7:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_1P7EV;
-                case N_1_3:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_1P3EV;
-                case N_1_0:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_1P0EV;
-                case N_0_7:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_0P7EV;
-                case N_0_3:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_0P3EV;
-                case N_0_0:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.NEG_0EV;
-                case P_0_3:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.POS_0P3EV;
-                case P_0_7:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.POS_0P7EV;
-                case P_1_0:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.POS_1P0EV;
-                case P_1_3:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.POS_1P3EV;
-                case P_1_7:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.POS_1P7EV;
-                case P_2_0:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.POS_2P0EV;
-                case P_2_3:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.POS_2P3EV;
-                case P_2_7:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.POS_2P7EV;
-                case P_3_0:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.POS_3P0EV;
-                case P_3_3:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.POS_3P3EV;
-                case P_3_7:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.POS_3P7EV;
-                case P_4_0:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.POS_4P0EV;
-                case P_4_3:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.POS_4P3EV;
-                case P_4_7:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.POS_4P7EV;
-                case P_5_0:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.POS_5P0EV;
-                case FIXED:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.FIXED;
-                case UNKNOWN:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.UNKNOWN;
-            }
-        }
-        return dji.sdk.keyvalue.value.camera.CameraExposureCompensation.UNKNOWN;
+        return CAMERA_EXPOSURE_COMPENSATION.getReverse(value);
     }
 
+    private static final AnzuEnumMapping<dji.sdk.keyvalue.value.camera.CameraExposureMode, CameraExposureMode> CAMERA_EXPOSURE_MODE = new AnzuEnumMapping<>(dji.sdk.keyvalue.value.camera.CameraExposureMode.class, CameraExposureMode.class, CameraExposureMode.UNKNOWN, dji.sdk.keyvalue.value.camera.CameraExposureMode.UNKNOWN)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureMode.PROGRAM, CameraExposureMode.PROGRAM)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureMode.SHUTTER_PRIORITY, CameraExposureMode.SHUTTER_PRIORITY)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureMode.APERTURE_PRIORITY, CameraExposureMode.APERTURE_PRIORITY)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureMode.MANUAL, CameraExposureMode.MANUAL)
+            .map(dji.sdk.keyvalue.value.camera.CameraExposureMode.UNKNOWN, CameraExposureMode.UNKNOWN);
+
     public static CameraExposureMode getCameraExposureMode(final @Nullable dji.sdk.keyvalue.value.camera.CameraExposureMode value) {
-        if (value != null) {
-            switch (value) {
-                case PROGRAM:
-                    return CameraExposureMode.PROGRAM;
-                case SHUTTER_PRIORITY:
-                    return CameraExposureMode.SHUTTER_PRIORITY;
-                case APERTURE_PRIORITY:
-                    return CameraExposureMode.APERTURE_PRIORITY;
-                case MANUAL:
-                    return CameraExposureMode.MANUAL;
-                case UNKNOWN:
-                    return CameraExposureMode.UNKNOWN;
-            }
-        }
-        return CameraExposureMode.UNKNOWN;
+        return CAMERA_EXPOSURE_MODE.get(value);
     }
 
     public static dji.sdk.keyvalue.value.camera.CameraExposureMode getCameraExposureMode(final @Nullable CameraExposureMode value) {
-        if (value != null) {
-            switch (value) {
-                case PROGRAM:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureMode.PROGRAM;
-                case SHUTTER_PRIORITY:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureMode.SHUTTER_PRIORITY;
-                case APERTURE_PRIORITY:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureMode.APERTURE_PRIORITY;
-                case MANUAL:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureMode.MANUAL;
-                case UNKNOWN:
-                    return dji.sdk.keyvalue.value.camera.CameraExposureMode.UNKNOWN;
-            }
-        }
-        return dji.sdk.keyvalue.value.camera.CameraExposureMode.UNKNOWN;
+        return CAMERA_EXPOSURE_MODE.getReverse(value);
     }
 
+    private static final AnzuEnumMapping<dji.sdk.keyvalue.value.camera.CameraFileIndexMode, CameraFileIndexMode> CAMERA_FILE_INDEX_MODE = new AnzuEnumMapping<>(dji.sdk.keyvalue.value.camera.CameraFileIndexMode.class, CameraFileIndexMode.class, CameraFileIndexMode.UNKNOWN, dji.sdk.keyvalue.value.camera.CameraFileIndexMode.UNKNOWN)
+            .map(dji.sdk.keyvalue.value.camera.CameraFileIndexMode.RESET, CameraFileIndexMode.RESET)
+            .map(dji.sdk.keyvalue.value.camera.CameraFileIndexMode.SEQUENCE, CameraFileIndexMode.SEQUENCE)
+            .map(dji.sdk.keyvalue.value.camera.CameraFileIndexMode.UNKNOWN, CameraFileIndexMode.UNKNOWN);
+
     public static CameraFileIndexMode getCameraFileIndexMode(final @Nullable dji.sdk.keyvalue.value.camera.CameraFileIndexMode value) {
-        if (value != null) {
-            switch (value) {
-                case RESET:
-                    return CameraFileIndexMode.RESET;
-                case SEQUENCE:
-                    return CameraFileIndexMode.SEQUENCE;
-                case UNKNOWN:
-                    return CameraFileIndexMode.UNKNOWN;
-            }
-        }
-        return CameraFileIndexMode.UNKNOWN;
+        return CAMERA_FILE_INDEX_MODE.get(value);
     }
 
     public static dji.sdk.keyvalue.value.camera.CameraFileIndexMode getCameraFileIndexMode(final @Nullable CameraFileIndexMode value) {
-        if (value != null) {
-            switch (value) {
-                case RESET:
-                    return dji.sdk.keyvalue.value.camera.CameraFileIndexMode.RESET;
-                case SEQUENCE:
-                    return dji.sdk.keyvalue.value.camera.CameraFileIndexMode.SEQUENCE;
-                case UNKNOWN:
-                    return dji.sdk.keyvalue.value.camera.CameraFileIndexMode.UNKNOWN;
-            }
-        }
-        return dji.sdk.keyvalue.value.camera.CameraFileIndexMode.UNKNOWN;
+        return CAMERA_FILE_INDEX_MODE.getReverse(value);
     }
 
+    private static final AnzuEnumMapping<dji.sdk.keyvalue.value.camera.CameraFocusMode, CameraFocusMode> CAMERA_FOCUS_MODE = new AnzuEnumMapping<>(dji.sdk.keyvalue.value.camera.CameraFocusMode.class, CameraFocusMode.class, CameraFocusMode.UNKNOWN, dji.sdk.keyvalue.value.camera.CameraFocusMode.UNKNOWN)
+            .map(dji.sdk.keyvalue.value.camera.CameraFocusMode.MANUAL, CameraFocusMode.MANUAL)
+            .map(dji.sdk.keyvalue.value.camera.CameraFocusMode.AF, CameraFocusMode.AUTO)
+            .map(dji.sdk.keyvalue.value.camera.CameraFocusMode.AFC, CameraFocusMode.AFC)
+            .map(dji.sdk.keyvalue.value.camera.CameraFocusMode.FINE_TUNE, CameraFocusMode.FINE_TUNE)
+            .map(dji.sdk.keyvalue.value.camera.CameraFocusMode.UNKNOWN, CameraFocusMode.UNKNOWN);
+
     public static CameraFocusMode getCameraFocusMode(final @Nullable dji.sdk.keyvalue.value.camera.CameraFocusMode value) {
-        if (value != null) {
-            switch (value) {
-                case MANUAL:
-                    return CameraFocusMode.MANUAL;
-                case AF:
-                    return CameraFocusMode.AUTO;
-                case AFC:
-                    return CameraFocusMode.AFC;
-                case FINE_TUNE:
-                    return CameraFocusMode.FINE_TUNE;
-                case UNKNOWN:
-                    return CameraFocusMode.UNKNOWN;
-            }
-        }
-        return CameraFocusMode.UNKNOWN;
+        return CAMERA_FOCUS_MODE.get(value);
     }
 
     public static dji.sdk.keyvalue.value.camera.CameraFocusMode getCameraFocusMode(final @Nullable CameraFocusMode value) {
-        if (value != null) {
-            switch (value) {
-                case MANUAL:
-                    return dji.sdk.keyvalue.value.camera.CameraFocusMode.MANUAL;
-                case AUTO:
-                    return dji.sdk.keyvalue.value.camera.CameraFocusMode.AF;
-                case AFC:
-                    return dji.sdk.keyvalue.value.camera.CameraFocusMode.AFC;
-                case FINE_TUNE:
-                    return dji.sdk.keyvalue.value.camera.CameraFocusMode.FINE_TUNE;
-                case UNKNOWN:
-                    return dji.sdk.keyvalue.value.camera.CameraFocusMode.UNKNOWN;
-            }
-        }
-        return dji.sdk.keyvalue.value.camera.CameraFocusMode.UNKNOWN;
-    }
+        return CAMERA_FOCUS_MODE.getReverse(value);
+    }
+
+    private static final AnzuEnumMapping<dji.sdk.keyvalue.value.camera.CameraISO, CameraISO> CAMERA_ISO = new AnzuEnumMapping<>(dji.sdk.keyvalue.value.camera.CameraISO.class, CameraISO.class, CameraISO.UNKNOWN, dji.sdk.keyvalue.value.camera.CameraISO.UNKNOWN)
+            .map(dji.sdk.keyvalue.value.camera.CameraISO.ISO_AUTO, CameraISO.AUTO)
+            .map(dji.sdk.keyvalue.value.camera.CameraISO.ISO_50, CameraISO._50)
+            .map(dji.sdk.keyvalue.value.camera.CameraISO.ISO_100, CameraISO._100)
+            .map(dji.sdk.keyvalue.value.camera.CameraISO.ISO_200, CameraISO._200)
+            .map(dji.sdk.keyvalue.value.camera.CameraISO.ISO_400, CameraISO._400)
+            .map(dji.sdk.keyvalue.value.camera.CameraISO.ISO_800, CameraISO._800)
+            .map(dji.sdk.keyvalue.value.camera.CameraISO.ISO_1600, CameraISO._1600)
+            .map(dji.sdk.keyvalue.value.camera.CameraISO.ISO_3200, CameraISO._3200)
+            .map(dji.sdk.keyvalue.value.camera.CameraISO.ISO_6400, CameraISO._6400)
+            .map(dji.sdk.keyvalue.value.camera.CameraISO.ISO_12800, CameraISO._12800)
+            .map(dji.sdk.keyvalue.value.camera.CameraISO.ISO_25600, CameraISO._25600)
+            .map(dji.sdk.keyvalue.value.camera.CameraISO.ISO_51200, CameraISO._51200)
+            .map(dji.sdk.keyvalue.value.camera.CameraISO.ISO_102400, CameraISO._102400)
+            .map(dji.sdk.keyvalue.value.camera.CameraISO.ISO_FIXED, CameraISO.FIXED)
+            .map(dji.sdk.keyvalue.value.camera.CameraISO.UNKNOWN, CameraISO.UNKNOWN);
 
     public static CameraISO getCameraISO(final @Nullable dji.sdk.keyvalue.value.camera.CameraISO value) {
-        if (value != null) {
-            switch (value) {
-                case ISO_AUTO:
-                    return CameraISO.AUTO;
-                case ISO_50:
-                    return CameraISO._50;
-                case ISO_100:
-                    return CameraISO._100;
-                case ISO_200:
-                    return CameraISO._200;
-                case ISO_400:
-                    return CameraISO._400;
-                case ISO_800:
-                    return CameraISO._800;
-                case ISO_1600:
-                    return CameraISO._1600;
-                case ISO_3200:
-                    return CameraISO._3200;
-                case ISO_6400:
-                    return CameraISO._6400;
-                case ISO_12800:
-                    return CameraISO._12800;
-                case ISO_25600:
-                    return CameraISO._25600;
-                case ISO_51200:
-                    return CameraISO._51200;
-                case ISO_102400:
-                    return CameraISO._102400;
-                case ISO_FIXED:
-                    return CameraISO.FIXED;
-                case UNKNOWN:
-                    return CameraISO.UNKNOWN;
-            }
-        }
-        return CameraISO.UNKNOWN;
+        return CAMERA_ISO.get(value);
     }
 
     public static dji.sdk.keyvalue.value.camera.CameraISO getCameraISO(final @Nullable CameraISO value) {
-        if (value != null) {
-            switch (value) {
-                case AUTO:
-                    return dji.sdk.keyvalue.value.camera.CameraISO.ISO_AUTO;
-                case _50:
-                    return dji.sdk.keyvalue.value.camera.CameraISO.ISO_50;
-                case _100:
-                    return dji.sdk.keyvalue.value.camera.CameraISO.ISO_100;
-                case _200:
-                    return dji.sdk.keyvalue.value.camera.CameraISO.ISO_200;
-                case _400:
-                    return dji.sdk.keyvalue.value.camera.CameraISO.ISO_400;
-                case _800:
-                    return dji.sdk.keyvalue.value.camera.CameraISO.ISO_800;
-                case _1600:
-                    return dji.sdk.keyvalue.value.camera.CameraISO.ISO_1600;
-                case _3200:
-                    return dji.sdk.keyvalue.value.camera.CameraISO.ISO_3200;
-                case _6400:
-                    return dji.sdk.keyvalue.value.camera.CameraISO.ISO_6400;
-                case _12800:
-                    return dji.sdk.keyvalue.value.camera.CameraISO.ISO_12800;
-                case _25600:
-                    return dji.sdk.keyvalue.value.camera.CameraISO.ISO_25600;
-                case _51200:
-                    return dji.sdk.keyvalue.value.camera.CameraISO.ISO_51200;
-                case _102400:
-                    return dji.sdk.keyvalue.value.camera.CameraISO.ISO_102400;
-                case FIXED:
-                    return dji.sdk.keyvalue.value.camera.CameraISO.ISO_FIXED;
-                case UNKNOWN:
-                    return dji.sdk.keyvalue.value.camera.CameraISO.UNKNOWN;
-            }
-        }
-        return dji.sdk.keyvalue.value.camera.CameraISO.UNKNOWN;
+        return CAMERA_ISO.getReverse(value);
     }
 
+    private static final AnzuEnumMapping<dji.sdk.keyvalue.value.camera.CameraMeteringMode, CameraMeteringMode> CAMERA_METERING_MODE = new AnzuEnumMapping<>(dji.sdk.keyvalue.value.camera.CameraMeteringMode.class, CameraMeteringMode.class, CameraMeteringMode.UNKNOWN, dji.sdk.keyvalue.value.camera.CameraMeteringMode.UNKNOWN)
+            .map(dji.sdk.keyvalue.value.camera.CameraMeteringMode.CENTER, CameraMeteringMode.CENTER)
+            .map(dji.sdk.keyvalue.value.camera.CameraMeteringMode.AVERAGE, CameraMeteringMode.AVERAGE)
+            .map(dji.sdk.keyvalue.value.camera.CameraMeteringMode.REGION, CameraMeteringMode.SPOT)
+            .map(dji.sdk.keyvalue.value.camera.CameraMeteringMode.UNKNOWN, CameraMeteringMode.UNKNOWN);
+
     public static CameraMeteringMode getCameraMeteringMode(final @Nullable dji.sdk.keyvalue.value.camera.CameraMeteringMode value) {
-        if (value != null) {
-            switch (value) {
-                case CENTER:
-                    return CameraMeteringMode.CENTER;
-                case AVERAGE:
-                    return CameraMeteringMode.AVERAGE;
-                case REGION:
-                    return CameraMeteringMode.SPOT;
-                case UNKNOWN:
-                    return CameraMeteringMode.UNKNOWN;
-            }
-        }
-        return CameraMeteringMode.UNKNOWN;
+        return CAMERA_METERING_MODE.get(value);
     }
 
     public static dji.sdk.keyvalue.value.camera.CameraMeteringMode getCameraMeteringMode(final @Nullable CameraMeteringMode value) {
-        if (value != null) {
-            switch (value) {
-                case CENTER:
-                    return dji.sdk.keyvalue.value.camera.CameraMeteringMode.CENTER;
-                case AVERAGE:
-                    return dji.sdk.keyvalue.value.camera.CameraMeteringMode.AVERAGE;
-                case SPOT:
-                    return dji.sdk.keyvalue.value.camera.CameraMeteringMode.REGION;
-                case UNKNOWN:
-                    return dji.sdk.keyvalue.value.camera.CameraMeteringMode.UNKNOWN;
-            }
-        }
-        return dji.sdk.keyvalue.value.camera.CameraMeteringMode.UNKNOWN;
+        return CAMERA_METERING_MODE.getReverse(value);
     }
 
+    private static final AnzuEnumMapping<PhotoBurstCount, CameraBurstCount> CAMERA_PHOTO_BURST_COUNT = new AnzuEnumMapping<>(PhotoBurstCount.class, CameraBurstCount.class, CameraBurstCount.UNKNOWN, null)
+            .mapForward(PhotoBurstCount.COUNT3, CameraBurstCount._3)
+            .mapForward(PhotoBurstCount.COUNT5, CameraBurstCount._5)
+            .mapForward(PhotoBurstCount.COUNT7, CameraBurstCount._7)
+            .mapForward(PhotoBurstCount.COUNT10, CameraBurstCount._10)
+            .mapForward(PhotoBurstCount.COUNT14, CameraBurstCount._14)
+            .mapForward(PhotoBurstCount.CONTINUOUS, CameraBurstCount.continuous)
+            .mapForward(PhotoBurstCount.UNKNOWN, CameraBurstCount.UNKNOWN);
+
     public static CameraBurstCount getCameraPhotoBurstCount(final @Nullable PhotoBurstCount value) {
-        if (value != null) {
-            switch (value) {
-                case COUNT3:
-                    return CameraBurstCount._3;
-                case COUNT5:
-                    return CameraBurstCount._5;
-                case COUNT7:
-                    return CameraBurstCount._7;
-                case COUNT10:
-                    return CameraBurstCount._10;
-                case COUNT14:
-                    return CameraBurstCount._14;
-                case CONTINUOUS:
-                    return CameraBurstCount.continuous;
-                case UNKNOWN:
-                    return CameraBurstCount.UNKNOWN;
-            }
-        }
-        return CameraBurstCount.UNKNOWN;
+        return CAMERA_PHOTO_BURST_COUNT.get(value);
     }
 
+    private static final AnzuEnumMapping<PhotoAEBPhotoCount, CameraAEBCount> CAMERA_PHOTO_AEB_COUNT = new AnzuEnumMapping<>(PhotoAEBPhotoCount.class, CameraAEBCount.class, CameraAEBCount.UNKNOWN, PhotoAEBPhotoCount.UNKNOWN)
+            .map(PhotoAEBPhotoCount.COUNT_3, CameraAEBCount._3)
+            .map(PhotoAEBPhotoCount.COUNT_5, CameraAEBCount._5)
+            .map(PhotoAEBPhotoCount.COUNT_7, CameraAEBCount._7)
+            .map(PhotoAEBPhotoCount.UNKNOWN, CameraAEBCount.UNKNOWN);
+
     public static CameraAEBCount getCameraPhotoAEBCount(final @Nullable PhotoAEBPhotoCount value) {
-        if (value != null) {
-            switch (value) {
-                case COUNT_3:
-                    return CameraAEBCount._3;
-                case COUNT_5:
-                    return CameraAEBCount._5;
-                case COUNT_7:
-                    return CameraAEBCount._7;
-                case UNKNOWN:
-                    return CameraAEBCount.UNKNOWN;
-            }
-        }
-        return CameraAEBCount.UNKNOWN;
+        return CAMERA_PHOTO_AEB_COUNT.get(value);
     }
 
     public static PhotoAEBPhotoCount getCameraPhotoAEBCount(final @Nullable CameraAEBCount value) {
-        if (value != null) {
-            switch (value) {
-                case _3:
-                    return PhotoAEBPhotoCount.COUNT_3;
-                case _5:
-                    return PhotoAEBPhotoCount.COUNT_5;
-                case _7:
-                    return PhotoAEBPhotoCount.COUNT_7;
-                case UNKNOWN:
-                    return PhotoAEBPhotoCount.UNKNOWN;
-            }
-        }
-        return PhotoAEBPhotoCount.UNKNOWN;
+        return CAMERA_PHOTO_AEB_COUNT.getReverse(value);
     }
 
+    private static final AnzuEnumMapping<PhotoRatio, CameraPhotoAspectRatio> CAMERA_PHOTO_ASPECT_RATIO = new AnzuEnumMapping<>(PhotoRatio.class, CameraPhotoAspectRatio.class, CameraPhotoAspectRatio.UNKNOWN, PhotoRatio.UNKNOWN)
+            .map(PhotoRatio.RATIO_4COLON3, CameraPhotoAspectRatio._4_3)
+            .map(PhotoRatio.RATIO_16COLON9, CameraPhotoAspectRatio._16_9)
+            .map(PhotoRatio.RATIO_3COLON2, CameraPhotoAspectRatio._3_2)
+            .map(PhotoRatio.RATIO_SQUARE, CameraPhotoAspectRatio._1_1)
+            .map(PhotoRatio.RATIO_18COLON9, CameraPhotoAspectRatio._18_9)
+            .map(PhotoRatio.RATIO_5COLON4, CameraPhotoAspectRatio._5_4)
+            .map(PhotoRatio.UNKNOWN, CameraPhotoAspectRatio.UNKNOWN);
+
     public static CameraPhotoAspectRatio getCameraPhotoAspectRatio(final @Nullable PhotoRatio value) {
-        if (value != null) {
-            switch (value) {
-                case RATIO_4COLON3:
-                    return CameraPhotoAspectRatio._4_3;
-                case RATIO_16COLON9:
-                    return CameraPhotoAspectRatio._16_9;
-                case RATIO_3COLON2:
-                    return CameraPhotoAspectRatio._3_2;
-                case RATIO_SQUARE:
-                    return CameraPhotoAspectRatio._1_1;
-                case RATIO_18COLON9:
-                    return CameraPhotoAspectRatio._18_9;
-                case RATIO_5COLON4:
-                    return CameraPhotoAspectRatio._5_4;
-                case UNKNOWN:
-                    return CameraPhotoAspectRatio.UNKNOWN;
-            }
-        }
-        return CameraPhotoAspectRatio.UNKNOWN;
+        return CAMERA_PHOTO_ASPECT_RATIO.get(value);
     }
 
     public static PhotoRatio getCameraPhotoAspectRatio(final @Nullable CameraPhotoAspectRatio value) {
-        if (value != null) {
-            switch (value) {
-                case _4_3:
-                    return PhotoRatio.RATIO_4COLON3;
-                case _16_9:
-                    return PhotoRatio.RATIO_16COLON9;
-                case _3_2:
-                    return PhotoRatio.RATIO_3COLON2;
-                case _1_1:
-                    return PhotoRatio.RATIO_SQUARE;
-                case _18_9:
-                    return PhotoRatio.RATIO_18COLON9;
-                case _5_4:
-                    return PhotoRatio.RATIO_5COLON4;
-                case UNKNOWN:
-                    return PhotoRatio.UNKNOWN;
-            }
-        }
-        return PhotoRatio.UNKNOWN;
-    }
+        return CAMERA_PHOTO_ASPECT_RATIO.getReverse(value);
+    }
+
+    private static final AnzuEnumMapping<CameraShootPhotoMode, CameraPhotoMode> CAMERA_PHOTO_MODE = new AnzuEnumMapping<>(CameraShootPhotoMode.class, CameraPhotoMode.class, CameraPhotoMode.UNKNOWN, null)
+            .mapForward(CameraShootPhotoMode.NORMAL, CameraPhotoMode.SINGLE)
+            .mapForward(CameraShootPhotoMode.HDR, CameraPhotoMode.HDR)
+            .mapForward(CameraShootPhotoMode.BURST, CameraPhotoMode.BURST)
+            .mapForward(CameraShootPhotoMode.AEB, CameraPhotoMode.AEB)
+            .mapForward(CameraShootPhotoMode.INTERVAL, CameraPhotoMode.INTERVAL)
+            .mapForward(CameraShootPhotoMode.PANO_APP, CameraPhotoMode.PANORAMA)
+            .mapForward(CameraShootPhotoMode.RAW_BURST, CameraPhotoMode.RAW_BURST)
+            .mapForward(CameraShootPhotoMode.EHDR, CameraPhotoMode.EHDR)
+            .mapForward(CameraShootPhotoMode.HYPER_LIGHT, CameraPhotoMode.HYPER_LIGHT)
+            .mapForward(CameraShootPhotoMode.HYPER_LAPSE, CameraPhotoMode.HYPER_LAPSE)
+            .mapForward(CameraShootPhotoMode.VISION_PANO, CameraPhotoMode.UNKNOWN)
+            .mapForward(CameraShootPhotoMode.VISION_BOKEH, CameraPhotoMode.UNKNOWN)
+            .mapForward(CameraShootPhotoMode.STATIONARY_TIME_LAPSE, CameraPhotoMode.UNKNOWN)
+            .mapForward(CameraShootPhotoMode.MOTION_TIME_LAPSE, CameraPhotoMode.UNKNOWN)
+            .mapForward(CameraShootPhotoMode.HYPER_TIME_LAPSE, CameraPhotoMode.UNKNOWN)
+            .mapForward(CameraShootPhotoMode.UNKNOWN, CameraPhotoMode.UNKNOWN);
 
     public static CameraPhotoMode getCameraPhotoMode(final @Nullable CameraShootPhotoMode value) {
-        if (value != null) {
-            switch (value) {
-                case NORMAL:
-                    return CameraPhotoMode.SINGLE;
-                case HDR:
-                    return CameraPhotoMode.HDR;
-                case BURST:
-                    return CameraPhotoMode.BURST;
-                case AEB:
-                    return CameraPhotoMode.AEB;
-                case INTERVAL:
-                    return CameraPhotoMode.INTERVAL;
-                case PANO_APP:
-                    return CameraPhotoMode.PANORAMA;
-                case RAW_BURST:
-                    return CameraPhotoMode.RAW_BURST;
-                case EHDR:
-                    return CameraPhotoMode.EHDR;
-                case HYPER_LIGHT:
-                    return CameraPhotoMode.HYPER_LIGHT;
-                case HYPER_LAPSE:
-                    return CameraPhotoMode.HYPER_LAPSE;
-                case VISION_PANO:
-                case VISION_BOKEH:
-                case STATIONARY_TIME_LAPSE:
-                case MOTION_TIME_LAPSE:
-                case HYPER_TIME_LAPSE:
-                case UNKNOWN:
-                    return CameraPhotoMode.UNKNOWN;
-            }
-        }
-        return CameraPhotoMode.UNKNOWN;
-    }
+        return CAMERA_PHOTO_MODE.get(value);
+    }
+
+    private static final AnzuEnumMapping<CameraFlatMode, CameraPhotoMode> CAMERA_PHOTO_MODE_FROM_CAMERA_FLAT_MODE = new AnzuEnumMapping<>(CameraFlatMode.class, CameraPhotoMode.class, CameraPhotoMode.UNKNOWN, CameraFlatMode.UNKNOWN)
+            .map(CameraFlatMode.PHOTO_AEB, CameraPhotoMode.AEB)
+            .map(CameraFlatMode.PHOTO_NORMAL, CameraPhotoMode.SINGLE)
+            .map(CameraFlatMode.PHOTO_BURST, CameraPhotoMode.BURST)
+            .map(CameraFlatMode.PHOTO_HDR, CameraPhotoMode.HDR)
+            .map(CameraFlatMode.PHOTO_INTERVAL, CameraPhotoMode.INTERVAL)
+            .map(CameraFlatMode.PHOTO_COUNTDOWN, CameraPhotoMode.COUNTDOWN)
+            .map(CameraFlatMode.PHOTO_HYPERLIGHT, CameraPhotoMode.HYPER_LIGHT)
+            .map(CameraFlatMode.PHOTO_PANO, CameraPhotoMode.PANORAMA)
+            .map(CameraFlatMode.PHOTO_EHDR, CameraPhotoMode.EHDR)
+            .map(CameraFlatMode.PHOTO_HIGH_RESOLUTION, CameraPhotoMode.HIGH_RESOLUTION)
+            .map(CameraFlatMode.PHOTO_REGIONAL_SR, CameraPhotoMode.REGIONAL_SR)
+            .map(CameraFlatMode.PHOTO_SMART, CameraPhotoMode.SMART)
+            .map(CameraFlatMode.INTERNAL_AI_SPOT_CHECKING, CameraPhotoMode.INTERNAL_AI_SPOT_CHECKING)
+            .map(CameraFlatMode.PHOTO_VR, CameraPhotoMode.VR)
+            .mapForward(CameraFlatMode.VIDEO_HYPERLAPSE, CameraPhotoMode.UNKNOWN)
+            .mapForward(CameraFlatMode.VIDEO_ASTEROID, CameraPhotoMode.UNKNOWN)
+            .mapForward(CameraFlatMode.VIDEO_ROCKET, CameraPhotoMode.UNKNOWN)
+            .mapForward(CameraFlatMode.VIDEO_OBLIQUE, CameraPhotoMode.UNKNOWN)
+            .mapForward(CameraFlatMode.VIDEO_SURROUND, CameraPhotoMode.UNKNOWN)
+            .mapForward(CameraFlatMode.VIDEO_SCREW, CameraPhotoMode.UNKNOWN)
+            .mapForward(CameraFlatMode.VIDEO_COMET, CameraPhotoMode.UNKNOWN)
+            .mapForward(CameraFlatMode.VIDEO_DOLLYZOOM, CameraPhotoMode.UNKNOWN)
+            .mapForward(CameraFlatMode.VIDEO_MOTIONSLAPSE, CameraPhotoMode.UNKNOWN)
+            .mapForward(CameraFlatMode.VIDEO_LOOP_RECORD, CameraPhotoMode.UNKNOWN)
+            .mapForward(CameraFlatMode.VIDEO_SLOW_MOTION, CameraPhotoMode.UNKNOWN)
+            .mapForward(CameraFlatMode.VIDEO_NORMAL, CameraPhotoMode.UNKNOWN)
+            .mapForward(CameraFlatMode.VIDEO_TIMELAPSE, CameraPhotoMode.UNKNOWN)
+            .mapForward(CameraFlatMode.VIDEO_HDR, CameraPhotoMode.UNKNOWN)
+            .mapForward(CameraFlatMode.VIDEO_VR, CameraPhotoMode.UNKNOWN)
+            .mapForward(CameraFlatMode.VIDEO_MASTER_SHOT_NORMAL, CameraPhotoMode.UNKNOWN)
+            .mapForward(CameraFlatMode.VIDEO_MASTER_SHOT_BIG_OBJECT, CameraPhotoMode.UNKNOWN)
+            .mapForward(CameraFlatMode.VIDEO_MASTER_SHOT_PANO, CameraPhotoMode.UNKNOWN)
+            .mapForward(CameraFlatMode.VIDEO_MASTER_SHOT_PERSON, CameraPhotoMode.UNKNOWN)
+            .mapForward(CameraFlatMode.VIDEO_SHORT, CameraPhotoMode.UNKNOWN)
+            .mapForward(CameraFlatMode.UVC_LIVE_STREAMING, CameraPhotoMode.UNKNOWN)
+            .mapForward(CameraFlatMode.EXPLORE_PHOTO_NORMAL, CameraPhotoMode.UNKNOWN)
+            .mapForward(CameraFlatMode.EXPLORE_VIDEO_NORMAL, CameraPhotoMode.UNKNOWN)
+            .map(CameraFlatMode.UNKNOWN, CameraPhotoMode.UNKNOWN)
+            .mapReverse(CameraPhotoMode.RAW_BURST, CameraFlatMode.PHOTO_BURST)
+            .mapReverse(CameraPhotoMode.TIME_LAPSE, CameraFlatMode.UNKNOWN)
+            .mapReverse(CameraPhotoMode.HYPER_LAPSE, CameraFlatMode.UNKNOWN)
+            .mapReverse(CameraPhotoMode.SHALLOW_FOCUS, CameraFlatMode.UNKNOWN)
+            .mapReverse(CameraPhotoMode.SUPER_RESOLUTION, CameraFlatMode.UNKNOWN);
 
     public static CameraPhotoMode getCameraPhotoMode(final @Nullable CameraFlatMode value) {
-        if (value != null) {
-            switch (value) {
-                case PHOTO_AEB:
-                    return CameraPhotoMode.AEB;
-                case PHOTO_NORMAL:
-                    return CameraPhotoMode.SINGLE;
-                case PHOTO_BURST:
-                    return CameraPhotoMode.BURST;
-                case PHOTO_HDR:
-                    return CameraPhotoMode.HDR;
-                case PHOTO_INTERVAL:
-                    return CameraPhotoMode.INTERVAL;
-                case PHOTO_COUNTDOWN:
-                    return CameraPhotoMode.COUNTDOWN;
-                case PHOTO_HYPERLIGHT:
-                    return CameraPhotoMode.HYPER_LIGHT;
-                case PHOTO_PANO:
-                    return CameraPhotoMode.PANORAMA;
-                case PHOTO_EHDR:
-                    return CameraPhotoMode.EHDR;
-                case PHOTO_HIGH_RESOLUTION:
-                    return CameraPhotoMode.HIGH_RESOLUTION;
-                case PHOTO_REGIONAL_SR:
-                    return CameraPhotoMode.REGIONAL_SR;
-                case PHOTO_SMART:
-                    return CameraPhotoMode.SMART;
-                case INTERNAL_AI_SPOT_CHECKING:
-                    return CameraPhotoMode.INTERNAL_AI_SPOT_CHECKING;
-                case PHOTO_VR:
-                    return CameraPhotoMode.VR;
-                case VIDEO_HYPERLAPSE:
-                case VIDEO_ASTEROID:
-                case VIDEO_ROCKET:
-                case VIDEO_OBLIQUE:
-                case VIDEO_SURROUND:
-                case VIDEO_SCREW:
-                case VIDEO_COMET:
-                case VIDEO_DOLLYZOOM:
-                case VIDEO_MOTIONSLAPSE:
-                case VIDEO_LOOP_RECORD:
-                case VIDEO_SLOW_MOTION:
-                case VIDEO_NORMAL:
-                case VIDEO_TIMELAPSE:
-                case VIDEO_HDR:
-                case VIDEO_VR:
-                case VIDEO_MASTER_SHOT_NORMAL:
-                case VIDEO_MASTER_SHOT_BIG_OBJECT:
-                case VIDEO_MASTER_SHOT_PANO:
-                case VIDEO_MASTER_SHOT_PERSON:
-                case VIDEO_SHORT:
-                case UVC_LIVE_STREAMING:
-                case EXPLORE_PHOTO_NORMAL:
-                case EXPLORE_VIDEO_NORMAL:
-                case UNKNOWN:
-                    break;
-            }
-        }
-        return CameraPhotoMode.UNKNOWN;
+        return CAMERA_PHOTO_MODE_FROM_CAMERA_FLAT_MODE.get(value);
     }
 
     public static CameraFlatMode getCameraFlatMode(final @Nullable CameraPhotoMode value) {
-        if (value != null) {
-            switch (value) {
-                case SINGLE:
-                    return CameraFlatMode.PHOTO_NORMAL;
-                case HDR:
-                    return CameraFlatMode.PHOTO_HDR;
-                case BURST:
-                case RAW_BURST:
-                    return CameraFlatMode.PHOTO_BURST;
-                case AEB:
-                    return CameraFlatMode.PHOTO_AEB;
-                case INTERVAL:
-                    return CameraFlatMode.PHOTO_INTERVAL;
-                case PANORAMA:
-                    return CameraFlatMode.PHOTO_PANO;
-                case EHDR:
-                    return CameraFlatMode.PHOTO_EHDR;
-                case COUNTDOWN:
-                    return CameraFlatMode.PHOTO_COUNTDOWN;
-                case HYPER_LIGHT:
-                    return CameraFlatMode.PHOTO_HYPERLIGHT;
-                case HIGH_RESOLUTION:
-                    return CameraFlatMode.PHOTO_HIGH_RESOLUTION;
-                case REGIONAL_SR:
-                    return CameraFlatMode.PHOTO_REGIONAL_SR;
-                case SMART:
-                    return CameraFlatMode.PHOTO_SMART;
-                case INTERNAL_AI_SPOT_CHECKING:
-                    return CameraFlatMode.INTERNAL_AI_SPOT_CHECKING;
-                case VR:
-                    return CameraFlatMode.PHOTO_VR;
-                case TIME_LAPSE:
-                case HYPER_LAPSE:
-                case SHALLOW_FOCUS:
-                case SUPER_RESOLUTION:
-                case UNKNOWN:
-                    break;
-            }
-        }
-        return CameraFlatMode.UNKNOWN;
-    }
+        return CAMERA_PHOTO_MODE_FROM_CAMERA_FLAT_MODE.getReverse(value);
+    }
+
+    private static final AnzuEnumMapping<PhotoFileFormat, CameraPhotoFileFormat> CAMERA_PHOTO_FILE_FORMAT = new AnzuEnumMapping<>(PhotoFileFormat.class, CameraPhotoFileFormat.class, CameraPhotoFileFormat.UNKNOWN, PhotoFileFormat.UNKNOWN)
+            .map(PhotoFileFormat.RAW, CameraPhotoFileFormat.RAW)
+            .map(PhotoFileFormat.JPEG, CameraPhotoFileFormat.JPEG)
+            .map(PhotoFileFormat.RAW_JPEG, CameraPhotoFileFormat.RAW_JPEG)
+            .map(PhotoFileFormat.TIFF_8_BIT, CameraPhotoFileFormat.TIFF_8_BIT)
+            .map(PhotoFileFormat.TIFF_14_BIT, CameraPhotoFileFormat.TIFF_14_BIT)
+            .map(PhotoFileFormat.TIFF_14_BIT_LINEAR_LOW_TEMP_RESOLUTION, CameraPhotoFileFormat.TIFF_14_BIT_LINEAR_LOW_TEMP_RESOLUTION)
+            .map(PhotoFileFormat.TIFF_14_BIT_LINEAR_HIGH_TEMP_RESOLUTION, CameraPhotoFileFormat.TIFF_14_BIT_LINEAR_HIGH_TEMP_RESOLUTION)
+            .map(PhotoFileFormat.RADIOMETRIC_JPEG, CameraPhotoFileFormat.RADIOMETRIC_JPEG)
+            .map(PhotoFileFormat.RADIOMETRIC_JPEG_LOW, CameraPhotoFileFormat.RADIOMETRIC_JPEG_LOW)
+            .map(PhotoFileFormat.RADIOMETRIC_JPEG_HIGH, CameraPhotoFileFormat.RADIOMETRIC_JPEG_HIGH)
+            .map(PhotoFileFormat.UNKNOWN, CameraPhotoFileFormat.UNKNOWN);
 
     public static CameraPhotoFileFormat getCameraPhotoFileFormat(final @Nullable PhotoFileFormat value) {
-        if (value != null) {
-            switch (value) {
-                case RAW: return CameraPhotoFileFormat.RAW;
-                case JPEG: return CameraPhotoFileFormat.JPEG;
-                case RAW_JPEG: return CameraPhotoFileFormat.RAW_JPEG;
-                case TIFF_8_BIT: return CameraPhotoFileFormat.TIFF_8_BIT;
-                case TIFF_14_BIT: return CameraPhotoFileFormat.TIFF_14_BIT;
-                case TIFF_14_BIT_LINEAR_LOW_TEMP_RESOLUTION: return CameraPhotoFileFormat.TIFF_14_BIT_LINEAR_LOW_TEMP_RESOLUTION;
-                case TIFF_14_BIT_LINEAR_HIGH_TEMP_RESOLUTION: return CameraPhotoFileFormat.TIFF_14_BIT_LINEAR_HIGH_TEMP_RESOLUTION;
-                case RADIOMETRIC_JPEG: return CameraPhotoFileFormat.RADIOMETRIC_JPEG;
-                case RADIOMETRIC_JPEG_LOW: return CameraPhotoFileFormat.RADIOMETRIC_JPEG_LOW;
-                case RADIOMETRIC_JPEG_HIGH: return CameraPhotoFileFormat.RADIOMETRIC_JPEG_HIGH;
-                case UNKNOWN: return CameraPhotoFileFormat.UNKNOWN;
-            }
-        }
-        return CameraPhotoFileFormat.UNKNOWN;
+        return CAMERA_PHOTO_FILE_FORMAT.get(value);
     }
 
     public static PhotoFileFormat getCameraPhotoFileFormat(final @Nullable CameraPhotoFileFormat value) {
-        if (value != null) {
-            switch (value) {
-                case RAW: return PhotoFileFormat.RAW;
-                case JPEG: return PhotoFileFormat.JPEG;
-                case RAW_JPEG: return PhotoFileFormat.RAW_JPEG;
-                case TIFF_8_BIT: return PhotoFileFormat.TIFF_8_BIT;
-                case TIFF_14_BIT: return PhotoFileFormat.TIFF_14_BIT;
-                case TIFF_14_BIT_LINEAR_LOW_TEMP_RESOLUTION: return PhotoFileFormat.TIFF_14_BIT_LINEAR_LOW_TEMP_RESOLUTION;
-                case TIFF_14_BIT_LINEAR_HIGH_TEMP_RESOLUTION: return PhotoFileFormat.TIFF_14_BIT_LINEAR_HIGH_TEMP_RESOLUTION;
-                case RADIOMETRIC_JPEG: return PhotoFileFormat.RADIOMETRIC_JPEG;
-                case RADIOMETRIC_JPEG_LOW: return PhotoFileFormat.RADIOMETRIC_JPEG_LOW;
-                case RADIOMETRIC_JPEG_HIGH: return PhotoFileFormat.RADIOMETRIC_JPEG_HIGH;
-                case UNKNOWN: return PhotoFileFormat.UNKNOWN;
-            }
-        }
-        return PhotoFileFormat.UNKNOWN;
-    }
+        return CAMERA_PHOTO_FILE_FORMAT.getReverse(value);
+    }
+
+    private static final AnzuEnumMapping<dji.sdk.keyvalue.value.camera.CameraShutterSpeed, CameraShutterSpeed> CAMERA_SHUTTER_SPEED = new AnzuEnumMapping<>(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.class, CameraShutterSpeed.class, CameraShutterSpeed.UNKNOWN, dji.sdk.keyvalue.value.camera.CameraShutterSpeed.UNKNOWN)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_20000, CameraShutterSpeed._1_20000)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_16000, CameraShutterSpeed._1_16000)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_12800, CameraShutterSpeed._1_12800)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_10000, CameraShutterSpeed._1_10000)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_8000, CameraShutterSpeed._1_8000)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_6400, CameraShutterSpeed._1_6400)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_6000, CameraShutterSpeed._1_6000)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_5000, CameraShutterSpeed._1_5000)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_4000, CameraShutterSpeed._1_4000)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_3200, CameraShutterSpeed._1_3200)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_3000, CameraShutterSpeed._1_3000)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_2500, CameraShutterSpeed._1_2500)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_2000, CameraShutterSpeed._1_2000)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_1600, CameraShutterSpeed._1_1600)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_1500, CameraShutterSpeed._1_1500)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_1250, CameraShutterSpeed._1_1250)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_1000, CameraShutterSpeed._1_1000)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_800, CameraShutterSpeed._1_800)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_725, CameraShutterSpeed._1_725)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_640, CameraShutterSpeed._1_640)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_500, CameraShutterSpeed._1_500)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_400, CameraShutterSpeed._1_400)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_350, CameraShutterSpeed._1_350)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_320, CameraShutterSpeed._1_320)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_250, CameraShutterSpeed._1_250)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_240, CameraShutterSpeed._1_240)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_200, CameraShutterSpeed._1_200)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_180, CameraShutterSpeed._1_180)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_160, CameraShutterSpeed._1_160)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_125, CameraShutterSpeed._1_125)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_120, CameraShutterSpeed._1_120)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_100, CameraShutterSpeed._1_100)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_90, CameraShutterSpeed._1_90)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_80, CameraShutterSpeed._1_80)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_60, CameraShutterSpeed._1_60)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_50, CameraShutterSpeed._1_50)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_40, CameraShutterSpeed._1_40)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_30, CameraShutterSpeed._1_30)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_25, CameraShutterSpeed._1_25)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_20, CameraShutterSpeed._1_20)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_15, CameraShutterSpeed._1_15)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_12DOT5, CameraShutterSpeed._1_12_DOT_5)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_10, CameraShutterSpeed._1_10)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_8, CameraShutterSpeed._1_8)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_6DOT25, CameraShutterSpeed._1_6_DOT_25)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_5, CameraShutterSpeed._1_5)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_4, CameraShutterSpeed._1_4)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_3, CameraShutterSpeed._1_3)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_2DOT5, CameraShutterSpeed._1_2_DOT_5)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_2, CameraShutterSpeed._1_2)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_1DOT67, CameraShutterSpeed._1_1_DOT_67)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_1DOT25, CameraShutterSpeed._1_1_DOT_25)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1, CameraShutterSpeed._1)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1DOT3, CameraShutterSpeed._1_DOT_3)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1DOT6, CameraShutterSpeed._1_DOT_6)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED2, CameraShutterSpeed._2)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED2DOT5, CameraShutterSpeed._2_DOT_5)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED3, CameraShutterSpeed._3)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED3DOT2, CameraShutterSpeed._3_DOT_2)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED4, CameraShutterSpeed._4)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED5, CameraShutterSpeed._5)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED6, CameraShutterSpeed._6)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED7, CameraShutterSpeed._7)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED8, CameraShutterSpeed._8)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED9, CameraShutterSpeed._9)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED10, CameraShutterSpeed._10)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED11, CameraShutterSpeed._11)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED13, CameraShutterSpeed._13)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED15, CameraShutterSpeed._15)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED16, CameraShutterSpeed._16)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED20, CameraShutterSpeed._20)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED23, CameraShutterSpeed._23)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED25, CameraShutterSpeed._25)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED30, CameraShutterSpeed._30)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED40, CameraShutterSpeed._40)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED50, CameraShutterSpeed._50)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED60, CameraShutterSpeed._60)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED80, CameraShutterSpeed._80)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED100, CameraShutterSpeed._100)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED120, CameraShutterSpeed._120)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED_AUTO, CameraShutterSpeed.AUTO)
+            .map(dji.sdk.keyvalue.value.camera.CameraShutterSpeed.UNKNOWN, CameraShutterSpeed.UNKNOWN);
 
     public static CameraShutterSpeed getCameraShutterSpeed(final @Nullable dji.sdk.keyvalue.value.camera.CameraShutterSpeed value) {
-        if (value != null) {
-            switch (value) {
-                case SHUTTER_SPEED1_20000:
-                    return CameraShutterSpeed._1_20000;
-                case SHUTTER_SPEED1_16000:
-                    return CameraShutterSpeed._1_16000;
-                case SHUTTER_SPEED1_12800:
-                    return CameraShutterSpeed._1_12800;
-                case SHUTTER_SPEED1_10000:
-                    return CameraShutterSpeed._1_10000;
-                case SHUTTER_SPEED1_8000:
-                    return CameraShutterSpeed._1_8000;
-                case SHUTTER_SPEED1_6400:
-                    return CameraShutterSpeed._1_6400;
-                case SHUTTER_SPEED1_6000:
-                    return CameraShutterSpeed._1_6000;
-                case SHUTTER_SPEED1_5000:
-                    return CameraShutterSpeed._1_5000;
-                case SHUTTER_SPEED1_4000:
-                    return CameraShutterSpeed._1_4000;
-                case SHUTTER_SPEED1_3200:
-                    return CameraShutterSpeed._1_3200;
-                case SHUTTER_SPEED1_3000:
-                    return CameraShutterSpeed._1_3000;
-                case SHUTTER_SPEED1_2500:
-                    return CameraShutterSpeed._1_2500;
-                case SHUTTER_SPEED1_2000:
-                    return CameraShutterSpeed._1_2000;
-                case SHUTTER_SPEED1_1600:
-                    return CameraShutterSpeed._1_1600;
-                case SHUTTER_SPEED1_1500:
-                    return CameraShutterSpeed._1_1500;
-                case SHUTTER_SPEED1_1250:
-                    return CameraShutterSpeed._1_1250;
-                case SHUTTER_SPEED1_1000:
-                    return CameraShutterSpeed._1_1000;
-                case SHUTTER_SPEED1_800:
-                    return CameraShutterSpeed._1_800;
-                case SHUTTER_SPEED1_725:
-                    return CameraShutterSpeed._1_725;
-                case SHUTTER_SPEED1_640:
-                    return CameraShutterSpeed._1_640;
-                case SHUTTER_SPEED1_500:
-                    return CameraShutterSpeed._1_500;
-                case SHUTTER_SPEED1_400:
-                    return CameraShutterSpeed._1_400;
-                case SHUTTER_SPEED1_350:
-                    return CameraShutterSpeed._1_350;
-                case SHUTTER_SPEED1_320:
-                    return CameraShutterSpeed._1_320;
-                case SHUTTER_SPEED1_250:
-                    return CameraShutterSpeed._1_250;
-                case SHUTTER_SPEED1_240:
-                    return CameraShutterSpeed._1_240;
-                case SHUTTER_SPEED1_200:
-                    return CameraShutterSpeed._1_200;
-                case SHUTTER_SPEED1_180:
-                    return CameraShutterSpeed._1_180;
-                case SHUTTER_SPEED1_160:
-                    return CameraShutterSpeed._1_160;
-                case SHUTTER_SPEED1_125:
-                    return CameraShutterSpeed._1_125;
-                case SHUTTER_SPEED1_120:
-                    return CameraShutterSpeed._1_120;
-                case SHUTTER_SPEED1_100:
-                    return CameraShutterSpeed._1_100;
-                case SHUTTER_SPEED1_90:
-                    return CameraShutterSpeed._1_90;
-                case SHUTTER_SPEED1_80:
-                    return CameraShutterSpeed._1_80;
-                case SHUTTER_SPEED1_60:
-                    return CameraShutterSpeed._1_60;
-                case SHUTTER_SPEED1_50:
-                    return CameraShutterSpeed._1_50;
-                case SHUTTER_SPEED1_40:
-                    return CameraShutterSpeed._1_40;
-                case SHUTTER_SPEED1_30:
-                    return CameraShutterSpeed._1_30;
-                case SHUTTER_SPEED1_25:
-                    return CameraShutterSpeed._1_25;
-                case SHUTTER_SPEED1_20:
-                    return CameraShutterSpeed._1_20;
-                case SHUTTER_SPEED1_15:
-                    return CameraShutterSpeed._1_15;
-                case SHUTTER_SPEED1_12DOT5:
-                    return CameraShutterSpeed._1_12_DOT_5;
-                case SHUTTER_SPEED1_10:
-                    return CameraShutterSpeed._1_10;
-                case SHUTTER_SPEED1_8:
-                    return CameraShutterSpeed._1_8;
-                case SHUTTER_SPEED1_6DOT25:
-                    return CameraShutterSpeed._1_6_DOT_25;
-                case SHUTTER_SPEED1_5:
-                    return CameraShutterSpeed._1_5;
-                case SHUTTER_SPEED1_4:
-                    return CameraShutterSpeed._1_4;
-                case SHUTTER_SPEED1_3:
-                    return CameraShutterSpeed._1_3;
-                case SHUTTER_SPEED1_2DOT5:
-                    return CameraShutterSpeed._1_2_DOT_5;
-                case SHUTTER_SPEED1_2:
-                    return CameraShutterSpeed._1_2;
-                case SHUTTER_SPEED1_1DOT67:
-                    return CameraShutterSpeed._1_1_DOT_67;
-                case SHUTTER_SPEED1_1DOT25:
-                    return CameraShutterSpeed._1_1_DOT_25;
-                case SHUTTER_SPEED1:
-                    return CameraShutterSpeed._1;
-                case SHUTTER_SPEED1DOT3:
-                    return CameraShutterSpeed._1_DOT_3;
-                case SHUTTER_SPEED1DOT6:
-                    return CameraShutterSpeed._1_DOT_6;
-                case SHUTTER_SPEED2:
-                    return CameraShutterSpeed._2;
-                case SHUTTER_SPEED2DOT5:
-                    return CameraShutterSpeed._2_DOT_5;
-                case SHUTTER_SPEED3:
-                    return CameraShutterSpeed._3;
-                case SHUTTER_SPEED3DOT2:
-                    return CameraShutterSpeed._3_DOT_2;
-                case SHUTTER_SPEED4:
-                    return CameraShutterSpeed._4;
-                case SHUTTER_SPEED5:
-                    return CameraShutterSpeed._5;
-                case SHUTTER_SPEED6:
-                    return CameraShutterSpeed._6;
-                case SHUTTER_SPEED7:
-                    return CameraShutterSpeed._7;
-                case SHUTTER_SPEED8:
-                    return CameraShutterSpeed._8;
-                case SHUTTER_SPEED9:
-                    return CameraShutterSpeed._9;
-                case SHUTTER_SPEED10:
-                    return CameraShutterSpeed._10;
-                case SHUTTER_SPEED11:
-                    return CameraShutterSpeed._11;
-                case SHUTTER_SPEED13:
-                    return CameraShutterSpeed._13;
-                case SHUTTER_SPEED15:
-                    return CameraShutterSpeed._15;
-                case SHUTTER_SPEED16:
-                    return CameraShutterSpeed._16;
-                case SHUTTER_SPEED20:
-                    return CameraShutterSpeed._20;
-                case SHUTTER_SPEED23:
-                    return CameraShutterSpeed._23;
-                case SHUTTER_SPEED25:
-                    return CameraShutterSpeed._25;
-                case SHUTTER_SPEED30:
-                    return CameraShutterSpeed._30;
-                case SHUTTER_SPEED40:
-                    return CameraShutterSpeed._40;
-                case SHUTTER_SPEED50:
-                    return CameraShutterSpeed._50;
-                case SHUTTER_SPEED60:
-                    return CameraShutterSpeed._60;
-                case SHUTTER_SPEED80:
-                    return CameraShutterSpeed._80;
-                case SHUTTER_SPEED100:
-                    return CameraShutterSpeed._100;
-                case SHUTTER_SPEED120:
-                    return CameraShutterSpeed._120;
-                case SHUTTER_SPEED_AUTO:
-                    return CameraShutterSpeed.AUTO;
-                case UNKNOWN:
-                    return CameraShutterSpeed.UNKNOWN;
-            }
-        }
-        return CameraShutterSpeed.UNKNOWN;
+        return CAMERA_SHUTTER_SPEED.get(value);
     }
 
     public static dji.sdk.keyvalue.value.camera.CameraShutterSpeed getCameraShutterSpeed(final @Nullable CameraShutterSpeed value) {
-        if (value != null) {
-            switch (value) {
-                case _1_20000:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_20000;
-                case _1_16000:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_16000;
-                case _1_12800:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_12800;
-                case _1_10000:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_10000;
-                case _1_8000:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_8000;
-                case _1_6400:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_6400;
-                case _1_6000:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_6000;
-                case _1_5000:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_5000;
-                case _1_4000:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_4000;
-                case _1_3200:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_3200;
-                case _1_3000:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_3000;
-                case _1_2500:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_2500;
-                case _1_2000:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_2000;
-                case _1_1600:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_1600;
-                case _1_1500:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_1500;
-                case _1_1250:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_1250;
-                case _1_1000:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_1000;
-                case _1_800:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_800;
-                case _1_725:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_725;
-                case _1_640:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_640;
-                case _1_500:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_500;
-                case _1_400:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_400;
-                case _1_350:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_350;
-                case _1_320:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_320;
-                case _1_250:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_250;
-                case _1_240:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_240;
-                case _1_200:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_200;
-                case _1_180:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_180;
-                case _1_160:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_160;
-                case _1_125:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_125;
-                case _1_120:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_120;
-                case _1_100:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_100;
-                case _1_90:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_90;
-                case _1_80:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_80;
-                case _1_60:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_60;
-                case _1_50:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_50;
-                case _1_40:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_40;
-                case _1_30:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_30;
-                case _1_25:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_25;
-                case _1_20:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_20;
-                case _1_15:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_15;
-                case _1_12_DOT_5:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_12DOT5;
-                case _1_10:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_10;
-                case _1_8:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_8;
-                case _1_6_DOT_25:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_6DOT25;
-                case _1_5:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_5;
-                case _1_4:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_4;
-                case _1_3:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_3;
-                case _1_2_DOT_5:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_2DOT5;
-                case _1_2:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_2;
-                case _1_1_DOT_67:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_1DOT67;
-                case _1_1_DOT_25:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1_1DOT25;
-                case _1:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1;
-                case _1_DOT_3:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1DOT3;
-                case _1_DOT_6:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED1DOT6;
-                case _2:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED2;
-                case _2_DOT_5:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED2DOT5;
-                case _3:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED3;
-                case _3_DOT_2:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED3DOT2;
-                case _4:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED4;
-                case _5:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED5;
-                case _6:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED6;
-                case _7:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED7;
-                case _8:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED8;
-                case _9:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED9;
-                case _10:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED10;
-                case _11:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED11;
-                case _13:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED13;
-                case _15:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED15;
-                case _16:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED16;
-                case _20:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED20;
-                case _23:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED23;
-                case _25:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED25;
-                case _30:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED30;
-                case _40:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED40;
-                case _50:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED50;
-                case _60:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED60;
-                case _80:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED80;
-                case _100:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED100;
-                case _120:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED120;
-                case AUTO:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.SHUTTER_SPEED_AUTO;
-                case UNKNOWN:
-                    return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.UNKNOWN;
-            }
-        }
-        return dji.sdk.keyvalue.value.camera.CameraShutterSpeed.UNKNOWN;
+        return CAMERA_SHUTTER_SPEED.getReverse(value);
     }
 
+    private static final AnzuEnumMapping<VideoMimeType, CameraVideoFileCompressionStandard> CAMERA_VIDEO_FILE_COMPRESSION_STANDARD = new AnzuEnumMapping<>(VideoMimeType.class, CameraVideoFileCompressionStandard.class, CameraVideoFileCompressionStandard.UNKNOWN, VideoMimeType.UNKNOWN)
+            .map(VideoMimeType.H264, CameraVideoFileCompressionStandard.H264)
+            .map(VideoMimeType.H265, CameraVideoFileCompressionStandard.H265)
+            .map(VideoMimeType.ProRes, CameraVideoFileCompressionStandard.PRO_RES)
+            .map(VideoMimeType.UNKNOWN, CameraVideoFileCompressionStandard.UNKNOWN);
+
     public static CameraVideoFileCompressionStandard getCameraVideoFileCompressionStandard(final @Nullable VideoMimeType value) {
-        if (value != null) {
-            switch (value) {
-                case H264:
-                    return CameraVideoFileCompressionStandard.H264;
-                case H265:
-                    return CameraVideoFileCompressionStandard.H265;
-                case ProRes:
-                    return CameraVideoFileCompressionStandard.PRO_RES;
-                case UNKNOWN:
-                    break;
-            }
-        }
-        return CameraVideoFileCompressionStandard.UNKNOWN;
+        return CAMERA_VIDEO_FILE_COMPRESSION_STANDARD.get(value);
     }
 
     public static VideoMimeType getCameraVideoFileCompressionStandard(final @Nullable CameraVideoFileCompressionStandard value) {
-        if (value != null) {
-            switch (value) {
-                case H264:
-                    return VideoMimeType.H264;
-                case H265:
-                    return VideoMimeType.H265;
-                case PRO_RES:
-                    return VideoMimeType.ProRes;
-                case UNKNOWN:
-                    break;
-            }
-        }
-        return VideoMimeType.UNKNOWN;
+        return CAMERA_VIDEO_FILE_COMPRESSION_STANDARD.getReverse(value);
     }
 
+    private static final AnzuEnumMapping<VideoFileFormat, CameraVideoFileFormat> CAMERA_VIDEO_FILE_FORMAT = new AnzuEnumMapping<>(VideoFileFormat.class, CameraVideoFileFormat.class, CameraVideoFileFormat.UNKNOWN, VideoFileFormat.UNKNOWN)
+            .map(VideoFileFormat.MOV, CameraVideoFileFormat.MOV)
+            .map(VideoFileFormat.MP4, CameraVideoFileFormat.MP4)
+            .map(VideoFileFormat.TIFF_SEQ, CameraVideoFileFormat.TIFF_SEQ)
+            .map(VideoFileFormat.SEQ, CameraVideoFileFormat.SEQ)
+            .map(VideoFileFormat.CDNG, CameraVideoFileFormat.CDNG)
+            .map(VideoFileFormat.MXF, CameraVideoFileFormat.MXF)
+            .map(VideoFileFormat.UNKNOWN, CameraVideoFileFormat.UNKNOWN);
+
     public static CameraVideoFileFormat getCameraVideoFileFormat(final @Nullable VideoFileFormat value) {
-        if (value != null) {
-            switch (value) {
-                case MOV:
-                    return CameraVideoFileFormat.MOV;
-                case MP4:
-                    return CameraVideoFileFormat.MP4;
-                case TIFF_SEQ:
-                    return CameraVideoFileFormat.TIFF_SEQ;
-                case SEQ:
-                    return CameraVideoFileFormat.SEQ;
-                case CDNG:
-                    return CameraVideoFileFormat.CDNG;
-                case MXF:
-                    return CameraVideoFileFormat.MXF;
-                case UNKNOWN:
-                    return CameraVideoFileFormat.UNKNOWN;
-            }
-        }
-        return CameraVideoFileFormat.UNKNOWN;
+        return CAMERA_VIDEO_FILE_FORMAT.get(value);
     }
 
     public static VideoFileFormat getCameraVideoFileFormat(final @Nullable CameraVideoFileFormat value) {
-        if (value != null) {
-            switch (value) {
-                case MOV:
-                    return VideoFileFormat.MOV;
-                case MP4:
-                    return VideoFileFormat.MP4;
-                case TIFF_SEQ:
-                    return VideoFileFormat.TIFF_SEQ;
-                case SEQ:
-                    return VideoFileFormat.SEQ;
-                case CDNG:
-                    return VideoFileFormat.CDNG;
-                case MXF:
-                    return VideoFileFormat.MXF;
-                case UNKNOWN:
-                    return VideoFileFormat.UNKNOWN;
-            }
-        }
-        return VideoFileFormat.UNKNOWN;
+        return CAMERA_VIDEO_FILE_FORMAT.getReverse(value);
     }
 
     public static CameraVideoFieldOfView getCameraVideoFieldOfView(final @Nullable VideoResolutionFrameRateAndFov value) {
@@ -2390,22 +1466,15 @@ public class DronelinkAnzu {
         return CameraVideoFieldOfView.UNKNOWN;
     }
 
+    private static final AnzuEnumMapping<CameraVideoFieldOfView, VideoFovType> CAMERA_VIDEO_FIELD_OF_VIEW = new AnzuEnumMapping<>(CameraVideoFieldOfView.class, VideoFovType.class, VideoFovType.UNKNOWN, null)
+            .mapForward(CameraVideoFieldOfView.DEFAULT, VideoFovType.NONE)
+            .mapForward(CameraVideoFieldOfView.MIDDLE, VideoFovType.MEDIUM)
+            .mapForward(CameraVideoFieldOfView.NARROW, VideoFovType.NARROW)
+            .mapForward(CameraVideoFieldOfView.WIDE, VideoFovType.WIDE)
+            .mapForward(CameraVideoFieldOfView.UNKNOWN, VideoFovType.UNKNOWN);
+
     public static VideoFovType getCameraVideoFieldOfView(final @Nullable CameraVideoFieldOfView value) {
-        if (value != null) {
-            switch (value) {
-                case DEFAULT:
-                    return VideoFovType.NONE;
-                case MIDDLE:
-                    return VideoFovType.MEDIUM;
-                case NARROW:
-                    return VideoFovType.NARROW;
-                case WIDE:
-                    return VideoFovType.WIDE;
-                case UNKNOWN:
-                    return VideoFovType.UNKNOWN;
-            }
-        }
-        return VideoFovType.UNKNOWN;
+        return CAMERA_VIDEO_FIELD_OF_VIEW.get(value);
     }
 
     public static CameraVideoFrameRate getCameraVideoFrameRate(final @Nullable VideoResolutionFrameRateAndFov value) {
@@ -2566,94 +1635,45 @@ public class DronelinkAnzu {
         return CameraVideoFrameRate.UNKNOWN;
     }
 
+    private static final AnzuEnumMapping<CameraVideoFrameRate, VideoFrameRate> CAMERA_VIDEO_FRAME_RATE = new AnzuEnumMapping<>(CameraVideoFrameRate.class, VideoFrameRate.class, VideoFrameRate.UNKNOWN, null)
+            .mapForward(CameraVideoFrameRate._23_DOT_976, VideoFrameRate.RATE_24FPS)
+            .mapForward(CameraVideoFrameRate._24, VideoFrameRate.RATE_PRECISE_24FPS)
+            .mapForward(CameraVideoFrameRate._25, VideoFrameRate.RATE_25FPS)
+            .mapForward(CameraVideoFrameRate._29_DOT_970, VideoFrameRate.RATE_30FPS)
+            .mapForward(CameraVideoFrameRate._30, VideoFrameRate.RATE_PRECISE_30FPS)
+            .mapForward(CameraVideoFrameRate._47_DOT_950, VideoFrameRate.RATE_48FPS)
+            .mapForward(CameraVideoFrameRate._48, VideoFrameRate.RATE_PRECISE_48FPS)
+            .mapForward(CameraVideoFrameRate._50, VideoFrameRate.RATE_50FPS)
+            .mapForward(CameraVideoFrameRate._59_DOT_940, VideoFrameRate.RATE_60FPS)
+            .mapForward(CameraVideoFrameRate._60, VideoFrameRate.RATE_PRECISE_60FPS)
+            .mapForward(CameraVideoFrameRate._90, VideoFrameRate.RATE_90FPS)
+            .mapForward(CameraVideoFrameRate._96, VideoFrameRate.RATE_PRECISE_96FPS)
+            .mapForward(CameraVideoFrameRate._100, VideoFrameRate.RATE_100FPS)
+            .mapForward(CameraVideoFrameRate._120, VideoFrameRate.RATE_PRECISE_120FPS)
+            .mapForward(CameraVideoFrameRate._240, VideoFrameRate.RATE_240FPS)
+            .mapForward(CameraVideoFrameRate._8_DOT_7, VideoFrameRate.RATE_8DOT7_FPS)
+            .mapForward(CameraVideoFrameRate.UNKNOWN, VideoFrameRate.UNKNOWN);
+
     public static VideoFrameRate getCameraVideoFrameRate(final @Nullable CameraVideoFrameRate value) {
-        if (value != null) {
-            switch (value) {
-                case _23_DOT_976:
-                    return VideoFrameRate.RATE_24FPS;
-                case _24:
-                    return VideoFrameRate.RATE_PRECISE_24FPS;
-                case _25:
-                    return VideoFrameRate.RATE_25FPS;
-                case _29_DOT_970:
-                    return VideoFrameRate.RATE_30FPS;
-                case _30:
-                    return VideoFrameRate.RATE_PRECISE_30FPS;
-                case _47_DOT_950:
-                    return VideoFrameRate.RATE_48FPS;
-                case _48:
-                    return VideoFrameRate.RATE_PRECISE_48FPS;
-                case _50:
-                    return VideoFrameRate.RATE_50FPS;
-                case _59_DOT_940:
-                    return VideoFrameRate.RATE_60FPS;
-                case _60:
-                    return VideoFrameRate.RATE_PRECISE_60FPS;
-                case _90:
-                    return VideoFrameRate.RATE_90FPS;
-                case _96:
-                    return VideoFrameRate.RATE_PRECISE_96FPS;
-                case _100:
-                    return VideoFrameRate.RATE_100FPS;
-                case _120:
-                    return VideoFrameRate.RATE_PRECISE_120FPS;
-                case _240:
-                    return VideoFrameRate.RATE_240FPS;
-                case _8_DOT_7:
-                    return VideoFrameRate.RATE_8DOT7_FPS;
-                case UNKNOWN:
-                    break;
-            }
-        }
-        return VideoFrameRate.UNKNOWN;
+        return CAMERA_VIDEO_FRAME_RATE.get(value);
     }
 
+    private static final AnzuEnumMapping<CameraVideoMode, VideoRecordMode> CAMERA_VIDEO_MODE = new AnzuEnumMapping<>(CameraVideoMode.class, VideoRecordMode.class, VideoRecordMode.UNKNOWN, CameraVideoMode.UNKNOWN)
+            .map(CameraVideoMode.NORMAL, VideoRecordMode.NORMAL)
+            .map(CameraVideoMode.HDR, VideoRecordMode.HDR)
+            .map(CameraVideoMode.SLOW_MOTION, VideoRecordMode.SLOW_MOTION)
+            .map(CameraVideoMode.FAST_MOTION, VideoRecordMode.FAST_MOTION)
+            .map(CameraVideoMode.TIME_LAPSE, VideoRecordMode.TIME_LAPSE)
+            .map(CameraVideoMode.HYPER_LAPSE, VideoRecordMode.HYPER_LAPSE)
+            .map(CameraVideoMode.QUICK_SHOT, VideoRecordMode.QUICK_SHOT)
+            .map(CameraVideoMode.UNKNOWN, VideoRecordMode.UNKNOWN);
+
     public static VideoRecordMode getCameraVideoMode(final @Nullable CameraVideoMode value) {
-        if (value != null) {
-            switch (value) {
-                case NORMAL:
-                    return VideoRecordMode.NORMAL;
-                case HDR:
-                    return VideoRecordMode.HDR;
-                case SLOW_MOTION:
-                    return VideoRecordMode.SLOW_MOTION;
-                case FAST_MOTION:
-                    return VideoRecordMode.FAST_MOTION;
-                case TIME_LAPSE:
-                    return VideoRecordMode.TIME_LAPSE;
-                case HYPER_LAPSE:
-                    return VideoRecordMode.HYPER_LAPSE;
-                case QUICK_SHOT:
-                    return VideoRecordMode.QUICK_SHOT;
-                case UNKNOWN:
-                    return VideoRecordMode.UNKNOWN;
-            }
-        }
-        return VideoRecordMode.UNKNOWN;
+        return CAMERA_VIDEO_MODE.get(value);
     }
 
     public static CameraVideoMode getCameraVideoMode(final @Nullable VideoRecordMode value) {
-        if (value != null) {
-            switch (value) {
-                case NORMAL:
-                    return CameraVideoMode.NORMAL;
-                case HDR:
-                    return CameraVideoMode.HDR;
-                case SLOW_MOTION:
-                    return CameraVideoMode.SLOW_MOTION;
-                case FAST_MOTION:
-                    return CameraVideoMode.FAST_MOTION;
-                case TIME_LAPSE:
-                    return CameraVideoMode.TIME_LAPSE;
-                case HYPER_LAPSE:
-                    return CameraVideoMode.HYPER_LAPSE;
-                case QUICK_SHOT:
-                    return CameraVideoMode.QUICK_SHOT;
-                case UNKNOWN:
-                    return CameraVideoMode.UNKNOWN;
-            }
-        }
-        return CameraVideoMode.UNKNOWN;
+        return CAMERA_VIDEO_MODE.getReverse(value);
     }
 
     public static CameraVideoResolution getCameraVideoResolution(final @Nullable VideoResolutionFrameRateAndFov value) {
@@ -2754,454 +1774,214 @@ public class DronelinkAnzu {
         return CameraVideoResolution.UNKNOWN;
     }
 
+    private static final AnzuEnumMapping<CameraVideoResolution, VideoResolution> CAMERA_VIDEO_RESOLUTION = new AnzuEnumMapping<>(CameraVideoResolution.class, VideoResolution.class, VideoResolution.UNKNOWN, null)
+            .mapForward(CameraVideoResolution._640x480, VideoResolution.RESOLUTION_640x480)
+            .mapForward(CameraVideoResolution._640x512, VideoResolution.RESOLUTION_640x512)
+            .mapForward(CameraVideoResolution._864x480, VideoResolution.RESOLUTION_864x480)
+            .mapForward(CameraVideoResolution._1280x720, VideoResolution.RESOLUTION_1280x720)
+            .mapForward(CameraVideoResolution._1920x960, VideoResolution.RESOLUTION_1920x960)
+            .mapForward(CameraVideoResolution._1920x1080, VideoResolution.RESOLUTION_1920x1080)
+            .mapForward(CameraVideoResolution._2048x1080, VideoResolution.RESOLUTION_2048x1080)
+            .mapForward(CameraVideoResolution._2704x1520, VideoResolution.RESOLUTION_2704x1520)
+            .mapForward(CameraVideoResolution._2720x1530, VideoResolution.RESOLUTION_2720x1530)
+            .mapForward(CameraVideoResolution._3840x1572, VideoResolution.RESOLUTION_3840x1572)
+            .mapForward(CameraVideoResolution._3840x2160, VideoResolution.RESOLUTION_3840x2160)
+            .mapForward(CameraVideoResolution._4096x2160, VideoResolution.RESOLUTION_4096x2160)
+            .mapForward(CameraVideoResolution._4608x2160, VideoResolution.RESOLUTION_4608x2160)
+            .mapForward(CameraVideoResolution._4608x2592, VideoResolution.RESOLUTION_4608x2592)
+            .mapForward(CameraVideoResolution._5280x2160, VideoResolution.RESOLUTION_5280x2160)
+            .mapForward(CameraVideoResolution._5280x2972, VideoResolution.RESOLUTION_5280x2972)
+            .mapForward(CameraVideoResolution._5760x3240, VideoResolution.RESOLUTION_5760x3240)
+            .mapForward(CameraVideoResolution._6016x3200, VideoResolution.RESOLUTION_6016x3200)
+            .mapForward(CameraVideoResolution._336x256, VideoResolution.RESOLUTION_336x256)
+            .mapForward(CameraVideoResolution._5120x2880, VideoResolution.RESOLUTION_5120x2880)
+            .mapForward(CameraVideoResolution._2688x1512, VideoResolution.RESOLUTION_2688x1512)
+            .mapForward(CameraVideoResolution._640x360, VideoResolution.RESOLUTION_640x360)
+            .mapForward(CameraVideoResolution._4000x3000, VideoResolution.RESOLUTION_4000x3000)
+            .mapForward(CameraVideoResolution._2880x1620, VideoResolution.RESOLUTION_2880x1620)
+            .mapForward(CameraVideoResolution._2720x2040, VideoResolution.RESOLUTION_2720x2040P)
+            .mapForward(CameraVideoResolution._720x576, VideoResolution.RESOLUTION_720x576)
+            .mapForward(CameraVideoResolution._7680x4320, VideoResolution.RESOLUTION_7680x4320)
+            .mapForward(CameraVideoResolution._8192x4320, VideoResolution.RESOLUTION_8192x4320)
+            .mapForward(CameraVideoResolution._5576x2952, VideoResolution.RESOLUTION_5576X2952)
+            .mapForward(CameraVideoResolution._5248x2952, VideoResolution.RESOLUTION_5248X2952)
+            .mapForward(CameraVideoResolution._4096x3072, VideoResolution.RESOLUTION_4096x3072)
+            .mapForward(CameraVideoResolution._4096x2728, VideoResolution.RESOLUTION_4096x2728)
+            .mapForward(CameraVideoResolution._2688x2016, VideoResolution.RESOLUTION_2688x2016)
+            .mapForward(CameraVideoResolution._5472x3078, VideoResolution.RESOLUTION_5472x3078)
+            .mapForward(CameraVideoResolution._8192x3424, VideoResolution.RESOLUTION_8192X3424)
+            .mapForward(CameraVideoResolution._5120x2700, VideoResolution.RESOLUTION_5120x2700)
+            .mapForward(CameraVideoResolution._640x340, VideoResolution.RESOLUTION_640x340)
+            .mapForward(CameraVideoResolution._1280x1024, VideoResolution.RESOLUTION_1280x1024)
+            .mapForward(CameraVideoResolution._5472x3648, VideoResolution.RESOLUTION_5472X3648P)
+            .mapForward(CameraVideoResolution._1080x1920, VideoResolution.RESOLUTION_1080X1920P)
+            .mapForward(CameraVideoResolution._1512x2688, VideoResolution.RESOLUTION_1512X2688P)
+            .mapForward(CameraVideoResolution.MAX, VideoResolution.RESOLUTION_MAX)
+            .mapForward(CameraVideoResolution.UNKNOWN, VideoResolution.UNKNOWN);
+
     public static VideoResolution getCameraVideoResolution(final @Nullable CameraVideoResolution value) {
-        if (value != null) {
-            switch (value) {
-                case _640x480:
-                    return VideoResolution.RESOLUTION_640x480;
-                case _640x512:
-                    return VideoResolution.RESOLUTION_640x512;
-                case _864x480:
-                    return VideoResolution.RESOLUTION_864x480;
-                case _1280x720:
-                    return VideoResolution.RESOLUTION_1280x720;
-                case _1920x960:
-                    return VideoResolution.RESOLUTION_1920x960;
-                case _1920x1080:
-                    return VideoResolution.RESOLUTION_1920x1080;
-                case _2048x1080:
-                    return VideoResolution.RESOLUTION_2048x1080;
-                case _2704x1520:
-                    return VideoResolution.RESOLUTION_2704x1520;
-                case _2720x1530:
-                    return VideoResolution.RESOLUTION_2720x1530;
-                case _3840x1572:
-                    return VideoResolution.RESOLUTION_3840x1572;
-                case _3840x2160:
-                    return VideoResolution.RESOLUTION_3840x2160;
-                case _4096x2160:
-                    return VideoResolution.RESOLUTION_4096x2160;
-                case _4608x2160:
-                    return VideoResolution.RESOLUTION_4608x2160;
-                case _4608x2592:
-                    return VideoResolution.RESOLUTION_4608x2592;
-                case _5280x2160:
-                    return VideoResolution.RESOLUTION_5280x2160;
-                case _5280x2972:
-                    return VideoResolution.RESOLUTION_5280x2972;
-                case _5760x3240:
-                    return VideoResolution.RESOLUTION_5760x3240;
-                case _6016x3200:
-                    return VideoResolution.RESOLUTION_6016x3200;
-                case _336x256:
-                    return VideoResolution.RESOLUTION_336x256;
-                case _5120x2880:
-                    return VideoResolution.RESOLUTION_5120x2880;
-                case _2688x1512:
-                    return VideoResolution.RESOLUTION_2688x1512;
-                case _640x360:
-                    return VideoResolution.RESOLUTION_640x360;
-                case _4000x3000:
-                    return VideoResolution.RESOLUTION_4000x3000;
-                case _2880x1620:
-                    return VideoResolution.RESOLUTION_2880x1620;
-                case _2720x2040:
-                    return VideoResolution.RESOLUTION_2720x2040P;
-                case _720x576:
-                    return VideoResolution.RESOLUTION_720x576;
-                case _7680x4320:
-                    return VideoResolution.RESOLUTION_7680x4320;
-                case _8192x4320:
-                    return VideoResolution.RESOLUTION_8192x4320;
-                case _5576x2952:
-                    return VideoResolution.RESOLUTION_5576X2952;
-                case _5248x2952:
-                    return VideoResolution.RESOLUTION_5248X2952;
-                case _4096x3072:
-                    return VideoResolution.RESOLUTION_4096x3072;
-                case _4096x2728:
-                    return VideoResolution.RESOLUTION_4096x2728;
-                case _2688x2016:
-                    return VideoResolution.RESOLUTION_2688x2016;
-                case _5472x3078:
-                    return VideoResolution.RESOLUTION_5472x3078;
-                case _8192x3424:
-                    return VideoResolution.RESOLUTION_8192X3424;
-                case _5120x2700:
-                    return VideoResolution.RESOLUTION_5120x2700;
-                case _640x340:
-                    return VideoResolution.RESOLUTION_640x340;
-                case _1280x1024:
-                    return VideoResolution.RESOLUTION_1280x1024;
-                case _5472x3648:
-                    return VideoResolution.RESOLUTION_5472X3648P;
-                case _1080x1920:
-                    return VideoResolution.RESOLUTION_1080X1920P;
-                case _1512x2688:
-                    return VideoResolution.RESOLUTION_1512X2688P;
-                case MAX:
-                    return VideoResolution.RESOLUTION_MAX;
-                case UNKNOWN:
-                    return VideoResolution.UNKNOWN;
-            }
-        }
-        return VideoResolution.UNKNOWN;
+        return CAMERA_VIDEO_RESOLUTION.get(value);
     }
 
+    private static final AnzuEnumMapping<VideoStandard, CameraVideoStandard> CAMERA_VIDEO_STANDARD = new AnzuEnumMapping<>(VideoStandard.class, CameraVideoStandard.class, CameraVideoStandard.UNKNOWN, VideoStandard.UNKNOWN)
+            .map(VideoStandard.PAL, CameraVideoStandard.PAL)
+            .map(VideoStandard.NTSC, CameraVideoStandard.NTSC)
+            .map(VideoStandard.UNKNOWN, CameraVideoStandard.UNKNOWN);
+
     public static CameraVideoStandard getCameraVideoStandard(final @Nullable VideoStandard value) {
-        if (value != null) {
-            switch (value) {
-                case PAL:
-                    return CameraVideoStandard.PAL;
-                case NTSC:
-                    return CameraVideoStandard.NTSC;
-                case UNKNOWN:
-                    return CameraVideoStandard.UNKNOWN;
-            }
-        }
-        return CameraVideoStandard.UNKNOWN;
+        return CAMERA_VIDEO_STANDARD.get(value);
     }
 
     public static VideoStandard getCameraVideoStandard(final @Nullable CameraVideoStandard value) {
-        if (value != null) {
-            switch (value) {
-                case PAL:
-                    return VideoStandard.PAL;
-                case NTSC:
-                    return VideoStandard.NTSC;
-                case UNKNOWN:
-                    return VideoStandard.UNKNOWN;
-            }
-        }
-        return VideoStandard.UNKNOWN;
+        return CAMERA_VIDEO_STANDARD.getReverse(value);
     }
 
+    private static final AnzuEnumMapping<CameraWhiteBalanceMode, CameraWhiteBalancePreset> CAMERA_WHITE_BALANCE_PRESET = new AnzuEnumMapping<>(CameraWhiteBalanceMode.class, CameraWhiteBalancePreset.class, CameraWhiteBalancePreset.UNKNOWN, CameraWhiteBalanceMode.UNKNOWN)
+            .map(CameraWhiteBalanceMode.AUTO, CameraWhiteBalancePreset.AUTO)
+            .map(CameraWhiteBalanceMode.SUNNY, CameraWhiteBalancePreset.SUNNY)
+            .map(CameraWhiteBalanceMode.CLOUDY, CameraWhiteBalancePreset.CLOUDY)
+            .map(CameraWhiteBalanceMode.WATER_SURFACE, CameraWhiteBalancePreset.WATER_SURFACE)
+            .map(CameraWhiteBalanceMode.INDOOR_INCANDESCENT, CameraWhiteBalancePreset.INDOOR_INCANDESCENT)
+            .map(CameraWhiteBalanceMode.INDOOR_FLUORESCENT, CameraWhiteBalancePreset.INDOOR_FLUORESCENT)
+            .map(CameraWhiteBalanceMode.MANUAL, CameraWhiteBalancePreset.CUSTOM)
+            .map(CameraWhiteBalanceMode.NATURAL, CameraWhiteBalancePreset.NEUTRAL)
+            .map(CameraWhiteBalanceMode.UNDERWATER, CameraWhiteBalancePreset.UNDERWATER)
+            .map(CameraWhiteBalanceMode.UNKNOWN, CameraWhiteBalancePreset.UNKNOWN);
+
     public static CameraWhiteBalancePreset getCameraWhiteBalancePreset(final @Nullable CameraWhiteBalanceMode value) {
-        if (value != null) {
-            switch (value) {
-                case AUTO:
-                    return CameraWhiteBalancePreset.AUTO;
-                case SUNNY:
-                    return CameraWhiteBalancePreset.SUNNY;
-                case CLOUDY:
-                    return CameraWhiteBalancePreset.CLOUDY;
-                case WATER_SURFACE:
-                    return CameraWhiteBalancePreset.WATER_SURFACE;
-                case INDOOR_INCANDESCENT:
-                    return CameraWhiteBalancePreset.INDOOR_INCANDESCENT;
-                case INDOOR_FLUORESCENT:
-                    return CameraWhiteBalancePreset.INDOOR_FLUORESCENT;
-                case MANUAL:
-                    return CameraWhiteBalancePreset.CUSTOM;
-                case NATURAL:
-                    return CameraWhiteBalancePreset.NEUTRAL;
-                case UNDERWATER:
-                    return CameraWhiteBalancePreset.UNDERWATER;
-                case UNKNOWN:
-                    return CameraWhiteBalancePreset.UNKNOWN;
-            }
-        }
-        return CameraWhiteBalancePreset.UNKNOWN;
+        return CAMERA_WHITE_BALANCE_PRESET.get(value);
     }
 
     public static CameraWhiteBalanceMode getCameraWhiteBalancePreset(final @Nullable CameraWhiteBalancePreset value) {
-        if (value != null) {
-            switch (value) {
-                case AUTO:
-                    return CameraWhiteBalanceMode.AUTO;
-                case SUNNY:
-                    return CameraWhiteBalanceMode.SUNNY;
-                case CLOUDY:
-                    return CameraWhiteBalanceMode.CLOUDY;
-                case WATER_SURFACE:
-                    return CameraWhiteBalanceMode.WATER_SURFACE;
-                case INDOOR_INCANDESCENT:
-                    return CameraWhiteBalanceMode.INDOOR_INCANDESCENT;
-                case INDOOR_FLUORESCENT:
-                    return CameraWhiteBalanceMode.INDOOR_FLUORESCENT;
-                case CUSTOM:
-                    return CameraWhiteBalanceMode.MANUAL;
-                case NEUTRAL:
-                    return CameraWhiteBalanceMode.NATURAL;
-                case UNDERWATER:
-                    return CameraWhiteBalanceMode.UNDERWATER;
-                case UNKNOWN:
-                    return CameraWhiteBalanceMode.UNKNOWN;
-            }
-        }
-        return CameraWhiteBalanceMode.UNKNOWN;
+        return CAMERA_WHITE_BALANCE_PRESET.getReverse(value);
     }
 
+    private static final AnzuEnumMapping<CameraStorageLocation, dji.sdk.keyvalue.value.camera.CameraStorageLocation> CAMERA_STORAGE_LOCATION = new AnzuEnumMapping<>(CameraStorageLocation.class, dji.sdk.keyvalue.value.camera.CameraStorageLocation.class, dji.sdk.keyvalue.value.camera.CameraStorageLocation.UNKNOWN, CameraStorageLocation.UNKNOWN)
+            .map(CameraStorageLocation.SD_CARD, dji.sdk.keyvalue.value.camera.CameraStorageLocation.SDCARD)
+            .map(CameraStorageLocation.INTERNAL, dji.sdk.keyvalue.value.camera.CameraStorageLocation.INTERNAL)
+            .map(CameraStorageLocation.INTERNAL_SSD, dji.sdk.keyvalue.value.camera.CameraStorageLocation.INTERNAL_SSD)
+            .map(CameraStorageLocation.UNKNOWN, dji.sdk.keyvalue.value.camera.CameraStorageLocation.UNKNOWN);
+
     public static dji.sdk.keyvalue.value.camera.CameraStorageLocation getCameraStorageLocation(final @Nullable CameraStorageLocation value) {
-        if (value != null) {
-            switch (value) {
-                case SD_CARD:
-                    return dji.sdk.keyvalue.value.camera.CameraStorageLocation.SDCARD;
-                case INTERNAL:
-                    return dji.sdk.keyvalue.value.camera.CameraStorageLocation.INTERNAL;
-                case INTERNAL_SSD:
-                    return dji.sdk.keyvalue.value.camera.CameraStorageLocation.INTERNAL_SSD;
-                case UNKNOWN:
-                    return dji.sdk.keyvalue.value.camera.CameraStorageLocation.UNKNOWN;
-            }
-        }
-        return dji.sdk.keyvalue.value.camera.CameraStorageLocation.UNKNOWN;
+        return CAMERA_STORAGE_LOCATION.get(value);
     }
 
     public static CameraStorageLocation getCameraStorageLocation(final @Nullable dji.sdk.keyvalue.value.camera.CameraStorageLocation value) {
-        if (value != null) {
-            switch (value) {
-                case SDCARD:
-                    return CameraStorageLocation.SD_CARD;
-                case INTERNAL:
-                    return CameraStorageLocation.INTERNAL;
-                case INTERNAL_SSD:
-                    return CameraStorageLocation.INTERNAL_SSD;
-                case UNKNOWN:
-                    return CameraStorageLocation.UNKNOWN;
-            }
-        }
-        return CameraStorageLocation.UNKNOWN;
+        return CAMERA_STORAGE_LOCATION.getReverse(value);
     }
 
+    private static final AnzuEnumMapping<DCFCameraType, CameraLensType> CAMERA_LENS_TYPE = new AnzuEnumMapping<>(DCFCameraType.class, CameraLensType.class, CameraLensType.UNKNOWN, null)
+            .mapForward(DCFCameraType.INFRARED, CameraLensType.THERMAL)
+            .mapForward(DCFCameraType.ZOOM, CameraLensType.ZOOM)
+            .mapForward(DCFCameraType.WIDE, CameraLensType.WIDE)
+            .mapForward(DCFCameraType.SUPER_RESOLUTION, CameraLensType.UNKNOWN)
+            .mapForward(DCFCameraType.SCREEN, CameraLensType.UNKNOWN)
+            .mapForward(DCFCameraType.VISIBLE, CameraLensType.VISIBLE)
+            .mapForward(DCFCameraType.UNKNOWN, CameraLensType.UNKNOWN);
+
     public static CameraLensType getCameraLensType(final @Nullable DCFCameraType value) {
-        if (value != null) {
-            switch (value) {
-                case INFRARED:
-                    return CameraLensType.THERMAL;
-                case ZOOM:
-                    return CameraLensType.ZOOM;
-                case WIDE:
-                    return CameraLensType.WIDE;
-                case SUPER_RESOLUTION:
-                    return CameraLensType.UNKNOWN;
-                case SCREEN:
-                    return CameraLensType.UNKNOWN;
-                case VISIBLE:
-                    return CameraLensType.VISIBLE;
-                case UNKNOWN:
-                    return CameraLensType.UNKNOWN;
-            }
-        }
-        return CameraLensType.UNKNOWN;
-    }
+        return CAMERA_LENS_TYPE.get(value);
+    }
+
+    private static final AnzuEnumMapping<CameraVideoStreamSourceType, dji.sdk.keyvalue.value.common.CameraLensType> CAMERA_LENS_TYPE_FROM_CAMERA_VIDEO_STREAM_SOURCE_TYPE = new AnzuEnumMapping<>(CameraVideoStreamSourceType.class, dji.sdk.keyvalue.value.common.CameraLensType.class, dji.sdk.keyvalue.value.common.CameraLensType.UNKNOWN, null)
+            .mapForward(CameraVideoStreamSourceType.DEFAULT_CAMERA, dji.sdk.keyvalue.value.common.CameraLensType.CAMERA_LENS_DEFAULT)
+            .mapForward(CameraVideoStreamSourceType.WIDE_CAMERA, dji.sdk.keyvalue.value.common.CameraLensType.CAMERA_LENS_WIDE)
+            .mapForward(CameraVideoStreamSourceType.ZOOM_CAMERA, dji.sdk.keyvalue.value.common.CameraLensType.CAMERA_LENS_ZOOM)
+            .mapForward(CameraVideoStreamSourceType.INFRARED_CAMERA, dji.sdk.keyvalue.value.common.CameraLensType.CAMERA_LENS_THERMAL)
+            .mapForward(CameraVideoStreamSourceType.NDVI_CAMERA, dji.sdk.keyvalue.value.common.CameraLensType.CAMERA_LENS_MS_NDVI)
+            .mapForward(CameraVideoStreamSourceType.VISION_CAMERA, dji.sdk.keyvalue.value.common.CameraLensType.CAMERA_LENS_RGB)
+            .mapForward(CameraVideoStreamSourceType.MS_G_CAMERA, dji.sdk.keyvalue.value.common.CameraLensType.CAMERA_LENS_MS_G)
+            .mapForward(CameraVideoStreamSourceType.MS_R_CAMERA, dji.sdk.keyvalue.value.common.CameraLensType.CAMERA_LENS_MS_R)
+            .mapForward(CameraVideoStreamSourceType.MS_RE_CAMERA, dji.sdk.keyvalue.value.common.CameraLensType.CAMERA_LENS_MS_RE)
+            .mapForward(CameraVideoStreamSourceType.MS_NIR_CAMERA, dji.sdk.keyvalue.value.common.CameraLensType.CAMERA_LENS_MS_NIR)
+            .mapForward(CameraVideoStreamSourceType.UNKNOWN, dji.sdk.keyvalue.value.common.CameraLensType.UNKNOWN);
 
     public static dji.sdk.keyvalue.value.common.CameraLensType getCameraLensType(final @Nullable CameraVideoStreamSourceType value) {
-        if (value != null) {
-            switch (value) {
-                case DEFAULT_CAMERA:
-                    return dji.sdk.keyvalue.value.common.CameraLensType.CAMERA_LENS_DEFAULT;
-                case WIDE_CAMERA:
-                    return dji.sdk.keyvalue.value.common.CameraLensType.CAMERA_LENS_WIDE;
-                case ZOOM_CAMERA:
-                    return dji.sdk.keyvalue.value.common.CameraLensType.CAMERA_LENS_ZOOM;
-                case INFRARED_CAMERA:
-                    return dji.sdk.keyvalue.value.common.CameraLensType.CAMERA_LENS_THERMAL;
-                case NDVI_CAMERA:
-                    return dji.sdk.keyvalue.value.common.CameraLensType.CAMERA_LENS_MS_NDVI;
-                case VISION_CAMERA:
-                    return dji.sdk.keyvalue.value.common.CameraLensType.CAMERA_LENS_RGB;
-                case MS_G_CAMERA:
-                    return dji.sdk.keyvalue.value.common.CameraLensType.CAMERA_LENS_MS_G;
-                case MS_R_CAMERA:
-                    return dji.sdk.keyvalue.value.common.CameraLensType.CAMERA_LENS_MS_R;
-                case MS_RE_CAMERA:
-                    return dji.sdk.keyvalue.value.common.CameraLensType.CAMERA_LENS_MS_RE;
-                case MS_NIR_CAMERA:
-                    return dji.sdk.keyvalue.value.common.CameraLensType.CAMERA_LENS_MS_NIR;
-                case UNKNOWN:
-                    return dji.sdk.keyvalue.value.common.CameraLensType.UNKNOWN;
-            }
-        }
-        return dji.sdk.keyvalue.value.common.CameraLensType.UNKNOWN;
-    }
+        return CAMERA_LENS_TYPE_FROM_CAMERA_VIDEO_STREAM_SOURCE_TYPE.get(value);
+    }
+
+    private static final AnzuEnumMapping<CameraVideoStreamSourceType, CameraVideoStreamSource> CAMERA_VIDEO_STREAM_SOURCE = new AnzuEnumMapping<>(CameraVideoStreamSourceType.class, CameraVideoStreamSource.class, CameraVideoStreamSource.UNKNOWN, CameraVideoStreamSourceType.UNKNOWN)
+            .map(CameraVideoStreamSourceType.DEFAULT_CAMERA, CameraVideoStreamSource.DEFAULT)
+            .map(CameraVideoStreamSourceType.WIDE_CAMERA, CameraVideoStreamSource.WIDE)
+            .map(CameraVideoStreamSourceType.ZOOM_CAMERA, CameraVideoStreamSource.ZOOM)
+            .map(CameraVideoStreamSourceType.INFRARED_CAMERA, CameraVideoStreamSource.THERMAL)
+            .map(CameraVideoStreamSourceType.NDVI_CAMERA, CameraVideoStreamSource.NDVI)
+            .mapForward(CameraVideoStreamSourceType.VISION_CAMERA, CameraVideoStreamSource.VISIBLE)
+            .map(CameraVideoStreamSourceType.MS_G_CAMERA, CameraVideoStreamSource.MS_G)
+            .map(CameraVideoStreamSourceType.MS_R_CAMERA, CameraVideoStreamSource.MS_R)
+            .map(CameraVideoStreamSourceType.MS_RE_CAMERA, CameraVideoStreamSource.MS_RE)
+            .map(CameraVideoStreamSourceType.MS_NIR_CAMERA, CameraVideoStreamSource.MS_NIR)
+            .map(CameraVideoStreamSourceType.UNKNOWN, CameraVideoStreamSource.UNKNOWN)
+            .mapForward(CameraVideoStreamSourceType.RGB_CAMERA, CameraVideoStreamSource.UNKNOWN)
+            .mapReverse(CameraVideoStreamSource.VISIBLE, CameraVideoStreamSourceType.RGB_CAMERA);
 
     public static CameraVideoStreamSource getCameraVideoStreamSource(final @Nullable CameraVideoStreamSourceType value) {
-        if (value != null) {
-            switch (value) {
-                case DEFAULT_CAMERA:
-                    return CameraVideoStreamSource.DEFAULT;
-                case WIDE_CAMERA:
-                    return CameraVideoStreamSource.WIDE;
-                case ZOOM_CAMERA:
-                    return CameraVideoStreamSource.ZOOM;
-                case INFRARED_CAMERA:
-                    return CameraVideoStreamSource.THERMAL;
-                case NDVI_CAMERA:
-                    return CameraVideoStreamSource.NDVI;
-                case VISION_CAMERA:
-                    return CameraVideoStreamSource.VISIBLE;
-                case MS_G_CAMERA:
-                    return CameraVideoStreamSource.MS_G;
-                case MS_R_CAMERA:
-                    return CameraVideoStreamSource.MS_R;
-                case MS_RE_CAMERA:
-                    return CameraVideoStreamSource.MS_RE;
-                case MS_NIR_CAMERA:
-                    return CameraVideoStreamSource.MS_NIR;
-                case UNKNOWN:
-                    return CameraVideoStreamSource.UNKNOWN;
-                case RGB_CAMERA:
-                    break;
-            }
-        }
-        return CameraVideoStreamSource.UNKNOWN;
+        return CAMERA_VIDEO_STREAM_SOURCE.get(value);
     }
 
     public static CameraVideoStreamSourceType getCameraVideoStreamSource(final @Nullable CameraVideoStreamSource value) {
-        if (value != null) {
-            switch (value) {
-                case DEFAULT:
-                    return CameraVideoStreamSourceType.DEFAULT_CAMERA;
-                case WIDE:
-                    return CameraVideoStreamSourceType.WIDE_CAMERA;
-                case ZOOM:
-                    return CameraVideoStreamSourceType.ZOOM_CAMERA;
-                case THERMAL:
-                    return CameraVideoStreamSourceType.INFRARED_CAMERA;
-                case NDVI:
-                    return CameraVideoStreamSourceType.NDVI_CAMERA;
-                case VISIBLE:
-                    return CameraVideoStreamSourceType.RGB_CAMERA;
-                case MS_G:
-                    return CameraVideoStreamSourceType.MS_G_CAMERA;
-                case MS_R:
-                    return CameraVideoStreamSourceType.MS_R_CAMERA;
-                case MS_RE:
-                    return CameraVideoStreamSourceType.MS_RE_CAMERA;
-                case MS_NIR:
-                    return CameraVideoStreamSourceType.MS_NIR_CAMERA;
-                case UNKNOWN:
-                    return CameraVideoStreamSourceType.UNKNOWN;
-            }
-        }
-        return CameraVideoStreamSourceType.UNKNOWN;
+        return CAMERA_VIDEO_STREAM_SOURCE.getReverse(value);
     }
 
+    private static final AnzuEnumMapping<ObstacleAvoidanceType, DroneObstacleAvoidanceMode> DRONE_OBSTACLE_AVOIDANCE_MODE = new AnzuEnumMapping<>(ObstacleAvoidanceType.class, DroneObstacleAvoidanceMode.class, DroneObstacleAvoidanceMode.OFF, ObstacleAvoidanceType.CLOSE)
+            .map(ObstacleAvoidanceType.BRAKE, DroneObstacleAvoidanceMode.BRAKE)
+            .map(ObstacleAvoidanceType.BYPASS, DroneObstacleAvoidanceMode.AVOID)
+            .map(ObstacleAvoidanceType.CLOSE, DroneObstacleAvoidanceMode.OFF);
+
     public static DroneObstacleAvoidanceMode getDroneObstacleAvoidanceMode(final @Nullable ObstacleAvoidanceType value) {
-        if (value != null) {
-            switch (value) {
-                case BRAKE:
-                    return DroneObstacleAvoidanceMode.BRAKE;
-                case BYPASS:
-                    return DroneObstacleAvoidanceMode.AVOID;
-                case CLOSE:
-                    return DroneObstacleAvoidanceMode.OFF;
-            }
-        }
-        return DroneObstacleAvoidanceMode.OFF;
+        return DRONE_OBSTACLE_AVOIDANCE_MODE.get(value);
     }
 
     public static ObstacleAvoidanceType getDroneObstacleAvoidanceMode(final @Nullable DroneObstacleAvoidanceMode value) {
-        if (value != null) {
-            switch (value) {
-                case BRAKE:
-                    return ObstacleAvoidanceType.BRAKE;
-                case AVOID:
-                    return ObstacleAvoidanceType.BYPASS;
-                case OFF:
-                    return ObstacleAvoidanceType.CLOSE;
-            }
-        }
-        return ObstacleAvoidanceType.CLOSE;
+        return DRONE_OBSTACLE_AVOIDANCE_MODE.getReverse(value);
     }
 
+    private static final AnzuEnumMapping<DroneObstacleAvoidanceDirection, PerceptionDirection> DRONE_OBSTACLE_AVOIDANCE_DIRECTION = new AnzuEnumMapping<>(DroneObstacleAvoidanceDirection.class, PerceptionDirection.class, PerceptionDirection.HORIZONTAL, null)
+            .mapForward(DroneObstacleAvoidanceDirection.HORIZONTAL, PerceptionDirection.HORIZONTAL)
+            .mapForward(DroneObstacleAvoidanceDirection.UPWARD, PerceptionDirection.UPWARD)
+            .mapForward(DroneObstacleAvoidanceDirection.DOWNWARD, PerceptionDirection.DOWNWARD);
+
     public static PerceptionDirection getDroneObstacleAvoidanceDirection(final @Nullable DroneObstacleAvoidanceDirection value) {
-        if (value != null) {
-            switch (value) {
-                case HORIZONTAL:
-                    return PerceptionDirection.HORIZONTAL;
-                case UPWARD:
-                    return PerceptionDirection.UPWARD;
-                case DOWNWARD:
-                    return PerceptionDirection.DOWNWARD;
-            }
-        }
-        return PerceptionDirection.HORIZONTAL;
+        return DRONE_OBSTACLE_AVOIDANCE_DIRECTION.get(value);
     }
 
+    private static final AnzuEnumMapping<DroneConnectionFailSafeBehavior, FailsafeAction> DRONE_CONNECTION_FAIL_SAFE_BEHAVIOR = new AnzuEnumMapping<>(DroneConnectionFailSafeBehavior.class, FailsafeAction.class, FailsafeAction.UNKNOWN, null)
+            .mapForward(DroneConnectionFailSafeBehavior.HOVER, FailsafeAction.HOVER)
+            .mapForward(DroneConnectionFailSafeBehavior.RETURN_HOME, FailsafeAction.GOHOME)
+            .mapForward(DroneConnectionFailSafeBehavior.AUTO_LAND, FailsafeAction.LANDING)
+            .mapForward(DroneConnectionFailSafeBehavior.UNKNOWN, FailsafeAction.UNKNOWN);
+
     public static FailsafeAction getDroneConnectionFailSafeBehavior(final @Nullable DroneConnectionFailSafeBehavior value) {
-        if (value != null) {
-            switch (value) {
-                case HOVER:
-                    return FailsafeAction.HOVER;
-                case RETURN_HOME:
-                    return FailsafeAction.GOHOME;
-                case AUTO_LAND:
-                    return FailsafeAction.LANDING;
-                case UNKNOWN:
-                    return FailsafeAction.UNKNOWN;
-            }
-        }
-        return FailsafeAction.UNKNOWN;
+        return DRONE_CONNECTION_FAIL_SAFE_BEHAVIOR.get(value);
     }
 
+    private static final AnzuEnumMapping<DroneAuxiliaryLightMode, AuxiliaryLightMode> DRONE_AUXILIARY_LIGHT_MODE = new AnzuEnumMapping<>(DroneAuxiliaryLightMode.class, AuxiliaryLightMode.class, AuxiliaryLightMode.UNKNOWN, DroneAuxiliaryLightMode.UNKNOWN)
+            .map(DroneAuxiliaryLightMode.AUTO, AuxiliaryLightMode.AUTO)
+            .map(DroneAuxiliaryLightMode.ON, AuxiliaryLightMode.ON)
+            .map(DroneAuxiliaryLightMode.OFF, AuxiliaryLightMode.OFF)
+            .map(DroneAuxiliaryLightMode.BEACON, AuxiliaryLightMode.BEACON)
+            .map(DroneAuxiliaryLightMode.UNKNOWN, AuxiliaryLightMode.UNKNOWN);
+
     public static AuxiliaryLightMode getDroneAuxiliaryLightMode(final @Nullable DroneAuxiliaryLightMode value) {
-        if (value != null) {
-            switch (value) {
-                case AUTO:
-                    return AuxiliaryLightMode.AUTO;
-                case ON:
-                    return AuxiliaryLightMode.ON;
-                case OFF:
-                    return AuxiliaryLightMode.OFF;
-                case BEACON:
-                    return AuxiliaryLightMode.BEACON;
-                case UNKNOWN:
-                    return AuxiliaryLightMode.UNKNOWN;
-            }
-        }
-        return AuxiliaryLightMode.UNKNOWN;
+        return DRONE_AUXILIARY_LIGHT_MODE.get(value);
     }
 
     public static DroneAuxiliaryLightMode getDroneAuxiliaryLightMode(final @Nullable AuxiliaryLightMode value) {
-        if (value != null) {
-            switch (value) {
-                case AUTO:
-                    return DroneAuxiliaryLightMode.AUTO;
-                case ON:
-                    return DroneAuxiliaryLightMode.ON;
-                case OFF:
-                    return DroneAuxiliaryLightMode.OFF;
-                case BEACON:
-                    return DroneAuxiliaryLightMode.BEACON;
-                case UNKNOWN:
-                    return DroneAuxiliaryLightMode.UNKNOWN;
-            }
-        }
-        return DroneAuxiliaryLightMode.UNKNOWN;
+        return DRONE_AUXILIARY_LIGHT_MODE.getReverse(value);
     }
 
+    private static final AnzuEnumMapping<dji.sdk.keyvalue.value.gimbal.GimbalMode, GimbalMode> GIMBAL_MODE = new AnzuEnumMapping<>(dji.sdk.keyvalue.value.gimbal.GimbalMode.class, GimbalMode.class, GimbalMode.UNKNOWN, dji.sdk.keyvalue.value.gimbal.GimbalMode.UNKNOWN)
+            .map(dji.sdk.keyvalue.value.gimbal.GimbalMode.FREE, GimbalMode.FREE)
+            .map(dji.sdk.keyvalue.value.gimbal.GimbalMode.FPV, GimbalMode.FPV)
+            .map(dji.sdk.keyvalue.value.gimbal.GimbalMode.YAW_FOLLOW, GimbalMode.YAW_FOLLOW)
+            .map(dji.sdk.keyvalue.value.gimbal.GimbalMode.UNKNOWN, GimbalMode.UNKNOWN);
+
     public static GimbalMode getGimbalMode(final @Nullable dji.sdk.keyvalue.value.gimbal.GimbalMode value) {
-        if (value != null) {
-            switch (value) {
-                case FREE:
-                    return GimbalMode.FREE;
-                case FPV:
-                    return GimbalMode.FPV;
-                case YAW_FOLLOW:
-                    return GimbalMode.YAW_FOLLOW;
-                case UNKNOWN:
-                    return GimbalMode.UNKNOWN;
-            }
-        }
-        return GimbalMode.UNKNOWN;
+        return GIMBAL_MODE.get(value);
     }
 
     public static dji.sdk.keyvalue.value.gimbal.GimbalMode getGimbalMode(final @Nullable GimbalMode value) {
-        if (value != null) {
-            switch (value) {
-                case FREE:
-                    return dji.sdk.keyvalue.value.gimbal.GimbalMode.FREE;
-                case FPV:
-                    return dji.sdk.keyvalue.value.gimbal.GimbalMode.FPV;
-                case YAW_FOLLOW:
-                    return dji.sdk.keyvalue.value.gimbal.GimbalMode.YAW_FOLLOW;
-                case UNKNOWN:
-                    return dji.sdk.keyvalue.value.gimbal.GimbalMode.UNKNOWN;
-            }
-        }
-        return dji.sdk.keyvalue.value.gimbal.GimbalMode.UNKNOWN;
+        return GIMBAL_MODE.getReverse(value);
     }
 
     public static String getString(final Context context, final @Nullable dji.sdk.keyvalue.value.common.CameraLensType value) {
@@ -3421,123 +2201,57 @@ public class DronelinkAnzu {
         return context.getString(R.string.DronelinkAnzu_FlightControlAuthorityChangeReason_UNKNOWN);
     }
 
+    private static final AnzuEnumMapping<dji.sdk.keyvalue.value.rtkbasestation.RTKReferenceStationSource, RTKReferenceStationSource> RTK_REFERENCE_STATION_SOURCE = new AnzuEnumMapping<>(dji.sdk.keyvalue.value.rtkbasestation.RTKReferenceStationSource.class, RTKReferenceStationSource.class, RTKReferenceStationSource.UNKNOWN, dji.sdk.keyvalue.value.rtkbasestation.RTKReferenceStationSource.UNKNOWN)
+            .map(dji.sdk.keyvalue.value.rtkbasestation.RTKReferenceStationSource.NONE, RTKReferenceStationSource.NONE)
+            .map(dji.sdk.keyvalue.value.rtkbasestation.RTKReferenceStationSource.QX_NETWORK_SERVICE, RTKReferenceStationSource.QX_NETWORK_SERVICE)
+            .map(dji.sdk.keyvalue.value.rtkbasestation.RTKReferenceStationSource.BASE_STATION, RTKReferenceStationSource.BASE_STATION)
+            .map(dji.sdk.keyvalue.value.rtkbasestation.RTKReferenceStationSource.DPS, RTKReferenceStationSource.DPS)
+            .map(dji.sdk.keyvalue.value.rtkbasestation.RTKReferenceStationSource.CUSTOM_NETWORK_SERVICE, RTKReferenceStationSource.CUSTOM_NETWORK_SERVICE)
+            .map(dji.sdk.keyvalue.value.rtkbasestation.RTKReferenceStationSource.NTRIP_NETWORK_SERVICE, RTKReferenceStationSource.NTRIP_NETWORK_SERVICE)
+            .map(dji.sdk.keyvalue.value.rtkbasestation.RTKReferenceStationSource.DOCK_BASE, RTKReferenceStationSource.DOCK_BASE)
+            .map(dji.sdk.keyvalue.value.rtkbasestation.RTKReferenceStationSource.RSV_RTK_SERVICE2, RTKReferenceStationSource.RSV_RTK_SERVICE2)
+            .map(dji.sdk.keyvalue.value.rtkbasestation.RTKReferenceStationSource.RSV_RTK_SERVICE3, RTKReferenceStationSource.RSV_RTK_SERVICE3)
+            .map(dji.sdk.keyvalue.value.rtkbasestation.RTKReferenceStationSource.UNKNOWN, RTKReferenceStationSource.UNKNOWN);
+
     public static RTKReferenceStationSource getRTKReferenceStationSource(final @Nullable dji.sdk.keyvalue.value.rtkbasestation.RTKReferenceStationSource value) {
-        if (value != null) {
-            switch (value) {
-                case NONE:
-                    return RTKReferenceStationSource.NONE;
-                case QX_NETWORK_SERVICE:
-                    return RTKReferenceStationSource.QX_NETWORK_SERVICE;
-                case BASE_STATION:
-                    return RTKReferenceStationSource.BASE_STATION;
-                case DPS:
-                    return RTKReferenceStationSource.DPS;
-                case CUSTOM_NETWORK_SERVICE:
-                    return RTKReferenceStationSource.CUSTOM_NETWORK_SERVICE;
-                case NTRIP_NETWORK_SERVICE:
-                    return RTKReferenceStationSource.NTRIP_NETWORK_SERVICE;
-                case DOCK_BASE:
-                    return RTKReferenceStationSource.DOCK_BASE;
-                case RSV_RTK_SERVICE2:
-                    return RTKReferenceStationSource.RSV_RTK_SERVICE2;
-                case RSV_RTK_SERVICE3:
-                    return RTKReferenceStationSource.RSV_RTK_SERVICE3;
-                case UNKNOWN:
-                    return RTKReferenceStationSource.UNKNOWN;
-            }
-        }
-        return RTKReferenceStationSource.UNKNOWN;
+        return RTK_REFERENCE_STATION_SOURCE.get(value);
     }
 
     public static dji.sdk.keyvalue.value.rtkbasestation.RTKReferenceStationSource getRTKReferenceStationSource(final @Nullable RTKReferenceStationSource value) {
-        if (value != null) {
-            switch (value) {
-                case NONE:
-                    return dji.sdk.keyvalue.value.rtkbasestation.RTKReferenceStationSource.NONE;
-                case QX_NETWORK_SERVICE:
-                    return dji.sdk.keyvalue.value.rtkbasestation.RTKReferenceStationSource.QX_NETWORK_SERVICE;
-                case BASE_STATION:
-                    return dji.sdk.keyvalue.value.rtkbasestation.RTKReferenceStationSource.BASE_STATION;
-                case DPS:
-                    return dji.sdk.keyvalue.value.rtkbasestation.RTKReferenceStationSource.DPS;
-                case CUSTOM_NETWORK_SERVICE:
-                    return dji.sdk.keyvalue.value.rtkbasestation.RTKReferenceStationSource.CUSTOM_NETWORK_SERVICE;
-                case NTRIP_NETWORK_SERVICE:
-                    return dji.sdk.keyvalue.value.rtkbasestation.RTKReferenceStationSource.NTRIP_NETWORK_SERVICE;
-                case DOCK_BASE:
-                    return dji.sdk.keyvalue.value.rtkbasestation.RTKReferenceStationSource.DOCK_BASE;
-                case RSV_RTK_SERVICE2:
-                    return dji.sdk.keyvalue.value.rtkbasestation.RTKReferenceStationSource.RSV_RTK_SERVICE2;
-                case RSV_RTK_SERVICE3:
-                    return dji.sdk.keyvalue.value.rtkbasestation.RTKReferenceStationSource.RSV_RTK_SERVICE3;
-                case UNKNOWN:
-                    return dji.sdk.keyvalue.value.rtkbasestation.RTKReferenceStationSource.UNKNOWN;
-            }
-        }
-        return dji.sdk.keyvalue.value.rtkbasestation.RTKReferenceStationSource.UNKNOWN;
-    }
+        return RTK_REFERENCE_STATION_SOURCE.getReverse(value);
+    }
+    private static final AnzuEnumMapping<dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState, RTKServiceState> RTK_SERVICE_STATE = new AnzuEnumMapping<>(dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState.class, RTKServiceState.class, RTKServiceState.UNKNOWN, null)
+            .mapForward(dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState.RTCM_CONNECTED, RTKServiceState.RTCM_CONNECTED)
+            .mapForward(dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState.RTCM_NORMAL, RTKServiceState.RTCM_NORMAL)
+            .mapForward(dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState.RTCM_USER_HAS_ACTIVATE, RTKServiceState.RTCM_USER_HAS_ACTIVATE)
+            .mapForward(dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState.RTCM_USER_ACCOUNT_EXPIRES_SOON, RTKServiceState.RTCM_USER_ACCOUNT_EXPIRES_SOON)
+            .mapForward(dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState.RTCM_USE_DEFAULT_MOUNT_POINT, RTKServiceState.RTCM_USE_DEFAULT_MOUNT_POINT)
+            .mapForward(dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState.RTCM_AUTH_FAILED, RTKServiceState.RTCM_AUTH_FAILED)
+            .mapForward(dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState.RTCM_USER_NOT_BOUNDED, RTKServiceState.RTCM_USER_NOT_BOUNDED)
+            .mapForward(dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState.RTCM_USER_NOT_ACTIVATED, RTKServiceState.RTCM_USER_NOT_ACTIVATED)
+            .mapForward(dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState.ACCOUNT_EXPIRED, RTKServiceState.ACCOUNT_EXPIRED)
+            .mapForward(dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState.RTCM_ILLEGAL_UTC_TIME, RTKServiceState.RTCM_ILLEGAL_UTC_TIME)
+            .mapForward(dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState.RTCM_SET_COORDINATE_FAILURE, RTKServiceState.RTCM_SET_COORDINATE_FAILURE)
+            .mapForward(dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState.RTCM_CONNECTING, RTKServiceState.RTCM_CONNECTING)
+            .mapForward(dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState.RTCM_ACTIVATED_FAILED, RTKServiceState.RTCM_ACTIVATED_FAILED)
+            .mapForward(dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState.DISABLED, RTKServiceState.DISABLED)
+            .mapForward(dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState.AIRCRAFT_DISCONNECTED, RTKServiceState.AIRCRAFT_DISCONNECTED)
+            .mapForward(dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState.CONNECTING, RTKServiceState.CONNECTING)
+            .mapForward(dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState.TRANSMITTING, RTKServiceState.TRANSMITTING)
+            .mapForward(dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState.LOGIN_FAILURE, RTKServiceState.LOGIN_FAILURE)
+            .mapForward(dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState.INVALID_REQUEST, RTKServiceState.INVALID_REQUEST)
+            .mapForward(dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState.ACCOUNT_ERROR, RTKServiceState.ACCOUNT_ERROR)
+            .mapForward(dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState.NETWORK_NOT_REACHABLE, RTKServiceState.NETWORK_NOT_REACHABLE)
+            .mapForward(dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState.SERVER_NOT_REACHABLE, RTKServiceState.SERVER_NOT_REACHABLE)
+            .mapForward(dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState.SERVICE_SUSPENSION, RTKServiceState.SERVICE_SUSPENSION)
+            .mapForward(dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState.DISCONNECTED, RTKServiceState.DISCONNECTED)
+            .mapForward(dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState.READY, RTKServiceState.READY)
+            .mapForward(dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState.SEND_GGA_NO_VALID_BASE, RTKServiceState.SEND_GGA_NO_VALID_BASE)
+            .mapForward(dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState.RTK_START_PROCESSING, RTKServiceState.RTK_START_PROCESSING)
+            .mapForward(dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState.UNKNOWN, RTKServiceState.UNKNOWN);
+
     public static RTKServiceState getRTKServiceState(final @Nullable dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState value) {
-        if (value != null) {
-            switch (value) {
-                case RTCM_CONNECTED:
-                    return RTKServiceState.RTCM_CONNECTED;
-                case RTCM_NORMAL:
-                    return RTKServiceState.RTCM_NORMAL;
-                case RTCM_USER_HAS_ACTIVATE:
-                    return RTKServiceState.RTCM_USER_HAS_ACTIVATE;
-                case RTCM_USER_ACCOUNT_EXPIRES_SOON:
-                    return RTKServiceState.RTCM_USER_ACCOUNT_EXPIRES_SOON;
-                case RTCM_USE_DEFAULT_MOUNT_POINT:
-                    return RTKServiceState.RTCM_USE_DEFAULT_MOUNT_POINT;
-                case RTCM_AUTH_FAILED:
-                    return RTKServiceState.RTCM_AUTH_FAILED;
-                case RTCM_USER_NOT_BOUNDED:
-                    return RTKServiceState.RTCM_USER_NOT_BOUNDED;
-                case RTCM_USER_NOT_ACTIVATED:
-                    return RTKServiceState.RTCM_USER_NOT_ACTIVATED;
-                case ACCOUNT_EXPIRED:
-                    return RTKServiceState.ACCOUNT_EXPIRED;
-                case RTCM_ILLEGAL_UTC_TIME:
-                    return RTKServiceState.RTCM_ILLEGAL_UTC_TIME;
-                case RTCM_SET_COORDINATE_FAILURE:
-                    return RTKServiceState.RTCM_SET_COORDINATE_FAILURE;
-                case RTCM_CONNECTING:
-                    return RTKServiceState.RTCM_CONNECTING;
-                case RTCM_ACTIVATED_FAILED:
-                    return RTKServiceState.RTCM_ACTIVATED_FAILED;
-                case DISABLED:
-                    return RTKServiceState.DISABLED;
-                case AIRCRAFT_DISCONNECTED:
-                    return RTKServiceState.AIRCRAFT_DISCONNECTED;
-                case CONNECTING:
-                    return RTKServiceState.CONNECTING;
-                case TRANSMITTING:
-                    return RTKServiceState.TRANSMITTING;
-                case LOGIN_FAILURE:
-                    return RTKServiceState.LOGIN_FAILURE;
-                case INVALID_REQUEST:
-                    return RTKServiceState.INVALID_REQUEST;
-                case ACCOUNT_ERROR:
-                    return RTKServiceState.ACCOUNT_ERROR;
-                case NETWORK_NOT_REACHABLE:
-                    return RTKServiceState.NETWORK_NOT_REACHABLE;
-                case SERVER_NOT_REACHABLE:
-                    return RTKServiceState.SERVER_NOT_REACHABLE;
-                case SERVICE_SUSPENSION:
-                    return RTKServiceState.SERVICE_SUSPENSION;
-                case DISCONNECTED:
-                    return RTKServiceState.DISCONNECTED;
-                case READY:
-                    return RTKServiceState.READY;
-                case SEND_GGA_NO_VALID_BASE:
-                    return RTKServiceState.SEND_GGA_NO_VALID_BASE;
-                case RTK_START_PROCESSING:
-                    return RTKServiceState.RTK_START_PROCESSING;
-                case UNKNOWN:
-                    return RTKServiceState.UNKNOWN;
-            }
-        }
-        return RTKServiceState.UNKNOWN;
+        return RTK_SERVICE_STATE.get(value);
     }
 
     public static Message getMessage(final Context context, final @Nullable UASRemoteIDStatus value) {
@@ -3573,4 +2287,55 @@ public class DronelinkAnzu {
         }
         return null;
     }
-}
\ No newline at end of file
+
+    private static final AnzuEnumMapping<?, ?>[] ENUM_MAPPINGS = {
+            OCU_SYNC_CHANNEL_SELECTION_MODE,
+            OCU_SYNC_FREQUENCY_BAND,
+            CAMERA_MODE,
+            CAMERA_MODE_FROM_CAMERA_FLAT_MODE,
+            CAMERA_APERTURE,
+            CAMERA_COLOR,
+            CAMERA_DISPLAY_MODE,
+            CAMERA_EXPOSURE_COMPENSATION,
+            CAMERA_EXPOSURE_MODE,
+            CAMERA_FILE_INDEX_MODE,
+            CAMERA_FOCUS_MODE,
+            CAMERA_ISO,
+            CAMERA_METERING_MODE,
+            CAMERA_PHOTO_BURST_COUNT,
+            CAMERA_PHOTO_AEB_COUNT,
+            CAMERA_PHOTO_ASPECT_RATIO,
+            CAMERA_PHOTO_MODE,
+            CAMERA_PHOTO_MODE_FROM_CAMERA_FLAT_MODE,
+            CAMERA_PHOTO_FILE_FORMAT,
+            CAMERA_SHUTTER_SPEED,
+            CAMERA_VIDEO_FILE_COMPRESSION_STANDARD,
+            CAMERA_VIDEO_FILE_FORMAT,
+            CAMERA_VIDEO_FIELD_OF_VIEW,
+            CAMERA_VIDEO_FRAME_RATE,
+            CAMERA_VIDEO_MODE,
+            CAMERA_VIDEO_RESOLUTION,
+            CAMERA_VIDEO_STANDARD,
+            CAMERA_WHITE_BALANCE_PRESET,
+            CAMERA_STORAGE_LOCATION,
+            CAMERA_LENS_TYPE,
+            CAMERA_LENS_TYPE_FROM_CAMERA_VIDEO_STREAM_SOURCE_TYPE,
+            CAMERA_VIDEO_STREAM_SOURCE,
+            DRONE_OBSTACLE_AVOIDANCE_MODE,
+            DRONE_OBSTACLE_AVOIDANCE_DIRECTION,
+            DRONE_CONNECTION_FAIL_SAFE_BEHAVIOR,
+            DRONE_AUXILIARY_LIGHT_MODE,
+            GIMBAL_MODE,
+            RTK_REFERENCE_STATION_SOURCE,
+            RTK_SERVICE_STATE
+    };
+
+    //runs the consistency checks on every conversion table, any problems usually mean the sdk added or renamed constants
+    public static List<String> verifyEnumMappings() {
+        final List<String> problems = new ArrayList<>();
+        for (final AnzuEnumMapping<?, ?> mapping : ENUM_MAPPINGS) {
+            problems.addAll(mapping.verify());
+        }
+        return problems;
+    }
+}
@@ -7,7 +7,7 @@
 package com.dronelink.anzu.adapters;
 
 import android.content.Context;
-import android.os.Handler;
+import android.os.SystemClock;
 import android.util.Log;
 
 import androidx.annotation.NonNull;
@@ -38,15 +38,21 @@ import com.dronelink.core.kernel.core.enums.CameraMode;
 import com.dronelink.core.kernel.core.enums.CameraPhotoMode;
 import com.dronelink.core.kernel.core.enums.CameraStorageLocation;
 import com.dronelink.core.kernel.core.enums.CameraVideoStreamSource;
+import com.dronelink.anzu.AnzuKeyWriter;
 import com.dronelink.anzu.AnzuListenerGroup;
+import com.dronelink.anzu.AnzuRetryPolicy;
 import com.dronelink.anzu.DronelinkAnzu;
 import com.dronelink.anzu.R;
 
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Pattern;
 
 import dji.sdk.keyvalue.key.CameraKey;
@@ -71,20 +77,41 @@ public class AnzuCameraAdapter implements CameraAdapter {
     }
 
     private static final String TAG = AnzuCameraAdapter.class.getCanonicalName();
+    //isBusy will still be false for a bit after the shoot / record action succeeds
+    private static final long NOT_BUSY_GRACE_MILLIS = 250;
+    //not being busy is only worth waiting for, the command still succeeds if it never happens
+    private static final long NOT_BUSY_TIMEOUT_MILLIS = 1000;
+    private static final long STOP_CAPTURE_RECHECK_MILLIS = 250;
+    private static final long STOP_CAPTURE_TIMEOUT_MILLIS = 5000;
+    private static final long START_SHOOT_PHOTO_FILE_TIMEOUT_MILLIS = 5250;
 
     private final ComponentIndexType index;
     private final AnzuListenerGroup listeners = new AnzuListenerGroup();
     private final EnumElementsCollection enumElements = new EnumElementsCollection();
+    private final AnzuCommandCompletions completions = new AnzuCommandCompletions();
     private CameraType type;
+    private final Context context;
+    private final AnzuDroneAdapter drone;
     private final AnzuCameraStateAdapter defaultState;
+    private AnzuCameraStateAdapter activeState;
+    //lens states are created on first use and kept across range refreshes while their lens is still available
     private final Map<CameraLensType, AnzuCameraStateAdapter> lensStates = new HashMap<>();
-    private CameraVideoStreamSourceType videoStreamSource;
+    private final Map<CameraLensType, Long> lensStatesLastActive = new HashMap<>();
+    private final Set<CameraLensType> availableLensTypes = new HashSet<>();
+    private List<String> videoStreamSourceRange;
+    private long lensStateIdleEvictionMillis = 0;
+    private volatile CameraVideoStreamSourceType videoStreamSource;
     private CustomExpandNameSettings customExpandNameSettings;
     private DatedValue<GeneratedMediaFileInfo> mostRecentGeneratedMediaFileInfo;
 
     public AnzuCameraAdapter(final Context context, final AnzuDroneAdapter drone, final ComponentIndexType index, final GeneratedMediaFileInfoCallback generatedMediaFileInfoReceiver) {
+        this.context = context;
+        this.drone = drone;
         this.index = index;
         this.defaultState = new AnzuCameraStateAdapter(context, drone, index, CameraLensType.CAMERA_LENS_DEFAULT);
+        this.activeState = defaultState;
+        defaultState.setActive(true);
+        defaultState.setCaptureStateListener(completions::evaluate);
 
         KeyManager.getInstance().getValue(createKey(CameraKey.KeyCameraType), new CommonCallbacks.CompletionCallbackWithParam<CameraType>() {
             @Override
@@ -101,30 +128,51 @@ public class AnzuCameraAdapter implements CameraAdapter {
 
         listeners.init(createKey(CameraKey.KeyCameraVideoStreamSourceRange), (oldValue, newValue) -> {
             synchronized (lensStates) {
-                for (final AnzuCameraStateAdapter state : lensStates.values()) {
-                    state.close();
-                }
-                lensStates.clear();
+                availableLensTypes.clear();
                 final List<String> range = new ArrayList<>();
                 if (newValue != null) {
                     for (final CameraVideoStreamSourceType value : newValue) {
                         final CameraLensType lensType = DronelinkAnzu.getCameraLensType(value);
                         if (lensType != CameraLensType.CAMERA_LENS_DEFAULT) {
-                            lensStates.put(lensType, new AnzuCameraStateAdapter(context, drone, index, lensType));
+                            availableLensTypes.add(lensType);
                         }
                         range.add(Kernel.enumRawValue(DronelinkAnzu.getCameraVideoStreamSource(value)));
                     }
                 }
-                enumElements.update("CameraVideoStreamSource", range);
+
+                //only the lenses that disappeared lose their state
+                final Iterator<Map.Entry<CameraLensType, AnzuCameraStateAdapter>> iterator = lensStates.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    final Map.Entry<CameraLensType, AnzuCameraStateAdapter> entry = iterator.next();
+                    if (!availableLensTypes.contains(entry.getKey())) {
+                        entry.getValue().close();
+                        lensStatesLastActive.remove(entry.getKey());
+                        iterator.remove();
+                    }
+                }
+
+                if (!range.equals(videoStreamSourceRange)) {
+                    videoStreamSourceRange = range;
+                    enumElements.update("CameraVideoStreamSource", range);
+                }
             }
+
+            //the source may have arrived before the range listed its lens, so warm the active lens now that it is available
+            getActiveState();
         });
 
-        listeners.init(createKey(CameraKey.KeyCameraVideoStreamSource), (oldValue, newValue) -> videoStreamSource = newValue);
+        listeners.init(createKey(CameraKey.KeyCameraVideoStreamSource), (oldValue, newValue) -> {
+            videoStreamSource = newValue;
+            //start listening on the new lens right away so its state is warm by the time it is read
+            getActiveState();
+            evictIdleLensStates();
+        });
 
         listeners.init(KeyTools.createKey(CameraKey.KeyNewlyGeneratedMediaFile, index), (oldValue, newValue) -> {
             if (newValue != null) {
                 generatedMediaFileInfoReceiver.onGeneratedMediaFileInfo(newValue);
                 mostRecentGeneratedMediaFileInfo = new DatedValue<>(newValue);
+                completions.evaluate();
             }
         });
         listeners.init(KeyTools.createKey(CameraKey.KeyCustomExpandDirectoryNameSettings), (oldValue, newValue) -> customExpandNameSettings = newValue);
@@ -141,8 +189,46 @@ public class AnzuCameraAdapter implements CameraAdapter {
     public void close() {
         listeners.cancelAll();
         defaultState.close();
-        for (final AnzuCameraStateAdapter state : lensStates.values()) {
-            state.close();
+        synchronized (lensStates) {
+            for (final AnzuCameraStateAdapter state : lensStates.values()) {
+                state.close();
+            }
+            lensStates.clear();
+            lensStatesLastActive.clear();
+        }
+    }
+
+    //0 disables eviction, otherwise lens states that haven't been active for this long are closed on the next lens switch
+    public void setLensStateIdleEvictionMillis(final long lensStateIdleEvictionMillis) {
+        synchronized (lensStates) {
+            this.lensStateIdleEvictionMillis = lensStateIdleEvictionMillis;
+        }
+    }
+
+    public int getLensStateCount() {
+        synchronized (lensStates) {
+            return lensStates.size();
+        }
+    }
+
+    private void evictIdleLensStates() {
+        synchronized (lensStates) {
+            if (lensStateIdleEvictionMillis <= 0) {
+                return;
+            }
+
+            final CameraLensType activeLensType = DronelinkAnzu.getCameraLensType(videoStreamSource);
+            final long now = SystemClock.elapsedRealtime();
+            final Iterator<Map.Entry<CameraLensType, AnzuCameraStateAdapter>> iterator = lensStates.entrySet().iterator();
+            while (iterator.hasNext()) {
+                final Map.Entry<CameraLensType, AnzuCameraStateAdapter> entry = iterator.next();
+                final Long lastActive = lensStatesLastActive.get(entry.getKey());
+                if (entry.getKey() != activeLensType && (lastActive == null || now - lastActive > lensStateIdleEvictionMillis)) {
+                    entry.getValue().close();
+                    lensStatesLastActive.remove(entry.getKey());
+                    iterator.remove();
+                }
+            }
         }
     }
 
@@ -150,14 +236,30 @@ public class AnzuCameraAdapter implements CameraAdapter {
         AnzuCameraStateAdapter state = null;
 
         final CameraLensType lensType = DronelinkAnzu.getCameraLensType(videoStreamSource);
-        if (lensType != null && lensType != CameraLensType.CAMERA_LENS_DEFAULT) {
-            synchronized (lensStates) {
+        synchronized (lensStates) {
+            if (lensType != null && lensType != CameraLensType.CAMERA_LENS_DEFAULT) {
                 state = lensStates.get(lensType);
+                if (state == null && availableLensTypes.contains(lensType)) {
+                    state = new AnzuCameraStateAdapter(context, drone, index, lensType);
+                    state.setCaptureStateListener(completions::evaluate);
+                    lensStates.put(lensType, state);
+                }
+
+                if (state != null) {
+                    lensStatesLastActive.put(lensType, SystemClock.elapsedRealtime());
+                }
+            }
+
+            if (state == null) {
+                state = defaultState;
             }
-        }
 
-        if (state == null) {
-            return defaultState;
+            //only the active state keeps its warm keys subscribed
+            if (state != activeState) {
+                activeState.setActive(false);
+                state.setActive(true);
+                activeState = state;
+            }
         }
 
         return state;
@@ -201,7 +303,7 @@ public class AnzuCameraAdapter implements CameraAdapter {
     @Override
     public void setHistogramEnabled(final boolean enabled, final Command.Finisher finisher) {
         //FIXME not working - waiting for fix from DJI
-        KeyManager.getInstance().setValue(
+        AnzuKeyWriter.getInstance().setValue(
                 createKey(CameraKey.KeyHistogramEnabled),
                 enabled,
                 DronelinkAnzu.createCompletionCallback(finisher));
@@ -221,6 +323,16 @@ public class AnzuCameraAdapter implements CameraAdapter {
         return getActiveState().getEnumElementTuples(parameter);
     }
 
+    //histogram updates for the lens that is active now, every decimation updates
+    public AnzuHistogram.Subscription subscribeHistogram(final AnzuHistogram.Listener listener, final int decimation) {
+        return getActiveState().getHistogramStore().subscribe(listener, decimation);
+    }
+
+    //applies several settings as one transaction on the active lens instead of one queued command per setting
+    public void applyProfile(final AnzuCameraProfile profile, final AnzuCameraProfile.Callback callback) {
+        getActiveState().applyProfile(profile, callback);
+    }
+
     public CommandError executeCommand(final Context context, final CameraCommand command, final Command.Finisher finished) {
         final AnzuCameraStateAdapter state = getActiveState();
 
@@ -239,22 +351,19 @@ public class AnzuCameraAdapter implements CameraAdapter {
                         @Override
                         public void onSuccess(final EmptyMsg emptyMsg) {
                             if (finished != null) {
-                                //waiting since isBusy will still be false for a bit
-                                new Handler().postDelayed(() -> {
-                                    final StartCaptureCameraCommand startCaptureCameraCommand = (StartCaptureCameraCommand) command;
-                                    if (startCaptureCameraCommand.verifyFileCreated) {
-                                        commandFinishStartShootPhotoVerifyFile(context, startCaptureCameraCommand, started, finished);
-                                    } else {
-                                        commandFinishNotBusy(startCaptureCameraCommand, finished);
-                                    }
-                                }, 250);
+                                final StartCaptureCameraCommand startCaptureCameraCommand = (StartCaptureCameraCommand) command;
+                                if (startCaptureCameraCommand.verifyFileCreated) {
+                                    commandFinishStartShootPhotoVerifyFile(context, startCaptureCameraCommand, started, finished);
+                                } else {
+                                    commandFinishNotBusy(startCaptureCameraCommand, NOT_BUSY_GRACE_MILLIS, finished);
+                                }
                             }
                         }
 
                         @Override
                         public void onFailure(final @NonNull IDJIError error) {
                             if (finished != null) {
-                                finished.execute(new CommandError(error.errorCode()));
+                                finished.execute(AnzuRetryPolicy.createCommandError(error));
                             }
                         }
                     });
@@ -272,15 +381,14 @@ public class AnzuCameraAdapter implements CameraAdapter {
                         @Override
                         public void onSuccess(final EmptyMsg emptyMsg) {
                             if (finished != null) {
-                                //waiting since isBusy will still be false for a bit
-                                new Handler().postDelayed(() -> commandFinishNotBusy(command, finished), 250);
+                                commandFinishNotBusy(command, NOT_BUSY_GRACE_MILLIS, finished);
                             }
                         }
 
                         @Override
                         public void onFailure(final @NonNull IDJIError error) {
                             if (finished != null) {
-                                finished.execute(new CommandError(error.errorCode()));
+                                finished.execute(AnzuRetryPolicy.createCommandError(error));
                             }
                         }
                     });
@@ -316,7 +424,7 @@ public class AnzuCameraAdapter implements CameraAdapter {
                         @Override
                         public void onFailure(final @NonNull IDJIError error) {
                             if (finished != null) {
-                                finished.execute(new CommandError(error.errorCode()));
+                                finished.execute(AnzuRetryPolicy.createCommandError(error));
                             }
                         }
                     });
@@ -333,7 +441,7 @@ public class AnzuCameraAdapter implements CameraAdapter {
                     KeyManager.getInstance().performAction(createKey(CameraKey.KeyStopRecord), new CommonCallbacks.CompletionCallbackWithParam<EmptyMsg>() {
                         @Override
                         public void onSuccess(final EmptyMsg emptyMsg) {
-                            if (finished == null) {
+                            if (finished != null) {
                                 commandFinishStopCapture(context, command, finished);
                             }
                         }
@@ -341,7 +449,7 @@ public class AnzuCameraAdapter implements CameraAdapter {
                         @Override
                         public void onFailure(final @NonNull IDJIError error) {
                             if (finished != null) {
-                                finished.execute(new CommandError(error.errorCode()));
+                                finished.execute(AnzuRetryPolicy.createCommandError(error));
                             }
                         }
                     });
@@ -358,7 +466,7 @@ public class AnzuCameraAdapter implements CameraAdapter {
 
         if (command instanceof ModeCameraCommand) {
             final CameraMode target = ((ModeCameraCommand) command).mode;
-            Command.conditionallyExecute(target != state.getMode(), finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != state.getMode(), finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createKey(CameraKey.KeyCameraMode),
                     DronelinkAnzu.getCameraMode(target),
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -367,7 +475,7 @@ public class AnzuCameraAdapter implements CameraAdapter {
 
         if (command instanceof PhotoModeCameraCommand) {
             final CameraPhotoMode target = ((PhotoModeCameraCommand) command).photoMode;
-            Command.conditionallyExecute(target != state.getPhotoMode(), finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != state.getPhotoMode(), finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createKey(CameraKey.KeyCameraFlatMode),
                     DronelinkAnzu.getCameraFlatMode(target),
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -407,7 +515,7 @@ public class AnzuCameraAdapter implements CameraAdapter {
             }
 
             customExpandNameSettings.setCustomContent(targetResolved);
-            Command.conditionallyExecute(!targetResolved.equals(current), finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(!targetResolved.equals(current), finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createKey(CameraKey.KeyCustomExpandDirectoryNameSettings),
                     customExpandNameSettings,
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -416,7 +524,7 @@ public class AnzuCameraAdapter implements CameraAdapter {
 
         if (command instanceof StorageLocationCameraCommand) {
             final CameraStorageLocation target = ((StorageLocationCameraCommand) command).storageLocation;
-            Command.conditionallyExecute(target != state.getStorageLocation(), finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != state.getStorageLocation(), finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createKey(CameraKey.KeyCameraStorageLocation),
                     DronelinkAnzu.getCameraStorageLocation(target),
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -425,7 +533,7 @@ public class AnzuCameraAdapter implements CameraAdapter {
 
         if (command instanceof VideoStreamSourceCameraCommand) {
             final CameraVideoStreamSource target = ((VideoStreamSourceCameraCommand)command).videoStreamSource;
-            Command.conditionallyExecute(target != DronelinkAnzu.getCameraVideoStreamSource(videoStreamSource), finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != DronelinkAnzu.getCameraVideoStreamSource(videoStreamSource), finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createKey(CameraKey.KeyCameraVideoStreamSource),
                     DronelinkAnzu.getCameraVideoStreamSource(target),
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -436,63 +544,64 @@ public class AnzuCameraAdapter implements CameraAdapter {
     }
 
     private void commandFinishStopCapture(final Context context, final CameraCommand command, final Command.Finisher finished) {
-        commandFinishStopCapture(context, command, 0, 20, finished);
-    }
-
-    private void commandFinishStopCapture(final Context context, final CameraCommand command, final int attempt, final int maxAttempts, final Command.Finisher finished) {
-        if (attempt >= maxAttempts) {
-            finished.execute(new CommandError(context.getString(R.string.AnzuCameraAdapter_cameraCommand_stop_capture_error)));
-            return;
-        }
-
-        final AnzuCameraStateAdapter state = getActiveState();
-        if (!state.isCapturing()) {
-            finished.execute(null);
-            return;
-        }
-
-        final long wait = 250;
-        Log.d(TAG, "Camera command finished and waiting for camera to stop capturing (" + ((attempt + 1) * wait) + "ms)... (" + command.id + ")");
-        new Handler().postDelayed(() -> commandFinishNotBusy(command, attempt + 1, maxAttempts, finished), wait);
+        completions.await(
+                "Camera stopped capturing (" + command.id + ")",
+                elapsed -> !getActiveState().isCapturing(),
+                //sub-second interval photo capture reports capturing for up to one interval without a key update, same rate as the old poll
+                STOP_CAPTURE_RECHECK_MILLIS,
+                STOP_CAPTURE_TIMEOUT_MILLIS,
+                new CommandError(context.getString(R.string.AnzuCameraAdapter_cameraCommand_stop_capture_error)),
+                null,
+                finished);
     }
 
     private void commandFinishStartShootPhotoVerifyFile(final Context context, final StartCaptureCameraCommand command, final Date started, final Command.Finisher finished) {
-        commandFinishStartShootPhoto(context, command, started, 0, 20, finished);
+        completions.await(
+                "Camera start shoot photo found camera file (" + command.id + ")",
+                elapsed -> {
+                    final DatedValue<GeneratedMediaFileInfo> mostRecentGeneratedMediaFileInfo = this.mostRecentGeneratedMediaFileInfo;
+                    return mostRecentGeneratedMediaFileInfo != null && mostRecentGeneratedMediaFileInfo.date.getTime() > started.getTime();
+                },
+                0,
+                START_SHOOT_PHOTO_FILE_TIMEOUT_MILLIS,
+                new CommandError(context.getString(R.string.AnzuCameraAdapter_cameraCommand_start_shoot_photo_no_file)),
+                elapsed -> commandFinishNotBusy(command, 0, finished),
+                finished);
     }
 
-    private void commandFinishStartShootPhoto(final Context context, final StartCaptureCameraCommand command, final Date started, final int attempt, final int maxAttempts, final Command.Finisher finished) {
-        if (attempt >= maxAttempts) {
-            finished.execute(new CommandError(context.getString(R.string.AnzuCameraAdapter_cameraCommand_start_shoot_photo_no_file)));
-            return;
-        }
-
-        final DatedValue<GeneratedMediaFileInfo> mostRecentGeneratedMediaFileInfo = this.mostRecentGeneratedMediaFileInfo;
-        if (mostRecentGeneratedMediaFileInfo != null) {
-            final long timeSinceMostRecentCameraFile = mostRecentGeneratedMediaFileInfo.date.getTime() - started.getTime();
-            if (timeSinceMostRecentCameraFile > 0) {
-                Log.d(TAG, "Camera start shoot photo found camera file (" + mostRecentGeneratedMediaFileInfo.value.getIndex() + ") after " + timeSinceMostRecentCameraFile + "ms (" + command.id + ")");
-                commandFinishNotBusy(command, finished);
-                return;
-            }
-        }
-
-        final long wait = 250;
-        Log.d(TAG, "Camera start shoot photo finished and waiting for camera file (" + ((attempt + 1) * wait) + "ms)... (" + command.id + ")");
-        new Handler().postDelayed(() -> commandFinishStartShootPhoto(context, command, started, attempt + 1, maxAttempts, finished), wait);
-    }
-
-    private void commandFinishNotBusy(final CameraCommand command, final Command.Finisher finished) {
-        commandFinishNotBusy(command, 0, 10, finished);
+    //callback receives the time until the camera reports the mode and isn't busy, or the timeout if that never happens
+    public void observeModeTransition(final CameraMode target, final long timeoutMillis, final AnzuStateTransitionCallback callback) {
+        completions.await(
+                "Camera mode " + target,
+                elapsed -> isModeReady(target),
+                0,
+                timeoutMillis,
+                null,
+                elapsed -> callback.onStateTransition(elapsed, !isModeReady(target)),
+                null);
     }
 
-    private void commandFinishNotBusy(final CameraCommand command, final int attempt, final int maxAttempts, final Command.Finisher finished) {
+    private boolean isModeReady(final CameraMode target) {
         final AnzuCameraStateAdapter state = getActiveState();
-        if (attempt >= maxAttempts || !state.isBusy()) {
-            finished.execute(null);
-            return;
-        }
+        return state.getMode() == target && !state.isBusy();
+    }
 
-        Log.d(TAG, "Camera command finished and waiting for camera to not be busy (" + (attempt + 1) + ")... (" + command.id + ")");
-        new Handler().postDelayed(() -> commandFinishNotBusy(command, attempt + 1, maxAttempts, finished), 100);
+    //not busy only counts once the camera has been seen busy or the grace period has passed
+    private void commandFinishNotBusy(final CameraCommand command, final long graceMillis, final Command.Finisher finished) {
+        final AtomicBoolean busy = new AtomicBoolean(false);
+        completions.await(
+                "Camera not busy (" + command.id + ")",
+                elapsed -> {
+                    if (getActiveState().isBusy()) {
+                        busy.set(true);
+                        return false;
+                    }
+                    return busy.get() || elapsed >= graceMillis;
+                },
+                graceMillis,
+                graceMillis + NOT_BUSY_TIMEOUT_MILLIS,
+                null,
+                null,
+                finished);
     }
 }
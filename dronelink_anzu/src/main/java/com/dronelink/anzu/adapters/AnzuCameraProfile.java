@@ -0,0 +1,84 @@
+//  AnzuCameraProfile.java
+//  DronelinkAnzu
+//
+//  Created by agent on 10/18/26.
+//  Copyright © 2026 Dronelink. All rights reserved.
+//
+package com.dronelink.anzu.adapters;
+
+import com.dronelink.core.command.CommandError;
+import com.dronelink.core.kernel.core.enums.CameraAperture;
+import com.dronelink.core.kernel.core.enums.CameraExposureCompensation;
+import com.dronelink.core.kernel.core.enums.CameraExposureMode;
+import com.dronelink.core.kernel.core.enums.CameraISO;
+import com.dronelink.core.kernel.core.enums.CameraPhotoAspectRatio;
+import com.dronelink.core.kernel.core.enums.CameraPhotoFileFormat;
+import com.dronelink.core.kernel.core.enums.CameraShutterSpeed;
+import com.dronelink.core.kernel.core.enums.CameraWhiteBalancePreset;
+
+import java.util.List;
+import java.util.Map;
+
+//a set of camera settings applied together with AnzuCameraAdapter.applyProfile, null fields are left as they are
+public class AnzuCameraProfile {
+    public interface Callback {
+        //applied lists the settings that were written, failures the ones that were rejected (unchanged settings are in neither)
+        void onProfileApplied(final List<String> applied, final Map<String, CommandError> failures);
+    }
+
+    public CameraExposureMode exposureMode;
+    public CameraISO iso;
+    public CameraShutterSpeed shutterSpeed;
+    public CameraAperture aperture;
+    public CameraExposureCompensation exposureCompensation;
+    public CameraWhiteBalancePreset whiteBalancePreset;
+    //kelvin, takes precedence over whiteBalancePreset
+    public Integer whiteBalanceCustom;
+    public CameraPhotoFileFormat photoFileFormat;
+    public CameraPhotoAspectRatio photoAspectRatio;
+
+    public AnzuCameraProfile setExposureMode(final CameraExposureMode exposureMode) {
+        this.exposureMode = exposureMode;
+        return this;
+    }
+
+    public AnzuCameraProfile setISO(final CameraISO iso) {
+        this.iso = iso;
+        return this;
+    }
+
+    public AnzuCameraProfile setShutterSpeed(final CameraShutterSpeed shutterSpeed) {
+        this.shutterSpeed = shutterSpeed;
+        return this;
+    }
+
+    public AnzuCameraProfile setAperture(final CameraAperture aperture) {
+        this.aperture = aperture;
+        return this;
+    }
+
+    public AnzuCameraProfile setExposureCompensation(final CameraExposureCompensation exposureCompensation) {
+        this.exposureCompensation = exposureCompensation;
+        return this;
+    }
+
+    public AnzuCameraProfile setWhiteBalancePreset(final CameraWhiteBalancePreset whiteBalancePreset) {
+        this.whiteBalancePreset = whiteBalancePreset;
+        return this;
+    }
+
+    public AnzuCameraProfile setWhiteBalanceCustom(final Integer whiteBalanceCustom) {
+        this.whiteBalanceCustom = whiteBalanceCustom;
+        return this;
+    }
+
+    public AnzuCameraProfile setPhotoFileFormat(final CameraPhotoFileFormat photoFileFormat) {
+        this.photoFileFormat = photoFileFormat;
+        return this;
+    }
+
+    public AnzuCameraProfile setPhotoAspectRatio(final CameraPhotoAspectRatio photoAspectRatio) {
+        this.photoAspectRatio = photoAspectRatio;
+        return this;
+    }
+}
@@ -11,6 +11,7 @@ import android.os.Handler;
 import android.util.Log;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import com.dronelink.core.DatedValue;
 import com.dronelink.core.Dronelink;
@@ -92,13 +93,19 @@ import com.dronelink.core.kernel.core.enums.CameraVideoResolution;
 import com.dronelink.core.kernel.core.enums.CameraVideoStandard;
 import com.dronelink.core.kernel.core.enums.CameraVideoStreamSource;
 import com.dronelink.core.kernel.core.enums.CameraWhiteBalancePreset;
+import com.dronelink.anzu.AnzuKeyWriter;
 import com.dronelink.anzu.AnzuListenerGroup;
+import com.dronelink.anzu.AnzuRetryPolicy;
 import com.dronelink.anzu.DronelinkAnzu;
 import com.dronelink.anzu.R;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import dji.sdk.keyvalue.key.CameraKey;
 import dji.sdk.keyvalue.key.DJIKey;
@@ -134,6 +141,7 @@ import dji.v5.manager.KeyManager;
 public
 class AnzuCameraStateAdapter implements CameraStateAdapter {
     private static final String TAG = AnzuCameraStateAdapter.class.getCanonicalName();
+    private static final long STORAGE_CAPACITY_TTL_MILLIS = 60000;
 
     private final Context context;
     private final AnzuDroneAdapter drone;
@@ -141,6 +149,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
     public final CameraLensType lensType;
     private final AnzuListenerGroup listeners = new AnzuListenerGroup();
     private final EnumElementsCollection enumElements = new EnumElementsCollection();
+    private final Map<String, AnzuEnumRangeCache.Range> enumRanges = new HashMap<>();
     private final EnumElementsTupleCollection enumElementTuples = new EnumElementsTupleCollection();
     private boolean isShootingPhoto = false;
     private Date isShootingPhotoUpdated = new Date();
@@ -154,6 +163,13 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
     private boolean isShootingSuperResolutionPhoto = false;
     private boolean isShootingVisionBokehPhoto = false;
     private boolean isRecording = false;
+    private volatile Runnable captureStateListener;
+    private final Object statusMessagesLock = new Object();
+    //rebuilt only when the storage it was built from changes, so callers can compare it by identity
+    private List<Message> statusMessages = Collections.emptyList();
+    private CameraStorageLocation statusMessagesStorageLocation;
+    private Long statusMessagesStorageRemainingSpace;
+    private Long statusMessagesStorageTotalSpace;
     private boolean isSDCardInserted = false;
     private dji.sdk.keyvalue.value.camera.CameraStorageLocation storageLocation;
     private Integer remainingSpaceSDCard;
@@ -162,6 +178,9 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
     private SSDTotalSpace totalSpaceSSD;
     private Integer remainingSpaceInternalStorage;
     private Integer totalSpaceInternalStorage;
+    private final AnzuListenerGroup.ColdKey<Integer> totalSpaceSDCardKey;
+    private final AnzuListenerGroup.ColdKey<SSDTotalSpace> totalSpaceSSDKey;
+    private final AnzuListenerGroup.ColdKey<Integer> totalSpaceInternalStorageKey;
     private Integer availablePhotoCountSDCard;
     private Integer availablePhotoCountSSD;
     private Integer availablePhotoCountInternalStorage;
@@ -191,7 +210,15 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
     private dji.sdk.keyvalue.value.camera.CameraShutterSpeed shutterSpeed;
     private dji.sdk.keyvalue.value.camera.CameraAperture aperture;
     private CameraWhiteBalanceInfo whiteBalance;
-    private short[] histogram;
+    //subscribers keep the warm keys listened to even if this isn't the active lens state
+    private final AnzuHistogram histogram = new AnzuHistogram(subscribed -> {
+        if (subscribed) {
+            listeners.acquireWarm();
+        }
+        else {
+            listeners.releaseWarm();
+        }
+    });
     private dji.sdk.keyvalue.value.camera.CameraFocusMode focusMode;
     private Integer focusRingValue;
     private Integer focusRingMax;
@@ -231,114 +258,34 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
             enumElements.put("CameraPhotoInterval", elements);
         });
 
-        listeners.init(createLensKey(CameraKey.KeyCameraApertureRange), (oldValue, newValue) -> {
-            final List<String> range = new ArrayList<>();
-            if (newValue != null) {
-                for (final dji.sdk.keyvalue.value.camera.CameraAperture value : newValue) {
-                    range.add(Kernel.enumRawValue(DronelinkAnzu.getCameraAperture(value)));
-                }
-            }
-            enumElements.update("CameraAperture", range);
-        });
+        listeners.init(createLensKey(CameraKey.KeyCameraApertureRange), (oldValue, newValue) -> updateEnumRange("CameraAperture", newValue, value -> Kernel.enumRawValue(DronelinkAnzu.getCameraAperture(value))));
 
-        listeners.init(createLensKey(CameraKey.KeyExposureCompensationRange), (oldValue, newValue) -> {
-            final List<String> range = new ArrayList<>();
-            if (newValue != null) {
-                for (final dji.sdk.keyvalue.value.camera.CameraExposureCompensation value : newValue) {
-                    range.add(Kernel.enumRawValue(DronelinkAnzu.getCameraExposureCompensation(value)));
-                }
-            }
-            enumElements.update("CameraExposureCompensation", range);
-        });
+        listeners.init(createLensKey(CameraKey.KeyExposureCompensationRange), (oldValue, newValue) -> updateEnumRange("CameraExposureCompensation", newValue, value -> Kernel.enumRawValue(DronelinkAnzu.getCameraExposureCompensation(value))));
 
-        listeners.init(createLensKey(CameraKey.KeyExposureModeRange), (oldValue, newValue) -> {
-            final List<String> range = new ArrayList<>();
-            if (newValue != null) {
-                for (final dji.sdk.keyvalue.value.camera.CameraExposureMode value : newValue) {
-                    range.add(Kernel.enumRawValue(DronelinkAnzu.getCameraExposureMode(value)));
-                }
-            }
-            enumElements.update("CameraExposureMode", range);
-        });
+        listeners.init(createLensKey(CameraKey.KeyExposureModeRange), (oldValue, newValue) -> updateEnumRange("CameraExposureMode", newValue, value -> Kernel.enumRawValue(DronelinkAnzu.getCameraExposureMode(value))));
 
-        listeners.init(createLensKey(CameraKey.KeyISORange), (oldValue, newValue) -> {
-            final List<String> range = new ArrayList<>();
-            if (newValue != null) {
-                for (final dji.sdk.keyvalue.value.camera.CameraISO value : newValue) {
-                    range.add(Kernel.enumRawValue(DronelinkAnzu.getCameraISO(value)));
-                }
-            }
-            enumElements.update("CameraISO", range);
-        });
+        listeners.init(createLensKey(CameraKey.KeyISORange), (oldValue, newValue) -> updateEnumRange("CameraISO", newValue, value -> Kernel.enumRawValue(DronelinkAnzu.getCameraISO(value))));
 
-        listeners.init(createKey(CameraKey.KeyCameraFlatModeRange), (oldValue, newValue) -> {
-            final List<String> range = new ArrayList<>();
-            if (newValue != null) {
-                for (final dji.sdk.keyvalue.value.camera.CameraFlatMode value : newValue) {
-                    range.add(Kernel.enumRawValue(DronelinkAnzu.getCameraPhotoMode(value)));
-                }
-            }
-            enumElements.update("CameraPhotoMode", range);
-        });
+        listeners.init(createKey(CameraKey.KeyCameraFlatModeRange), (oldValue, newValue) -> updateEnumRange("CameraPhotoMode", newValue, value -> Kernel.enumRawValue(DronelinkAnzu.getCameraPhotoMode(value))));
 
-        listeners.init(createKey(CameraKey.KeyPhotoFileFormatRange), (oldValue, newValue) -> {
-            final List<String> range = new ArrayList<>();
-            if (newValue != null) {
-                for (final dji.sdk.keyvalue.value.camera.PhotoFileFormat value : newValue) {
-                    range.add(Kernel.enumRawValue(DronelinkAnzu.getCameraPhotoFileFormat(value)));
-                }
-            }
-            enumElements.update("CameraPhotoFileFormat", range);
-        });
+        listeners.init(createKey(CameraKey.KeyPhotoFileFormatRange), (oldValue, newValue) -> updateEnumRange("CameraPhotoFileFormat", newValue, value -> Kernel.enumRawValue(DronelinkAnzu.getCameraPhotoFileFormat(value))));
 
-        listeners.init(createKey(CameraKey.KeyCameraModeRange), (oldValue, newValue) -> {
-            final List<String> range = new ArrayList<>();
-            if (newValue != null) {
-                for (final dji.sdk.keyvalue.value.camera.CameraMode value : newValue) {
-                    range.add(Kernel.enumRawValue(DronelinkAnzu.getCameraMode(value)));
-                }
-            }
-            enumElements.update("CameraMode", range);
-        });
+        listeners.init(createKey(CameraKey.KeyCameraModeRange), (oldValue, newValue) -> updateEnumRange("CameraMode", newValue, value -> Kernel.enumRawValue(DronelinkAnzu.getCameraMode(value))));
 
-        listeners.init(createLensKey(CameraKey.KeyShutterSpeedRange), (oldValue, newValue) -> {
-            final List<String> range = new ArrayList<>();
-            if (newValue != null) {
-                for (final dji.sdk.keyvalue.value.camera.CameraShutterSpeed value : newValue) {
-                    range.add(Kernel.enumRawValue(DronelinkAnzu.getCameraShutterSpeed(value)));
-                }
-            }
-            enumElements.update("CameraShutterSpeed", range);
-        });
+        listeners.init(createLensKey(CameraKey.KeyShutterSpeedRange), (oldValue, newValue) -> updateEnumRange("CameraShutterSpeed", newValue, value -> Kernel.enumRawValue(DronelinkAnzu.getCameraShutterSpeed(value))));
 
         listeners.init(createKey(CameraKey.KeyIsInternalStorageSupported), (oldValue, newValue) -> {
-            final List<String> range = new ArrayList<>();
-            range.add(Kernel.enumRawValue(CameraStorageLocation.SD_CARD));
+            final List<CameraStorageLocation> range = new ArrayList<>();
+            range.add(CameraStorageLocation.SD_CARD);
             if (newValue != null && newValue) {
-                range.add(Kernel.enumRawValue(CameraStorageLocation.INTERNAL));
+                range.add(CameraStorageLocation.INTERNAL);
             }
-            enumElements.update("CameraStorageLocation", range);
+            updateEnumRange("CameraStorageLocation", range, Kernel::enumRawValue);
         });
 
-        listeners.init(createKey(CameraKey.KeyVideoFileFormatRange), (oldValue, newValue) -> {
-            final List<String> range = new ArrayList<>();
-            if (newValue != null) {
-                for (final dji.sdk.keyvalue.value.camera.VideoFileFormat value : newValue) {
-                    range.add(Kernel.enumRawValue(DronelinkAnzu.getCameraVideoFileFormat(value)));
-                }
-            }
-            enumElements.update("CameraVideoFileFormat", range);
-        });
+        listeners.init(createKey(CameraKey.KeyVideoFileFormatRange), (oldValue, newValue) -> updateEnumRange("CameraVideoFileFormat", newValue, value -> Kernel.enumRawValue(DronelinkAnzu.getCameraVideoFileFormat(value))));
 
-        listeners.init(createLensKey(CameraKey.KeyCameraWhiteBalanceRange), (oldValue, newValue) -> {
-            final List<String> range = new ArrayList<>();
-            if (newValue != null) {
-                for (final dji.sdk.keyvalue.value.camera.CameraWhiteBalanceMode value : newValue) {
-                    range.add(Kernel.enumRawValue(DronelinkAnzu.getCameraWhiteBalancePreset(value)));
-                }
-            }
-            enumElements.update("CameraWhiteBalancePreset", range);
-        });
+        listeners.init(createLensKey(CameraKey.KeyCameraWhiteBalanceRange), (oldValue, newValue) -> updateEnumRange("CameraWhiteBalancePreset", newValue, value -> Kernel.enumRawValue(DronelinkAnzu.getCameraWhiteBalancePreset(value))));
 
         listeners.init(createLensKey(CameraKey.KeyVideoResolutionFrameRateAndFovRange), (oldValue, newValue) -> {
             final List<List<String>> tupleDisplayRange = new ArrayList<>();
@@ -363,26 +310,64 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
         listeners.init(createKey(CameraKey.KeyIsShootingPhoto), (oldValue, newValue) -> {
             isShootingPhoto = newValue != null && newValue;
             isShootingPhotoUpdated = new Date();
+            onCaptureStateChanged();
+        });
+        listeners.init(createKey(CameraKey.KeyPhotoIntervalCountdown), (oldValue, newValue) -> {
+            photoIntervalCountdown = newValue;
+            onCaptureStateChanged();
+        });
+        listeners.init(createKey(CameraKey.KeyIsShootingBurstPhoto), (oldValue, newValue) -> {
+            isShootingBurstPhoto = newValue != null && newValue;
+            onCaptureStateChanged();
+        });
+        listeners.init(createKey(CameraKey.KeyIsShootingHyperlapse), (oldValue, newValue) -> {
+            isShootingHyperlapse = newValue != null && newValue;
+            onCaptureStateChanged();
+        });
+        listeners.init(createKey(CameraKey.KeyIsShootingPhotoPanorama), (oldValue, newValue) -> {
+            isShootingPhotoPanorama = newValue != null && newValue;
+            onCaptureStateChanged();
+        });
+        listeners.init(createKey(CameraKey.KeyIsShootingRAWBurstPhoto), (oldValue, newValue) -> {
+            isShootingRAWBurstPhoto = newValue != null && newValue;
+            onCaptureStateChanged();
+        });
+        listeners.init(createKey(CameraKey.KeyIsShootingSinglePhoto), (oldValue, newValue) -> {
+            isShootingSinglePhoto = newValue != null && newValue;
+            onCaptureStateChanged();
+        });
+        listeners.init(createKey(CameraKey.KeyIsShootingSinglePhotoInRAWFormat), (oldValue, newValue) -> {
+            isShootingSinglePhotoInRAWFormat = newValue != null && newValue;
+            onCaptureStateChanged();
+        });
+        listeners.init(createKey(CameraKey.KeyIsShootingSuperResolutionPhoto), (oldValue, newValue) -> {
+            isShootingSuperResolutionPhoto = newValue != null && newValue;
+            onCaptureStateChanged();
+        });
+        listeners.init(createKey(CameraKey.KeyIsShootingVisionBokehPhoto), (oldValue, newValue) -> {
+            isShootingVisionBokehPhoto = newValue != null && newValue;
+            onCaptureStateChanged();
+        });
+        listeners.init(createKey(CameraKey.KeyIsRecording), (oldValue, newValue) -> {
+            isRecording = newValue != null && newValue;
+            onCaptureStateChanged();
+        });
+        listeners.init(createKey(CameraKey.KeyCameraFlatMode), (oldValue, newValue) -> {
+            flatMode = newValue;
+            onCaptureStateChanged();
         });
-        listeners.init(createKey(CameraKey.KeyPhotoIntervalCountdown), (oldValue, newValue) -> photoIntervalCountdown = newValue);
-        listeners.init(createKey(CameraKey.KeyIsShootingBurstPhoto), (oldValue, newValue) -> isShootingBurstPhoto = newValue != null && newValue);
-        listeners.init(createKey(CameraKey.KeyIsShootingHyperlapse), (oldValue, newValue) -> isShootingHyperlapse = newValue != null && newValue);
-        listeners.init(createKey(CameraKey.KeyIsShootingPhotoPanorama), (oldValue, newValue) -> isShootingPhotoPanorama = newValue != null && newValue);
-        listeners.init(createKey(CameraKey.KeyIsShootingRAWBurstPhoto), (oldValue, newValue) -> isShootingRAWBurstPhoto = newValue != null && newValue);
-        listeners.init(createKey(CameraKey.KeyIsShootingSinglePhoto), (oldValue, newValue) -> isShootingSinglePhoto = newValue != null && newValue);
-        listeners.init(createKey(CameraKey.KeyIsShootingSinglePhotoInRAWFormat), (oldValue, newValue) -> isShootingSinglePhotoInRAWFormat = newValue != null && newValue);
-        listeners.init(createKey(CameraKey.KeyIsShootingSuperResolutionPhoto), (oldValue, newValue) -> isShootingSuperResolutionPhoto = newValue != null && newValue);
-        listeners.init(createKey(CameraKey.KeyIsShootingVisionBokehPhoto), (oldValue, newValue) -> isShootingVisionBokehPhoto = newValue != null && newValue);
-        listeners.init(createKey(CameraKey.KeyIsRecording), (oldValue, newValue) -> isRecording = newValue != null && newValue);
-        listeners.init(createKey(CameraKey.KeyCameraFlatMode), (oldValue, newValue) -> flatMode = newValue);
         listeners.init(createKey(CameraKey.KeyCameraSDCardInserted), (oldValue, newValue) -> isSDCardInserted = newValue != null && newValue);
         listeners.init(createKey(CameraKey.KeyCameraStorageLocation), (oldValue, newValue) -> storageLocation = newValue);
         listeners.init(createKey(CameraKey.KeySDCardRemainSpace), (oldValue, newValue) -> remainingSpaceSDCard = newValue);
-        listeners.init(createKey(CameraKey.KeySDCardTotalSpace), (oldValue, newValue) -> totalSpaceSDCard = newValue);
+        totalSpaceSDCardKey = listeners.initCold(createKey(CameraKey.KeySDCardTotalSpace), STORAGE_CAPACITY_TTL_MILLIS, (oldValue, newValue) -> totalSpaceSDCard = newValue);
         listeners.init(createKey(CameraKey.KeySSDRemainingSpaceInMB), (oldValue, newValue) -> remainingSpaceSSD = newValue);
-        listeners.init(createKey(CameraKey.KeySSDTotalSpace), (oldValue, newValue) -> totalSpaceSSD = newValue);
+        totalSpaceSSDKey = listeners.initCold(createKey(CameraKey.KeySSDTotalSpace), STORAGE_CAPACITY_TTL_MILLIS, (oldValue, newValue) -> totalSpaceSSD = newValue);
         listeners.init(createKey(CameraKey.KeyInternalStorageRemainSpace), (oldValue, newValue) -> remainingSpaceInternalStorage = newValue);
-        listeners.init(createKey(CameraKey.KeyInternalStorageTotalSpace), (oldValue, newValue) -> totalSpaceInternalStorage = newValue);
+        totalSpaceInternalStorageKey = listeners.initCold(createKey(CameraKey.KeyInternalStorageTotalSpace), STORAGE_CAPACITY_TTL_MILLIS, (oldValue, newValue) -> totalSpaceInternalStorage = newValue);
+        //prefetched so the first status check doesn't see a missing capacity
+        totalSpaceSDCardKey.request();
+        totalSpaceSSDKey.request();
+        totalSpaceInternalStorageKey.request();
         listeners.init(createKey(CameraKey.KeySDCardAvailablePhotoCount), (oldValue, newValue) -> availablePhotoCountSDCard = newValue);
         listeners.init(createKey(CameraKey.KeyInternalSSDAvailablePhotoCount), (oldValue, newValue) -> availablePhotoCountSSD = newValue);
         listeners.init(createKey(CameraKey.KeyInternalStorageAvailablePhotoCount), (oldValue, newValue) -> availablePhotoCountInternalStorage = newValue);
@@ -393,7 +378,10 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
         listeners.init(createLensKey(CameraKey.KeySharpness), (oldValue, newValue) -> sharpness = newValue);
         listeners.init(createLensKey(CameraKey.KeyThermalDisplayMode), (oldValue, newValue) -> displayMode = newValue);
         listeners.init(createLensKey(CameraKey.KeyPhotoFileFormat), (oldValue, newValue) -> photoFileFormat = newValue);
-        listeners.init(createLensKey(CameraKey.KeyPhotoIntervalShootSettings), (oldValue, newValue) -> photoIntervalShootSettings = newValue);
+        listeners.init(createLensKey(CameraKey.KeyPhotoIntervalShootSettings), (oldValue, newValue) -> {
+            photoIntervalShootSettings = newValue;
+            onCaptureStateChanged();
+        });
         listeners.init(createLensKey(CameraKey.KeyPhotoBurstCount), (oldValue, newValue) -> photoBurstCount = newValue);
         listeners.init(createLensKey(CameraKey.KeyAEBSettings), (oldValue, newValue) -> photoAEBSettings = newValue);
         listeners.init(createLensKey(CameraKey.KeyCameraVideoCaptionEnabled), (oldValue, newValue) -> videoCaptionEnabled = newValue);
@@ -401,7 +389,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
         listeners.init(createLensKey(CameraKey.KeyVideoFileFormat), (oldValue, newValue) -> videoFileFormat = newValue);
         listeners.init(createLensKey(CameraKey.KeyVideoRecordMode), (oldValue, newValue) -> videoRecordMode = newValue);
         listeners.init(createLensKey(CameraKey.KeyVideoResolutionFrameRateAndFov), (oldValue, newValue) -> videoResolutionFrameRateFov = newValue);
-        listeners.init(createLensKey(CameraKey.KeyRecordingTime), (oldValue, newValue) -> recordingTime = newValue);
+        listeners.initWarm(createLensKey(CameraKey.KeyRecordingTime), (oldValue, newValue) -> recordingTime = newValue);
         listeners.init(createLensKey(CameraKey.KeyVideoStandard), (oldValue, newValue) -> videoStandard = newValue);
         listeners.init(createLensKey(CameraKey.KeyExposureMode), (oldValue, newValue) -> exposureMode = newValue);
         listeners.init(createLensKey(CameraKey.KeyExposureSettings), (oldValue, newValue) -> exposureSettings = newValue);
@@ -411,20 +399,10 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
         listeners.init(createLensKey(CameraKey.KeyShutterSpeed), (oldValue, newValue) -> shutterSpeed = newValue);
         listeners.init(createLensKey(CameraKey.KeyAperture), (oldValue, newValue) -> aperture = newValue);
         listeners.init(createLensKey(CameraKey.KeyWhiteBalance), (oldValue, newValue) -> whiteBalance = newValue);
-        listeners.init(createLensKey(CameraKey.KeyHistogramData), (oldValue, newValue) -> {
-            if (newValue == null) {
-                histogram = null;
-                return;
-            }
-
-            histogram = new short[newValue.size()];
-            for (int i = 0; i < histogram.length; i++) {
-                histogram[i] = newValue.get(i).shortValue();
-            }
-        });
+        listeners.initWarm(createLensKey(CameraKey.KeyHistogramData), (oldValue, newValue) -> histogram.update(newValue));
         listeners.init(createLensKey(CameraKey.KeyCameraFocusMode), (oldValue, newValue) -> focusMode = newValue);
-        listeners.init(createLensKey(CameraKey.KeyCameraFocusRingValue), (oldValue, newValue) -> focusRingValue = newValue);
-        listeners.init(createLensKey(CameraKey.KeyCameraFocusRingMaxValue), (oldValue, newValue) -> focusRingMax = newValue);
+        listeners.initWarm(createLensKey(CameraKey.KeyCameraFocusRingValue), (oldValue, newValue) -> focusRingValue = newValue);
+        listeners.initWarm(createLensKey(CameraKey.KeyCameraFocusRingMaxValue), (oldValue, newValue) -> focusRingMax = newValue);
         listeners.init(createLensKey(CameraKey.KeyCameraMeteringMode), (oldValue, newValue) -> meteringMode = newValue);
         listeners.init(createLensKey(CameraKey.KeyAELockEnabled), (oldValue, newValue) -> aeLockEnabled = newValue != null && newValue);
         listeners.init(createLensKey(CameraKey.KeyPhotoRatio), (oldValue, newValue) -> photoRatio = newValue);
@@ -432,9 +410,9 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
         listeners.init(createLensKey(CameraKey.KeyMechanicalShutterEnabled), (oldValue, newValue) -> mechanicalShutterEnabled = newValue != null && newValue);
         listeners.init(createLensKey(CameraKey.KeyDewarpingEnabled), (oldValue, newValue) -> dewarpingEnabled = newValue != null && newValue);
         listeners.init(createLensKey(CameraKey.KeyCameraHybridZoomSupported), (oldValue, newValue) -> isHybridZoomSupported = newValue != null && newValue);
-        listeners.init(createLensKey(CameraKey.KeyCameraHybridZoomFocalLength), (oldValue, newValue) -> hybridZoomFocalLength = newValue);
+        listeners.initWarm(createLensKey(CameraKey.KeyCameraHybridZoomFocalLength), (oldValue, newValue) -> hybridZoomFocalLength = newValue);
         listeners.init(createLensKey(CameraKey.KeyCameraHybridZoomSpec), (oldValue, newValue) -> hybridZoomSpecification = newValue);
-        listeners.init(createLensKey(CameraKey.KeyThermalZoomRatios), (oldValue, newValue) -> currentThermalZoomRatio = newValue);
+        listeners.initWarm(createLensKey(CameraKey.KeyThermalZoomRatios), (oldValue, newValue) -> currentThermalZoomRatio = newValue);
         listeners.init(createLensKey(CameraKey.KeyCameraZoomRatios), (oldValue, newValue) -> currentZoomRatio = newValue);
         //can't use createLensKey because for some reason, DJI SDK doesn't return zoomRatios for CAMERA_LENS_ZOOM lens type
         listeners.init(createKey(CameraKey.KeyCameraZoomRatiosRange), (oldValue, newValue) -> {
@@ -461,22 +439,194 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
         return KeyTools.createCameraKey(keyInfo, index, lensType);
     }
 
+    //writes the profile's settings that differ from the current state and reports once every write is confirmed or rejected
+    //a changed exposure mode is written first, since it decides which of iso / shutter / aperture / ev the camera accepts,
+    //everything else goes out concurrently
+    public void applyProfile(final AnzuCameraProfile profile, final AnzuCameraProfile.Callback callback) {
+        final ProfileWrites writes = new ProfileWrites(callback);
+
+        if (profile.whiteBalanceCustom != null) {
+            final Integer current = getWhiteBalanceColorTemperature();
+            if (getWhiteBalancePreset() != CameraWhiteBalancePreset.CUSTOM || current == null || !current.equals(profile.whiteBalanceCustom)) {
+                writes.write("CameraWhiteBalanceCustom", createLensKey(CameraKey.KeyWhiteBalance), new CameraWhiteBalanceInfo(CameraWhiteBalanceMode.MANUAL, profile.whiteBalanceCustom), null, null);
+            }
+        }
+        else if (profile.whiteBalancePreset != null && profile.whiteBalancePreset != getWhiteBalancePreset()) {
+            writes.write("CameraWhiteBalancePreset", createLensKey(CameraKey.KeyWhiteBalance), new CameraWhiteBalanceInfo(DronelinkAnzu.getCameraWhiteBalancePreset(profile.whiteBalancePreset), null), null, null);
+        }
+
+        if (profile.photoFileFormat != null && profile.photoFileFormat != getPhotoFileFormat()) {
+            writes.write("CameraPhotoFileFormat", createLensKey(CameraKey.KeyPhotoFileFormat), DronelinkAnzu.getCameraPhotoFileFormat(profile.photoFileFormat), null, null);
+        }
+
+        if (profile.photoAspectRatio != null && profile.photoAspectRatio != getAspectRatio()) {
+            writes.write("CameraPhotoAspectRatio", createLensKey(CameraKey.KeyPhotoRatio), DronelinkAnzu.getCameraPhotoAspectRatio(profile.photoAspectRatio), null, null);
+        }
+
+        if (profile.exposureMode != null && profile.exposureMode != getExposureMode()) {
+            writes.write("CameraExposureMode", createLensKey(CameraKey.KeyExposureMode), DronelinkAnzu.getCameraExposureMode(profile.exposureMode),
+                    () -> applyProfileExposure(profile, writes, null),
+                    () -> applyProfileExposure(profile, writes, new CommandError(context.getString(R.string.AnzuCameraStateAdapter_profile_exposure_mode_rejected))));
+        }
+        else {
+            applyProfileExposure(profile, writes, null);
+        }
+
+        writes.release();
+    }
+
+    //skipped (the exposure mode was rejected) reports the settings that would have been written as failures instead
+    private void applyProfileExposure(final AnzuCameraProfile profile, final ProfileWrites writes, final @Nullable CommandError skipped) {
+        if (profile.iso != null && profile.iso != getISO()) {
+            writes.write(skipped, "CameraISO", createLensKey(CameraKey.KeyISO), DronelinkAnzu.getCameraISO(profile.iso), null, null);
+        }
+
+        if (profile.shutterSpeed != null && profile.shutterSpeed != getShutterSpeed()) {
+            writes.write(skipped, "CameraShutterSpeed", createLensKey(CameraKey.KeyShutterSpeed), DronelinkAnzu.getCameraShutterSpeed(profile.shutterSpeed), null, null);
+        }
+
+        if (profile.aperture != null && profile.aperture != getAperture()) {
+            writes.write(skipped, "CameraAperture", createLensKey(CameraKey.KeyAperture), DronelinkAnzu.getCameraAperture(profile.aperture), null, null);
+        }
+
+        if (profile.exposureCompensation != null && profile.exposureCompensation != getExposureCompensation()) {
+            writes.write(skipped, "CameraExposureCompensation", createLensKey(CameraKey.KeyExposureCompensation), DronelinkAnzu.getCameraExposureCompensation(profile.exposureCompensation), null, null);
+        }
+    }
+
+    private static class ProfileWrites {
+        private final AnzuCameraProfile.Callback callback;
+        private final List<String> applied = new ArrayList<>();
+        private final Map<String, CommandError> failures = new HashMap<>();
+        //starts at 1 so the callback can't run until every write has been issued
+        private int outstanding = 1;
+
+        ProfileWrites(final AnzuCameraProfile.Callback callback) {
+            this.callback = callback;
+        }
+
+        <T> void write(final @Nullable CommandError skipped, final String name, final DJIKey<T> key, final T value, final @Nullable Runnable then, final @Nullable Runnable otherwise) {
+            if (skipped == null) {
+                write(name, key, value, then, otherwise);
+                return;
+            }
+
+            synchronized (this) {
+                failures.put(name, skipped);
+            }
+        }
+
+        //then / otherwise run after the write succeeds / fails, before it is counted as complete, so they can issue dependent writes
+        <T> void write(final String name, final DJIKey<T> key, final T value, final @Nullable Runnable then, final @Nullable Runnable otherwise) {
+            synchronized (this) {
+                outstanding++;
+            }
+
+            AnzuKeyWriter.getInstance().setValue(key, value, new CommonCallbacks.CompletionCallback() {
+                @Override
+                public void onSuccess() {
+                    synchronized (ProfileWrites.this) {
+                        applied.add(name);
+                    }
+                    if (then != null) {
+                        then.run();
+                    }
+                    release();
+                }
+
+                @Override
+                public void onFailure(final @NonNull IDJIError error) {
+                    synchronized (ProfileWrites.this) {
+                        failures.put(name, AnzuRetryPolicy.createCommandError(error));
+                    }
+                    if (otherwise != null) {
+                        otherwise.run();
+                    }
+                    release();
+                }
+            });
+        }
+
+        void release() {
+            synchronized (this) {
+                outstanding--;
+                if (outstanding > 0) {
+                    return;
+                }
+            }
+            callback.onProfileApplied(applied, failures);
+        }
+    }
+
+    private <S> void updateEnumRange(final String parameter, final List<S> values, final AnzuEnumRangeCache.RawValueConverter<S> converter) {
+        final AnzuEnumRangeCache.Range range = AnzuEnumRangeCache.get(parameter, values, converter);
+        //ranges are interned, so an unchanged range is the same instance
+        if (enumRanges.put(parameter, range) == range) {
+            return;
+        }
+
+        if (range.elements == null) {
+            enumElements.update(parameter, range.rawValues);
+        }
+        else {
+            enumElements.put(parameter, range.elements);
+        }
+    }
+
     public void close() {
         listeners.cancelAll();
     }
 
+    //called after any of the shooting / recording flags or the mode change
+    public void setCaptureStateListener(final @Nullable Runnable captureStateListener) {
+        this.captureStateListener = captureStateListener;
+    }
+
+    private void onCaptureStateChanged() {
+        final Runnable captureStateListener = this.captureStateListener;
+        if (captureStateListener != null) {
+            captureStateListener.run();
+        }
+    }
+
+    //warm keys are only listened to while this is the camera's active lens state
+    public void setActive(final boolean active) {
+        if (active) {
+            listeners.acquireWarm();
+        }
+        else {
+            listeners.releaseWarm();
+        }
+    }
+
     public DatedValue<CameraStateAdapter> asDatedValue() {
         return new DatedValue<>(this, new Date());
     }
 
     public List<Message> getStatusMessages() {
+        final CameraStorageLocation storageLocation = getStorageLocation();
+        final Long storageRemainingSpace = getStorageRemainingSpace();
+        final Long storageTotalSpace = storageRemainingSpace == null ? null : getStorageTotalSpace();
+        synchronized (statusMessagesLock) {
+            if (storageLocation == statusMessagesStorageLocation
+                    && Objects.equals(storageRemainingSpace, statusMessagesStorageRemainingSpace)
+                    && Objects.equals(storageTotalSpace, statusMessagesStorageTotalSpace)) {
+                return statusMessages;
+            }
+            statusMessagesStorageLocation = storageLocation;
+            statusMessagesStorageRemainingSpace = storageRemainingSpace;
+            statusMessagesStorageTotalSpace = storageTotalSpace;
+            statusMessages = Collections.unmodifiableList(createStatusMessages(storageLocation, storageRemainingSpace, storageTotalSpace));
+            return statusMessages;
+        }
+    }
+
+    private List<Message> createStatusMessages(final CameraStorageLocation storageLocation, final @Nullable Long storageRemainingSpace, final @Nullable Long storageTotalSpace) {
         final List<Message> messages = new ArrayList<>();
 
-        final Long storageRemainingSpace = getStorageRemainingSpace();
         if (storageRemainingSpace != null) {
-            final String storageName = Dronelink.getInstance().formatEnum("CameraStorageLocation", Kernel.enumRawValue(getStorageLocation()), "");
+            final String storageName = Dronelink.getInstance().formatEnum("CameraStorageLocation", Kernel.enumRawValue(storageLocation), "");
             int percentFull = 0;
-            final Long storageTotalSpace = getStorageTotalSpace();
             if (storageTotalSpace != null && storageTotalSpace > 0) {
                 percentFull = 100 - (int)(Math.min(1.0, (storageRemainingSpace.doubleValue() / storageTotalSpace.doubleValue())) * 100.0);
             }
@@ -591,12 +741,15 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
         Integer value = null;
         switch (getStorageLocation()) {
             case SD_CARD:
+                totalSpaceSDCardKey.request();
                 value = totalSpaceSDCard;
                 break;
             case INTERNAL:
+                totalSpaceInternalStorageKey.request();
                 value = totalSpaceInternalStorage;
                 break;
             case INTERNAL_SSD:
+                totalSpaceSSDKey.request();
                 final SSDTotalSpace totalSpace = totalSpaceSSD;
                 if (totalSpace != null) {
                     switch (totalSpaceSSD) {
@@ -786,6 +939,10 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
 
     @Override
     public short[] getHistogram() {
+        return histogram.getSnapshot();
+    }
+
+    public AnzuHistogram getHistogramStore() {
         return histogram;
     }
 
@@ -902,7 +1059,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
     public CommandError executeCommand(final Context context, final CameraCommand command, final Command.Finisher finished) {
         if (command instanceof AEBCountCameraCommand) {
             final CameraAEBCount target = ((AEBCountCameraCommand) command).aebCount;
-            Command.conditionallyExecute(target != getAEBCount(), finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != getAEBCount(), finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyAEBSettings),
                     new PhotoAEBSettings(DronelinkAnzu.getCameraPhotoAEBCount(target), PhotoAEBExposureOffset.OFFSET_0EV),
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -911,7 +1068,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
 
         if (command instanceof ApertureCameraCommand) {
             final CameraAperture target = ((ApertureCameraCommand) command).aperture;
-            Command.conditionallyExecute(target != getAperture(), finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != getAperture(), finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyAperture),
                     DronelinkAnzu.getCameraAperture(target),
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -920,7 +1077,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
 
         if (command instanceof AutoExposureLockCameraCommand) {
             final boolean target = ((AutoExposureLockCameraCommand) command).enabled;
-            Command.conditionallyExecute(target != isAutoExposureLockEnabled(), finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != isAutoExposureLockEnabled(), finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyAELockEnabled),
                     target,
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -929,7 +1086,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
 
         if (command instanceof AutoLockGimbalCameraCommand) {
             final boolean target = ((AutoLockGimbalCameraCommand) command).enabled;
-            Command.conditionallyExecute(target != lockGimbalDuringShootPhotoEnabled, finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != lockGimbalDuringShootPhotoEnabled, finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyLockGimbalDuringShootPhotoEnabled),
                     target,
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -938,7 +1095,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
 
         if (command instanceof ColorCameraCommand) {
             final CameraColor target = ((ColorCameraCommand) command).color;
-            Command.conditionallyExecute(target != DronelinkAnzu.getCameraColor(color), finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != DronelinkAnzu.getCameraColor(color), finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyCameraColor),
                     DronelinkAnzu.getCameraColor(target),
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -946,7 +1103,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
 
         if (command instanceof ContrastCameraCommand) {
             final int target = ((ContrastCameraCommand) command).contrast;
-            Command.conditionallyExecute(contrast == null || target != contrast, finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(contrast == null || target != contrast, finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyContrast),
                     target,
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -955,7 +1112,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
 
         if (command instanceof DewarpingCameraCommand) {
             final boolean target = ((DewarpingCameraCommand) command).enabled;
-            Command.conditionallyExecute(target != dewarpingEnabled, finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != dewarpingEnabled, finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyDewarpingEnabled),
                     target,
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -964,7 +1121,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
 
         if (command instanceof DisplayModeCameraCommand) {
             final CameraDisplayMode target = ((DisplayModeCameraCommand) command).displayMode;
-            Command.conditionallyExecute(target != DronelinkAnzu.getCameraDisplayMode(displayMode), finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != DronelinkAnzu.getCameraDisplayMode(displayMode), finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyThermalDisplayMode),
                     DronelinkAnzu.getCameraDisplayMode(target),
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -973,7 +1130,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
 
         if (command instanceof ExposureCompensationCameraCommand) {
             final CameraExposureCompensation target = ((ExposureCompensationCameraCommand) command).exposureCompensation;
-            Command.conditionallyExecute(target != getExposureCompensation(), finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != getExposureCompensation(), finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyExposureCompensation),
                     DronelinkAnzu.getCameraExposureCompensation(target),
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -981,7 +1138,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
         }
 
         if (command instanceof ExposureCompensationStepCameraCommand) {
-            KeyManager.getInstance().setValue(
+            AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyExposureCompensation),
                     DronelinkAnzu.getCameraExposureCompensation(getExposureCompensation().offset(((ExposureCompensationStepCameraCommand) command).exposureCompensationSteps)),
                     DronelinkAnzu.createCompletionCallback(finished));
@@ -990,7 +1147,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
 
         if (command instanceof ExposureModeCameraCommand) {
             final CameraExposureMode target = ((ExposureModeCameraCommand) command).exposureMode;
-            Command.conditionallyExecute(target != getExposureMode(), finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != getExposureMode(), finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyExposureMode),
                     DronelinkAnzu.getCameraExposureMode(target),
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -999,7 +1156,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
 
         if (command instanceof FileIndexModeCameraCommand) {
             final CameraFileIndexMode target = ((FileIndexModeCameraCommand) command).fileIndexMode;
-            Command.conditionallyExecute(target != DronelinkAnzu.getCameraFileIndexMode(fileIndexMode), finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != DronelinkAnzu.getCameraFileIndexMode(fileIndexMode), finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyCameraFileIndexMode),
                     DronelinkAnzu.getCameraFileIndexMode(target),
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -1008,7 +1165,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
 
         if (command instanceof FocusCameraCommand) {
             final Point2 target = ((FocusCameraCommand) command).focusTarget;
-            KeyManager.getInstance().setValue(
+            AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyCameraFocusTarget),
                     new DoublePoint2D(target.x, target.y),
                     new CommonCallbacks.CompletionCallback() {
@@ -1022,7 +1179,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
                         @Override
                         public void onFailure(final @NonNull IDJIError error) {
                             if (finished != null) {
-                                finished.execute(new CommandError(error.errorCode()));
+                                finished.execute(AnzuRetryPolicy.createCommandError(error));
                             }
                         }
                     });
@@ -1035,7 +1192,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
             if (cameraFocusCalibration == null) {
                 return new CommandError(context.getString(R.string.AnzuCameraStateAdapter_cameraCommand_focus_distance_error) + ": " + (int)focusDistanceCameraCommand.focusCalibration.distance);
             }
-            KeyManager.getInstance().setValue(
+            AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyCameraFocusRingValue),
                     cameraFocusCalibration.ringValue.intValue(),
                     DronelinkAnzu.createCompletionCallback(finished));
@@ -1044,7 +1201,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
 
         if (command instanceof FocusModeCameraCommand) {
             final CameraFocusMode target = ((FocusModeCameraCommand) command).focusMode;
-            Command.conditionallyExecute(target != getFocusMode(), finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != getFocusMode(), finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyCameraFocusMode),
                     DronelinkAnzu.getCameraFocusMode(target),
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -1052,11 +1209,36 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
         }
 
         if (command instanceof FocusRingCameraCommand) {
+            final double focusRingPercent = ((FocusRingCameraCommand)command).focusRingPercent;
             final Integer focusRingMax = this.focusRingMax;
-            KeyManager.getInstance().setValue(
-                    createLensKey(CameraKey.KeyCameraFocusRingValue),
-                    (int)(((FocusRingCameraCommand)command).focusRingPercent * (focusRingMax == null ? 0 : focusRingMax)),
-                    DronelinkAnzu.createCompletionCallback(finished));
+            if (focusRingMax != null) {
+                setFocusRingPercent(focusRingPercent, focusRingMax, finished);
+                return null;
+            }
+
+            //the max hasn't been received yet (the lens just became active), so fetch it rather than scaling by 0
+            KeyManager.getInstance().getValue(createLensKey(CameraKey.KeyCameraFocusRingMaxValue), new CommonCallbacks.CompletionCallbackWithParam<Integer>() {
+                @Override
+                public void onSuccess(final Integer value) {
+                    if (value == null || value <= 0) {
+                        if (finished != null) {
+                            finished.execute(new CommandError(context.getString(R.string.AnzuCameraStateAdapter_cameraCommand_focus_ring_max_unavailable)));
+                        }
+                        return;
+                    }
+
+                    AnzuCameraStateAdapter.this.focusRingMax = value;
+                    setFocusRingPercent(focusRingPercent, value, finished);
+                }
+
+                @Override
+                public void onFailure(final @NonNull IDJIError error) {
+                    if (finished != null) {
+                        //through the retry policy so a transient SDK failure is classified like any other write
+                        finished.execute(AnzuRetryPolicy.createCommandError(error));
+                    }
+                }
+            });
             return null;
         }
 
@@ -1067,7 +1249,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
             }
             final int hybridZoomFocalLength = (int) (Math.round((((ZoomPercentCameraCommand) command).zoomPercent
                     * (specification.max - specification.min) + specification.min) / specification.step) * specification.step);
-            Command.conditionallyExecute(Math.abs(hybridZoomFocalLength - specification.currentZoom) >= 0.1, finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(Math.abs(hybridZoomFocalLength - specification.currentZoom) >= 0.1, finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyCameraHybridZoomFocalLength),
                     hybridZoomFocalLength,
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -1088,7 +1270,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
             }
 
             Command.conditionallyExecute(Math.abs(specification.currentRatio - zoomRatio) >= 0.1,
-                    finished, () -> KeyManager.getInstance().setValue(
+                    finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(cameraKey),
                     zoomRatio,
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -1097,7 +1279,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
 
         if (command instanceof ISOCameraCommand) {
             final CameraISO target = ((ISOCameraCommand) command).iso;
-            Command.conditionallyExecute(target != getISO(), finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != getISO(), finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyISO),
                     DronelinkAnzu.getCameraISO(target),
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -1106,7 +1288,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
 
         if (command instanceof MechanicalShutterCameraCommand) {
             final boolean target = ((MechanicalShutterCameraCommand) command).enabled;
-            Command.conditionallyExecute(target != mechanicalShutterEnabled, finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != mechanicalShutterEnabled, finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyMechanicalShutterEnabled),
                     target,
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -1115,7 +1297,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
 
         if (command instanceof MeteringModeCameraCommand) {
             final CameraMeteringMode target = ((MeteringModeCameraCommand) command).meteringMode;
-            Command.conditionallyExecute(target != getMeteringMode(), finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != getMeteringMode(), finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyCameraMeteringMode),
                     DronelinkAnzu.getCameraMeteringMode(target),
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -1124,7 +1306,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
 
         if (command instanceof PhotoAspectRatioCameraCommand) {
             final CameraPhotoAspectRatio target = ((PhotoAspectRatioCameraCommand) command).photoAspectRatio;
-            Command.conditionallyExecute(target != getAspectRatio(), finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != getAspectRatio(), finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyPhotoRatio),
                     DronelinkAnzu.getCameraPhotoAspectRatio(target),
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -1133,7 +1315,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
 
         if (command instanceof PhotoFileFormatCameraCommand) {
             final CameraPhotoFileFormat target = ((PhotoFileFormatCameraCommand) command).photoFileFormat;
-            Command.conditionallyExecute(target != getPhotoFileFormat(), finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != getPhotoFileFormat(), finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyPhotoFileFormat),
                     DronelinkAnzu.getCameraPhotoFileFormat(target),
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -1142,7 +1324,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
 
         if (command instanceof PhotoIntervalCameraCommand) {
             final double target = ((PhotoIntervalCameraCommand) command).photoInterval;
-            Command.conditionallyExecute(target != getPhotoInterval(), finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != getPhotoInterval(), finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyPhotoIntervalShootSettings),
                     new PhotoIntervalShootSettings(255, (double)target),
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -1151,7 +1333,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
 
         if (command instanceof SaturationCameraCommand) {
             final int target = ((SaturationCameraCommand) command).saturation;
-            Command.conditionallyExecute(saturation == null || target != saturation, finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(saturation == null || target != saturation, finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeySaturation),
                     target,
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -1160,7 +1342,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
 
         if (command instanceof SharpnessCameraCommand) {
             final int target = ((SharpnessCameraCommand) command).sharpness;
-            Command.conditionallyExecute(sharpness == null || target != sharpness, finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(sharpness == null || target != sharpness, finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeySharpness),
                     target,
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -1169,7 +1351,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
 
         if (command instanceof ShutterSpeedCameraCommand) {
             final CameraShutterSpeed target = ((ShutterSpeedCameraCommand) command).shutterSpeed;
-            Command.conditionallyExecute(target != getShutterSpeed(), finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != getShutterSpeed(), finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyShutterSpeed),
                     DronelinkAnzu.getCameraShutterSpeed(target),
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -1181,13 +1363,13 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
             final DoubleRect target = new DoubleRect();
             target.setX(spotMeteringTarget.x);
             target.setY(spotMeteringTarget.y);
-            KeyManager.getInstance().setValue(createLensKey(CameraKey.KeySpotMeteringTargetArea), target, DronelinkAnzu.createCompletionCallback(finished));
+            AnzuKeyWriter.getInstance().setValue(createLensKey(CameraKey.KeySpotMeteringTargetArea), target, DronelinkAnzu.createCompletionCallback(finished));
             return null;
         }
 
         if (command instanceof VideoCaptionCameraCommand) {
             final boolean target = ((VideoCaptionCameraCommand) command).enabled;
-            Command.conditionallyExecute(target != videoCaptionEnabled, finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != videoCaptionEnabled, finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyCameraVideoCaptionEnabled),
                     target,
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -1196,7 +1378,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
 
         if (command instanceof VideoFileCompressionStandardCameraCommand) {
             final CameraVideoFileCompressionStandard target = ((VideoFileCompressionStandardCameraCommand) command).videoFileCompressionStandard;
-            Command.conditionallyExecute(target != DronelinkAnzu.getCameraVideoFileCompressionStandard(videoFileMimeType), finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != DronelinkAnzu.getCameraVideoFileCompressionStandard(videoFileMimeType), finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyVideoMimeType),
                     DronelinkAnzu.getCameraVideoFileCompressionStandard(target),
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -1205,7 +1387,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
 
         if (command instanceof VideoFileFormatCameraCommand) {
             final CameraVideoFileFormat target = ((VideoFileFormatCameraCommand) command).videoFileFormat;
-            Command.conditionallyExecute(target != getVideoFileFormat(), finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != getVideoFileFormat(), finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyVideoFileFormat),
                     DronelinkAnzu.getCameraVideoFileFormat(target),
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -1214,7 +1396,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
 
         if (command instanceof VideoModeCameraCommand) {
             final CameraVideoMode target = ((VideoModeCameraCommand) command).videoMode;
-            Command.conditionallyExecute(target != DronelinkAnzu.getCameraVideoMode(videoRecordMode), finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != DronelinkAnzu.getCameraVideoMode(videoRecordMode), finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyVideoRecordMode),
                     DronelinkAnzu.getCameraVideoMode(target),
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -1225,7 +1407,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
             final CameraVideoResolution videoResolution = ((VideoResolutionFrameRateCameraCommand) command).videoResolution;
             final CameraVideoFrameRate videoFrameRate = ((VideoResolutionFrameRateCameraCommand) command).videoFrameRate;
             final CameraVideoFieldOfView videoFieldOfView = ((VideoResolutionFrameRateCameraCommand) command).videoFieldOfView;
-            Command.conditionallyExecute(videoResolution != getVideoResolution() || videoFrameRate != getVideoFrameRate() || videoFieldOfView != getVideoFieldOfView(), finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(videoResolution != getVideoResolution() || videoFrameRate != getVideoFrameRate() || videoFieldOfView != getVideoFieldOfView(), finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyVideoResolutionFrameRateAndFov),
                     new VideoResolutionFrameRateAndFov(
                             new VideoResolutionFrameRate(DronelinkAnzu.getCameraVideoResolution(videoResolution), DronelinkAnzu.getCameraVideoFrameRate(videoFrameRate)),
@@ -1236,7 +1418,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
 
         if (command instanceof VideoStandardCameraCommand) {
             final CameraVideoStandard target = ((VideoStandardCameraCommand) command).videoStandard;
-            Command.conditionallyExecute(target != DronelinkAnzu.getCameraVideoStandard(videoStandard), finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != DronelinkAnzu.getCameraVideoStandard(videoStandard), finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyVideoStandard),
                     DronelinkAnzu.getCameraVideoStandard(target),
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -1245,7 +1427,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
 
         if (command instanceof VideoStreamSourceCameraCommand) {
             final CameraVideoStreamSource target = ((VideoStreamSourceCameraCommand) command).videoStreamSource;
-            Command.conditionallyExecute(target != DronelinkAnzu.getCameraVideoStreamSource(videoStreamSource), finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != DronelinkAnzu.getCameraVideoStreamSource(videoStreamSource), finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyCameraVideoStreamSource),
                     DronelinkAnzu.getCameraVideoStreamSource(target),
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -1256,7 +1438,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
             final int target = ((WhiteBalanceCustomCameraCommand) command).whiteBalanceCustom;
             final CameraWhiteBalanceInfo whiteBalance = this.whiteBalance;
             final Integer current = whiteBalance == null ? null : whiteBalance.getColorTemperature();
-            Command.conditionallyExecute(getWhiteBalancePreset() != CameraWhiteBalancePreset.CUSTOM || current == null || current != target, finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(getWhiteBalancePreset() != CameraWhiteBalancePreset.CUSTOM || current == null || current != target, finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyWhiteBalance),
                     new CameraWhiteBalanceInfo(CameraWhiteBalanceMode.MANUAL, target),
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -1265,7 +1447,7 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
 
         if (command instanceof WhiteBalancePresetCameraCommand) {
             final CameraWhiteBalancePreset target = ((WhiteBalancePresetCameraCommand) command).whiteBalancePreset;
-            Command.conditionallyExecute(target != getWhiteBalancePreset(), finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != getWhiteBalancePreset(), finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createLensKey(CameraKey.KeyWhiteBalance),
                     new CameraWhiteBalanceInfo(DronelinkAnzu.getCameraWhiteBalancePreset(target), null),
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -1276,6 +1458,13 @@ class AnzuCameraStateAdapter implements CameraStateAdapter {
     }
 
 
+    private void setFocusRingPercent(final double focusRingPercent, final int focusRingMax, final Command.Finisher finished) {
+        AnzuKeyWriter.getInstance().setValue(
+                createLensKey(CameraKey.KeyCameraFocusRingValue),
+                (int)(focusRingPercent * focusRingMax),
+                DronelinkAnzu.createCompletionCallback(finished));
+    }
+
     private void commandFinishFocusTargetVerifyRing(final Context context, final FocusCameraCommand command, final Command.Finisher finished) {
         commandFinishFocusTargetVerifyRing(context, command, 0, 10, finished);
     }
@@ -0,0 +1,160 @@
+//  AnzuCommandCompletions.java
+//  DronelinkAnzu
+//
+//  Created by agent on 10/18/26.
+//  Copyright © 2026 Dronelink. All rights reserved.
+//
+package com.dronelink.anzu.adapters;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.annotation.Nullable;
+
+import com.dronelink.core.command.Command;
+import com.dronelink.core.command.CommandError;
+
+import java.util.ArrayList;
+import java.util.List;
+
+//commands that finish once the component reports a condition, evaluated whenever the relevant state changes instead of on a poll interval
+//each completion has a timeout as a backstop, in case the update that satisfies it never arrives
+class AnzuCommandCompletions {
+    interface Condition {
+        boolean isSatisfied(long elapsedMillis);
+    }
+
+    interface Satisfied {
+        void onSatisfied(long elapsedMillis);
+    }
+
+    private final class Completion {
+        final String description;
+        final Condition condition;
+        final Satisfied satisfied;
+        final CommandError timeoutError;
+        final Command.Finisher finished;
+        final long started = SystemClock.elapsedRealtime();
+        final Runnable timeout = this::timeout;
+        Runnable recheck;
+
+        Completion(final String description, final Condition condition, final Satisfied satisfied, final CommandError timeoutError, final Command.Finisher finished) {
+            this.description = description;
+            this.condition = condition;
+            this.satisfied = satisfied;
+            this.timeoutError = timeoutError;
+            this.finished = finished;
+        }
+
+        long elapsed() {
+            return SystemClock.elapsedRealtime() - started;
+        }
+
+        void timeout() {
+            //one last look, the condition may have become true without an update (time based state)
+            final long elapsed = elapsed();
+            if (condition.isSatisfied(elapsed)) {
+                complete(this, elapsed);
+                return;
+            }
+
+            if (!remove(this)) {
+                return;
+            }
+
+            Log.d(TAG, description + " timed out after " + elapsed + "ms");
+            if (timeoutError == null && satisfied != null) {
+                satisfied.onSatisfied(elapsed);
+            }
+            else {
+                finished.execute(timeoutError);
+            }
+        }
+    }
+
+    private static final String TAG = AnzuCommandCompletions.class.getCanonicalName();
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final List<Completion> completions = new ArrayList<>();
+
+    //recheckMillis > 0 evaluates once more at that point, for conditions that can become true with the passage of time alone
+    //a null timeoutError finishes the command successfully when the timeout expires (the condition was only worth waiting for)
+    //satisfied replaces finishing the command, so completions can be chained
+    void await(final String description, final Condition condition, final long recheckMillis, final long timeoutMillis, final @Nullable CommandError timeoutError, final @Nullable Satisfied satisfied, final Command.Finisher finished) {
+        final Completion completion = new Completion(description, condition, satisfied, timeoutError, finished);
+        if (condition.isSatisfied(0)) {
+            finish(completion, 0);
+            return;
+        }
+
+        synchronized (completions) {
+            completions.add(completion);
+        }
+
+        if (recheckMillis > 0 && recheckMillis < timeoutMillis) {
+            completion.recheck = () -> evaluate(completion);
+            handler.postDelayed(completion.recheck, recheckMillis);
+        }
+        handler.postDelayed(completion.timeout, timeoutMillis);
+    }
+
+    //called when any state the conditions depend on changes
+    void evaluate() {
+        final List<Completion> pending;
+        synchronized (completions) {
+            if (completions.isEmpty()) {
+                return;
+            }
+            pending = new ArrayList<>(completions);
+        }
+
+        for (final Completion completion : pending) {
+            evaluate(completion);
+        }
+    }
+
+    int getPendingCount() {
+        synchronized (completions) {
+            return completions.size();
+        }
+    }
+
+    private void evaluate(final Completion completion) {
+        final long elapsed = completion.elapsed();
+        if (completion.condition.isSatisfied(elapsed)) {
+            complete(completion, elapsed);
+        }
+    }
+
+    private void complete(final Completion completion, final long elapsed) {
+        if (remove(completion)) {
+            finish(completion, elapsed);
+        }
+    }
+
+    private boolean remove(final Completion completion) {
+        synchronized (completions) {
+            if (!completions.remove(completion)) {
+                return false;
+            }
+        }
+
+        handler.removeCallbacks(completion.timeout);
+        if (completion.recheck != null) {
+            handler.removeCallbacks(completion.recheck);
+        }
+        return true;
+    }
+
+    private void finish(final Completion completion, final long elapsed) {
+        Log.d(TAG, completion.description + " after " + elapsed + "ms");
+        if (completion.satisfied != null) {
+            completion.satisfied.onSatisfied(elapsed);
+        }
+        else {
+            completion.finished.execute(null);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+//  AnzuComponentTable.java
+//  DronelinkAnzu
+//
+//  Created by agent on 10/18/26.
+//  Copyright © 2026 Dronelink. All rights reserved.
+//
+package com.dronelink.anzu.adapters;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+//components addressed by their index (ComponentIndexType.value() or battery index)
+//writes (connect / disconnect) copy the table, reads are a volatile read and an array access with no locking or allocation
+class AnzuComponentTable<T> {
+    private static final class Snapshot<T> {
+        final Object[] slots;
+        //immutable, in index order
+        final List<T> values;
+
+        Snapshot(final Object[] slots, final List<T> values) {
+            this.slots = slots;
+            this.values = values;
+        }
+    }
+
+    private final Object writeLock = new Object();
+    private volatile Snapshot<T> snapshot = new Snapshot<>(new Object[0], Collections.emptyList());
+
+    @SuppressWarnings("unchecked")
+    T get(final int index) {
+        final Object[] slots = snapshot.slots;
+        if (index < 0 || index >= slots.length) {
+            return null;
+        }
+        return (T) slots[index];
+    }
+
+    //the returned list is a snapshot, it isn't affected by later changes
+    List<T> values() {
+        return snapshot.values;
+    }
+
+    T put(final int index, final T component) {
+        synchronized (writeLock) {
+            final Object[] previous = snapshot.slots;
+            final Object[] slots = new Object[Math.max(previous.length, index + 1)];
+            System.arraycopy(previous, 0, slots, 0, previous.length);
+            @SuppressWarnings("unchecked") final T replaced = (T) slots[index];
+            slots[index] = component;
+            snapshot = create(slots);
+            return replaced;
+        }
+    }
+
+    T remove(final int index) {
+        synchronized (writeLock) {
+            final Object[] previous = snapshot.slots;
+            if (index < 0 || index >= previous.length || previous[index] == null) {
+                return null;
+            }
+
+            final Object[] slots = previous.clone();
+            @SuppressWarnings("unchecked") final T removed = (T) slots[index];
+            slots[index] = null;
+            snapshot = create(slots);
+            return removed;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Snapshot<T> create(final Object[] slots) {
+        final List<T> values = new ArrayList<>(slots.length);
+        for (final Object slot : slots) {
+            if (slot != null) {
+                values.add((T) slot);
+            }
+        }
+        return new Snapshot<>(slots, Collections.unmodifiableList(values));
+    }
+}
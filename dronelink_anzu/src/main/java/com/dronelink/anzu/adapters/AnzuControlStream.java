@@ -0,0 +1,102 @@
+//  AnzuControlStream.java
+//  DronelinkAnzu
+//
+//  Created by agent on 10/18/26.
+//  Copyright © 2026 Dronelink. All rights reserved.
+//
+package com.dronelink.anzu.adapters;
+
+import java.util.concurrent.locks.LockSupport;
+
+//fixed-rate tick thread used for the gimbal speed and virtual stick output streams
+class AnzuControlStream {
+    private static final double CADENCE_SMOOTHING = 0.1;
+    private static final long MAX_PERIOD_NANOS = 1_000_000_000L;
+
+    private final String name;
+    private final double frequency;
+    private final Runnable tick;
+    private volatile boolean running = false;
+    private volatile Thread thread;
+    private volatile double achievedFrequency = 0;
+    private volatile long missedDeadlines = 0;
+
+    AnzuControlStream(final String name, final double frequency, final Runnable tick) {
+        if (!(frequency > 0) || Double.isInfinite(frequency)) {
+            throw new IllegalArgumentException("Invalid control stream frequency: " + frequency);
+        }
+
+        this.name = name;
+        this.frequency = frequency;
+        this.tick = tick;
+    }
+
+    double getFrequency() {
+        return frequency;
+    }
+
+    double getAchievedFrequency() {
+        return achievedFrequency;
+    }
+
+    long getMissedDeadlines() {
+        return missedDeadlines;
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    void start() {
+        if (running) {
+            return;
+        }
+
+        running = true;
+        final Thread thread = new Thread(this::run, name);
+        this.thread = thread;
+        thread.start();
+    }
+
+    void stop() {
+        running = false;
+        final Thread thread = this.thread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void run() {
+        //bounded so deadline arithmetic can't overflow and the loop always parks
+        final long period = Math.max(1, Math.min(MAX_PERIOD_NANOS, (long) (1_000_000_000L / frequency)));
+        //deadlines are absolute multiples of the period so a slow tick doesn't push every following tick back
+        long deadline = System.nanoTime();
+        long previous = 0;
+        while (running) {
+            final long now = System.nanoTime();
+            if (previous > 0) {
+                final double instantaneous = 1_000_000_000.0 / Math.max(1, now - previous);
+                achievedFrequency = achievedFrequency == 0 ? instantaneous : achievedFrequency + (instantaneous - achievedFrequency) * CADENCE_SMOOTHING;
+            }
+            previous = now;
+
+            tick.run();
+
+            deadline += period;
+            long remaining = deadline - System.nanoTime();
+            if (remaining < 0) {
+                //fell more than a period behind, skip ahead to the next deadline rather than bursting to catch up
+                final long missed = -remaining / period + 1;
+                missedDeadlines += missed;
+                deadline += missed * period;
+                remaining = deadline - System.nanoTime();
+            }
+
+            while (running && remaining > 0) {
+                LockSupport.parkNanos(this, remaining);
+                remaining = deadline - System.nanoTime();
+            }
+        }
+        achievedFrequency = 0;
+    }
+}
@@ -8,6 +8,7 @@ package com.dronelink.anzu.adapters;
 
 import android.content.Context;
 import android.os.Handler;
+import android.os.Looper;
 import android.util.Log;
 
 import androidx.annotation.Nullable;
@@ -76,13 +77,15 @@ import com.dronelink.core.kernel.core.enums.DroneObstacleAvoidanceMode;
 import com.dronelink.core.kernel.core.enums.DroneOcuSyncFrequencyBand;
 import com.dronelink.core.kernel.core.enums.GimbalMode;
 import com.dronelink.anzu.AnzuCameraFile;
+import com.dronelink.anzu.AnzuKeyWriter;
 import com.dronelink.anzu.AnzuListenerGroup;
+import com.dronelink.anzu.AnzuMediaIndex;
 import com.dronelink.anzu.DronelinkAnzu;
 import com.dronelink.anzu.R;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -101,14 +104,12 @@ import dji.sdk.keyvalue.value.flightcontroller.FailsafeAction;
 import dji.sdk.keyvalue.value.flightcontroller.FlightCoordinateSystem;
 import dji.sdk.keyvalue.value.flightcontroller.RollPitchControlMode;
 import dji.sdk.keyvalue.value.flightcontroller.VerticalControlMode;
-import dji.sdk.keyvalue.value.flightcontroller.VirtualStickFlightControlParam;
 import dji.sdk.keyvalue.value.flightcontroller.YawControlMode;
 import dji.sdk.keyvalue.value.product.ProductType;
 import dji.v5.common.callback.CommonCallbacks;
 import dji.v5.manager.KeyManager;
 import dji.v5.manager.aircraft.perception.PerceptionManager;
 import dji.v5.manager.aircraft.perception.data.PerceptionDirection;
-import dji.v5.manager.aircraft.virtualstick.VirtualStickManager;
 import dji.v5.manager.aircraft.virtualstick.VirtualStickRange;
 import dji.v5.manager.datacenter.MediaDataCenter;
 import dji.v5.manager.datacenter.livestream.LiveStreamSettings;
@@ -130,11 +131,22 @@ public class AnzuDroneAdapter implements DroneAdapter {
 
     private final AnzuListenerGroup listeners = new AnzuListenerGroup();
     private final AnzuRemoteControllerAdapter remoteController;
-    private final Map<ComponentIndexType, CameraAdapter> cameras = new HashMap<>();
-    private final Map<ComponentIndexType, GimbalAdapter> gimbals = new HashMap<>();
-    private final Map<Integer, AnzuBatteryAdapter> batteries = new HashMap<>();
+    private final AnzuVirtualStickOutput virtualStickOutput = new AnzuVirtualStickOutput(DronelinkAnzu.VirtualStickOutputFrequency);
+    private final AnzuPIDYawController defaultYawController = new AnzuPIDYawController(AnzuPIDYawController.DEFAULT_PROFILE);
+    private volatile AnzuYawController yawController = defaultYawController;
+    private final AnzuComponentTable<CameraAdapter> cameras = new AnzuComponentTable<>();
+    private final AnzuComponentTable<GimbalAdapter> gimbals = new AnzuComponentTable<>();
+    private final AnzuComponentTable<BatteryAdapter> batteries = new AnzuComponentTable<>();
     private final AnzuRTKAdapter rtk;
     private final AnzuLiveStreamingAdapter liveStreaming;
+    private final AnzuMediaIndex mediaIndex = new AnzuMediaIndex();
+    private final Handler cameraFileHandler = new Handler(Looper.getMainLooper());
+    private final Object statusMessagesLock = new Object();
+    //the list each source returned (null when a source is disabled) when the cached messages were built,
+    //sources only rebuild their lists when their inputs change, so identity is their version
+    private final List<List<Message>> statusMessagesSources = new ArrayList<>();
+    private final List<List<Message>> statusMessagesSourcesUpdate = new ArrayList<>();
+    private List<Message> statusMessages = Collections.emptyList();
 
     public AnzuDroneAdapter(final Context context, final CommonCallbacks.CompletionCallbackWithParam<String> onSerialNumber, final CameraFileGeneratedCallback cameraFileReceiver) {
         state = new AnzuDroneStateAdapter(context, this);
@@ -158,6 +170,7 @@ public class AnzuDroneAdapter implements DroneAdapter {
             if (newValue != null) {
                 productType = newValue;
                 Log.i(TAG, "Product type: " + productType.name());
+                defaultYawController.setProductType(productType);
             }
         });
 
@@ -173,53 +186,59 @@ public class AnzuDroneAdapter implements DroneAdapter {
         for (final ComponentIndexType index : ComponentIndexType.values()) {
             if (index != ComponentIndexType.UNKNOWN && index != ComponentIndexType.AGGREGATION) {
                 listeners.init(KeyTools.createKey(GimbalKey.KeyConnection, index), (oldValue, newValue) -> {
-                    synchronized (gimbals) {
-                        if (newValue == null || !newValue) {
-                            final AnzuGimbalAdapter gimbal = (AnzuGimbalAdapter) gimbals.remove(index);
-                            if (gimbal != null) {
-                                Log.i(TAG, "Gimbal disconnected: " + index.name());
-                                gimbal.close();
-                            }
-                        } else {
-                            Log.i(TAG, "Gimbal connected: " + index.name());
-                            gimbals.put(index, new AnzuGimbalAdapter(index));
+                    if (newValue == null || !newValue) {
+                        final AnzuGimbalAdapter gimbal = (AnzuGimbalAdapter) gimbals.remove(index.value());
+                        if (gimbal != null) {
+                            Log.i(TAG, "Gimbal disconnected: " + index.name());
+                            gimbal.close();
+                        }
+                    } else {
+                        Log.i(TAG, "Gimbal connected: " + index.name());
+                        final AnzuGimbalAdapter replaced = (AnzuGimbalAdapter) gimbals.put(index.value(), new AnzuGimbalAdapter(index));
+                        if (replaced != null) {
+                            replaced.close();
                         }
                     }
                 });
 
                 listeners.init(KeyTools.createKey(CameraKey.KeyConnection, index), (oldValue, newValue) -> {
-                    synchronized (cameras) {
-                        if (newValue == null || !newValue) {
-                            final AnzuCameraAdapter camera = (AnzuCameraAdapter) cameras.remove(index);
-                            if (camera != null) {
-                                Log.i(TAG, "Camera disconnected: " + index.name());
-                                camera.close();
-                            }
-                        } else {
-                            Log.i(TAG, "Camera connected: " + index.name());
-                            cameras.put(index, new AnzuCameraAdapter(context, this, index, info -> {
-                                final Orientation3 orientation = state.getOrientation();
-                                final DatedValue<GimbalStateAdapter> gimbalState = getGimbalState(index.value());
-                                if (gimbalState != null) {
-                                    orientation.x = gimbalState.value.getOrientation().x;
-                                    orientation.y = gimbalState.value.getOrientation().y;
-                                    if (gimbalState.value.getMode() == GimbalMode.FREE) {
-                                        orientation.z = gimbalState.value.getOrientation().z;
-                                    }
-                                } else {
-                                    orientation.x = 0.0;
-                                    orientation.y = 0.0;
+                    if (newValue == null || !newValue) {
+                        final AnzuCameraAdapter camera = (AnzuCameraAdapter) cameras.remove(index.value());
+                        if (camera != null) {
+                            Log.i(TAG, "Camera disconnected: " + index.name());
+                            camera.close();
+                        }
+                    } else {
+                        Log.i(TAG, "Camera connected: " + index.name());
+                        final AnzuCameraAdapter replaced = (AnzuCameraAdapter) cameras.put(index.value(), new AnzuCameraAdapter(context, this, index, info -> {
+                            //read location, altitude and attitude from the same telemetry frame so the geotag isn't skewed
+                            final AnzuDroneTelemetry.Frame telemetry = new AnzuDroneTelemetry.Frame();
+                            state.telemetry.read(telemetry);
+                            final Orientation3 orientation = telemetry.createOrientation();
+                            final DatedValue<GimbalStateAdapter> gimbalState = getGimbalState(index.value());
+                            if (gimbalState != null) {
+                                orientation.x = gimbalState.value.getOrientation().x;
+                                orientation.y = gimbalState.value.getOrientation().y;
+                                if (gimbalState.value.getMode() == GimbalMode.FREE) {
+                                    orientation.z = gimbalState.value.getOrientation().z;
                                 }
+                            } else {
+                                orientation.x = 0.0;
+                                orientation.y = 0.0;
+                            }
 
-                                final AnzuCameraFile cameraFile = new AnzuCameraFile(index.value(), info, state.getLocation(), state.getAltitude(), orientation);
-                                new Handler().post(() -> {
-                                    cameraFileReceiver.onCameraFileGenerated(cameraFile);
-                                    Log.d(TAG, String.format("Camera[%d] file generated: %s, %s",
-                                            cameraFile.getChannel(),
-                                            cameraFile.getName(),
-                                            Convert.HumanReadableByteCount(cameraFile.getSize(), true)));
-                                });
-                            }));
+                            final AnzuCameraFile cameraFile = new AnzuCameraFile(index.value(), info, telemetry.createLocation(), telemetry.altitude, orientation);
+                            mediaIndex.append(index.value(), info, cameraFile.getCoordinate(), cameraFile.getAltitude(), orientation);
+                            cameraFileHandler.post(() -> {
+                                cameraFileReceiver.onCameraFileGenerated(cameraFile);
+                                Log.d(TAG, String.format("Camera[%d] file generated: %s, %s",
+                                        cameraFile.getChannel(),
+                                        cameraFile.getName(),
+                                        Convert.HumanReadableByteCount(cameraFile.getSize(), true)));
+                            });
+                        }));
+                        if (replaced != null) {
+                            replaced.close();
                         }
                     }
                 });
@@ -244,16 +263,17 @@ public class AnzuDroneAdapter implements DroneAdapter {
         for (int batteryIndex = 0; batteryIndex < 2; batteryIndex++) {
             final int index = batteryIndex;
             listeners.init(KeyTools.createKey(BatteryKey.KeyConnection, index), (oldValue, newValue) -> {
-                synchronized (batteries) {
-                    if (newValue == null || !newValue) {
-                        final AnzuBatteryAdapter battery = batteries.remove(index);
-                        if (battery != null) {
-                            Log.i(TAG, "Battery disconnected: " + index);
-                            battery.close();
-                        }
-                    } else {
-                        Log.i(TAG, "Battery connected: " + index);
-                        batteries.put(index, new AnzuBatteryAdapter(index));
+                if (newValue == null || !newValue) {
+                    final AnzuBatteryAdapter battery = (AnzuBatteryAdapter) batteries.remove(index);
+                    if (battery != null) {
+                        Log.i(TAG, "Battery disconnected: " + index);
+                        battery.close();
+                    }
+                } else {
+                    Log.i(TAG, "Battery connected: " + index);
+                    final AnzuBatteryAdapter replaced = (AnzuBatteryAdapter) batteries.put(index, new AnzuBatteryAdapter(index));
+                    if (replaced != null) {
+                        replaced.close();
                     }
                 }
             });
@@ -267,6 +287,7 @@ public class AnzuDroneAdapter implements DroneAdapter {
         listeners.cancelAll();
         state.close();
         remoteController.close();
+        virtualStickOutput.stop();
 
         for (final CameraAdapter camera : getCameras()) {
             ((AnzuCameraAdapter)camera).close();
@@ -279,38 +300,75 @@ public class AnzuDroneAdapter implements DroneAdapter {
         for (final BatteryAdapter battery : getBatteries()) {
             ((AnzuBatteryAdapter)battery).close();
         }
+
+        mediaIndex.close();
+    }
+
+    //every file generated during the session
+    public AnzuMediaIndex getMediaIndex() {
+        return mediaIndex;
     }
 
     public DatedValue<DroneStateAdapter> getState() {
         return state.asDatedValue();
     }
 
+    //camera, RTK and live streaming messages, the same list is returned until one of the sources changes
     public List<Message> getStatusMessages() {
-        final List<Message> messages = new ArrayList<>();
+        synchronized (statusMessagesLock) {
+            final List<List<Message>> sources = statusMessagesSourcesUpdate;
+            sources.clear();
+            for (final CameraAdapter camera : getCameras()) {
+                sources.add(((AnzuCameraAdapter)camera).getStatusMessages());
+            }
 
-        for (final CameraAdapter camera : getCameras()) {
-            messages.addAll(((AnzuCameraAdapter)camera).getStatusMessages());
-        }
+            final DatedValue<RTKStateAdapter> rtkState = getRTKState();
+            sources.add(rtkState != null && rtkState.value != null && rtkState.value.isEnabled() ? rtkState.value.getStatusMessages() : null);
 
-        final DatedValue<RTKStateAdapter> rtkState = getRTKState();
-        if (rtkState != null && rtkState.value != null && rtkState.value.isEnabled()) {
-            for (final Message message : rtkState.value.getStatusMessages()) {
-                if (message.level != Message.Level.INFO) {
-                    messages.add(message);
-                }
+            final DatedValue<LiveStreamingStateAdapter> liveStreamingState = getLiveStreamingState();
+            sources.add(liveStreamingState != null && liveStreamingState.value != null && liveStreamingState.value.isEnabled() ? liveStreamingState.value.getStatusMessages() : null);
+
+            if (isStatusMessagesSourcesUnchanged(sources)) {
+                return statusMessages;
             }
-        }
 
-        final DatedValue<LiveStreamingStateAdapter> liveStreamingState = getLiveStreamingState();
-        if (liveStreamingState != null && liveStreamingState.value != null && liveStreamingState.value.isEnabled()) {
-            for (final Message message : liveStreamingState.value.getStatusMessages()) {
-                if (message.level != Message.Level.INFO) {
-                    messages.add(message);
+            statusMessagesSources.clear();
+            statusMessagesSources.addAll(sources);
+            final List<Message> messages = new ArrayList<>();
+            final int cameraCount = sources.size() - 2;
+            for (int i = 0; i < sources.size(); i++) {
+                final List<Message> source = sources.get(i);
+                if (source == null) {
+                    continue;
+                }
+
+                if (i < cameraCount) {
+                    messages.addAll(source);
+                    continue;
+                }
+
+                for (final Message message : source) {
+                    if (message.level != Message.Level.INFO) {
+                        messages.add(message);
+                    }
                 }
             }
+            statusMessages = Collections.unmodifiableList(messages);
+            return statusMessages;
+        }
+    }
+
+    private boolean isStatusMessagesSourcesUnchanged(final List<List<Message>> sources) {
+        if (sources.size() != statusMessagesSources.size()) {
+            return false;
         }
 
-        return messages;
+        for (int i = 0; i < sources.size(); i++) {
+            if (sources.get(i) != statusMessagesSources.get(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -322,23 +380,22 @@ public class AnzuDroneAdapter implements DroneAdapter {
 
     @Override
     public Collection<CameraAdapter> getCameras() {
-        synchronized (cameras) {
-            return new ArrayList<>(cameras.values());
-        }
+        return cameras.values();
     }
 
     @Override
     public Collection<GimbalAdapter> getGimbals() {
-        synchronized (gimbals) {
-            return new ArrayList<>(gimbals.values());
-        }
+        return gimbals.values();
+    }
+
+    //indexable snapshot of the connected gimbals, lets hot paths iterate without allocating
+    public List<GimbalAdapter> getGimbalList() {
+        return gimbals.values();
     }
 
     @Override
     public Collection<BatteryAdapter> getBatteries() {
-        synchronized (batteries) {
-            return new ArrayList<>(batteries.values());
-        }
+        return batteries.values();
     }
 
     @Override
@@ -354,38 +411,17 @@ public class AnzuDroneAdapter implements DroneAdapter {
 
     @Override
     public CameraAdapter getCamera(final int channel) {
-        synchronized (cameras) {
-            for (final CameraAdapter camera : cameras.values()) {
-                if (camera.getIndex() == channel) {
-                    return camera;
-                }
-            }
-            return null;
-        }
+        return cameras.get(channel);
     }
 
     @Override
     public GimbalAdapter getGimbal(final int channel) {
-        synchronized (gimbals) {
-            for (final GimbalAdapter gimbal : gimbals.values()) {
-                if (gimbal.getIndex() == channel) {
-                    return gimbal;
-                }
-            }
-            return null;
-        }
+        return gimbals.get(channel);
     }
 
     @Override
     public BatteryAdapter getBattery(final int index) {
-        synchronized (batteries) {
-            for (final BatteryAdapter battery : batteries.values()) {
-                if (battery.getIndex() == index) {
-                    return battery;
-                }
-            }
-            return null;
-        }
+        return batteries.get(index);
     }
 
     @Override
@@ -402,15 +438,52 @@ public class AnzuDroneAdapter implements DroneAdapter {
         return false;
     }
 
-    private void setVirtualStickFlightControlParamYaw(final VirtualStickFlightControlParam param, final double heading) {
-        if (isYawControlModeAngleAvailable()) {
-            param.setYawControlMode(YawControlMode.ANGLE);
-            param.setYaw(Math.toDegrees(Convert.AngleDifferenceSigned(heading, 0)));
-        }
-        else {
-            param.setYawControlMode(YawControlMode.ANGULAR_VELOCITY);
-            param.setYaw(Math.toDegrees(Convert.AngleDifferenceSigned(heading, state.getOrientation().getYaw()) * 1.5));
+    private YawControlMode getHeadingYawControlMode() {
+        return isYawControlModeAngleAvailable() ? YawControlMode.ANGLE : YawControlMode.ANGULAR_VELOCITY;
+    }
+
+    private double getHeadingYaw(final YawControlMode yawControlMode, final double heading) {
+        if (yawControlMode == YawControlMode.ANGLE) {
+            return Math.toDegrees(Convert.AngleDifferenceSigned(heading, 0));
         }
+        return yawController.getYawRate(heading, state.telemetry.getYaw(), System.nanoTime());
+    }
+
+    //replaces the controller used to reach a heading when only ANGULAR_VELOCITY yaw control is available, null restores the default
+    public void setYawController(final @Nullable AnzuYawController yawController) {
+        final AnzuYawController controller = yawController == null ? defaultYawController : yawController;
+        controller.reset();
+        this.yawController = controller;
+    }
+
+    public AnzuYawController getYawController() {
+        return yawController;
+    }
+
+    public void setVirtualStickOutputFrequency(final double frequency) {
+        virtualStickOutput.setFrequency(frequency);
+    }
+
+    public double getVirtualStickOutputFrequency() {
+        return virtualStickOutput.getFrequency();
+    }
+
+    public double getVirtualStickOutputAchievedFrequency() {
+        return virtualStickOutput.getAchievedFrequency();
+    }
+
+    //setpoints from the kernel that were superseded before the output stage sent them
+    public long getVirtualStickMergedSetpoints() {
+        return virtualStickOutput.getMergedSetpoints();
+    }
+
+    public long getVirtualStickSentSetpoints() {
+        return virtualStickOutput.getSentSetpoints();
+    }
+
+    public void stopVirtualStickOutput() {
+        virtualStickOutput.stop();
+        yawController.reset();
     }
 
     @Override
@@ -420,28 +493,33 @@ public class AnzuDroneAdapter implements DroneAdapter {
             return;
         }
 
-        final VirtualStickFlightControlParam param = new VirtualStickFlightControlParam();
-        param.setRollPitchControlMode(RollPitchControlMode.VELOCITY);
-        param.setRollPitchCoordinateSystem(FlightCoordinateSystem.GROUND);
-        param.setVerticalControlMode(VerticalControlMode.VELOCITY);
         final Vector2 horizontal = velocityCommand.velocity.getHorizontal();
         //TODO allow the web to plan missions up to 23 m/s?
         horizontal.magnitude = Math.min(VirtualStickRange.ROLL_PITCH_CONTROL_MAX_VELOCITY, horizontal.magnitude);
-        param.setPitch(horizontal.getY());
-        param.setRoll(horizontal.getX());
-        param.setVerticalThrottle(Math.min(
+        final double verticalThrottle = Math.min(
                 VirtualStickRange.VERTICAL_CONTROL_MAX_VELOCITY,
                 Math.max(VirtualStickRange.VERTICAL_CONTROL_MIN_VELOCITY,
-                        velocityCommand.velocity.getVertical())));
+                        velocityCommand.velocity.getVertical()));
         final Double heading = velocityCommand.heading;
+        final YawControlMode yawControlMode;
+        final double yaw;
         if (heading == null) {
-            param.setYawControlMode(YawControlMode.ANGULAR_VELOCITY);
-            param.setYaw(Math.toDegrees(velocityCommand.velocity.getRotational()));
+            yawControlMode = YawControlMode.ANGULAR_VELOCITY;
+            yaw = Math.toDegrees(velocityCommand.velocity.getRotational());
         }
         else {
-            setVirtualStickFlightControlParamYaw(param, heading);
+            yawControlMode = getHeadingYawControlMode();
+            yaw = getHeadingYaw(yawControlMode, heading);
         }
-        VirtualStickManager.getInstance().sendVirtualStickAdvancedParam(param);
+        virtualStickOutput.submit(
+                RollPitchControlMode.VELOCITY,
+                FlightCoordinateSystem.GROUND,
+                VerticalControlMode.VELOCITY,
+                yawControlMode,
+                horizontal.getY(),
+                horizontal.getX(),
+                yaw,
+                verticalThrottle);
     }
 
     @Override
@@ -451,23 +529,26 @@ public class AnzuDroneAdapter implements DroneAdapter {
             return;
         }
 
-        final VirtualStickFlightControlParam param = new VirtualStickFlightControlParam();
-        param.setRollPitchControlMode(RollPitchControlMode.ANGLE);
-        param.setRollPitchCoordinateSystem(FlightCoordinateSystem.BODY);
-        param.setVerticalControlMode(VerticalControlMode.VELOCITY);
-        param.setYawControlMode(remoteControllerSticks.heading == null ? YawControlMode.ANGULAR_VELOCITY : YawControlMode.ANGLE);
-        param.setPitch(-remoteControllerSticks.rightStick.y * 30);
-        param.setRoll(remoteControllerSticks.rightStick.x * 30);
-        param.setVerticalThrottle(remoteControllerSticks.leftStick.y * 4.0);
         final Double heading = remoteControllerSticks.heading;
+        final YawControlMode yawControlMode;
+        final double yaw;
         if (heading == null) {
-            param.setYawControlMode(YawControlMode.ANGULAR_VELOCITY);
-            param.setYaw(remoteControllerSticks.leftStick.x * 100);
+            yawControlMode = YawControlMode.ANGULAR_VELOCITY;
+            yaw = remoteControllerSticks.leftStick.x * 100;
         }
         else {
-            setVirtualStickFlightControlParamYaw(param, heading);
+            yawControlMode = getHeadingYawControlMode();
+            yaw = getHeadingYaw(yawControlMode, heading);
         }
-        VirtualStickManager.getInstance().sendVirtualStickAdvancedParam(param);
+        virtualStickOutput.submit(
+                RollPitchControlMode.ANGLE,
+                FlightCoordinateSystem.BODY,
+                VerticalControlMode.VELOCITY,
+                yawControlMode,
+                -remoteControllerSticks.rightStick.y * 30,
+                remoteControllerSticks.rightStick.x * 30,
+                yaw,
+                remoteControllerSticks.leftStick.y * 4.0);
     }
 
     @Override
@@ -569,31 +650,27 @@ public class AnzuDroneAdapter implements DroneAdapter {
     }
 
     public void sendResetVelocityCommand() {
-        final VirtualStickFlightControlParam param = new VirtualStickFlightControlParam();
-        param.setRollPitchControlMode(RollPitchControlMode.VELOCITY);
-        param.setRollPitchCoordinateSystem(FlightCoordinateSystem.GROUND);
-        param.setVerticalControlMode(VerticalControlMode.VELOCITY);
-        param.setYawControlMode(YawControlMode.ANGULAR_VELOCITY);
-        param.setPitch(0.0);
-        param.setRoll(0.0);
-        param.setYaw(0.0);
-        param.setVerticalThrottle(0.0);
-        VirtualStickManager.getInstance().sendVirtualStickAdvancedParam(param);
+        //a stop shouldn't wait for the next output tick
+        virtualStickOutput.submitImmediately(
+                RollPitchControlMode.VELOCITY,
+                FlightCoordinateSystem.GROUND,
+                VerticalControlMode.VELOCITY,
+                YawControlMode.ANGULAR_VELOCITY,
+                0.0,
+                0.0,
+                0.0,
+                0.0);
     }
 
     public void sendResetGimbalCommands() {
-        synchronized (gimbals) {
-            for (final GimbalAdapter gimbal : gimbals.values()) {
-                ((AnzuGimbalAdapter) gimbal).sendResetCommands();
-            }
+        for (final GimbalAdapter gimbal : gimbals.values()) {
+            ((AnzuGimbalAdapter) gimbal).sendResetCommands();
         }
     }
 
     public void sendResetCameraCommands() {
-        synchronized (cameras) {
-            for (final CameraAdapter camera : cameras.values()) {
-                ((AnzuCameraAdapter) camera).sendResetCommands();
-            }
+        for (final CameraAdapter camera : cameras.values()) {
+            ((AnzuCameraAdapter) camera).sendResetCommands();
         }
     }
 
@@ -612,7 +689,7 @@ public class AnzuDroneAdapter implements DroneAdapter {
 
         if (command instanceof ConnectionFailSafeBehaviorDroneCommand) {
             final FailsafeAction target = DronelinkAnzu.getDroneConnectionFailSafeBehavior(((ConnectionFailSafeBehaviorDroneCommand) command).connectionFailSafeBehavior);
-            Command.conditionallyExecute(target != state.failSafeAction, finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != state.failSafeAction, finished, () -> AnzuKeyWriter.getInstance().setValue(
                     KeyTools.createKey(FlightControllerKey.KeyFailsafeAction),
                     target,
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -621,34 +698,34 @@ public class AnzuDroneAdapter implements DroneAdapter {
 
         if (command instanceof HomeLocationDroneCommand) {
             final GeoCoordinate coordinate = ((HomeLocationDroneCommand) command).coordinate;
-            KeyManager.getInstance().setValue(KeyTools.createKey(FlightControllerKey.KeyHomeLocation), DronelinkAnzu.getCoordinate(coordinate), DronelinkAnzu.createCompletionCallback(finished));
+            AnzuKeyWriter.getInstance().setValue(KeyTools.createKey(FlightControllerKey.KeyHomeLocation), DronelinkAnzu.getCoordinate(coordinate), DronelinkAnzu.createCompletionCallback(finished));
             return null;
         }
 
         if (command instanceof LowBatteryWarningThresholdDroneCommand) {
             final int target = (int)(((LowBatteryWarningThresholdDroneCommand) command).lowBatteryWarningThreshold * 100);
-            Command.conditionallyExecute(target != state.lowBatteryThreshold, finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != state.lowBatteryThreshold, finished, () -> AnzuKeyWriter.getInstance().setValue(
                     KeyTools.createKey(FlightControllerKey.KeyLowBatteryWarningThreshold), target, DronelinkAnzu.createCompletionCallback(finished)));
             return null;
         }
 
         if (command instanceof MaxAltitudeDroneCommand) {
             final int target = (int)((MaxAltitudeDroneCommand) command).maxAltitude;
-            Command.conditionallyExecute(state.maxAltitude == null || target != state.maxAltitude, finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(state.maxAltitude == null || target != state.maxAltitude, finished, () -> AnzuKeyWriter.getInstance().setValue(
                     KeyTools.createKey(FlightControllerKey.KeyHeightLimit), target, DronelinkAnzu.createCompletionCallback(finished)));
             return null;
         }
 
         if (command instanceof MaxDistanceDroneCommand) {
             final int target = (int)((MaxDistanceDroneCommand) command).maxDistance;
-            Command.conditionallyExecute(state.maxDistance == null || target != state.maxDistance, finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(state.maxDistance == null || target != state.maxDistance, finished, () -> AnzuKeyWriter.getInstance().setValue(
                     KeyTools.createKey(FlightControllerKey.KeyDistanceLimit), target, DronelinkAnzu.createCompletionCallback(finished)));
             return null;
         }
 
         if (command instanceof MaxDistanceLimitationDroneCommand) {
             final boolean target = ((MaxDistanceLimitationDroneCommand) command).enabled;
-            Command.conditionallyExecute(target != state.distanceLimitEnabled, finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != state.distanceLimitEnabled, finished, () -> AnzuKeyWriter.getInstance().setValue(
                     KeyTools.createKey(FlightControllerKey.KeyDistanceLimitEnabled),
                     target,
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -657,7 +734,7 @@ public class AnzuDroneAdapter implements DroneAdapter {
 
         if (command instanceof ReturnHomeAltitudeDroneCommand) {
             final int target = (int)((ReturnHomeAltitudeDroneCommand) command).returnHomeAltitude;
-            Command.conditionallyExecute(target != state.returnHomeAltitude, finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != state.returnHomeAltitude, finished, () -> AnzuKeyWriter.getInstance().setValue(
                     KeyTools.createKey(FlightControllerKey.KeyGoHomeHeight), target, DronelinkAnzu.createCompletionCallback(finished)));
             return null;
         }
@@ -669,7 +746,7 @@ public class AnzuDroneAdapter implements DroneAdapter {
 
         if (command instanceof SeriousLowBatteryWarningThresholdDroneCommand) {
             final int target = (int)(((SeriousLowBatteryWarningThresholdDroneCommand) command).seriousLowBatteryWarningThreshold * 100);
-            Command.conditionallyExecute(target != state.seriousLowBatteryThreshold, finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != state.seriousLowBatteryThreshold, finished, () -> AnzuKeyWriter.getInstance().setValue(
                     KeyTools.createKey(FlightControllerKey.KeySeriousLowBatteryWarningThreshold), target, DronelinkAnzu.createCompletionCallback(finished)));
             return null;
         }
@@ -696,10 +773,10 @@ public class AnzuDroneAdapter implements DroneAdapter {
             final AuxiliaryLightMode target = DronelinkAnzu.getDroneAuxiliaryLightMode(((AuxiliaryLightModeDroneCommand) command).auxiliaryLightMode);
             switch (((AuxiliaryLightModeDroneCommand) command).auxiliaryLightPosition) {
                 case BOTTOM:
-                    KeyManager.getInstance().setValue(KeyTools.createKey(FlightAssistantKey.KeyBottomAuxiliaryLightMode), target, DronelinkAnzu.createCompletionCallback(finished));
+                    AnzuKeyWriter.getInstance().setValue(KeyTools.createKey(FlightAssistantKey.KeyBottomAuxiliaryLightMode), target, DronelinkAnzu.createCompletionCallback(finished));
                     return null;
                 case TOP:
-                    KeyManager.getInstance().setValue(KeyTools.createKey(FlightAssistantKey.KeyTopAuxiliaryLightMode), target, DronelinkAnzu.createCompletionCallback(finished));
+                    AnzuKeyWriter.getInstance().setValue(KeyTools.createKey(FlightAssistantKey.KeyTopAuxiliaryLightMode), target, DronelinkAnzu.createCompletionCallback(finished));
                     return null;
                 case UNKNOWN:
                     break;
@@ -791,7 +868,7 @@ public class AnzuDroneAdapter implements DroneAdapter {
 
         if (command instanceof LandingProtectionDroneCommand) {
             final boolean target = ((LandingProtectionDroneCommand) command).enabled;
-            Command.conditionallyExecute(target != state.landingProtectionEnabled, finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != state.landingProtectionEnabled, finished, () -> AnzuKeyWriter.getInstance().setValue(
                     KeyTools.createKey(FlightAssistantKey.KeyLandingProtectionEnabled),
                     target,
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -800,7 +877,7 @@ public class AnzuDroneAdapter implements DroneAdapter {
 
         if (command instanceof PrecisionLandingDroneCommand) {
             final boolean target = ((PrecisionLandingDroneCommand) command).enabled;
-            Command.conditionallyExecute(target != state.precisionLandingEnabled, finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != state.precisionLandingEnabled, finished, () -> AnzuKeyWriter.getInstance().setValue(
                     KeyTools.createKey(FlightAssistantKey.KeyPrecisionLandingEnabled),
                     target,
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -813,7 +890,7 @@ public class AnzuDroneAdapter implements DroneAdapter {
             if (spec == null) {
                 return new CommandError(context.getString(R.string.MissionDisengageReason_command_value_invalid));
             }
-            Command.conditionallyExecute(target != spec.returnHomeObstacleAvoidanceEnabled, finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != spec.returnHomeObstacleAvoidanceEnabled, finished, () -> AnzuKeyWriter.getInstance().setValue(
                     KeyTools.createKey(FlightAssistantKey.KeyRTHObstacleAvoidanceEnabled),
                     target,
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -827,7 +904,7 @@ public class AnzuDroneAdapter implements DroneAdapter {
 
         if (command instanceof VisionAssistedPositioningDroneCommand) {
             final boolean target = ((VisionAssistedPositioningDroneCommand) command).enabled;
-            Command.conditionallyExecute(target != state.visionPositioningEnabled, finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != state.visionPositioningEnabled, finished, () -> AnzuKeyWriter.getInstance().setValue(
                     KeyTools.createKey(FlightAssistantKey.KeyVisionPositioningEnabled),
                     target,
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -850,7 +927,7 @@ public class AnzuDroneAdapter implements DroneAdapter {
 
         if (command instanceof OcuSyncChannelSelectionModeDroneCommand) {
             final ChannelSelectionMode target = DronelinkAnzu.getOcuSyncChannelSelectionMode(((OcuSyncChannelSelectionModeDroneCommand) command).ocuSyncChannelSelectionMode);
-            Command.conditionallyExecute(target != state.ocuSyncChannelSelectionMode, finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != state.ocuSyncChannelSelectionMode, finished, () -> AnzuKeyWriter.getInstance().setValue(
                     KeyTools.createKey(AirLinkKey.KeyChannelSelectionMode),
                     target,
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -859,7 +936,7 @@ public class AnzuDroneAdapter implements DroneAdapter {
 
         if (command instanceof OcuSyncFrequencyBandDroneCommand) {
             final DroneOcuSyncFrequencyBand target = ((OcuSyncFrequencyBandDroneCommand) command).ocuSyncFrequencyBand;
-            Command.conditionallyExecute(target != state.getOcuSyncFrequencyBand(), finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != state.getOcuSyncFrequencyBand(), finished, () -> AnzuKeyWriter.getInstance().setValue(
                     KeyTools.createKey(AirLinkKey.KeyFrequencyBand),
                     DronelinkAnzu.getOcuSyncFrequencyBand(target),
                     DronelinkAnzu.createCompletionCallback(finished)));
@@ -8,10 +8,10 @@ package com.dronelink.anzu.adapters;
 
 import android.content.Context;
 import android.location.Location;
+import android.os.SystemClock;
 
 import androidx.annotation.NonNull;
 
-import com.dronelink.core.Convert;
 import com.dronelink.core.DatedValue;
 import com.dronelink.core.adapters.DroneStateAdapter;
 import com.dronelink.core.kernel.core.DroneObstacleAvoidanceSpecification;
@@ -26,9 +26,11 @@ import com.dronelink.anzu.DronelinkAnzu;
 import com.dronelink.anzu.R;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Objects;
 
 import dji.sdk.keyvalue.key.AirLinkKey;
 import dji.sdk.keyvalue.key.FlightAssistantKey;
@@ -36,10 +38,8 @@ import dji.sdk.keyvalue.key.FlightControllerKey;
 import dji.sdk.keyvalue.key.KeyTools;
 import dji.sdk.keyvalue.value.airlink.ChannelSelectionMode;
 import dji.sdk.keyvalue.value.airlink.FrequencyBand;
-import dji.sdk.keyvalue.value.common.Attitude;
 import dji.sdk.keyvalue.value.common.LocationCoordinate2D;
 import dji.sdk.keyvalue.value.common.LocationCoordinate3D;
-import dji.sdk.keyvalue.value.common.Velocity3D;
 import dji.sdk.keyvalue.value.flightassistant.AuxiliaryLightMode;
 import dji.sdk.keyvalue.value.flightcontroller.AirSenseSystemInformation;
 import dji.sdk.keyvalue.value.flightcontroller.CompassCalibrationState;
@@ -59,19 +59,26 @@ import dji.v5.manager.aircraft.waypoint3.WaypointMissionExecuteStateListener;
 import dji.v5.manager.aircraft.waypoint3.WaypointMissionManager;
 import dji.v5.manager.aircraft.waypoint3.model.WaypointMissionExecuteState;
 import dji.v5.manager.diagnostic.DJIDeviceHealthInfo;
+import dji.v5.manager.diagnostic.DJIDeviceStatus;
 import dji.v5.manager.diagnostic.DeviceHealthManager;
 import dji.v5.manager.diagnostic.DeviceStatusManager;
 
 public class AnzuDroneStateAdapter implements DroneStateAdapter, PerceptionInformationListener, ObstacleDataListener, WaypointMissionExecuteStateListener {
+    private static final long DATED_VALUE_GROUND_REFRESH_NANOS = 100_000_000;
+
     private final AnzuListenerGroup listeners = new AnzuListenerGroup();
     private final Context context;
     private final AnzuDroneAdapter drone;
-    private Date updated = new Date();
+    //SystemClock.elapsedRealtimeNanos of the last flight time or attitude update
+    private volatile long updatedNanos = SystemClock.elapsedRealtimeNanos();
+    private DatedValue<DroneStateAdapter> datedValue;
+    private long datedValueNanos = 0;
+    private boolean datedValueFlying = false;
+    public final AnzuDroneTelemetry telemetry = new AnzuDroneTelemetry();
     public FlightMode flightMode;
     private String flightModeString;
     private Integer flightTime;
     private boolean isFlying = false;
-    private LocationCoordinate3D coordinate;
     private boolean isHomeLocationSet = false;
     private LocationCoordinate2D homeCoordinate;
     private FCGoHomeState fcGoHomeState;
@@ -80,8 +87,6 @@ public class AnzuDroneStateAdapter implements DroneStateAdapter, PerceptionInfor
     private boolean isCompassCalibrating = false;
     private List<CompassState> compassStates;
     private CompassCalibrationState compassCalibrationState;
-    private Velocity3D velocity = new Velocity3D();
-    private double altitude = 0;
     private Integer ultrasonicAltitude;
     public Integer returnHomeAltitude;
     public Integer maxAltitude;
@@ -96,7 +101,6 @@ public class AnzuDroneStateAdapter implements DroneStateAdapter, PerceptionInfor
     private boolean isLowBatteryWarning = false;
     private boolean isSeriousLowBatteryWarning = false;
     private Integer flightTimeRemaining;
-    private Attitude attitude;
     private Integer gpsSatellites;
     private GPSSignalLevel gpsSignalLevel;
     private Integer uplinkQuality;
@@ -116,18 +120,41 @@ public class AnzuDroneStateAdapter implements DroneStateAdapter, PerceptionInfor
     public boolean visionPositioningEnabled = false;
     private WaypointMissionExecuteState waypointMissionExecuteState;
 
+    private final Object statusMessagesLock = new Object();
+    private List<Message> statusMessages = Collections.emptyList();
+    private int statusMessagesVersion = 0;
+    private boolean statusMessagesTelemetryUnavailable = false;
+    private FlightMode statusMessagesFlightMode;
+    private FCGoHomeState statusMessagesFCGoHomeState;
+    private GoHomeState statusMessagesGoHomeState;
+    private WaypointMissionExecuteState statusMessagesWaypointMissionExecuteState;
+    private WindWarning statusMessagesWindWarning;
+    private int statusMessagesFlags;
+    private List<Message> flightStatusMessages;
+    private List<CompassState> statusMessagesCompassStates;
+    private List<Message> compassStatusMessages = Collections.emptyList();
+    private AirSenseSystemInformation statusMessagesAirSenseSystemInformation;
+    private List<Message> airSenseStatusMessages = Collections.emptyList();
+    private DJIDeviceStatus statusMessagesDeviceStatus;
+    private boolean statusMessagesDeviceStatusInitialized = false;
+    private Message deviceStatusMessage;
+    //warning level, title and description of each health info the cached messages were built from
+    private final List<Object> statusMessagesDeviceHealth = new ArrayList<>();
+    private List<Message> deviceHealthStatusMessages = Collections.emptyList();
+    private List<Message> droneStatusMessages;
+
     public AnzuDroneStateAdapter(final Context context, final AnzuDroneAdapter drone) {
         this.context = context;
         this.drone = drone;
         listeners.init(KeyTools.createKey(FlightControllerKey.KeyFlightMode), (oldValue, newValue) -> flightMode = newValue);
         listeners.init(KeyTools.createKey(FlightControllerKey.KeyFlightModeString), (oldValue, newValue) -> flightModeString = newValue);
         listeners.init(KeyTools.createKey(FlightControllerKey.KeyFlightTimeInSeconds), (oldValue, newValue) -> {
-            updated = new Date();
+            updatedNanos = SystemClock.elapsedRealtimeNanos();
             flightTime = newValue;
         });
         listeners.init(KeyTools.createKey(FlightControllerKey.KeyIsFlying), (oldValue, newValue) -> isFlying = newValue != null && newValue);
         listeners.init(KeyTools.createKey(FlightControllerKey.KeyAircraftLocation3D), (oldValue, newValue) -> {
-            coordinate = newValue;
+            telemetry.updateLocation(newValue);
             if (newValue != null) {
                 if (!isFlying) {
                     lastKnownGroundCoordinate = newValue;
@@ -141,8 +168,8 @@ public class AnzuDroneStateAdapter implements DroneStateAdapter, PerceptionInfor
         listeners.init(KeyTools.createKey(FlightControllerKey.KeyIsCompassCalibrating), (oldValue, newValue) -> isCompassCalibrating = newValue != null && newValue);
         listeners.init(KeyTools.createKey(FlightControllerKey.KeyCompassState), (oldValue, newValue) -> compassStates = newValue);
         listeners.init(KeyTools.createKey(FlightControllerKey.KeyCompassCalibrationStatus), (oldValue, newValue) -> compassCalibrationState = newValue);
-        listeners.init(KeyTools.createKey(FlightControllerKey.KeyAircraftVelocity), (oldValue, newValue) -> velocity = newValue == null ? new Velocity3D() : newValue);
-        listeners.init(KeyTools.createKey(FlightControllerKey.KeyAltitude), (oldValue, newValue) -> altitude = newValue == null ? 0 : newValue);
+        listeners.init(KeyTools.createKey(FlightControllerKey.KeyAircraftVelocity), (oldValue, newValue) -> telemetry.updateVelocity(newValue));
+        listeners.init(KeyTools.createKey(FlightControllerKey.KeyAltitude), (oldValue, newValue) -> telemetry.updateAltitude(newValue));
         listeners.init(KeyTools.createKey(FlightControllerKey.KeyUltrasonicHeight), (oldValue, newValue) -> ultrasonicAltitude = newValue);
         listeners.init(KeyTools.createKey(FlightControllerKey.KeyGoHomeHeight), (oldValue, newValue) -> returnHomeAltitude = newValue);
         listeners.init(KeyTools.createKey(FlightControllerKey.KeyHeightLimit), (oldValue, newValue) -> maxAltitude = newValue);
@@ -159,8 +186,8 @@ public class AnzuDroneStateAdapter implements DroneStateAdapter, PerceptionInfor
         listeners.init(KeyTools.createKey(FlightControllerKey.KeyIsSeriousLowBatteryWarning), (oldValue, newValue) -> isSeriousLowBatteryWarning = newValue != null && newValue);
         listeners.init(KeyTools.createKey(FlightControllerKey.KeyRemainingFlightTime), (oldValue, newValue) -> flightTimeRemaining = newValue);
         listeners.init(KeyTools.createKey(FlightControllerKey.KeyAircraftAttitude), (oldValue, newValue) -> {
-            updated = new Date();
-            attitude = newValue;
+            updatedNanos = SystemClock.elapsedRealtimeNanos();
+            telemetry.updateAttitude(newValue);
         });
         listeners.init(KeyTools.createKey(FlightControllerKey.KeyGPSSatelliteCount), (oldValue, newValue) -> gpsSatellites = newValue);
         listeners.init(KeyTools.createKey(FlightControllerKey.KeyGPSSignalLevel), (oldValue, newValue) -> gpsSignalLevel = newValue);
@@ -190,19 +217,130 @@ public class AnzuDroneStateAdapter implements DroneStateAdapter, PerceptionInfor
         WaypointMissionManager.getInstance().removeWaypointMissionExecuteStateListener(this);
     }
 
-    public DatedValue<DroneStateAdapter> asDatedValue() {
-        return new DatedValue<>(this, isFlying ? updated : new Date());
+    public synchronized DatedValue<DroneStateAdapter> asDatedValue() {
+        final DatedValue<DroneStateAdapter> datedValue = this.datedValue;
+        final long now = SystemClock.elapsedRealtimeNanos();
+        if (isFlying) {
+            //only rebuild when new telemetry has arrived
+            final long updatedNanos = this.updatedNanos;
+            if (datedValue != null && datedValueFlying && datedValueNanos == updatedNanos) {
+                return datedValue;
+            }
+            return cacheDatedValue(updatedNanos, true, now);
+        }
+
+        //telemetry isn't considered delayed on the ground, so the date tracks the current time (to within DATED_VALUE_GROUND_REFRESH_NANOS)
+        if (datedValue != null && !datedValueFlying && now - datedValueNanos < DATED_VALUE_GROUND_REFRESH_NANOS) {
+            return datedValue;
+        }
+        return cacheDatedValue(now, false, now);
     }
 
+    private DatedValue<DroneStateAdapter> cacheDatedValue(final long nanos, final boolean flying, final long now) {
+        datedValue = new DatedValue<>(this, new Date(System.currentTimeMillis() - (now - nanos) / 1_000_000));
+        datedValueNanos = nanos;
+        datedValueFlying = flying;
+        return datedValue;
+    }
+
+    //monotonic, so unaffected by wall-clock adjustments
+    public long getTelemetryAgeMillis() {
+        if (!isFlying) {
+            return 0;
+        }
+        return (SystemClock.elapsedRealtimeNanos() - updatedNanos) / 1_000_000;
+    }
+
+    //callers get an immutable list that is only rebuilt when one of its sources changes
     @Override
     public List<Message> getStatusMessages() {
-        final List<Message> messages = new ArrayList<>();
+        synchronized (statusMessagesLock) {
+            boolean changed = false;
 
-        if (flightMode == null) {
-            messages.add(new Message(context.getString(R.string.AnzuDroneStateAdapter_telemetry_unavailable), Message.Level.DANGER));
-            return messages;
+            final FlightMode flightMode = this.flightMode;
+            if (flightMode == null) {
+                if (statusMessagesTelemetryUnavailable) {
+                    return statusMessages;
+                }
+                statusMessagesTelemetryUnavailable = true;
+                return publishStatusMessages(Collections.singletonList(new Message(context.getString(R.string.AnzuDroneStateAdapter_telemetry_unavailable), Message.Level.DANGER)));
+            }
+
+            if (statusMessagesTelemetryUnavailable) {
+                statusMessagesTelemetryUnavailable = false;
+                changed = true;
+            }
+
+            changed |= updateFlightStatusMessages(flightMode);
+            changed |= updateCompassStatusMessages();
+            changed |= updateAirSenseStatusMessages();
+            changed |= updateDeviceStatusMessage();
+            changed |= updateDeviceHealthStatusMessages();
+            changed |= updateDroneStatusMessages();
+
+            if (!changed) {
+                return statusMessages;
+            }
+
+            final List<Message> messages = new ArrayList<>();
+            messages.addAll(flightStatusMessages);
+            messages.addAll(compassStatusMessages);
+            messages.addAll(airSenseStatusMessages);
+            if (deviceStatusMessage != null) {
+                messages.add(deviceStatusMessage);
+            }
+            messages.addAll(deviceHealthStatusMessages);
+            messages.addAll(droneStatusMessages);
+            return publishStatusMessages(messages);
+        }
+    }
+
+    //incremented every time getStatusMessages returns a different list
+    public int getStatusMessagesVersion() {
+        synchronized (statusMessagesLock) {
+            return statusMessagesVersion;
+        }
+    }
+
+    private List<Message> publishStatusMessages(final List<Message> messages) {
+        statusMessages = Collections.unmodifiableList(messages);
+        statusMessagesVersion++;
+        return statusMessages;
+    }
+
+    private boolean updateFlightStatusMessages(final FlightMode flightMode) {
+        final FCGoHomeState fcGoHomeState = this.fcGoHomeState;
+        final GoHomeState goHomeState = this.goHomeState;
+        final WaypointMissionExecuteState waypointMissionExecuteState = this.waypointMissionExecuteState;
+        final WindWarning windWarning = this.windWarning;
+        final boolean hasLocation = telemetry.hasLocation();
+        //packed so the boolean sources can be compared in one step
+        final int flags = (isSeriousLowBatteryWarning ? 1 : 0)
+                | (isLowBatteryWarning ? 1 << 1 : 0)
+                | (isOutOfDistanceLimit ? 1 << 2 : 0)
+                | (isNearDistanceLimit ? 1 << 3 : 0)
+                | (isNearHeightLimit ? 1 << 4 : 0)
+                | (hasLocation ? 1 << 5 : 0)
+                | (isHomeLocationSet ? 1 << 6 : 0);
+
+        if (flightStatusMessages != null
+                && flightMode == statusMessagesFlightMode
+                && fcGoHomeState == statusMessagesFCGoHomeState
+                && goHomeState == statusMessagesGoHomeState
+                && waypointMissionExecuteState == statusMessagesWaypointMissionExecuteState
+                && windWarning == statusMessagesWindWarning
+                && flags == statusMessagesFlags) {
+            return false;
         }
 
+        statusMessagesFlightMode = flightMode;
+        statusMessagesFCGoHomeState = fcGoHomeState;
+        statusMessagesGoHomeState = goHomeState;
+        statusMessagesWaypointMissionExecuteState = waypointMissionExecuteState;
+        statusMessagesWindWarning = windWarning;
+        statusMessagesFlags = flags;
+
+        final List<Message> messages = new ArrayList<>();
         final Message fcGoHomeStateMessage = DronelinkAnzu.getMessage(context, fcGoHomeState);
         if (fcGoHomeStateMessage != null) {
             messages.add(fcGoHomeStateMessage);
@@ -241,7 +379,7 @@ public class AnzuDroneStateAdapter implements DroneStateAdapter, PerceptionInfor
                     messages.add(flightModeMessage);
                 }
 
-                if (getLocation() == null) {
+                if (!hasLocation) {
                     messages.add(new Message(context.getString(R.string.AnzuDroneStateAdapter_statusMessages_locationUnavailable_title), context.getString(R.string.AnzuDroneStateAdapter_statusMessages_locationUnavailable_details), Message.Level.DANGER));
                 }
 
@@ -256,7 +394,18 @@ public class AnzuDroneStateAdapter implements DroneStateAdapter, PerceptionInfor
             messages.add(windWarningMessage);
         }
 
+        flightStatusMessages = messages;
+        return true;
+    }
+
+    private boolean updateCompassStatusMessages() {
         final List<CompassState> compassStates = this.compassStates;
+        if (compassStates == statusMessagesCompassStates) {
+            return false;
+        }
+        statusMessagesCompassStates = compassStates;
+
+        final List<Message> messages = new ArrayList<>();
         if (compassStates != null) {
             for (final CompassState state : compassStates) {
                 final Message message = DronelinkAnzu.getMessage(context, state.getCompassSensorState());
@@ -265,29 +414,87 @@ public class AnzuDroneStateAdapter implements DroneStateAdapter, PerceptionInfor
                 }
             }
         }
+        compassStatusMessages = messages;
+        return true;
+    }
 
-        final List<Message> airSenseSystemInformationMessages = DronelinkAnzu.getMessages(context, airSenseSystemInformation);
-        if (airSenseSystemInformationMessages != null) {
-            messages.addAll(airSenseSystemInformationMessages);
+    private boolean updateAirSenseStatusMessages() {
+        final AirSenseSystemInformation airSenseSystemInformation = this.airSenseSystemInformation;
+        if (airSenseSystemInformation == statusMessagesAirSenseSystemInformation) {
+            return false;
         }
+        statusMessagesAirSenseSystemInformation = airSenseSystemInformation;
+
+        final List<Message> messages = DronelinkAnzu.getMessages(context, airSenseSystemInformation);
+        airSenseStatusMessages = messages == null ? Collections.emptyList() : messages;
+        return true;
+    }
 
-        final Message deviceStatusMessage = DronelinkAnzu.getMessage(DeviceStatusManager.getInstance().getCurrentDJIDeviceStatus());
-        if (deviceStatusMessage != null) {
-            messages.add(deviceStatusMessage);
+    private boolean updateDeviceStatusMessage() {
+        //polled, the device status manager doesn't go through KeyManager
+        final DJIDeviceStatus deviceStatus = DeviceStatusManager.getInstance().getCurrentDJIDeviceStatus();
+        if (deviceStatus == statusMessagesDeviceStatus && statusMessagesDeviceStatusInitialized) {
+            return false;
         }
+        statusMessagesDeviceStatus = deviceStatus;
+        statusMessagesDeviceStatusInitialized = true;
+        deviceStatusMessage = DronelinkAnzu.getMessage(deviceStatus);
+        return true;
+    }
 
+    private boolean updateDeviceHealthStatusMessages() {
         final List<DJIDeviceHealthInfo> deviceHealthInfos = DeviceHealthManager.getInstance().getCurrentDJIDeviceHealthInfos();
+        if (isDeviceHealthUnchanged(deviceHealthInfos)) {
+            return false;
+        }
+
+        statusMessagesDeviceHealth.clear();
+        List<Message> messages = null;
         if (deviceHealthInfos != null && !deviceHealthInfos.isEmpty()) {
             //create a copy since DJI seems to modify this list while we are iterating
-            final List<Message> healthStatusMessages = DronelinkAnzu.getMessages(new ArrayList<>(deviceHealthInfos));
-            if (healthStatusMessages != null) {
-                messages.addAll(healthStatusMessages);
+            final List<DJIDeviceHealthInfo> copy = new ArrayList<>(deviceHealthInfos);
+            for (final DJIDeviceHealthInfo healthInfo : copy) {
+                statusMessagesDeviceHealth.add(healthInfo.warningLevel());
+                statusMessagesDeviceHealth.add(healthInfo.title());
+                statusMessagesDeviceHealth.add(healthInfo.description());
             }
+            messages = DronelinkAnzu.getMessages(copy);
         }
+        deviceHealthStatusMessages = messages == null ? Collections.emptyList() : messages;
+        return true;
+    }
 
-        messages.addAll(drone.getStatusMessages());
+    private boolean isDeviceHealthUnchanged(final List<DJIDeviceHealthInfo> deviceHealthInfos) {
+        final int size = deviceHealthInfos == null ? 0 : deviceHealthInfos.size();
+        if (size * 3 != statusMessagesDeviceHealth.size()) {
+            return false;
+        }
+
+        try {
+            for (int i = 0; i < size; i++) {
+                final DJIDeviceHealthInfo healthInfo = deviceHealthInfos.get(i);
+                if (healthInfo.warningLevel() != statusMessagesDeviceHealth.get(i * 3)
+                        || !Objects.equals(healthInfo.title(), statusMessagesDeviceHealth.get(i * 3 + 1))
+                        || !Objects.equals(healthInfo.description(), statusMessagesDeviceHealth.get(i * 3 + 2))) {
+                    return false;
+                }
+            }
+        }
+        catch (final RuntimeException e) {
+            //DJI modified the list while we were comparing
+            return false;
+        }
+        return true;
+    }
 
-        return messages;
+    private boolean updateDroneStatusMessages() {
+        //the drone adapter returns the same list until one of its camera, RTK or live streaming sources changes
+        final List<Message> messages = drone.getStatusMessages();
+        if (messages == droneStatusMessages) {
+            return false;
+        }
+        droneStatusMessages = messages;
+        return true;
     }
 
     @Override
@@ -335,7 +542,7 @@ public class AnzuDroneStateAdapter implements DroneStateAdapter, PerceptionInfor
 
     @Override
     public Location getLocation() {
-        return DronelinkAnzu.getLocation(coordinate);
+        return telemetry.getLocation();
     }
 
     @Override
@@ -370,22 +577,25 @@ public class AnzuDroneStateAdapter implements DroneStateAdapter, PerceptionInfor
 
     @Override
     public double getCourse() {
-        return Math.atan2(velocity.getY(), velocity.getX());
+        return Math.atan2(telemetry.getVelocityY(), telemetry.getVelocityX());
     }
 
     @Override
     public double getHorizontalSpeed() {
-        return Math.sqrt(Math.pow(velocity.getX(), 2) + Math.pow(velocity.getY(), 2));
+        final double velocityX = telemetry.getVelocityX();
+        final double velocityY = telemetry.getVelocityY();
+        return Math.sqrt(velocityX * velocityX + velocityY * velocityY);
     }
 
     @Override
     public double getVerticalSpeed() {
-        return velocity.getZ() == 0 ? 0 : -velocity.getZ();
+        final double velocityZ = telemetry.getVelocityZ();
+        return velocityZ == 0 ? 0 : -velocityZ;
     }
 
     @Override
     public double getAltitude() {
-        return altitude;
+        return telemetry.getAltitude();
     }
 
     @Override
@@ -464,14 +674,7 @@ public class AnzuDroneStateAdapter implements DroneStateAdapter, PerceptionInfor
 
     @Override
     public Orientation3 getOrientation() {
-        final Orientation3 orientation = new Orientation3();
-        final Attitude attitude = this.attitude;
-        if (attitude != null) {
-            orientation.x = Convert.DegreesToRadians(attitude.getPitch());
-            orientation.y = Convert.DegreesToRadians(attitude.getRoll());
-            orientation.z = Convert.DegreesToRadians(attitude.getYaw());
-        }
-        return orientation;
+        return telemetry.getOrientation();
     }
 
     @Override
@@ -0,0 +1,291 @@
+//  AnzuDroneTelemetry.java
+//  DronelinkAnzu
+//
+//  Created by agent on 10/18/26.
+//  Copyright © 2026 Dronelink. All rights reserved.
+//
+package com.dronelink.anzu.adapters;
+
+import android.location.Location;
+import android.os.SystemClock;
+
+import com.dronelink.core.Convert;
+import com.dronelink.core.kernel.core.Orientation3;
+
+import dji.sdk.keyvalue.value.common.Attitude;
+import dji.sdk.keyvalue.value.common.LocationCoordinate3D;
+import dji.sdk.keyvalue.value.common.Velocity3D;
+
+//primitive-backed telemetry that the KeyManager callbacks update in place
+//writers are serialized and bump a sequence number around each update (seqlock), so readers
+//get a coherent frame without taking a lock by retrying if a write overlapped their read
+public class AnzuDroneTelemetry {
+    public static class Frame {
+        //incremented once per telemetry update
+        public int version;
+        public boolean hasLocation;
+        public double latitude;
+        public double longitude;
+        public double altitude;
+        public boolean hasAttitude;
+        //radians
+        public double pitch;
+        public double roll;
+        public double yaw;
+        public double velocityX;
+        public double velocityY;
+        public double velocityZ;
+        //SystemClock.elapsedRealtimeNanos of the most recent update to each field, 0 if never updated
+        public long locationUpdatedNanos;
+        public long altitudeUpdatedNanos;
+        public long attitudeUpdatedNanos;
+        public long velocityUpdatedNanos;
+
+        public double getHorizontalSpeed() {
+            return Math.sqrt(velocityX * velocityX + velocityY * velocityY);
+        }
+
+        public Location createLocation() {
+            if (!hasLocation) {
+                return null;
+            }
+
+            final Location location = new Location("");
+            location.setLatitude(latitude);
+            location.setLongitude(longitude);
+            return location;
+        }
+
+        public Orientation3 createOrientation() {
+            final Orientation3 orientation = new Orientation3();
+            if (hasAttitude) {
+                orientation.x = pitch;
+                orientation.y = roll;
+                orientation.z = yaw;
+            }
+            return orientation;
+        }
+    }
+
+    private final Object writeLock = new Object();
+    //odd while a write is in progress
+    private volatile int sequence = 0;
+
+    private volatile boolean hasLocation = false;
+    private volatile double latitude;
+    private volatile double longitude;
+    private volatile double altitude;
+    private volatile boolean hasAttitude = false;
+    private volatile double pitch;
+    private volatile double roll;
+    private volatile double yaw;
+    private volatile double velocityX;
+    private volatile double velocityY;
+    private volatile double velocityZ;
+    private volatile long locationUpdatedNanos = 0;
+    private volatile long altitudeUpdatedNanos = 0;
+    private volatile long attitudeUpdatedNanos = 0;
+    private volatile long velocityUpdatedNanos = 0;
+
+    void updateLocation(final LocationCoordinate3D value) {
+        synchronized (writeLock) {
+            sequence++;
+            if (value == null) {
+                hasLocation = false;
+            }
+            else {
+                latitude = value.getLatitude();
+                longitude = value.getLongitude();
+                hasLocation = true;
+            }
+            locationUpdatedNanos = SystemClock.elapsedRealtimeNanos();
+            sequence++;
+        }
+    }
+
+    void updateAltitude(final Double value) {
+        synchronized (writeLock) {
+            sequence++;
+            altitude = value == null ? 0 : value;
+            altitudeUpdatedNanos = SystemClock.elapsedRealtimeNanos();
+            sequence++;
+        }
+    }
+
+    void updateAttitude(final Attitude value) {
+        synchronized (writeLock) {
+            sequence++;
+            if (value == null) {
+                hasAttitude = false;
+            }
+            else {
+                pitch = Convert.DegreesToRadians(value.getPitch());
+                roll = Convert.DegreesToRadians(value.getRoll());
+                yaw = Convert.DegreesToRadians(value.getYaw());
+                hasAttitude = true;
+            }
+            attitudeUpdatedNanos = SystemClock.elapsedRealtimeNanos();
+            sequence++;
+        }
+    }
+
+    void updateVelocity(final Velocity3D value) {
+        synchronized (writeLock) {
+            sequence++;
+            if (value == null) {
+                velocityX = 0;
+                velocityY = 0;
+                velocityZ = 0;
+            }
+            else {
+                velocityX = value.getX();
+                velocityY = value.getY();
+                velocityZ = value.getZ();
+            }
+            velocityUpdatedNanos = SystemClock.elapsedRealtimeNanos();
+            sequence++;
+        }
+    }
+
+    public int getVersion() {
+        return sequence >>> 1;
+    }
+
+    public void read(final Frame frame) {
+        while (true) {
+            final int start = sequence;
+            if ((start & 1) != 0) {
+                Thread.yield();
+                continue;
+            }
+
+            frame.hasLocation = hasLocation;
+            frame.latitude = latitude;
+            frame.longitude = longitude;
+            frame.altitude = altitude;
+            frame.hasAttitude = hasAttitude;
+            frame.pitch = pitch;
+            frame.roll = roll;
+            frame.yaw = yaw;
+            frame.velocityX = velocityX;
+            frame.velocityY = velocityY;
+            frame.velocityZ = velocityZ;
+            frame.locationUpdatedNanos = locationUpdatedNanos;
+            frame.altitudeUpdatedNanos = altitudeUpdatedNanos;
+            frame.attitudeUpdatedNanos = attitudeUpdatedNanos;
+            frame.velocityUpdatedNanos = velocityUpdatedNanos;
+
+            //all of the fields are volatile, so this re-read can't be reordered ahead of the reads above
+            if (sequence == start) {
+                frame.version = start >>> 1;
+                return;
+            }
+        }
+    }
+
+    public long getLocationUpdatedNanos() {
+        return locationUpdatedNanos;
+    }
+
+    public long getAltitudeUpdatedNanos() {
+        return altitudeUpdatedNanos;
+    }
+
+    public long getAttitudeUpdatedNanos() {
+        return attitudeUpdatedNanos;
+    }
+
+    public long getVelocityUpdatedNanos() {
+        return velocityUpdatedNanos;
+    }
+
+    //Long.MAX_VALUE if the field has never been updated
+    public static long getAgeMillis(final long updatedNanos) {
+        if (updatedNanos == 0) {
+            return Long.MAX_VALUE;
+        }
+        return (SystemClock.elapsedRealtimeNanos() - updatedNanos) / 1_000_000;
+    }
+
+    public boolean hasLocation() {
+        return hasLocation;
+    }
+
+    public double getAltitude() {
+        return altitude;
+    }
+
+    public double getPitch() {
+        return pitch;
+    }
+
+    public double getRoll() {
+        return roll;
+    }
+
+    public double getYaw() {
+        return yaw;
+    }
+
+    public double getVelocityX() {
+        return velocityX;
+    }
+
+    public double getVelocityY() {
+        return velocityY;
+    }
+
+    public double getVelocityZ() {
+        return velocityZ;
+    }
+
+    //a new object per call (from one consistent read of only the fields it needs), use read(Frame) on hot paths to avoid the allocation
+    public Location getLocation() {
+        while (true) {
+            final int start = sequence;
+            if ((start & 1) != 0) {
+                Thread.yield();
+                continue;
+            }
+
+            final boolean hasLocation = this.hasLocation;
+            final double latitude = this.latitude;
+            final double longitude = this.longitude;
+            if (sequence == start) {
+                if (!hasLocation) {
+                    return null;
+                }
+
+                final Location location = new Location("");
+                location.setLatitude(latitude);
+                location.setLongitude(longitude);
+                return location;
+            }
+        }
+    }
+
+    //a new object per call (from one consistent read of only the fields it needs), use read(Frame) on hot paths to avoid the allocation
+    public Orientation3 getOrientation() {
+        while (true) {
+            final int start = sequence;
+            if ((start & 1) != 0) {
+                Thread.yield();
+                continue;
+            }
+
+            final boolean hasAttitude = this.hasAttitude;
+            final double pitch = this.pitch;
+            final double roll = this.roll;
+            final double yaw = this.yaw;
+            if (sequence == start) {
+                final Orientation3 orientation = new Orientation3();
+                if (hasAttitude) {
+                    orientation.x = pitch;
+                    orientation.y = roll;
+                    orientation.z = yaw;
+                }
+                return orientation;
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+//  AnzuEnumRangeCache.java
+//  DronelinkAnzu
+//
+//  Created by agent on 10/18/26.
+//  Copyright © 2026 Dronelink. All rights reserved.
+//
+package com.dronelink.anzu.adapters;
+
+import com.dronelink.core.adapters.EnumElement;
+import com.dronelink.core.adapters.EnumElementsCollection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+//interns the enum ranges reported by the range keys, shared by every lens state of every camera
+//identical ranges resolve to the same Range instance, so a repeated range update is a hash lookup and a reference compare
+final class AnzuEnumRangeCache {
+    private static final int MAX_RANGES = 256;
+
+    interface RawValueConverter<S> {
+        String convert(S value);
+    }
+
+    static final class Range {
+        public final String parameter;
+        public final List<String> rawValues;
+        public final List<EnumElement> elements;
+
+        private Range(final String parameter, final List<String> rawValues, final List<EnumElement> elements) {
+            this.parameter = parameter;
+            this.rawValues = rawValues;
+            this.elements = elements;
+        }
+    }
+
+    private static final class Key {
+        private final String parameter;
+        private final List<?> values;
+        private final int hash;
+
+        private Key(final String parameter, final List<?> values) {
+            this.parameter = parameter;
+            this.values = values;
+            this.hash = 31 * parameter.hashCode() + values.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            final Key other = (Key) o;
+            return hash == other.hash && parameter.equals(other.parameter) && values.equals(other.values);
+        }
+    }
+
+    private static final Map<Key, Range> ranges = new LinkedHashMap<Key, Range>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Key, Range> eldest) {
+            return size() > MAX_RANGES;
+        }
+    };
+    //only used to build the display elements the same way EnumElementsCollection.update does
+    private static final EnumElementsCollection builder = new EnumElementsCollection();
+
+    private AnzuEnumRangeCache() {}
+
+    static <S> Range get(final String parameter, final List<S> values, final RawValueConverter<S> converter) {
+        final List<S> source = values == null ? Collections.emptyList() : values;
+        synchronized (ranges) {
+            final Range cached = ranges.get(new Key(parameter, source));
+            if (cached != null) {
+                return cached;
+            }
+
+            final List<String> rawValues = new ArrayList<>(source.size());
+            for (final S value : source) {
+                rawValues.add(converter.convert(value));
+            }
+
+            builder.update(parameter, rawValues);
+            final List<EnumElement> elements = builder.get(parameter);
+            final Range range = new Range(
+                    parameter,
+                    Collections.unmodifiableList(rawValues),
+                    elements == null ? null : Collections.unmodifiableList(new ArrayList<>(elements)));
+            //the sdk may reuse the list it reported, so the key holds a copy
+            ranges.put(new Key(parameter, new ArrayList<>(source)), range);
+            return range;
+        }
+    }
+}
@@ -7,10 +7,11 @@
 package com.dronelink.anzu.adapters;
 
 import android.content.Context;
-import android.os.Handler;
+import android.os.SystemClock;
 import android.util.Log;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import com.dronelink.core.Convert;
 import com.dronelink.core.DatedValue;
@@ -27,15 +28,15 @@ import com.dronelink.core.kernel.command.gimbal.OrientationGimbalCommand;
 import com.dronelink.core.kernel.command.gimbal.VelocityGimbalCommand;
 import com.dronelink.core.kernel.core.Orientation3Optional;
 import com.dronelink.core.kernel.core.enums.GimbalMode;
+import com.dronelink.anzu.AnzuKeyWriter;
 import com.dronelink.anzu.AnzuListenerGroup;
+import com.dronelink.anzu.AnzuRetryPolicy;
 import com.dronelink.anzu.DronelinkAnzu;
 import com.dronelink.anzu.R;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 
 import dji.sdk.keyvalue.key.DJIActionKeyInfo;
 import dji.sdk.keyvalue.key.DJIKey;
@@ -54,9 +55,30 @@ import dji.v5.common.error.IDJIError;
 import dji.v5.manager.KeyManager;
 
 public class AnzuGimbalAdapter implements GimbalAdapter {
-    private static final String TAG = AnzuGimbalAdapter.class.getCanonicalName();
+    public interface SpeedRotationProvider {
+        //return null to skip sending a speed rotation this tick
+        GimbalSpeedRotation getSpeedRotation(final AnzuGimbalAdapter gimbal);
+    }
+
+    public interface OrientationSettledCallback {
+        //time from the orientation command being sent to the first in-tolerance attitude
+        void onOrientationSettled(final AnzuGimbalAdapter gimbal, final long settleMillis);
+    }
+
+    private static final class Convergence {
+        final Orientation3Optional target;
+        final long started = SystemClock.elapsedRealtime();
 
-    private final ExecutorService serialQueue = Executors.newSingleThreadExecutor();
+        Convergence(final Orientation3Optional target) {
+            this.target = target;
+        }
+    }
+
+    private static final String TAG = AnzuGimbalAdapter.class.getCanonicalName();
+    private static final double ORIENTATION_THRESHOLD = Convert.DegreesToRadians(2.0);
+    private static final long ORIENTATION_TIMEOUT_MILLIS = 2000;
+    //slower than this and the gimbal is treated as not moving toward the target
+    private static final double CONVERGENCE_MIN_RATE = Convert.DegreesToRadians(1.0);
 
     private final AnzuListenerGroup listeners = new AnzuListenerGroup();
 
@@ -66,11 +88,21 @@ public class AnzuGimbalAdapter implements GimbalAdapter {
     private final AnzuGimbalStateAdapter state;
     private GimbalAttitudeRange attitudeRange;
     private boolean isYawAdjustSupported = false;
-    private GimbalSpeedRotation pendingSpeedRotation;
+    private final AtomicReference<GimbalSpeedRotation> pendingSpeedRotation = new AtomicReference<>();
+    private final DJIKey.ActionKey<GimbalSpeedRotation, EmptyMsg> rotateBySpeedKey;
+    private AnzuControlStream controlStream;
+    private final AnzuCommandCompletions completions = new AnzuCommandCompletions();
+    private final AtomicReference<Convergence> convergence = new AtomicReference<>();
+    private volatile long expectedSettleMillis = 0;
+    private volatile long orientationFinishLeadMillis = 0;
+    private volatile OrientationSettledCallback orientationSettledCallback;
 
     public AnzuGimbalAdapter(final ComponentIndexType index) {
         this.index = index;
         this.state = new AnzuGimbalStateAdapter(index);
+        this.rotateBySpeedKey = createKey(GimbalKey.KeyRotateBySpeed);
+        state.setAttitudeListener(this::onAttitude);
+        state.setModeListener(completions::evaluate);
 
         listeners.init(createKey(GimbalKey.KeyGimbalAttitudeRange), (oldValue, newValue) -> attitudeRange = newValue);
         listeners.init(createKey(GimbalKey.KeyYawAdjustSupported), (oldValue, newValue) -> {
@@ -85,7 +117,7 @@ public class AnzuGimbalAdapter implements GimbalAdapter {
             enumElements.update("GimbalMode", range);
         });
 
-        KeyManager.getInstance().setValue(createKey(GimbalKey.KeyPitchRangeExtensionEnabled), true, new CommonCallbacks.CompletionCallback() {
+        AnzuKeyWriter.getInstance().setValue(createKey(GimbalKey.KeyPitchRangeExtensionEnabled), true, new CommonCallbacks.CompletionCallback() {
             @Override
             public void onSuccess() {
                 Log.i(TAG, String.format("Gimbal[%d] pitch range extension enabled", getIndex()));
@@ -97,10 +129,48 @@ public class AnzuGimbalAdapter implements GimbalAdapter {
     }
 
     public void close() {
+        stopControlStream();
         listeners.cancelAll();
         state.close();
     }
 
+    public synchronized void startControlStream(final double frequency, final SpeedRotationProvider provider) {
+        final AnzuControlStream previous = controlStream;
+        if (previous != null) {
+            if (previous.isRunning() && previous.getFrequency() == frequency) {
+                return;
+            }
+            previous.stop();
+        }
+
+        Log.i(TAG, String.format("Gimbal[%d] control stream started (%.0f Hz)", getIndex(), frequency));
+        controlStream = new AnzuControlStream(String.format("Gimbal[%d] control", getIndex()), frequency, () -> {
+            final GimbalSpeedRotation speedRotation = provider.getSpeedRotation(this);
+            if (speedRotation != null) {
+                KeyManager.getInstance().performAction(rotateBySpeedKey, speedRotation, null);
+            }
+        });
+        controlStream.start();
+    }
+
+    public synchronized void stopControlStream() {
+        final AnzuControlStream controlStream = this.controlStream;
+        if (controlStream != null) {
+            controlStream.stop();
+            this.controlStream = null;
+            Log.i(TAG, String.format("Gimbal[%d] control stream stopped (achieved %.1f Hz, %d missed deadlines)", getIndex(), controlStream.getAchievedFrequency(), controlStream.getMissedDeadlines()));
+        }
+    }
+
+    public synchronized boolean isControlStreamRunning() {
+        return controlStream != null && controlStream.isRunning();
+    }
+
+    //the cadence the control stream is actually achieving, 0 when it isn't running
+    public synchronized double getControlStreamAchievedFrequency() {
+        return controlStream == null ? 0 : controlStream.getAchievedFrequency();
+    }
+
     public <T> DJIKey<T> createKey(final DJIKeyInfo<T> keyInfo) {
         return KeyTools.createKey(keyInfo, index);
     }
@@ -120,7 +190,7 @@ public class AnzuGimbalAdapter implements GimbalAdapter {
         rotation.setPitch(-12.0);
         rotation.setRoll(0.0);
         if (isYawAdjustSupported && state.getMode() != GimbalMode.YAW_FOLLOW) {
-            KeyManager.getInstance().setValue(createKey(GimbalKey.KeyGimbalMode), dji.sdk.keyvalue.value.gimbal.GimbalMode.YAW_FOLLOW, null);
+            AnzuKeyWriter.getInstance().setValue(createKey(GimbalKey.KeyGimbalMode), dji.sdk.keyvalue.value.gimbal.GimbalMode.YAW_FOLLOW, null);
             KeyManager.getInstance().performAction(createKey(GimbalKey.KeyGimbalReset), null);
         }
         KeyManager.getInstance().performAction(createKey(GimbalKey.KeyRotateByAngle), rotation, null);
@@ -160,22 +230,22 @@ public class AnzuGimbalAdapter implements GimbalAdapter {
     }
 
     public GimbalSpeedRotation getPendingSpeedRotation() {
-        try {
-            return serialQueue.submit(() -> pendingSpeedRotation).get();
-        }
-        catch (final ExecutionException | InterruptedException e) {
-            return null;
-        }
+        return pendingSpeedRotation.get();
     }
 
     public void setPendingSpeedRotation(final GimbalSpeedRotation newPendingSpeedRotation) {
-        serialQueue.execute(() -> pendingSpeedRotation = newPendingSpeedRotation);
+        pendingSpeedRotation.set(newPendingSpeedRotation);
+    }
+
+    //atomically reads and clears the pending speed rotation so a rotation set between the read and the clear isn't lost
+    public GimbalSpeedRotation takePendingSpeedRotation() {
+        return pendingSpeedRotation.getAndSet(null);
     }
 
     public CommandError executeCommand(final Context context, final GimbalCommand command, final Command.Finisher finished) {
         if (command instanceof ModeGimbalCommand) {
             final GimbalMode target = ((ModeGimbalCommand) command).mode;
-            Command.conditionallyExecute(target != state.getMode(), finished, () -> KeyManager.getInstance().setValue(
+            Command.conditionallyExecute(target != state.getMode(), finished, () -> AnzuKeyWriter.getInstance().setValue(
                     createKey(GimbalKey.KeyGimbalMode), DronelinkAnzu.getGimbalMode(target), DronelinkAnzu.createCompletionCallback(finished)));
             return null;
         }
@@ -225,8 +295,10 @@ public class AnzuGimbalAdapter implements GimbalAdapter {
 
                 @Override
                 public void onFailure(final @NonNull IDJIError error) {
+                    //the rotation that was settling may have been interrupted, so captures shouldn't wait on it
+                    convergence.set(null);
                     if (finished != null) {
-                        finished.execute(new CommandError(error.errorCode()));
+                        finished.execute(AnzuRetryPolicy.createCommandError(error));
                     }
                 }
             });
@@ -246,37 +318,162 @@ public class AnzuGimbalAdapter implements GimbalAdapter {
         return false;
     }
 
-    private void commandFinishOrientationVerify(final Context context, final OrientationGimbalCommand command, final Command.Finisher finished) {
-        commandFinishOrientationVerify(context, command, 0, 20, Convert.DegreesToRadians(2.0), finished);
+    //0 when no orientation command is converging (or it is already within tolerance), -1 when it can't be predicted
+    public long getOrientationConvergenceEstimateMillis() {
+        final Convergence convergence = this.convergence.get();
+        return convergence == null ? 0 : getOrientationConvergenceEstimateMillis(convergence);
     }
 
-    private void commandFinishOrientationVerify(final Context context, final OrientationGimbalCommand command, final int attempt, final int maxAttempts, final double threshold, final Command.Finisher finished) {
-        if (attempt >= maxAttempts) {
-            finished.execute(new CommandError(context.getString(R.string.AnzuGimbalAdapter_gimbalCommand_orientation_not_achieved)));
-            return;
+    private long getOrientationConvergenceEstimateMillis(final Convergence convergence) {
+        final long estimate = getOrientationConvergenceEstimateMillis(convergence.target);
+        final long expectedSettleMillis = this.expectedSettleMillis;
+        if (estimate < 0 && expectedSettleMillis > 0) {
+            //not moving toward the target yet (usually because it was just commanded), so fall back on how long this gimbal usually takes
+            final long remaining = expectedSettleMillis - (SystemClock.elapsedRealtime() - convergence.started);
+            return remaining > 0 ? remaining : -1;
+        }
+        return estimate;
+    }
+
+    public long getOrientationConvergenceEstimateMillis(final Orientation3Optional target) {
+        double seconds = getConvergenceSeconds(target.getPitch(), state.getAttitudePitch(), state.getAttitudePitchRate());
+        seconds = Math.max(seconds, getConvergenceSeconds(target.getRoll(), state.getAttitudeRoll(), state.getAttitudeRollRate()));
+        if (isOrientationYawVerified(target)) {
+            seconds = Math.max(seconds, getConvergenceSeconds(target.getYaw(), state.getAttitudeYaw(), state.getAttitudeYawRate()));
         }
+        return Double.isInfinite(seconds) ? -1 : (long)Math.ceil(seconds * 1000);
+    }
 
-        boolean verified = true;
+    //used when the angular rate can't predict convergence, 0 for no fallback
+    public void setExpectedSettleMillis(final long expectedSettleMillis) {
+        this.expectedSettleMillis = expectedSettleMillis;
+    }
 
-        if (command.orientation.getPitch() != null) {
-            verified = Math.abs(Convert.AngleDifferenceSigned(command.orientation.getPitch(), state.getOrientation().getPitch())) <= threshold;
+    //when > 0, orientation commands finish once convergence is predicted within this many milliseconds instead of on convergence
+    public void setOrientationFinishLeadMillis(final long orientationFinishLeadMillis) {
+        this.orientationFinishLeadMillis = orientationFinishLeadMillis;
+    }
+
+    public void setOrientationSettledCallback(final @Nullable OrientationSettledCallback orientationSettledCallback) {
+        this.orientationSettledCallback = orientationSettledCallback;
+    }
+
+    //true while the most recent orientation command hasn't reached its target, even if the command has already finished
+    public boolean isOrientationSettling() {
+        final Convergence convergence = this.convergence.get();
+        return convergence != null && !isOrientationAchieved(convergence.target);
+    }
+
+    //callback receives the time until the gimbal reports the mode, or the timeout if it never does
+    public void observeModeTransition(final GimbalMode target, final long timeoutMillis, final AnzuStateTransitionCallback callback) {
+        completions.await(
+                "Gimbal mode " + target,
+                elapsed -> state.getMode() == target,
+                0,
+                timeoutMillis,
+                null,
+                elapsed -> callback.onStateTransition(elapsed, state.getMode() != target),
+                null);
+    }
+
+    //ready runs once the orientation has settled or is predicted to within leadMillis (or the orientation timeout expires)
+    public void awaitOrientationSettled(final long leadMillis, final Runnable ready) {
+        completions.await(
+                "Gimbal orientation settled",
+                elapsed -> isOrientationSettledWithin(leadMillis),
+                0,
+                ORIENTATION_TIMEOUT_MILLIS,
+                null,
+                elapsed -> ready.run(),
+                null);
+    }
+
+    private boolean isOrientationSettledWithin(final long leadMillis) {
+        final Convergence convergence = this.convergence.get();
+        if (convergence == null || isOrientationAchieved(convergence.target)) {
+            return true;
         }
 
-        if (command.orientation.getRoll() != null) {
-            verified = verified && Math.abs(Convert.AngleDifferenceSigned(command.orientation.getRoll(), state.getOrientation().getRoll())) <= threshold;
+        if (leadMillis <= 0) {
+            return false;
         }
 
-        if (command.orientation.getYaw() != null && state.getMode() == GimbalMode.FREE && isAdjustYaw360Supported()) {
-            verified = verified && Math.abs(Convert.AngleDifferenceSigned(command.orientation.getYaw(), state.getOrientation().getYaw())) <= threshold;
+        final long estimate = getOrientationConvergenceEstimateMillis(convergence);
+        return estimate >= 0 && estimate <= leadMillis;
+    }
+
+    private void onAttitude() {
+        final Convergence convergence = this.convergence.get();
+        if (convergence != null && isOrientationAchieved(convergence.target)) {
+            onOrientationSettled(convergence);
         }
+        completions.evaluate();
+    }
 
-        if (verified) {
-            finished.execute(null);
+    private void onOrientationSettled(final Convergence convergence) {
+        if (!this.convergence.compareAndSet(convergence, null)) {
             return;
         }
 
-        final long wait = 100;
-        Log.d(TAG, "Gimbal command finished and waiting for orientation (" + ((attempt + 1) * wait) + "ms)... (" + command.id + ")");
-        new Handler().postDelayed(() -> commandFinishOrientationVerify(context, command, attempt + 1, maxAttempts, threshold, finished), wait);
+        final OrientationSettledCallback orientationSettledCallback = this.orientationSettledCallback;
+        if (orientationSettledCallback != null) {
+            orientationSettledCallback.onOrientationSettled(this, SystemClock.elapsedRealtime() - convergence.started);
+        }
+    }
+
+    private static double getConvergenceSeconds(final Double target, final double current, final double rate) {
+        if (target == null) {
+            return 0;
+        }
+
+        final double remaining = Convert.AngleDifferenceSigned(target, current);
+        if (Math.abs(remaining) <= ORIENTATION_THRESHOLD) {
+            return 0;
+        }
+
+        if (Math.abs(rate) < CONVERGENCE_MIN_RATE || Math.signum(rate) != Math.signum(remaining)) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        return (Math.abs(remaining) - ORIENTATION_THRESHOLD) / Math.abs(rate);
+    }
+
+    private boolean isOrientationYawVerified(final Orientation3Optional target) {
+        return target.getYaw() != null && state.getMode() == GimbalMode.FREE && isAdjustYaw360Supported();
+    }
+
+    private boolean isOrientationAchieved(final Orientation3Optional target) {
+        if (target.getPitch() != null && Math.abs(Convert.AngleDifferenceSigned(target.getPitch(), state.getAttitudePitch())) > ORIENTATION_THRESHOLD) {
+            return false;
+        }
+
+        if (target.getRoll() != null && Math.abs(Convert.AngleDifferenceSigned(target.getRoll(), state.getAttitudeRoll())) > ORIENTATION_THRESHOLD) {
+            return false;
+        }
+
+        return !isOrientationYawVerified(target) || Math.abs(Convert.AngleDifferenceSigned(target.getYaw(), state.getAttitudeYaw())) <= ORIENTATION_THRESHOLD;
+    }
+
+    //finishes on the first attitude update within tolerance, or once convergence is predicted within the finish lead
+    private void commandFinishOrientationVerify(final Context context, final OrientationGimbalCommand command, final Command.Finisher finished) {
+        final Convergence convergence = new Convergence(command.orientation);
+        this.convergence.set(convergence);
+        completions.await(
+                "Gimbal orientation achieved (" + command.id + ")",
+                elapsed -> isOrientationAchieved(convergence.target) || (this.convergence.get() == convergence && isOrientationSettledWithin(orientationFinishLeadMillis)),
+                0,
+                ORIENTATION_TIMEOUT_MILLIS,
+                new CommandError(context.getString(R.string.AnzuGimbalAdapter_gimbalCommand_orientation_not_achieved)),
+                elapsed -> {
+                    if (isOrientationAchieved(convergence.target)) {
+                        onOrientationSettled(convergence);
+                    }
+                    finished.execute(null);
+                },
+                error -> {
+                    //timed out, stop holding captures for an orientation that isn't going to be reached
+                    this.convergence.compareAndSet(convergence, null);
+                    finished.execute(error);
+                });
     }
-}
\ No newline at end of file
+}
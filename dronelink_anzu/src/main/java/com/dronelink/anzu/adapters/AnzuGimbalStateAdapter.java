@@ -6,6 +6,10 @@
 //
 package com.dronelink.anzu.adapters;
 
+import android.os.SystemClock;
+
+import androidx.annotation.Nullable;
+
 import com.dronelink.core.Convert;
 import com.dronelink.core.DatedValue;
 import com.dronelink.core.adapters.GimbalStateAdapter;
@@ -25,18 +29,107 @@ import dji.sdk.keyvalue.value.common.Attitude;
 import dji.sdk.keyvalue.value.common.ComponentIndexType;
 
 public class AnzuGimbalStateAdapter implements GimbalStateAdapter {
+    //samples further apart than this don't produce a meaningful rate
+    private static final long RATE_MAX_INTERVAL_NANOS = 500_000_000L;
+    private static final double RATE_SMOOTHING = 0.5;
+
     private final AnzuListenerGroup listeners = new AnzuListenerGroup();
     private final Date updated = new Date();
     private final ComponentIndexType index;
 
     private dji.sdk.keyvalue.value.gimbal.GimbalMode mode;
     private Attitude attitude;
+    //radians and radians per second, written only by the attitude listener
+    private volatile double pitch;
+    private volatile double roll;
+    private volatile double yaw;
+    private volatile double pitchRate;
+    private volatile double rollRate;
+    private volatile double yawRate;
+    private long attitudeUpdatedNanos = 0;
+    private volatile Runnable attitudeListener;
+    private volatile Runnable modeListener;
 
     public AnzuGimbalStateAdapter(final ComponentIndexType index) {
         this.index = index;
 
-        listeners.init(createKey(GimbalKey.KeyGimbalMode), (oldValue, newValue) -> mode = newValue);
-        listeners.init(createKey(GimbalKey.KeyGimbalAttitude), (oldValue, newValue) -> attitude = newValue);
+        listeners.init(createKey(GimbalKey.KeyGimbalMode), (oldValue, newValue) -> {
+            mode = newValue;
+            final Runnable modeListener = this.modeListener;
+            if (modeListener != null) {
+                modeListener.run();
+            }
+        });
+        listeners.init(createKey(GimbalKey.KeyGimbalAttitude), (oldValue, newValue) -> {
+            attitude = newValue;
+            if (newValue != null) {
+                onAttitude(newValue);
+            }
+        });
+    }
+
+    private void onAttitude(final Attitude attitude) {
+        final double pitch = Convert.DegreesToRadians(attitude.getPitch());
+        final double roll = Convert.DegreesToRadians(attitude.getRoll());
+        final double yaw = Convert.DegreesToRadians(attitude.getYaw());
+
+        final long now = SystemClock.elapsedRealtimeNanos();
+        final long interval = now - attitudeUpdatedNanos;
+        if (attitudeUpdatedNanos > 0 && interval > 0 && interval < RATE_MAX_INTERVAL_NANOS) {
+            final double seconds = interval / 1_000_000_000.0;
+            pitchRate += (Convert.AngleDifferenceSigned(pitch, this.pitch) / seconds - pitchRate) * RATE_SMOOTHING;
+            rollRate += (Convert.AngleDifferenceSigned(roll, this.roll) / seconds - rollRate) * RATE_SMOOTHING;
+            yawRate += (Convert.AngleDifferenceSigned(yaw, this.yaw) / seconds - yawRate) * RATE_SMOOTHING;
+        }
+        else {
+            pitchRate = 0;
+            rollRate = 0;
+            yawRate = 0;
+        }
+
+        this.pitch = pitch;
+        this.roll = roll;
+        this.yaw = yaw;
+        attitudeUpdatedNanos = now;
+
+        final Runnable attitudeListener = this.attitudeListener;
+        if (attitudeListener != null) {
+            attitudeListener.run();
+        }
+    }
+
+    //called on every attitude update, after the values below are current
+    public void setAttitudeListener(final @Nullable Runnable attitudeListener) {
+        this.attitudeListener = attitudeListener;
+    }
+
+    public void setModeListener(final @Nullable Runnable modeListener) {
+        this.modeListener = modeListener;
+    }
+
+    //the attitude accessors are in radians (radians per second for rates) and don't allocate
+    public double getAttitudePitch() {
+        return pitch;
+    }
+
+    public double getAttitudeRoll() {
+        return roll;
+    }
+
+    public double getAttitudeYaw() {
+        return yaw;
+    }
+
+    public double getAttitudePitchRate() {
+        return pitchRate;
+    }
+
+    public double getAttitudeRollRate() {
+        return rollRate;
+    }
+
+    public double getAttitudeYawRate() {
+        return yawRate;
     }
 
     public void close() {
@@ -0,0 +1,238 @@
+//  AnzuHistogram.java
+//  DronelinkAnzu
+//
+//  Created by agent on 10/18/26.
+//  Copyright © 2026 Dronelink. All rights reserved.
+//
+package com.dronelink.anzu.adapters;
+
+import androidx.annotation.Nullable;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+//double-buffered histogram: updates are written into the back buffer and swapped in, so the arrays are reused at the camera's update rate
+//the total and weighted sum are adjusted per changed bin, the remaining statistics are derived on demand once per update
+//subscribers are notified on every nth update, and the histogram key is only listened to while there are subscribers
+public class AnzuHistogram {
+    public interface Listener {
+        //the histogram can be read (copyTo, getStats) during the callback
+        void onHistogram(final AnzuHistogram histogram);
+    }
+
+    public static final class Stats {
+        //0 (black) to 1 (white)
+        public final double meanLuminance;
+        //fraction of the samples in the first / last bin
+        public final double shadowClipping;
+        public final double highlightClipping;
+        public final int p5Bin;
+        public final int p50Bin;
+        public final int p95Bin;
+        public final int bins;
+
+        Stats(final double meanLuminance, final double shadowClipping, final double highlightClipping, final int p5Bin, final int p50Bin, final int p95Bin, final int bins) {
+            this.meanLuminance = meanLuminance;
+            this.shadowClipping = shadowClipping;
+            this.highlightClipping = highlightClipping;
+            this.p5Bin = p5Bin;
+            this.p50Bin = p50Bin;
+            this.p95Bin = p95Bin;
+            this.bins = bins;
+        }
+    }
+
+    public final class Subscription {
+        private final Listener listener;
+        private final int decimation;
+        private int updates = 0;
+
+        private Subscription(final Listener listener, final int decimation) {
+            this.listener = listener;
+            this.decimation = decimation;
+        }
+
+        public void cancel() {
+            if (subscriptions.remove(this) && subscriptions.isEmpty() && onSubscribed != null) {
+                onSubscribed.onSubscribed(false);
+            }
+        }
+    }
+
+    interface SubscribedCallback {
+        void onSubscribed(final boolean subscribed);
+    }
+
+    private static final short[] EMPTY = new short[0];
+
+    private final Object lock = new Object();
+    private final SubscribedCallback onSubscribed;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    //guarded by lock
+    private short[] front = EMPTY;
+    private short[] back = EMPTY;
+    private boolean available = false;
+    private long version = 0;
+    private long total = 0;
+    private long weightedSum = 0;
+    private Stats stats;
+    private long statsVersion = -1;
+    private short[] snapshot;
+    private long snapshotVersion = -1;
+
+    AnzuHistogram(final @Nullable SubscribedCallback onSubscribed) {
+        this.onSubscribed = onSubscribed;
+    }
+
+    void update(final @Nullable List<Integer> values) {
+        synchronized (lock) {
+            version++;
+            if (values == null) {
+                available = false;
+                total = 0;
+                weightedSum = 0;
+                return;
+            }
+
+            final int size = values.size();
+            if (back.length != size) {
+                back = new short[size];
+            }
+
+            //only the bins that changed adjust the running totals, unless the bin count changed
+            final boolean incremental = available && front.length == size;
+            if (!incremental) {
+                total = 0;
+                weightedSum = 0;
+            }
+
+            for (int i = 0; i < size; i++) {
+                final short value = values.get(i).shortValue();
+                back[i] = value;
+                if (incremental) {
+                    final int delta = value - front[i];
+                    if (delta != 0) {
+                        total += delta;
+                        weightedSum += (long) delta * i;
+                    }
+                }
+                else {
+                    total += value;
+                    weightedSum += (long) value * i;
+                }
+            }
+
+            final short[] swap = front;
+            front = back;
+            back = swap;
+            available = true;
+        }
+
+        for (final Subscription subscription : subscriptions) {
+            subscription.updates++;
+            if (subscription.updates >= subscription.decimation) {
+                subscription.updates = 0;
+                subscription.listener.onHistogram(this);
+            }
+        }
+    }
+
+    //decimation 1 notifies on every update, 2 on every other update, etc.
+    public Subscription subscribe(final Listener listener, final int decimation) {
+        final Subscription subscription = new Subscription(listener, Math.max(1, decimation));
+        subscriptions.add(subscription);
+        if (subscriptions.size() == 1 && onSubscribed != null) {
+            onSubscribed.onSubscribed(true);
+        }
+        return subscription;
+    }
+
+    public boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    //incremented on every update
+    public long getVersion() {
+        synchronized (lock) {
+            return version;
+        }
+    }
+
+    //copies the current bins into destination (as many as fit) and returns the bin count, -1 when there is no histogram
+    public int copyTo(final short[] destination) {
+        synchronized (lock) {
+            if (!available) {
+                return -1;
+            }
+            System.arraycopy(front, 0, destination, 0, Math.min(front.length, destination.length));
+            return front.length;
+        }
+    }
+
+    //a copy that is only remade when the histogram has been updated since the last call, null when there is no histogram
+    public short[] getSnapshot() {
+        synchronized (lock) {
+            if (!available) {
+                return null;
+            }
+
+            if (snapshotVersion != version) {
+                snapshot = front.clone();
+                snapshotVersion = version;
+            }
+            return snapshot;
+        }
+    }
+
+    //null when there is no histogram
+    public Stats getStats() {
+        synchronized (lock) {
+            if (!available || front.length == 0) {
+                return null;
+            }
+
+            if (statsVersion != version) {
+                stats = createStats();
+                statsVersion = version;
+            }
+            return stats;
+        }
+    }
+
+    private Stats createStats() {
+        final int bins = front.length;
+        if (total <= 0) {
+            return new Stats(0, 0, 0, 0, 0, 0, bins);
+        }
+
+        final long p5 = (long) Math.ceil(total * 0.05);
+        final long p50 = (long) Math.ceil(total * 0.5);
+        final long p95 = (long) Math.ceil(total * 0.95);
+        int p5Bin = -1;
+        int p50Bin = -1;
+        int p95Bin = bins - 1;
+        long cumulative = 0;
+        for (int i = 0; i < bins; i++) {
+            cumulative += front[i];
+            if (p5Bin < 0 && cumulative >= p5) {
+                p5Bin = i;
+            }
+            if (p50Bin < 0 && cumulative >= p50) {
+                p50Bin = i;
+            }
+            if (cumulative >= p95) {
+                p95Bin = i;
+                break;
+            }
+        }
+
+        return new Stats(
+                bins > 1 ? (double) weightedSum / ((double) total * (bins - 1)) : 0,
+                (double) front[0] / total,
+                (double) front[bins - 1] / total,
+                Math.max(0, p5Bin),
+                Math.max(0, p50Bin),
+                p95Bin,
+                bins);
+    }
+}
@@ -16,6 +16,7 @@ import com.dronelink.anzu.AnzuListenerGroup;
 import com.dronelink.anzu.DronelinkAnzu;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 
@@ -31,7 +32,10 @@ public class AnzuLiveStreamingStateAdapter implements LiveStreamingStateAdapter,
     private final AnzuListenerGroup listeners = new AnzuListenerGroup();
 
     private LiveStreamStatus status;
-    private IDJIError error;
+    private volatile IDJIError error;
+    //built from error, so callers can compare it by identity
+    private List<Message> statusMessages = Collections.emptyList();
+    private IDJIError statusMessagesError;
 
     public AnzuLiveStreamingStateAdapter(final Context context) {
         this.context = context;
@@ -76,14 +80,21 @@ public class AnzuLiveStreamingStateAdapter implements LiveStreamingStateAdapter,
 
     @SuppressLint("DefaultLocale")
     @Override
-    public List<Message> getStatusMessages() {
+    public synchronized List<Message> getStatusMessages() {
+        final IDJIError error = this.error;
+        if (error == statusMessagesError) {
+            return statusMessages;
+        }
+        statusMessagesError = error;
+
         final List<Message> messages = new ArrayList<>();
         Message message = error == null ? null : DronelinkAnzu.getMessage(context, error);
         if (message != null) {
             messages.add(message);
         }
 
-        return messages;
+        statusMessages = Collections.unmodifiableList(messages);
+        return statusMessages;
     }
 
     @Override
@@ -0,0 +1,208 @@
+//  AnzuPIDYawController.java
+//  DronelinkAnzu
+//
+//  Created by agent on 10/18/26.
+//  Copyright © 2026 Dronelink. All rights reserved.
+//
+package com.dronelink.anzu.adapters;
+
+import android.util.Log;
+
+import androidx.annotation.Nullable;
+
+import com.dronelink.core.Convert;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import dji.sdk.keyvalue.value.product.ProductType;
+
+//pid on the heading error plus feed-forward of the target heading rate, so an orbit's steadily moving heading doesn't lag
+//the output is rate limited, and the integral is clamped and frozen while the output is saturated (anti-windup)
+public class AnzuPIDYawController implements AnzuYawController {
+    private static final String TAG = AnzuPIDYawController.class.getCanonicalName();
+    //a gap longer than this between updates means heading control was interrupted, so the history is discarded
+    private static final long RESET_GAP_NANOS = 500_000_000L;
+    private static final long TRACKING_LOG_INTERVAL_NANOS = 5_000_000_000L;
+    private static final double TARGET_RATE_SMOOTHING = 0.3;
+
+    public static class Profile {
+        //degrees per second per degree of error
+        public final double kp;
+        //degrees per second per degree-second of error
+        public final double ki;
+        //degrees per second per degree per second of yaw rate
+        public final double kd;
+        //fraction of the target heading rate passed straight through
+        public final double feedForward;
+        //degrees per second, 0 for no limit
+        public final double maxRate;
+        //degrees per second per second, 0 for no limit
+        public final double maxAcceleration;
+        //degrees-seconds, 0 clamps the integral to 0, which disables the integral term regardless of ki
+        public final double maxIntegral;
+
+        public Profile(final double kp, final double ki, final double kd, final double feedForward, final double maxRate, final double maxAcceleration, final double maxIntegral) {
+            this.kp = kp;
+            this.ki = ki;
+            this.kd = kd;
+            this.feedForward = feedForward;
+            this.maxRate = maxRate;
+            this.maxAcceleration = maxAcceleration;
+            this.maxIntegral = maxIntegral;
+        }
+    }
+
+    //the original proportional-only behavior (1.5x the heading error, no feed-forward or limits, maxIntegral 0 disables the integral term)
+    //heading setpoints are usually steps, so feed-forward of their rate is only useful in profiles tuned for it
+    public static final Profile DEFAULT_PROFILE = new Profile(1.5, 0, 0, 0, 0, 0, 0);
+
+    //opt-in per airframe, nothing is registered until a profile has been tuned in flight
+    private static final Map<ProductType, Profile> profiles = new EnumMap<>(ProductType.class);
+    //incremented by every registration, so controllers following a product pick up a profile registered after it connected
+    private static volatile int profilesVersion = 0;
+
+    public static Profile getProfile(final @Nullable ProductType productType) {
+        synchronized (profiles) {
+            final Profile profile = productType == null ? null : profiles.get(productType);
+            return profile == null ? DEFAULT_PROFILE : profile;
+        }
+    }
+
+    //null restores DEFAULT_PROFILE for the product
+    public static void setProfile(final ProductType productType, final @Nullable Profile profile) {
+        synchronized (profiles) {
+            if (profile == null) {
+                profiles.remove(productType);
+            }
+            else {
+                profiles.put(productType, profile);
+            }
+            profilesVersion++;
+        }
+    }
+
+    private Profile profile;
+    //set by setProductType, cleared by setProfile
+    private boolean followsProduct = false;
+    private ProductType productType;
+    private int resolvedProfilesVersion;
+    private long previousNanos = 0;
+    private double previousHeading;
+    private double previousYaw;
+    private double previousOutput;
+    private double integral;
+    private double targetRate;
+
+    private double trackingErrorSquaredSum;
+    private double trackingErrorMax;
+    private int trackingErrorSamples;
+    private long trackingLogged = 0;
+
+    public AnzuPIDYawController(final Profile profile) {
+        this.profile = profile;
+    }
+
+    public synchronized Profile getProfile() {
+        return profile;
+    }
+
+    //overrides the product's registered profile
+    public synchronized void setProfile(final Profile profile) {
+        followsProduct = false;
+        this.profile = profile;
+        reset();
+    }
+
+    //uses the profile registered for the product, including one registered later
+    public synchronized void setProductType(final @Nullable ProductType productType) {
+        followsProduct = true;
+        this.productType = productType;
+        resolveProfile();
+    }
+
+    private void resolveProfile() {
+        resolvedProfilesVersion = profilesVersion;
+        final Profile profile = getProfile(productType);
+        if (profile != this.profile) {
+            this.profile = profile;
+            reset();
+        }
+    }
+
+    @Override
+    public synchronized void reset() {
+        previousNanos = 0;
+        previousOutput = 0;
+        integral = 0;
+        targetRate = 0;
+    }
+
+    @Override
+    public synchronized double getYawRate(final double heading, final double yaw, final long nowNanos) {
+        if (followsProduct && resolvedProfilesVersion != profilesVersion) {
+            resolveProfile();
+        }
+
+        final double error = Math.toDegrees(Convert.AngleDifferenceSigned(heading, yaw));
+        final boolean continuing = previousNanos > 0 && nowNanos - previousNanos < RESET_GAP_NANOS;
+        final double dt = continuing ? (nowNanos - previousNanos) / 1_000_000_000.0 : 0;
+
+        double yawRate = 0;
+        if (dt > 0) {
+            final double instantaneousTargetRate = Math.toDegrees(Convert.AngleDifferenceSigned(heading, previousHeading)) / dt;
+            targetRate += (instantaneousTargetRate - targetRate) * TARGET_RATE_SMOOTHING;
+            yawRate = Math.toDegrees(Convert.AngleDifferenceSigned(yaw, previousYaw)) / dt;
+        }
+        else {
+            previousOutput = 0;
+            integral = 0;
+            targetRate = 0;
+        }
+
+        //derivative on the measurement rather than the error, so a heading step doesn't kick the output
+        final double unsaturated = profile.kp * error + profile.ki * integral - profile.kd * yawRate + profile.feedForward * targetRate;
+        double output = profile.maxRate > 0 ? clamp(unsaturated, profile.maxRate) : unsaturated;
+
+        //only integrate while the output isn't pinned against the limit in the direction the error would push it
+        if (dt > 0 && profile.ki > 0 && (output == unsaturated || Math.signum(error) != Math.signum(unsaturated))) {
+            integral = clamp(integral + error * dt, profile.maxIntegral);
+        }
+
+        if (dt > 0 && profile.maxAcceleration > 0) {
+            final double maxChange = profile.maxAcceleration * dt;
+            output = previousOutput + clamp(output - previousOutput, maxChange);
+        }
+
+        previousNanos = nowNanos;
+        previousHeading = heading;
+        previousYaw = yaw;
+        previousOutput = output;
+        track(error, nowNanos);
+        return output;
+    }
+
+    private void track(final double error, final long nowNanos) {
+        trackingErrorSquaredSum += error * error;
+        trackingErrorMax = Math.max(trackingErrorMax, Math.abs(error));
+        trackingErrorSamples++;
+
+        if (trackingLogged == 0) {
+            trackingLogged = nowNanos;
+        }
+        else if (nowNanos - trackingLogged >= TRACKING_LOG_INTERVAL_NANOS) {
+            Log.d(TAG, String.format("Yaw tracking error: %.2f° rms, %.2f° max (%d samples)",
+                    Math.sqrt(trackingErrorSquaredSum / trackingErrorSamples),
+                    trackingErrorMax,
+                    trackingErrorSamples));
+            trackingErrorSquaredSum = 0;
+            trackingErrorMax = 0;
+            trackingErrorSamples = 0;
+            trackingLogged = nowNanos;
+        }
+    }
+
+    private static double clamp(final double value, final double limit) {
+        return Math.max(-limit, Math.min(limit, value));
+    }
+}
@@ -19,6 +19,7 @@ import com.dronelink.anzu.DronelinkAnzu;
 import com.dronelink.anzu.R;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 
@@ -53,12 +54,20 @@ public class AnzuRTKStateAdapter implements RTKStateAdapter, RTKSystemStateListe
     private RTKStationConnetState stationConnectionState;
     private ConnectedRTKStationInfoListener stationInfoListener;
     private ConnectedRTKStationInfo stationInfo;
+    //incremented by every listener that feeds the status messages
+    private volatile int statusMessagesInputsVersion = 0;
+    private final Object statusMessagesLock = new Object();
+    private int statusMessagesVersion = -1;
+    private List<Message> statusMessages = Collections.emptyList();
 
     public AnzuRTKStateAdapter(final Context context, final AnzuDroneAdapter drone) {
         this.context = context;
         this.drone = drone;
 
-        locationInfoListener = newValue -> locationInfo = newValue;
+        locationInfoListener = newValue -> {
+            locationInfo = newValue;
+            statusMessagesInputsVersion++;
+        };
 
         final IRTKCenter rtk = RTKCenter.getInstance();
         if (rtk != null) {
@@ -71,9 +80,15 @@ public class AnzuRTKStateAdapter implements RTKStateAdapter, RTKSystemStateListe
 
             final IRTKStationManager rtkStationManager = rtk.getRTKStationManager();
             if (rtkStationManager != null) {
-                stationConnectStatusListener = state -> stationConnectionState = state;
+                stationConnectStatusListener = state -> {
+                    stationConnectionState = state;
+                    statusMessagesInputsVersion++;
+                };
                 rtkStationManager.addRTKStationConnectStatusListener(stationConnectStatusListener);
-                stationInfoListener = info -> stationInfo = info;
+                stationInfoListener = info -> {
+                    stationInfo = info;
+                    statusMessagesInputsVersion++;
+                };
                 rtkStationManager.addConnectedRTKStationInfoListener(stationInfoListener);
             }
         }
@@ -140,9 +155,21 @@ public class AnzuRTKStateAdapter implements RTKStateAdapter, RTKSystemStateListe
         return systemState != null && systemState.getRTKHealthy();
     }
 
-    @SuppressLint("DefaultLocale")
+    //the returned list is only rebuilt after a listener update, so callers can compare it by identity
     @Override
     public List<Message> getStatusMessages() {
+        synchronized (statusMessagesLock) {
+            final int version = statusMessagesInputsVersion;
+            if (version != statusMessagesVersion) {
+                statusMessagesVersion = version;
+                statusMessages = Collections.unmodifiableList(createStatusMessages());
+            }
+            return statusMessages;
+        }
+    }
+
+    @SuppressLint("DefaultLocale")
+    private List<Message> createStatusMessages() {
         final List<Message> messages = new ArrayList<>();
 
         Message message = customNetworkError == null ? null : DronelinkAnzu.getMessage(context, customNetworkError);
@@ -206,15 +233,18 @@ public class AnzuRTKStateAdapter implements RTKStateAdapter, RTKSystemStateListe
     @Override
     public void onErrorCodeUpdate(final IDJIError code) {
         this.customNetworkError = code;
+        statusMessagesInputsVersion++;
     }
 
     @Override
     public void onUpdate(final RTKSystemState rtkSystemState) {
         this.systemState = rtkSystemState;
+        statusMessagesInputsVersion++;
     }
 
     @Override
     public void onServiceStateUpdate(final dji.sdk.keyvalue.value.rtkbasestation.RTKServiceState rtkServiceState) {
         this.serviceState = rtkServiceState;
+        statusMessagesInputsVersion++;
     }
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+//  AnzuStateTransitionCallback.java
+//  DronelinkAnzu
+//
+//  Created by agent on 10/18/26.
+//  Copyright © 2026 Dronelink. All rights reserved.
+//
+package com.dronelink.anzu.adapters;
+
+public interface AnzuStateTransitionCallback {
+    void onStateTransition(final long elapsedMillis, final boolean timedOut);
+}
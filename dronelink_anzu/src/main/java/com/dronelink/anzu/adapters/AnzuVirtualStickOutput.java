@@ -0,0 +1,173 @@
+//  AnzuVirtualStickOutput.java
+//  DronelinkAnzu
+//
+//  Created by agent on 10/18/26.
+//  Copyright © 2026 Dronelink. All rights reserved.
+//
+package com.dronelink.anzu.adapters;
+
+import android.util.Log;
+
+import dji.sdk.keyvalue.value.flightcontroller.FlightCoordinateSystem;
+import dji.sdk.keyvalue.value.flightcontroller.RollPitchControlMode;
+import dji.sdk.keyvalue.value.flightcontroller.VerticalControlMode;
+import dji.sdk.keyvalue.value.flightcontroller.VirtualStickFlightControlParam;
+import dji.sdk.keyvalue.value.flightcontroller.YawControlMode;
+import dji.v5.manager.aircraft.virtualstick.VirtualStickManager;
+
+//setpoints are coalesced to the latest one and sent to the sdk at a fixed rate through a single reused param
+class AnzuVirtualStickOutput {
+    private static final String TAG = AnzuVirtualStickOutput.class.getCanonicalName();
+    static final double MIN_FREQUENCY = 5.0;
+    static final double MAX_FREQUENCY = 25.0;
+    //the latest setpoint is repeated for this long, after that nothing is sent until the next setpoint
+    private static final long SETPOINT_HOLD_NANOS = 250_000_000L;
+
+    private final Object lock = new Object();
+    //guarded by lock
+    private final VirtualStickFlightControlParam param = new VirtualStickFlightControlParam();
+    private boolean hasSetpoint = false;
+    private boolean pending = false;
+    private long submitted = 0;
+    private RollPitchControlMode rollPitchControlMode;
+    private FlightCoordinateSystem rollPitchCoordinateSystem;
+    private VerticalControlMode verticalControlMode;
+    private YawControlMode yawControlMode;
+    private double pitch;
+    private double roll;
+    private double yaw;
+    private double verticalThrottle;
+    private long mergedSetpoints = 0;
+    private long sentSetpoints = 0;
+
+    private double frequency;
+    private AnzuControlStream stream;
+
+    AnzuVirtualStickOutput(final double frequency) {
+        this.frequency = clampFrequency(frequency);
+    }
+
+    //NaN falls back to the maximum, Math.min / Math.max would pass it through
+    static double clampFrequency(final double frequency) {
+        return Double.isNaN(frequency) ? MAX_FREQUENCY : Math.max(MIN_FREQUENCY, Math.min(MAX_FREQUENCY, frequency));
+    }
+
+    void setFrequency(final double frequency) {
+        synchronized (lock) {
+            this.frequency = clampFrequency(frequency);
+            if (stream != null && stream.getFrequency() != this.frequency) {
+                stream.stop();
+                stream = null;
+                start();
+            }
+        }
+    }
+
+    double getFrequency() {
+        synchronized (lock) {
+            return frequency;
+        }
+    }
+
+    double getAchievedFrequency() {
+        synchronized (lock) {
+            return stream == null ? 0 : stream.getAchievedFrequency();
+        }
+    }
+
+    //setpoints that were replaced by a newer one before they were sent
+    long getMergedSetpoints() {
+        synchronized (lock) {
+            return mergedSetpoints;
+        }
+    }
+
+    long getSentSetpoints() {
+        synchronized (lock) {
+            return sentSetpoints;
+        }
+    }
+
+    void submit(final RollPitchControlMode rollPitchControlMode, final FlightCoordinateSystem rollPitchCoordinateSystem, final VerticalControlMode verticalControlMode, final YawControlMode yawControlMode, final double pitch, final double roll, final double yaw, final double verticalThrottle) {
+        synchronized (lock) {
+            set(rollPitchControlMode, rollPitchCoordinateSystem, verticalControlMode, yawControlMode, pitch, roll, yaw, verticalThrottle);
+            if (stream == null) {
+                start();
+            }
+        }
+    }
+
+    //bypasses the cadence, used to stop the aircraft
+    void submitImmediately(final RollPitchControlMode rollPitchControlMode, final FlightCoordinateSystem rollPitchCoordinateSystem, final VerticalControlMode verticalControlMode, final YawControlMode yawControlMode, final double pitch, final double roll, final double yaw, final double verticalThrottle) {
+        synchronized (lock) {
+            set(rollPitchControlMode, rollPitchCoordinateSystem, verticalControlMode, yawControlMode, pitch, roll, yaw, verticalThrottle);
+            send();
+        }
+    }
+
+    void stop() {
+        synchronized (lock) {
+            if (stream != null) {
+                stream.stop();
+                Log.i(TAG, String.format("Virtual stick output stopped (achieved %.1f Hz, %d missed deadlines, %d sent, %d merged)", stream.getAchievedFrequency(), stream.getMissedDeadlines(), sentSetpoints, mergedSetpoints));
+                stream = null;
+            }
+            hasSetpoint = false;
+            pending = false;
+        }
+    }
+
+    private void start() {
+        Log.i(TAG, String.format("Virtual stick output started (%.0f Hz)", frequency));
+        stream = new AnzuControlStream("Virtual stick output", frequency, this::tick);
+        stream.start();
+    }
+
+    private void set(final RollPitchControlMode rollPitchControlMode, final FlightCoordinateSystem rollPitchCoordinateSystem, final VerticalControlMode verticalControlMode, final YawControlMode yawControlMode, final double pitch, final double roll, final double yaw, final double verticalThrottle) {
+        if (pending) {
+            mergedSetpoints++;
+        }
+
+        this.rollPitchControlMode = rollPitchControlMode;
+        this.rollPitchCoordinateSystem = rollPitchCoordinateSystem;
+        this.verticalControlMode = verticalControlMode;
+        this.yawControlMode = yawControlMode;
+        this.pitch = pitch;
+        this.roll = roll;
+        this.yaw = yaw;
+        this.verticalThrottle = verticalThrottle;
+        hasSetpoint = true;
+        pending = true;
+        submitted = System.nanoTime();
+    }
+
+    private void tick() {
+        synchronized (lock) {
+            if (!hasSetpoint) {
+                return;
+            }
+
+            //repeating the latest setpoint keeps the cadence steady, but only briefly, so a stalled producer can't keep the aircraft moving
+            if (!pending && System.nanoTime() - submitted > SETPOINT_HOLD_NANOS) {
+                hasSetpoint = false;
+                return;
+            }
+
+            send();
+        }
+    }
+
+    private void send() {
+        param.setRollPitchControlMode(rollPitchControlMode);
+        param.setRollPitchCoordinateSystem(rollPitchCoordinateSystem);
+        param.setVerticalControlMode(verticalControlMode);
+        param.setYawControlMode(yawControlMode);
+        param.setPitch(pitch);
+        param.setRoll(roll);
+        param.setYaw(yaw);
+        param.setVerticalThrottle(verticalThrottle);
+        VirtualStickManager.getInstance().sendVirtualStickAdvancedParam(param);
+        pending = false;
+        sentSetpoints++;
+    }
+}
@@ -0,0 +1,15 @@
+//  AnzuYawController.java
+//  DronelinkAnzu
+//
+//  Created by agent on 10/18/26.
+//  Copyright © 2026 Dronelink. All rights reserved.
+//
+package com.dronelink.anzu.adapters;
+
+//turns a target heading into a virtual stick yaw rate when the aircraft only accepts ANGULAR_VELOCITY yaw control
+public interface AnzuYawController {
+    //heading and yaw in radians, returns the yaw rate in degrees per second
+    double getYawRate(double heading, double yaw, long nowNanos);
+
+    void reset();
+}
@@ -0,0 +1,103 @@
+//  AnzuEnumMappingTest.java
+//  DronelinkAnzu
+//
+//  Created by agent on 10/18/26.
+//  Copyright © 2026 Dronelink. All rights reserved.
+//
+package com.dronelink.anzu;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.List;
+
+public class AnzuEnumMappingTest {
+    private enum Source { A, B, C, UNKNOWN }
+    private enum Target { X, Y, Z, UNKNOWN }
+
+    private static AnzuEnumMapping<Source, Target> createBidirectional() {
+        return new AnzuEnumMapping<>(Source.class, Target.class, Target.UNKNOWN, Source.UNKNOWN)
+                .map(Source.A, Target.X)
+                .map(Source.B, Target.Y)
+                .map(Source.C, Target.Z)
+                .map(Source.UNKNOWN, Target.UNKNOWN);
+    }
+
+    @Test
+    public void mapsBothDirections() {
+        final AnzuEnumMapping<Source, Target> mapping = createBidirectional();
+        for (final Source source : Source.values()) {
+            assertEquals(source, mapping.getReverse(mapping.get(source)));
+        }
+        assertEquals(Target.Y, mapping.get(Source.B));
+        assertEquals(Source.C, mapping.getReverse(Target.Z));
+        assertTrue(mapping.isBidirectional());
+        assertTrue(mapping.verify().isEmpty());
+    }
+
+    @Test
+    public void fallsBackToDefaults() {
+        final AnzuEnumMapping<Source, Target> mapping = new AnzuEnumMapping<>(Source.class, Target.class, Target.UNKNOWN, Source.UNKNOWN)
+                .map(Source.A, Target.X);
+        assertEquals(Target.UNKNOWN, mapping.get(null));
+        assertEquals(Target.UNKNOWN, mapping.get(Source.B));
+        assertEquals(Source.UNKNOWN, mapping.getReverse(null));
+        assertEquals(Source.UNKNOWN, mapping.getReverse(Target.Y));
+    }
+
+    @Test
+    public void reportsConflictingDeclarations() {
+        final AnzuEnumMapping<Source, Target> mapping = createBidirectional()
+                .map(Source.A, Target.Y);
+        final List<String> problems = mapping.verify();
+        assertFalse(problems.isEmpty());
+        assertTrue(problems.get(0).contains("conflicting declarations"));
+    }
+
+    @Test
+    public void reportsBrokenRoundTrips() {
+        final AnzuEnumMapping<Source, Target> mapping = new AnzuEnumMapping<>(Source.class, Target.class, Target.UNKNOWN, Source.UNKNOWN)
+                .map(Source.A, Target.X)
+                .map(Source.B, Target.Y)
+                .map(Source.C, Target.Z)
+                .map(Source.UNKNOWN, Target.UNKNOWN)
+                .mapReverse(Target.X, Source.B);
+        boolean found = false;
+        for (final String problem : mapping.verify()) {
+            if (problem.contains(Source.A + " -> " + Target.X + " -> " + Source.B)) {
+                found = true;
+            }
+        }
+        assertTrue(found);
+    }
+
+    @Test
+    public void reportsUnmappedConstantsOfBidirectionalMappings() {
+        final AnzuEnumMapping<Source, Target> mapping = new AnzuEnumMapping<>(Source.class, Target.class, Target.UNKNOWN, Source.UNKNOWN)
+                .map(Source.A, Target.X)
+                .map(Source.UNKNOWN, Target.UNKNOWN);
+        final List<String> problems = mapping.verify();
+        assertEquals(2, problems.size());
+        assertTrue(problems.get(0).endsWith(Source.B + " is unmapped"));
+        assertTrue(problems.get(1).endsWith(Source.C + " is unmapped"));
+    }
+
+    @Test
+    public void ignoresUnmappedConstantsOfOneWayMappings() {
+        final AnzuEnumMapping<Source, Target> mapping = new AnzuEnumMapping<>(Source.class, Target.class, Target.UNKNOWN, null)
+                .mapForward(Source.A, Target.X);
+        assertFalse(mapping.isBidirectional());
+        assertTrue(mapping.verify().isEmpty());
+        assertNull(mapping.getReverse(Target.X));
+
+        final AnzuEnumMapping<Source, Target> partial = new AnzuEnumMapping<>(Source.class, Target.class, Target.UNKNOWN, Source.UNKNOWN)
+                .map(Source.A, Target.X)
+                .mapForward(Source.B, Target.X);
+        assertFalse(partial.isBidirectional());
+        assertTrue(partial.verify().isEmpty());
+    }
+}
@@ -0,0 +1,44 @@
+//  DronelinkAnzuTest.java
+//  DronelinkAnzu
+//
+//  Created by agent on 10/18/26.
+//  Copyright © 2026 Dronelink. All rights reserved.
+//
+package com.dronelink.anzu;
+
+import static org.junit.Assert.assertEquals;
+
+import com.dronelink.core.kernel.core.enums.CameraISO;
+import com.dronelink.core.kernel.core.enums.DroneObstacleAvoidanceMode;
+
+import org.junit.Test;
+
+import java.util.Collections;
+
+import dji.v5.manager.aircraft.perception.data.ObstacleAvoidanceType;
+
+//runs the real lookup tables against the sdk's enums, so constants added by a newer sdk show up as failures here
+public class DronelinkAnzuTest {
+    @Test
+    public void enumMappingsVerify() {
+        assertEquals(Collections.emptyList(), DronelinkAnzu.verifyEnumMappings());
+    }
+
+    @Test
+    public void cameraISORoundTrips() {
+        for (final dji.sdk.keyvalue.value.camera.CameraISO value : dji.sdk.keyvalue.value.camera.CameraISO.values()) {
+            final CameraISO iso = DronelinkAnzu.getCameraISO(value);
+            if (iso != CameraISO.UNKNOWN) {
+                assertEquals(value, DronelinkAnzu.getCameraISO(iso));
+            }
+        }
+        assertEquals(CameraISO.UNKNOWN, DronelinkAnzu.getCameraISO((dji.sdk.keyvalue.value.camera.CameraISO) null));
+    }
+
+    @Test
+    public void obstacleAvoidanceModeDefaults() {
+        assertEquals(DroneObstacleAvoidanceMode.OFF, DronelinkAnzu.getDroneObstacleAvoidanceMode((ObstacleAvoidanceType) null));
+        assertEquals(ObstacleAvoidanceType.CLOSE, DronelinkAnzu.getDroneObstacleAvoidanceMode((DroneObstacleAvoidanceMode) null));
+        assertEquals(ObstacleAvoidanceType.BYPASS, DronelinkAnzu.getDroneObstacleAvoidanceMode(DroneObstacleAvoidanceMode.AVOID));
+    }
+}